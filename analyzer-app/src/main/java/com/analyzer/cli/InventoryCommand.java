@@ -1,12 +1,15 @@
 package com.analyzer.cli;
 
 import com.analyzer.api.analysis.Analysis;
+import com.analyzer.api.graph.GraphRepository;
+import com.analyzer.api.graph.JavaClassNode;
 import com.analyzer.core.AnalysisConstants;
 import com.analyzer.core.db.H2GraphDatabase;
 import com.analyzer.core.db.loader.LoadOptions;
 import com.analyzer.core.engine.AnalysisEngine;
 import com.analyzer.core.inspector.InspectorRegistry;
 import com.analyzer.core.model.Project;
+import com.analyzer.core.model.ProjectFile;
 import com.analyzer.core.resource.CompositeResourceResolver;
 import com.analyzer.core.serialization.JsonSerializationService;
 import com.analyzer.dev.collectors.CollectorBeanFactory;
@@ -22,8 +25,14 @@ import picocli.CommandLine;
 
 import java.io.File;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 /**
@@ -54,6 +63,12 @@ public class InventoryCommand implements Callable<Integer> {
     @CommandLine.Option(names = "--max-passes", description = "Maximum number of analysis passes for convergence detection", defaultValue = "5")
     private int maxPasses;
 
+    @CommandLine.Option(names = "--threads", arity = "0..1", defaultValue = "0", fallbackValue = "0", description = "Number of worker threads for the multi-pass analysis phases. 0 (or no value) uses the number of available processors; 1 runs sequentially. Default: 0 (all processors)")
+    private int threads;
+
+    @CommandLine.Option(names = "--virtual-archives", description = "Read JAR/WAR/EAR contents in place instead of extracting them to .analysis/binaries. Default: false")
+    private boolean virtualArchives;
+
     @Override
     public Integer call() throws Exception {
         logger.info("Starting Project Architecture Analysis...");
@@ -70,6 +85,8 @@ public class InventoryCommand implements Callable<Integer> {
         logger.info("  Inspectors: {}", inspectors);
         logger.info("  Package filters: {}", packageFilters);
         logger.info("  Max passes: {}", maxPasses);
+        logger.info("  Threads: {}", threads < 1 ? "all processors" : threads);
+        logger.info("  Virtual archives: {}", virtualArchives);
 
         try {
             // Initialize ResourceResolver system
@@ -102,6 +119,8 @@ public class InventoryCommand implements Callable<Integer> {
 
             // Configure the engine with file detection inspectors and analyses
             analysisEngine.setAvailableAnalyses(analyses);
+            analysisEngine.setThreadCount(threads);
+            analysisEngine.setVirtualArchives(virtualArchives);
 
             logger.info("{}", analysisEngine.getStatistics());
 
@@ -113,11 +132,12 @@ public class InventoryCommand implements Callable<Integer> {
                                                         .resolve(AnalysisConstants.GRAPH_DB_NAME);
             logger.info("Initializing H2 database at: {}", dbPath);
 
+            // Load the whole stored graph, so that persisting it also refreshes the graph snapshot
             final LoadOptions loadOptions = LoadOptions.builder()
                                                        .withProjectRoot(projectDir)
                                                        .withDatabasePath(dbPath)
                                                        .loadAllNodes()
-                                                       .withCommonEdgeTypes()
+                                                       .loadAllEdges()
                                                        .build();
 
             final H2GraphDatabase h2Database = new H2GraphDatabase(loadOptions, new JsonSerializationService());
@@ -128,14 +148,23 @@ public class InventoryCommand implements Callable<Integer> {
             final var existingRepo = h2Database.snapshot();
             logger.info("Loaded {} existing nodes from database", existingRepo.getNodes().size());
 
-            // Pre-populate the analysis engine's graph repository with existing data
+            // Pre-populate the analysis engine's graph repository with existing data,
+            // leaving out the nodes of files that no longer exist
+            final Set<String> vanishedNodeIds = findVanishedNodeIds(existingRepo);
             for (final var node : existingRepo.getNodes()) {
-                analysisEngine.getGraphRepository().addNode(node);
+                if (!vanishedNodeIds.contains(node.getId())) {
+                    analysisEngine.getGraphRepository().addNode(node);
+                }
             }
             for (final var edge : existingRepo.getAllEdges()) {
-                analysisEngine.getGraphRepository().getOrCreateEdge(
-                        edge.getSource(), edge.getTarget(), edge.getEdgeType());
+                if (!vanishedNodeIds.contains(edge.getSource().getId())
+                        && !vanishedNodeIds.contains(edge.getTarget().getId())) {
+                    analysisEngine.getGraphRepository().getOrCreateEdge(
+                            edge.getSource(), edge.getTarget(), edge.getEdgeType());
+                }
             }
+            // The loaded data is already stored, only later changes are persisted
+            analysisEngine.getGraphRepository().markClean();
 
             // 5. Analyze the project using new architecture with multi-pass algorithm
             // This will add to or update the existing data
@@ -145,6 +174,7 @@ public class InventoryCommand implements Callable<Integer> {
 
             // Persist updated graph repository back to H2 database
             logger.info("Persisting analysis results to H2 database...");
+            h2Database.deleteNodes(vanishedNodeIds);
             h2Database.persist(analysisEngine.getGraphRepository());
 
             // Show database statistics
@@ -195,6 +225,34 @@ public class InventoryCommand implements Callable<Integer> {
         }
     }
 
+    /**
+     * Finds the stored nodes of files that were deleted since the last run: the
+     * project files themselves and the class nodes declared in them.
+     */
+    private Set<String> findVanishedNodeIds(final GraphRepository repository) {
+        final Set<String> vanishedFileIds = new HashSet<>();
+        for (final ProjectFile projectFile : repository.getNodesByClass(ProjectFile.class)) {
+            final String path = projectFile.isJarInternal()
+                    ? projectFile.getSourceJarPath()
+                    : Optional.ofNullable(projectFile.getFilePath()).map(Path::toString).orElse(null);
+            if (path != null && !Files.exists(Paths.get(path))) {
+                vanishedFileIds.add(projectFile.getId());
+            }
+        }
+
+        final Set<String> vanishedNodeIds = new HashSet<>(vanishedFileIds);
+        for (final JavaClassNode classNode : repository.getNodesByClass(JavaClassNode.class)) {
+            if (vanishedFileIds.contains(classNode.getProjectFileId())) {
+                vanishedNodeIds.add(classNode.getId());
+            }
+        }
+        if (!vanishedNodeIds.isEmpty()) {
+            logger.info("{} stored files no longer exist, removing {} nodes", vanishedFileIds.size(),
+                    vanishedNodeIds.size());
+        }
+        return vanishedNodeIds;
+    }
+
     private boolean validateParameters() {
         // Project path must be specified (already enforced by @Option required=true)
         if (projectPath == null || projectPath.trim().isEmpty()) {
@@ -246,4 +304,8 @@ public class InventoryCommand implements Callable<Integer> {
         return maxPasses;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
 }
@@ -3,6 +3,8 @@ package com.analyzer.api.detector;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.core.model.ProjectFile;
 
+import java.util.Set;
+
 /**
  * Generic interface for all detectors.
  * Inspectors analyze graph nodes and decorate them with properties and tags.
@@ -13,6 +15,28 @@ public interface FileDetector {
 
     boolean supports(ProjectFile projectFile);
 
+    /**
+     * Gets the file extensions this detector can support, in lower case and
+     * without the dot. The engine only offers a detector the files having one
+     * of its extensions or file names, and {@link #supports(ProjectFile)} still
+     * decides; a detector declaring neither is offered every file.
+     *
+     * @return the extensions, empty by default
+     */
+    default Set<String> getDetectedExtensions() {
+        return Set.of();
+    }
+
+    /**
+     * Gets the file names this detector can support, in lower case.
+     *
+     * @return the file names, empty by default
+     * @see #getDetectedExtensions()
+     */
+    default Set<String> getDetectedFileNames() {
+        return Set.of();
+    }
+
     /**
      * Inspects and analyzes the given node, decorating it with properties and tags.
      *
@@ -19,15 +19,45 @@ import java.util.*;
  * <li>Basic GraphNode interface implementation</li>
  * <li>Standard equals/hashCode based on node ID</li>
  * </ul>
+ * <p>
+ * Properties, metrics and tags are held in immutable, copy-on-write structures
+ * because inspectors running on different worker threads may decorate the same
+ * node: readers never lock, writers are serialized per node. Property and
+ * metric keys live in {@link KeyShape}s shared by all nodes that set the same
+ * keys in the same order, so each node only stores its values, metrics
+ * unboxed. The maps returned by {@link #getNodeProperties()},
+ * {@link #getMetricsMap()} and {@link Metrics#getAllMetrics()} are views of
+ * the values at the time of the call and copy nothing.
+ * Tags are stored as a copy-on-write bitset over {@link TagDictionary} ids, so
+ * that {@link #hasAllTags(TagMask)} is a bitwise comparison; {@link #getTags()}
+ * materializes the names on demand. Tag changes are published to the
+ * registered {@link TagChangeListener}s, which repositories use to index
+ * nodes by tag.
+ * </p>
+ * <p>
+ * Every change to properties, metrics or tags marks the node dirty, so that
+ * persistence can skip nodes that did not change since they were loaded or
+ * last saved. Setting a value equal to the current one is not a change.
+ * Writes through the map returned by {@link #getProperties()} go through
+ * {@link #setProperty(String, Object)} and are tracked as well.
+ * </p>
  */
 public abstract class BaseGraphNode implements GraphNode {
 
-    private final Map<String, Double> metrics = new HashMap<>();
-    private final Map<String, Object> properties = new HashMap<>();
-    private final Set<String> tags = new TreeSet<>();
+    private static final TagChangeListener[] NO_TAG_LISTENERS = new TagChangeListener[0];
+
+    // Not named after the JSON properties, which Jackson would bind to the fields
+    private volatile MetricValues metricValues = MetricValues.EMPTY;
+    private volatile PropertyValues propertyValues = PropertyValues.EMPTY;
+    private volatile long[] tagBits = TagBits.EMPTY;
+    // Sorted names of the tags, built on demand and reset on every tag change
+    private volatile Set<String> tagNames;
+    private volatile TagChangeListener[] tagListeners = NO_TAG_LISTENERS;
     @JsonProperty("id")
     private final String nodeId;
     private final String nodeType;
+    // New nodes have never been persisted
+    private volatile boolean dirty = true;
 
     /**
      * Creates a new BaseGraphNode with the specified ID and type.
@@ -42,10 +72,7 @@ public abstract class BaseGraphNode implements GraphNode {
 
     @Override
     public Map<String, Object> getProperties() {
-        if (properties == null) {
-            return Collections.emptyMap();
-        }
-        return properties;
+        return new PropertiesView();
     }
 
     @Override
@@ -67,33 +94,126 @@ public abstract class BaseGraphNode implements GraphNode {
     @Override
     @com.fasterxml.jackson.annotation.JsonIgnore
     public Map<String, Object> getNodeProperties() {
-        return Map.copyOf(properties);
+        return propertyValues.asMap();
     }
 
     @Override
     public void enableTag(final String tag) {
-        tags.add(tag);
+        if (updateTags(TagDictionary.idOf(tag), true)) {
+            dirty = true;
+        }
     }
 
     @Override
     public boolean hasTag(final String tag) {
-        return tags.contains(tag);
+        int id = TagDictionary.lookup(tag);
+        return id >= 0 && TagBits.get(tagBits, id);
     }
 
     @Override
     public Set<String> getTags() {
-        return Collections.unmodifiableSet(tags);
+        Set<String> names = tagNames;
+        if (names == null) {
+            long[] bits = tagBits;
+            SortedSet<String> sorted = new TreeSet<>();
+            for (int i = 0; i < bits.length; i++) {
+                for (long word = bits[i]; word != 0; word &= word - 1) {
+                    sorted.add(TagDictionary.nameOf((i << 6) + Long.numberOfTrailingZeros(word)));
+                }
+            }
+            names = Collections.unmodifiableSortedSet(sorted);
+            // Only cache the names if no tag changed in the meantime
+            synchronized (this) {
+                if (tagBits == bits) {
+                    tagNames = names;
+                }
+            }
+        }
+        return names;
     }
 
     @Override
     public void removeTag(final String tag) {
-        tags.remove(tag);
+        int id = TagDictionary.lookup(tag);
+        if (id >= 0 && updateTags(id, false)) {
+            dirty = true;
+        }
     }
 
     public boolean hasAllTags(final String[] tags) {
         if (tags == null || tags.length == 0)
             return true;
-        return Arrays.stream(tags).allMatch(this::hasTag);
+        for (String tag : tags) {
+            if (!hasTag(tag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean hasAllTags(final TagMask mask) {
+        return mask.matches(tagBits);
+    }
+
+    /**
+     * Sets or clears a tag bit.
+     *
+     * @return true if the tags changed
+     */
+    private synchronized boolean updateTags(final int id, final boolean enable) {
+        long[] bits = tagBits;
+        long[] updated = enable ? TagBits.set(bits, id) : TagBits.clear(bits, id);
+        if (updated == bits) {
+            return false;
+        }
+        tagBits = updated;
+        tagNames = null;
+        for (TagChangeListener listener : tagListeners) {
+            listener.tagChanged(this, TagDictionary.nameOf(id), enable);
+        }
+        return true;
+    }
+
+    /**
+     * Registers a listener for the tag changes of this node.
+     * <p>
+     * The listener is first notified of every tag the node already has, then of
+     * every later change, so that it never misses a tag enabled concurrently
+     * with the registration.
+     *
+     * @param listener the listener
+     */
+    public synchronized void addTagChangeListener(final TagChangeListener listener) {
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        long[] bits = tagBits;
+        for (int i = 0; i < bits.length; i++) {
+            for (long word = bits[i]; word != 0; word &= word - 1) {
+                listener.tagChanged(this, TagDictionary.nameOf((i << 6) + Long.numberOfTrailingZeros(word)), true);
+            }
+        }
+        TagChangeListener[] listeners = Arrays.copyOf(tagListeners, tagListeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        tagListeners = listeners;
+    }
+
+    /**
+     * Unregisters a listener added with
+     * {@link #addTagChangeListener(TagChangeListener)}.
+     *
+     * @param listener the listener
+     */
+    public synchronized void removeTagChangeListener(final TagChangeListener listener) {
+        TagChangeListener[] listeners = tagListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                TagChangeListener[] updated = new TagChangeListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, updated.length - i);
+                tagListeners = updated;
+                return;
+            }
+        }
     }
 
     /**
@@ -116,7 +236,7 @@ public abstract class BaseGraphNode implements GraphNode {
      */
     @Override
     public <T> T getProperty(final String key, final Class<T> expectedType, final T defaultValue) {
-        final Object value = properties.get(key);
+        final Object value = propertyValues.get(key);
         if (expectedType.isInstance(value)) {
             return expectedType.cast(value);
         }
@@ -155,7 +275,7 @@ public abstract class BaseGraphNode implements GraphNode {
      */
     @Override
     public boolean hasProperty(final String key) {
-        return properties.containsKey(key) && properties.get(key) != null;
+        return propertyValues.get(key) != null;
     }
 
     /**
@@ -169,7 +289,7 @@ public abstract class BaseGraphNode implements GraphNode {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getProperty(final java.lang.String propertyKey) {
-        return (T) properties.get(propertyKey);
+        return (T) propertyValues.get(propertyKey);
     }
 
     /**
@@ -180,7 +300,7 @@ public abstract class BaseGraphNode implements GraphNode {
     @JsonProperty("metrics")
     @Override
     public Map<String, Double> getMetricsMap() {
-        return Map.copyOf(metrics);
+        return metricValues.asMap();
     }
 
     /**
@@ -189,11 +309,13 @@ public abstract class BaseGraphNode implements GraphNode {
      * @param metricsMap metrics to set
      */
     @JsonProperty("metrics")
-    public void setMetricsMap(final Map<String, Double> metricsMap) {
-        metrics.clear();
-        if (metricsMap != null) {
-            metrics.putAll(metricsMap);
+    public synchronized void setMetricsMap(final Map<String, Double> metricsMap) {
+        final Map<String, Double> newMetrics = metricsMap != null ? metricsMap : Map.of();
+        if (metricValues.asMap().equals(newMetrics)) {
+            return;
         }
+        metricValues = MetricValues.of(newMetrics);
+        dirty = true;
     }
 
     /**
@@ -205,11 +327,48 @@ public abstract class BaseGraphNode implements GraphNode {
     @Override
     public void setProperty(final String key, final Object value) {
         Objects.requireNonNull(key, "Property key cannot be null");
-        if (value == null) {
-            properties.remove(key);
-        } else {
-            properties.put(key, value);
+        updateProperty(key, value);
+    }
+
+    /**
+     * Replaces a property value. Setting the collection or map already stored
+     * under the key counts as a change, since it may have been modified in
+     * place.
+     *
+     * @return the previous value, or null
+     */
+    private synchronized Object updateProperty(final String key, final Object value) {
+        final PropertyValues current = propertyValues;
+        final Object previous = current.get(key);
+        final PropertyValues updated = current.with(key, value);
+        if (updated != current) {
+            propertyValues = updated;
+            dirty = true;
+        } else if (value != null && value == previous && (value instanceof Collection || value instanceof Map)) {
+            dirty = true;
         }
+        return previous;
+    }
+
+    /**
+     * Checks whether properties, metrics or tags changed since the node was
+     * created, loaded or last marked clean.
+     *
+     * @return true if the node has unsaved changes
+     */
+    @Override
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Marks the node as saved. Called after the node was loaded from or written
+     * to the database.
+     */
+    @Override
+    public void markClean() {
+        dirty = false;
     }
 
     /**
@@ -231,7 +390,7 @@ public abstract class BaseGraphNode implements GraphNode {
      */
     @com.fasterxml.jackson.annotation.JsonIgnore
     public java.util.Set<String> getPropertyKeys() {
-        return new java.util.HashSet<>(properties.keySet());
+        return new java.util.HashSet<>(propertyValues.asMap().keySet());
     }
 
     @Override
@@ -252,21 +411,24 @@ public abstract class BaseGraphNode implements GraphNode {
     @Override
     public String toString() {
         return String.format("%s{id='%s', type='%s', properties=%d}",
-                getClass().getSimpleName(), nodeId, nodeType, properties.size());
+                getClass().getSimpleName(), nodeId, nodeType, propertyValues.size());
     }
 
     private class NodeMetrics implements Metrics {
         @Override
         public Number getMetric(final String metricName) {
-            return metrics.get(metricName);
+            return metricValues.get(metricName);
         }
 
         @Override
         public void setMetric(final String metricName, final Number value) {
-            if (value == null) {
-                metrics.remove(metricName);
-            } else {
-                metrics.put(metricName, value.doubleValue());
+            synchronized (BaseGraphNode.this) {
+                final MetricValues current = metricValues;
+                final MetricValues updated = current.with(metricName, value != null ? value.doubleValue() : null);
+                if (updated != current) {
+                    metricValues = updated;
+                    dirty = true;
+                }
             }
         }
 
@@ -274,23 +436,73 @@ public abstract class BaseGraphNode implements GraphNode {
         public void setMaxMetric(final String metricName, final Number value) {
             if (value != null) {
                 final double newValue = value.doubleValue();
-                final double currentValue = metrics.getOrDefault(metricName, 0.0);
-                if (newValue > currentValue) {
-                    metrics.put(metricName, newValue);
+                // Atomic read-modify-write; an absent metric counts as 0.0
+                synchronized (BaseGraphNode.this) {
+                    final Double currentValue = metricValues.get(metricName);
+                    final double current = currentValue != null ? currentValue : 0.0;
+                    if (newValue > current) {
+                        metricValues = metricValues.with(metricName, newValue);
+                        dirty = true;
+                    }
                 }
             }
         }
 
         @Override
         public Map<String, Double> getAllMetrics() {
-            return Collections.unmodifiableMap(metrics);
+            return metricValues.asMap();
         }
     }
 
-    public String getPropertyToString(String key) {
-        if (!properties.containsKey(key)) {
-            return "";
+    /**
+     * Live map view of the properties; writes go through setProperty so that
+     * they are tracked, reads see the values at the time of the call.
+     */
+    private class PropertiesView extends AbstractMap<String, Object> {
+        @Override
+        public int size() {
+            return propertyValues.size();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return propertyValues.get(key) != null;
+        }
+
+        @Override
+        public Object get(final Object key) {
+            return propertyValues.get(key);
         }
-        return properties.get(key).toString();
+
+        @Override
+        public Object put(final String key, final Object value) {
+            Objects.requireNonNull(key, "Property key cannot be null");
+            return updateProperty(key, value);
+        }
+
+        @Override
+        public Object remove(final Object key) {
+            return key instanceof String name ? updateProperty(name, null) : null;
+        }
+
+        @Override
+        public void clear() {
+            synchronized (BaseGraphNode.this) {
+                if (propertyValues.size() > 0) {
+                    propertyValues = PropertyValues.EMPTY;
+                    dirty = true;
+                }
+            }
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return propertyValues.asMap().entrySet();
+        }
+    }
+
+    public String getPropertyToString(String key) {
+        final Object value = propertyValues.get(key);
+        return value != null ? value.toString() : "";
     }
 }
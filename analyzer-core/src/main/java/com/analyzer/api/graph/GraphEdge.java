@@ -11,6 +11,10 @@ import java.util.UUID;
 /**
  * Represents an edge between two nodes in the analysis graph.
  * Edges have automatically generated IDs and support custom properties/tags.
+ * <p>
+ * Edges returned by the in-memory repository are flyweight views of its
+ * columnar edge store; compare them with {@link #equals(Object)}, not by
+ * identity.
  */
 public class GraphEdge {
 
@@ -70,6 +74,18 @@ public class GraphEdge {
         this.properties = properties != null ? new HashMap<>(properties) : new HashMap<>();
     }
 
+    /**
+     * Creates an edge without state, for flyweight views of edges held by a
+     * repository's edge store. Subclasses override every accessor.
+     */
+    protected GraphEdge() {
+        this.id = null;
+        this.source = null;
+        this.target = null;
+        this.edgeType = null;
+        this.properties = null;
+    }
+
     /**
      * Generates a unique ID for this edge.
      */
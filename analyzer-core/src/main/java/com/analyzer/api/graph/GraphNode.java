@@ -3,6 +3,7 @@ package com.analyzer.api.graph;
 import com.analyzer.api.metrics.Metrics;
 import com.analyzer.core.model.ProjectFile;
 import com.analyzer.core.model.Package;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -88,6 +89,16 @@ public interface GraphNode {
 
     boolean hasAllTags(String[] tagArray);
 
+    /**
+     * Checks if this node has all tags of a precompiled mask.
+     *
+     * @param mask the required tags
+     * @return true if the node has every tag of the mask
+     */
+    default boolean hasAllTags(TagMask mask) {
+        return hasAllTags(mask.getTags());
+    }
+
     /**
      * Returns the list of metrics associate to the node.
      * 
@@ -114,4 +125,21 @@ public interface GraphNode {
     void setProperty(String key, Object value);
 
     boolean getBooleanProperty(String key, boolean defaultValue);
+
+    /**
+     * Checks whether the node has changes that were not yet persisted.
+     * Implementations without change tracking always report true.
+     *
+     * @return true if the node must be written on the next persist
+     */
+    @JsonIgnore
+    default boolean isDirty() {
+        return true;
+    }
+
+    /**
+     * Marks the node as persisted.
+     */
+    default void markClean() {
+    }
 }
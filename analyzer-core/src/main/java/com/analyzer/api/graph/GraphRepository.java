@@ -146,4 +146,50 @@ public interface GraphRepository {
     List<GraphNode> findNodesByAnyTags(List<String> processedTags);
 
     List<GraphNode> findNodesByTypeAndAnyTags(String processedType, List<String> processedTags);
+
+    /**
+     * Gets the edges leaving a node.
+     *
+     * @param node the source node
+     * @return the edges whose source is the node
+     */
+    Collection<GraphEdge> getOutgoingEdges(GraphNode node);
+
+    /**
+     * Gets the edges entering a node.
+     *
+     * @param node the target node
+     * @return the edges whose target is the node
+     */
+    Collection<GraphEdge> getIncomingEdges(GraphNode node);
+
+    /**
+     * Gets a counter that changes whenever a node or an edge is added,
+     * replaced or removed. Tag, property and metric changes do not count.
+     * Used to invalidate structures derived from the graph.
+     *
+     * @return the modification count
+     */
+    long getModificationCount();
+
+    /**
+     * Gets the nodes with changes that were not yet persisted.
+     *
+     * @return the dirty nodes
+     * @see GraphNode#isDirty()
+     */
+    Collection<GraphNode> getDirtyNodes();
+
+    /**
+     * Gets the edges created since the repository was last marked clean.
+     *
+     * @return the new edges
+     */
+    Collection<GraphEdge> getNewEdges();
+
+    /**
+     * Marks all nodes and edges as persisted, typically after the repository
+     * was loaded from or written to the database.
+     */
+    void markClean();
 }
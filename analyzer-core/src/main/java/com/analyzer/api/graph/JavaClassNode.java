@@ -439,8 +439,12 @@ public class JavaClassNode extends BaseGraphNode {
             setProperty(PROP_SOURCE_ALIAS_PATHS, new HashSet<>(List.of(filePath)));
             return;
         }
-        sourceAlias.add(filePath);
-        setProperty(PROP_SOURCE_ALIAS_PATHS, sourceAlias);
+        if (sourceAlias.contains(filePath)) {
+            return;
+        }
+        final Set<String> updated = new HashSet<>(sourceAlias);
+        updated.add(filePath);
+        setProperty(PROP_SOURCE_ALIAS_PATHS, updated);
     }
 
     public Collection<String> getSourceAliasPaths() {
@@ -0,0 +1,88 @@
+package com.analyzer.api.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ordered set of keys shared by all nodes that added the same keys in the
+ * same order, so that each node only stores an array of values.
+ * <p>
+ * Shapes form a transition tree rooted at {@link #EMPTY}: adding a key to a
+ * shape always yields the same child shape. Nodes of one type set the same
+ * properties in the same order, so a handful of shapes cover the whole graph.
+ * Once {@link #MAX_SHARED_SHAPES} shapes exist, new shapes are no longer
+ * registered as transitions; they still work but are private to their node.
+ */
+final class KeyShape {
+
+    static final KeyShape EMPTY = new KeyShape(new String[0]);
+
+    private static final int MAX_SHARED_SHAPES = 1 << 16;
+    private static final AtomicInteger SHARED_SHAPES = new AtomicInteger();
+
+    private final String[] keys;
+    private final Map<String, Integer> indexes;
+    private final Map<String, KeyShape> transitions = new ConcurrentHashMap<>();
+
+    private KeyShape(String[] keys) {
+        this.keys = keys;
+        this.indexes = new HashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            indexes.put(keys[i], i);
+        }
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    String keyAt(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Gets the position of a key.
+     *
+     * @return the index of the key, or -1 if the shape does not contain it
+     */
+    int indexOf(Object key) {
+        Integer index = indexes.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Gets the shape with one more key at the end.
+     */
+    KeyShape with(String key) {
+        KeyShape child = transitions.get(key);
+        if (child != null) {
+            return child;
+        }
+        String[] childKeys = Arrays.copyOf(keys, keys.length + 1);
+        childKeys[keys.length] = key;
+        if (SHARED_SHAPES.get() >= MAX_SHARED_SHAPES) {
+            return new KeyShape(childKeys);
+        }
+        return transitions.computeIfAbsent(key, k -> {
+            SHARED_SHAPES.incrementAndGet();
+            return new KeyShape(childKeys);
+        });
+    }
+
+    /**
+     * Gets the shape without the key at the given position, keeping the order
+     * of the other keys.
+     */
+    KeyShape without(int index) {
+        KeyShape shape = EMPTY;
+        for (int i = 0; i < keys.length; i++) {
+            if (i != index) {
+                shape = shape.with(keys[i]);
+            }
+        }
+        return shape;
+    }
+}
@@ -0,0 +1,76 @@
+package com.analyzer.api.graph;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable metric storage of a node: a shared {@link KeyShape} of metric
+ * names plus the values in a primitive array. Updates return a new instance,
+ * or the same one when nothing changed, so that readers never need a lock.
+ */
+final class MetricValues {
+
+    static final MetricValues EMPTY = new MetricValues(KeyShape.EMPTY, new double[0]);
+
+    private final KeyShape shape;
+    private final double[] values;
+
+    private MetricValues(KeyShape shape, double[] values) {
+        this.shape = shape;
+        this.values = values;
+    }
+
+    static MetricValues of(Map<String, Double> metrics) {
+        MetricValues result = EMPTY;
+        for (Map.Entry<String, Double> entry : metrics.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    Double get(Object name) {
+        int index = shape.indexOf(name);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * Sets a value; a null value removes the metric. Values are compared like
+     * {@link Double#equals}.
+     */
+    MetricValues with(String name, Double value) {
+        int index = shape.indexOf(name);
+        if (value == null) {
+            if (index < 0) {
+                return this;
+            }
+            double[] remaining = new double[values.length - 1];
+            System.arraycopy(values, 0, remaining, 0, index);
+            System.arraycopy(values, index + 1, remaining, index, remaining.length - index);
+            return new MetricValues(shape.without(index), remaining);
+        }
+        double newValue = value;
+        if (index >= 0) {
+            if (Double.doubleToLongBits(newValue) == Double.doubleToLongBits(values[index])) {
+                return this;
+            }
+            double[] updated = values.clone();
+            updated[index] = newValue;
+            return new MetricValues(shape, updated);
+        }
+        double[] extended = Arrays.copyOf(values, values.length + 1);
+        extended[values.length] = newValue;
+        return new MetricValues(shape.with(name), extended);
+    }
+
+    /**
+     * Gets an unmodifiable map view of these values; values are boxed on read.
+     */
+    Map<String, Double> asMap() {
+        return new ShapeMap<>(shape, values.length) {
+            @Override
+            Double valueAt(int index) {
+                return values[index];
+            }
+        };
+    }
+}
@@ -10,4 +10,26 @@ public interface ProjectFileRepository extends NodeRepository<ProjectFile> {
     List<ProjectFile> findByExtension(String extension);
 
     Optional<ProjectFile> findByPath(Path path);
+
+    /**
+     * Gets the file with the given path, creating it if it does not exist.
+     * Atomic: concurrent callers for the same path get the same instance.
+     *
+     * @param path        the absolute path of the file
+     * @param projectRoot the project root, used to create the file
+     * @return the stored file
+     */
+    ProjectFile getOrCreateByPath(Path path, Path projectRoot);
+
+    /**
+     * Gets the file with the given path, creating it as an entry of an archive
+     * if it does not exist. Atomic like {@link #getOrCreateByPath}.
+     *
+     * @param path          the absolute path the entry is known by
+     * @param projectRoot   the project root, used to create the file
+     * @param sourceJarPath the archive file holding the entry
+     * @param jarEntryPath  the path of the entry inside the archive
+     * @return the stored file
+     */
+    ProjectFile getOrCreateArchiveEntry(Path path, Path projectRoot, String sourceJarPath, String jarEntryPath);
 }
@@ -0,0 +1,70 @@
+package com.analyzer.api.graph;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable property storage of a node: a shared {@link KeyShape} plus one
+ * value per key. Updates return a new instance, or the same one when nothing
+ * changed, so that readers never need a lock.
+ */
+final class PropertyValues {
+
+    static final PropertyValues EMPTY = new PropertyValues(KeyShape.EMPTY, new Object[0]);
+
+    private final KeyShape shape;
+    private final Object[] values;
+
+    private PropertyValues(KeyShape shape, Object[] values) {
+        this.shape = shape;
+        this.values = values;
+    }
+
+    Object get(Object key) {
+        int index = shape.indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    /**
+     * Sets a value; a null value removes the key.
+     */
+    PropertyValues with(String key, Object value) {
+        int index = shape.indexOf(key);
+        if (value == null) {
+            if (index < 0) {
+                return this;
+            }
+            Object[] remaining = new Object[values.length - 1];
+            System.arraycopy(values, 0, remaining, 0, index);
+            System.arraycopy(values, index + 1, remaining, index, remaining.length - index);
+            return new PropertyValues(shape.without(index), remaining);
+        }
+        if (index >= 0) {
+            if (value.equals(values[index])) {
+                return this;
+            }
+            Object[] updated = values.clone();
+            updated[index] = value;
+            return new PropertyValues(shape, updated);
+        }
+        Object[] extended = Arrays.copyOf(values, values.length + 1);
+        extended[values.length] = value;
+        return new PropertyValues(shape.with(key), extended);
+    }
+
+    /**
+     * Gets an unmodifiable map view of these values.
+     */
+    Map<String, Object> asMap() {
+        return new ShapeMap<>(shape, values.length) {
+            @Override
+            Object valueAt(int index) {
+                return values[index];
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.analyzer.api.graph;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Unmodifiable map view over the keys of a {@link KeyShape} and a node's
+ * value array. Creating the view copies nothing.
+ *
+ * @param <V> the value type
+ */
+abstract class ShapeMap<V> extends AbstractMap<String, V> {
+
+    private final KeyShape shape;
+    private final int size;
+
+    ShapeMap(KeyShape shape, int size) {
+        this.shape = shape;
+        this.size = size;
+    }
+
+    abstract V valueAt(int index);
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return shape.indexOf(key) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        int index = shape.indexOf(key);
+        return index >= 0 ? valueAt(index) : null;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Entry<String, V> next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = next++;
+                        return new SimpleImmutableEntry<>(shape.keyAt(index), valueAt(index));
+                    }
+                };
+            }
+        };
+    }
+}
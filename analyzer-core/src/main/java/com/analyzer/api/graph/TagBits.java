@@ -0,0 +1,46 @@
+package com.analyzer.api.graph;
+
+import java.util.Arrays;
+
+/**
+ * Copy-on-write operations on tag bitsets indexed by {@link TagDictionary} ids.
+ * Bitsets are never modified in place, so they can be read without locking.
+ */
+final class TagBits {
+
+    static final long[] EMPTY = new long[0];
+
+    private TagBits() {
+    }
+
+    static boolean get(long[] bits, int id) {
+        int index = id >>> 6;
+        return index < bits.length && (bits[index] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns a bitset with the given bit set, or the same array if it already
+     * was.
+     */
+    static long[] set(long[] bits, int id) {
+        if (get(bits, id)) {
+            return bits;
+        }
+        long[] copy = Arrays.copyOf(bits, Math.max(bits.length, (id >>> 6) + 1));
+        copy[id >>> 6] |= 1L << id;
+        return copy;
+    }
+
+    /**
+     * Returns a bitset with the given bit cleared, or the same array if it was
+     * not set.
+     */
+    static long[] clear(long[] bits, int id) {
+        if (!get(bits, id)) {
+            return bits;
+        }
+        long[] copy = bits.clone();
+        copy[id >>> 6] &= ~(1L << id);
+        return copy;
+    }
+}
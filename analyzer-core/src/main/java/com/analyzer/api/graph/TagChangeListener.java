@@ -0,0 +1,24 @@
+package com.analyzer.api.graph;
+
+/**
+ * Receives the tag changes of the nodes it is registered with, whoever makes
+ * them.
+ * <p>
+ * Repositories use it to keep their tag index up to date. Notifications of one
+ * node are delivered in order while the node's tags are locked, so listeners
+ * must be quick and must not change the node's tags themselves.
+ *
+ * @see BaseGraphNode#addTagChangeListener(TagChangeListener)
+ */
+@FunctionalInterface
+public interface TagChangeListener {
+
+    /**
+     * Called when a tag is enabled on or removed from a node.
+     *
+     * @param node    the node
+     * @param tag     the tag name
+     * @param enabled true if the tag was enabled, false if it was removed
+     */
+    void tagChanged(GraphNode node, String tag, boolean enabled);
+}
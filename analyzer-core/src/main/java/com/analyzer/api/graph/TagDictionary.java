@@ -0,0 +1,73 @@
+package com.analyzer.api.graph;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide dictionary assigning a small integer id to every tag name.
+ * <p>
+ * Nodes store their tags as bitsets indexed by these ids, and inspectors
+ * compile their required tags into a {@link TagMask}, so that checking a
+ * node's tags is a bitwise comparison instead of string lookups. Ids are
+ * assigned on first use and never reused; the set of tag names used by the
+ * analyzer is small and fixed, so the dictionary does not need eviction.
+ */
+public final class TagDictionary {
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[64];
+    private static int size;
+
+    private TagDictionary() {
+    }
+
+    /**
+     * Gets the id of a tag, assigning a new one if the tag is unknown.
+     *
+     * @param tag the tag name
+     * @return the tag id
+     */
+    public static int idOf(String tag) {
+        Integer id = IDS.get(tag);
+        return id != null ? id : intern(tag);
+    }
+
+    /**
+     * Gets the id of a known tag without assigning one.
+     *
+     * @param tag the tag name
+     * @return the tag id, or -1 if the tag was never used
+     */
+    public static int lookup(String tag) {
+        Integer id = tag != null ? IDS.get(tag) : null;
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Gets the name of a tag id.
+     *
+     * @param id the tag id
+     * @return the tag name
+     */
+    public static String nameOf(int id) {
+        return names[id];
+    }
+
+    private static synchronized int intern(String tag) {
+        Integer existing = IDS.get(tag);
+        if (existing != null) {
+            return existing;
+        }
+        int id = size++;
+        String[] current = names;
+        if (id == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[id] = tag;
+        // Publish the name before the id becomes visible to other threads
+        names = current;
+        IDS.put(tag, id);
+        return id;
+    }
+}
@@ -0,0 +1,88 @@
+package com.analyzer.api.graph;
+
+import java.util.Arrays;
+
+/**
+ * Set of tags compiled into bitset words over {@link TagDictionary} ids, used
+ * to check that a node has all of them with a few bitwise operations.
+ * <p>
+ * Only the non-zero words are kept, so a mask of tags with nearby ids is a
+ * single {@code (nodeBits & mask) == mask} comparison.
+ */
+public final class TagMask {
+
+    /**
+     * Mask without tags, matched by every node.
+     */
+    public static final TagMask EMPTY = new TagMask(new String[0]);
+
+    private final String[] tags;
+    private final int[] wordIndexes;
+    private final long[] words;
+
+    private TagMask(String[] tags) {
+        this.tags = tags;
+        long[] bits = new long[0];
+        for (String tag : tags) {
+            bits = TagBits.set(bits, TagDictionary.idOf(tag));
+        }
+        int count = 0;
+        for (long word : bits) {
+            if (word != 0) {
+                count++;
+            }
+        }
+        this.wordIndexes = new int[count];
+        this.words = new long[count];
+        for (int i = 0, j = 0; i < bits.length; i++) {
+            if (bits[i] != 0) {
+                wordIndexes[j] = i;
+                words[j++] = bits[i];
+            }
+        }
+    }
+
+    /**
+     * Compiles a mask for the given tags.
+     *
+     * @param tags the tag names
+     * @return the mask
+     */
+    public static TagMask of(String... tags) {
+        return tags == null || tags.length == 0 ? EMPTY : new TagMask(tags.clone());
+    }
+
+    /**
+     * Checks whether a tag bitset contains all tags of this mask.
+     *
+     * @param bits the tag bitset of a node
+     * @return true if every tag of the mask is set
+     */
+    public boolean matches(long[] bits) {
+        for (int i = 0; i < words.length; i++) {
+            int index = wordIndexes[i];
+            if (index >= bits.length || (bits[index] & words[i]) != words[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the tags of this mask.
+     *
+     * @return a copy of the tag names
+     */
+    public String[] getTags() {
+        return tags.clone();
+    }
+
+    public boolean isEmpty() {
+        return tags.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "TagMask" + Arrays.toString(tags);
+    }
+}
@@ -0,0 +1,243 @@
+package com.analyzer.api.inspector;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.metamodel.BaseNodeMetaModel;
+import com.github.javaparser.metamodel.JavaParserMetaModel;
+import com.github.javaparser.metamodel.PropertyMetaModel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches the nodes of a single depth-first traversal of a JavaParser AST
+ * to the callbacks of several subscribers, so that analyses which would each
+ * walk the tree with their own visitor share one walk.
+ * <p>
+ * Subscribers register callbacks per node type; a node is delivered to every
+ * callback whose type it is an instance of, in pre-order (a node before its
+ * children, children in source order), subscribers in the order they were
+ * created. The children of a node are not walked when, according to the
+ * JavaParser metamodel, none of the subscribed types can occur beneath a node
+ * of its class.
+ * <p>
+ * A subscriber whose callback throws is isolated: the failure is reported once
+ * to its failure handler and it receives no further events, while the
+ * traversal goes on for the others. A bus is meant for one traversal and is
+ * not thread-safe.
+ */
+public final class AstEventBus {
+
+    /**
+     * For each concrete node class, the concrete node classes that can occur
+     * anywhere beneath a node of that class.
+     */
+    private static final Map<Class<?>, Set<Class<?>>> REACHABLE = computeReachable();
+
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private final Map<Class<?>, Dispatch[]> dispatchByClass = new HashMap<>();
+    private final Map<Class<?>, Boolean> descendByClass = new HashMap<>();
+
+    /**
+     * Creates a subscriber of this bus.
+     *
+     * @param failureHandler notified once if one of the callbacks of the
+     *                       subscriber throws
+     * @return the subscriber, to register callbacks on
+     */
+    public Subscriber subscriber(Consumer<RuntimeException> failureHandler) {
+        Subscriber subscriber = new Subscriber(failureHandler);
+        subscribers.add(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Walks the tree rooted at the given node, dispatching each node to the
+     * subscribed callbacks, then runs the end callbacks of the subscribers
+     * that did not fail.
+     *
+     * @param root the root of the tree, typically a CompilationUnit
+     */
+    public void publish(Node root) {
+        visit(root);
+        for (Subscriber subscriber : subscribers) {
+            for (Runnable callback : subscriber.endCallbacks) {
+                if (subscriber.failed) {
+                    break;
+                }
+                try {
+                    callback.run();
+                } catch (RuntimeException e) {
+                    subscriber.fail(e);
+                }
+            }
+        }
+    }
+
+    private void visit(Node node) {
+        for (Dispatch dispatch : dispatchFor(node.getClass())) {
+            Subscriber subscriber = dispatch.subscriber;
+            if (subscriber.failed || (subscriber.skippedSubtree != null && subscriber.skippedSubtree != node)) {
+                continue;
+            }
+            try {
+                dispatch.callback.accept(node);
+            } catch (RuntimeException e) {
+                subscriber.fail(e);
+            }
+        }
+        if (shouldDescend(node.getClass())) {
+            List<Node> children = node.getChildNodes();
+            for (int i = 0; i < children.size(); i++) {
+                visit(children.get(i));
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.skippedSubtree == node) {
+                subscriber.skippedSubtree = null;
+            }
+        }
+    }
+
+    private Dispatch[] dispatchFor(Class<?> nodeClass) {
+        Dispatch[] dispatch = dispatchByClass.get(nodeClass);
+        if (dispatch == null) {
+            List<Dispatch> matching = new ArrayList<>();
+            for (Subscriber subscriber : subscribers) {
+                for (Subscription subscription : subscriber.subscriptions) {
+                    if (subscription.nodeType.isAssignableFrom(nodeClass)) {
+                        matching.add(new Dispatch(subscriber, subscription.callback));
+                    }
+                }
+            }
+            dispatch = matching.toArray(new Dispatch[0]);
+            dispatchByClass.put(nodeClass, dispatch);
+        }
+        return dispatch;
+    }
+
+    boolean shouldDescend(Class<?> nodeClass) {
+        Boolean descend = descendByClass.get(nodeClass);
+        if (descend == null) {
+            Set<Class<?>> reachable = REACHABLE.get(nodeClass);
+            // Node classes unknown to the metamodel are always walked
+            descend = reachable == null || subscribers.stream()
+                    .flatMap(subscriber -> subscriber.subscriptions.stream())
+                    .anyMatch(subscription -> reachable.stream().anyMatch(subscription.nodeType::isAssignableFrom));
+            descendByClass.put(nodeClass, descend);
+        }
+        return descend;
+    }
+
+    private void subscriptionsChanged() {
+        dispatchByClass.clear();
+        descendByClass.clear();
+    }
+
+    private static Map<Class<?>, Set<Class<?>>> computeReachable() {
+        List<BaseNodeMetaModel> metaModels = JavaParserMetaModel.getNodeMetaModels();
+
+        // Direct children: the concrete classes assignable to the node properties
+        Map<Class<?>, Set<Class<?>>> children = new HashMap<>();
+        for (BaseNodeMetaModel metaModel : metaModels) {
+            if (metaModel.isAbstract()) {
+                continue;
+            }
+            Set<Class<?>> direct = new HashSet<>();
+            for (PropertyMetaModel property : metaModel.getAllPropertyMetaModels()) {
+                if (!property.isNode()) {
+                    continue;
+                }
+                for (BaseNodeMetaModel candidate : metaModels) {
+                    if (!candidate.isAbstract() && property.getType().isAssignableFrom(candidate.getType())) {
+                        direct.add(candidate.getType());
+                    }
+                }
+            }
+            children.put(metaModel.getType(), direct);
+        }
+
+        Map<Class<?>, Set<Class<?>>> reachable = new HashMap<>();
+        for (Class<?> nodeClass : children.keySet()) {
+            Set<Class<?>> closure = new HashSet<>();
+            List<Class<?>> pending = new ArrayList<>(children.get(nodeClass));
+            while (!pending.isEmpty()) {
+                Class<?> next = pending.remove(pending.size() - 1);
+                if (closure.add(next)) {
+                    pending.addAll(children.getOrDefault(next, Set.of()));
+                }
+            }
+            reachable.put(nodeClass, closure);
+        }
+        return reachable;
+    }
+
+    /**
+     * The callbacks registered by one analysis, isolated from the others.
+     */
+    public final class Subscriber {
+
+        private final Consumer<RuntimeException> failureHandler;
+        private final List<Subscription> subscriptions = new ArrayList<>();
+        private final List<Runnable> endCallbacks = new ArrayList<>();
+        private boolean failed;
+        private Node skippedSubtree;
+
+        private Subscriber(Consumer<RuntimeException> failureHandler) {
+            this.failureHandler = failureHandler;
+        }
+
+        /**
+         * Registers a callback for the nodes of the given type, including its
+         * subtypes.
+         *
+         * @param nodeType the type of the nodes to receive
+         * @param callback the callback receiving each node of the type
+         * @param <N>      the node type
+         * @return this subscriber
+         */
+        @SuppressWarnings("unchecked")
+        public <N extends Node> Subscriber on(Class<N> nodeType, Consumer<? super N> callback) {
+            subscriptions.add(new Subscription(nodeType, (Consumer<Node>) callback));
+            subscriptionsChanged();
+            return this;
+        }
+
+        /**
+         * Registers a callback run once the whole tree has been walked.
+         *
+         * @param callback the callback
+         * @return this subscriber
+         */
+        public Subscriber onEnd(Runnable callback) {
+            endCallbacks.add(callback);
+            return this;
+        }
+
+        /**
+         * Stops delivering the descendants of the node being dispatched to this
+         * subscriber; the other subscribers still receive them. This is the
+         * equivalent of a visitor method that does not visit the children.
+         *
+         * @param node the node currently dispatched to this subscriber
+         */
+        public void skipSubtree(Node node) {
+            skippedSubtree = node;
+        }
+
+        private void fail(RuntimeException exception) {
+            failed = true;
+            failureHandler.accept(exception);
+        }
+    }
+
+    private record Subscription(Class<?> nodeType, Consumer<Node> callback) {
+    }
+
+    private record Dispatch(Subscriber subscriber, Consumer<Node> callback) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.analyzer.api.inspector;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.core.export.NodeDecorator;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+
+/**
+ * Inspector whose analysis of a JavaClassNode is a single ASM traversal of the
+ * class file of the node.
+ * <p>
+ * Besides running on its own through {@link #inspect}, such an inspector lets
+ * the engine read the class file once per node and feed the visitors of all
+ * eligible inspectors in the same traversal, see
+ * {@link com.analyzer.core.engine.MultiplexClassVisitor}. Running
+ * {@link #inspect} must be equivalent to
+ * {@code getClassReader(node, decorator).accept(createVisitor(node, decorator), 0)}.
+ */
+public interface ClassVisitorInspector extends Inspector<JavaClassNode> {
+
+    /**
+     * Gets the reader of the class file of the node.
+     *
+     * @param classNode the class node being analyzed
+     * @param decorator the decorator to report errors to
+     * @return the reader, or null if the class file cannot be read (the error
+     *         has been reported to the decorator)
+     */
+    ClassReader getClassReader(JavaClassNode classNode, NodeDecorator<JavaClassNode> decorator);
+
+    /**
+     * Creates the visitor performing the analysis of the node.
+     *
+     * @param classNode the class node being analyzed
+     * @param decorator the decorator for writing results to the class node
+     * @return the visitor, to be fed with a traversal of the class file
+     */
+    ClassVisitor createVisitor(JavaClassNode classNode, NodeDecorator<JavaClassNode> decorator);
+}
@@ -0,0 +1,39 @@
+package com.analyzer.api.inspector;
+
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.model.ProjectFile;
+import com.github.javaparser.ast.CompilationUnit;
+
+/**
+ * Inspector whose analysis of a ProjectFile is a set of callbacks on the
+ * JavaParser AST of the file.
+ * <p>
+ * Besides running on its own through {@link #inspect}, such an inspector lets
+ * the engine parse the file once and walk its AST once for all eligible
+ * inspectors, see {@link AstEventBus}. Running {@link #inspect} must be
+ * equivalent to getting the compilation unit, subscribing to a new bus and
+ * publishing the compilation unit on it.
+ */
+public interface CompilationUnitInspector extends Inspector<ProjectFile> {
+
+    /**
+     * Gets the parsed compilation unit of the file.
+     *
+     * @param projectFile the project file being analyzed
+     * @param decorator   the decorator to report errors to
+     * @return the compilation unit, or null if the file cannot be parsed (the
+     *         error has been reported to the decorator)
+     */
+    CompilationUnit getCompilationUnit(ProjectFile projectFile, NodeDecorator<ProjectFile> decorator);
+
+    /**
+     * Registers the callbacks performing the analysis of the file.
+     *
+     * @param bus         the bus the compilation unit is about to be published on
+     * @param cu          the compilation unit of the file
+     * @param projectFile the project file being analyzed
+     * @param decorator   the decorator for writing results to the project file
+     */
+    void subscribe(AstEventBus bus, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> decorator);
+}
@@ -73,7 +73,7 @@ public interface Inspector<T extends GraphNode> {
         }
 
         RequiredTags requiredTags = getDependencies(); // Uses annotation system!
-        boolean allTags = objectToAnalyze.hasAllTags(requiredTags.toArray());
+        boolean allTags = objectToAnalyze.hasAllTags(requiredTags.toMask());
         return allTags && supports(objectToAnalyze);
     }
 
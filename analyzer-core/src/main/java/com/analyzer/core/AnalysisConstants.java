@@ -9,6 +9,8 @@ public final class AnalysisConstants {
 
     public static final String ANALYSIS_DIR = ".analysis";
     public static final String BINARIES_DIR = "binaries";
+    /** Directory under {@link #ANALYSIS_DIR} where archives are extracted before being moved into place */
+    public static final String EXTRACTION_STAGING_DIR = "extracting";
     public static final String PROJECT_DATA_DIR = "project-data";
 
     /** Base name for the H2 graph database file (without .mv.db extension) */
@@ -5,6 +5,8 @@ import org.objectweb.asm.ClassReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -21,23 +23,40 @@ import java.util.function.Supplier;
  * - Source file content reading
  * - Resource location resolution
  * <p>
- * The cache is reset between items to prevent memory bloat.
+ * Cached values are held by a {@link Scope} bound to the item being
+ * processed. The engine opens a scope with {@link #openScope(Object)} before
+ * running the inspectors of an item and closes it afterwards:
+ *
+ * <pre>{@code
+ * try (LocalCache.Scope scope = localCache.openScope(item)) {
+ *     inspector.inspect(item, decorator);
+ * }
+ * }</pre>
+ * <p>
+ * The open scope is carried by the current thread (platform or virtual), so
+ * inspectors keep calling the {@code getOr...} methods of the shared
+ * LocalCache while items processed concurrently never see each other's
+ * CompilationUnit or bytecode. Code running outside of any scope uses a
+ * default per-thread scope, which is cleared by {@link #reset()}.
+ * <p>
+ * When a {@link SharedParseCache} is configured, the overloads taking a file
+ * path also share source text, source models, ClassReaders and class bytes
+ * across items, phases and passes. Source text and models are obtained
+ * through the {@link SourceModelProvider} of this cache.
  */
 public class LocalCache {
 
     private static final Logger logger = LoggerFactory.getLogger(LocalCache.class);
 
     private final boolean enabled;
+    private final SharedParseCache sharedCache;
+    private final SourceModelProvider sourceModels;
 
-    // Core cached resources (type-safe fields for common types)
-    private Object resourceLocation; // Using Object to avoid circular dependency
-    private CompilationUnit javaParserCompilationUnit;
-    private byte[] classBytes;
-    private ClassReader asmClassReader;
-    private String sourceContent;
+    // Scope opened by the current thread, if any
+    private final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
 
-    // Extension point for custom caching needs
-    private final Map<String, Object> customCache;
+    // Fallback scope for callers that do not open one explicitly
+    private final ThreadLocal<Scope> defaultScope = ThreadLocal.withInitial(() -> new Scope(null, null));
 
     /**
      * Creates a new LocalCache.
@@ -45,21 +64,54 @@ public class LocalCache {
      * @param enabled whether caching is enabled
      */
     public LocalCache(boolean enabled) {
+        this(enabled, null);
+    }
+
+    /**
+     * Creates a new LocalCache backed by a project-wide cache.
+     *
+     * @param enabled     whether caching is enabled
+     * @param sharedCache the cache shared across items, or null for none
+     */
+    public LocalCache(boolean enabled, SharedParseCache sharedCache) {
         this.enabled = enabled;
-        this.customCache = new HashMap<>();
-        logger.debug("LocalCache created with caching {}", enabled ? "enabled" : "disabled");
+        this.sharedCache = sharedCache;
+        this.sourceModels = new SourceModelProvider(enabled ? sharedCache : null);
+        logger.debug("LocalCache created with caching {}{}", enabled ? "enabled" : "disabled",
+                sharedCache != null ? " and a shared parse cache" : "");
     }
 
     /**
-     * Resets all cached values. Should be called before processing each new item.
+     * Opens a cache scope bound to the given item on the current thread.
+     * Until the scope is closed, all cached values are stored in and read from
+     * this scope. Scopes may be nested; closing a scope restores the previous
+     * one.
+     *
+     * @param item the item being processed (used for diagnostics)
+     * @return the opened scope, to be closed when the item is done
+     */
+    public Scope openScope(Object item) {
+        Scope scope = new Scope(item, currentScope.get());
+        currentScope.set(scope);
+        logger.trace("LocalCache scope opened for {}", item);
+        return scope;
+    }
+
+    /**
+     * Gets the scope used by the current thread.
+     *
+     * @return the open scope, or the thread's default scope if none is open
+     */
+    public Scope currentScope() {
+        Scope scope = currentScope.get();
+        return scope != null ? scope : defaultScope.get();
+    }
+
+    /**
+     * Resets all cached values of the current scope.
      */
     public void reset() {
-        resourceLocation = null;
-        javaParserCompilationUnit = null;
-        classBytes = null;
-        asmClassReader = null;
-        sourceContent = null;
-        customCache.clear();
+        currentScope().clear();
         logger.trace("LocalCache reset");
     }
 
@@ -73,13 +125,14 @@ public class LocalCache {
      * @return the resource location
      */
     public Object getOrResolveLocation(Supplier<Object> resolver) {
-        if (!enabled || resourceLocation == null) {
-            resourceLocation = resolver.get();
+        Scope cache = currentScope();
+        if (!enabled || cache.resourceLocation == null) {
+            cache.resourceLocation = resolver.get();
             logger.trace("ResourceLocation cached");
         } else {
             logger.trace("ResourceLocation retrieved from cache");
         }
-        return resourceLocation;
+        return cache.resourceLocation;
     }
 
     /**
@@ -91,13 +144,28 @@ public class LocalCache {
      * @return the compilation unit, or null if parsing failed
      */
     public CompilationUnit getOrParseCompilationUnit(Supplier<CompilationUnit> parser) {
-        if (!enabled || javaParserCompilationUnit == null) {
-            javaParserCompilationUnit = parser.get();
+        Scope cache = currentScope();
+        if (!enabled || cache.javaParserCompilationUnit == null) {
+            cache.javaParserCompilationUnit = parser.get();
             logger.trace("CompilationUnit parsed and cached");
         } else {
             logger.trace("CompilationUnit retrieved from cache");
         }
-        return javaParserCompilationUnit;
+        return cache.javaParserCompilationUnit;
+    }
+
+    /**
+     * Gets or parses the CompilationUnit of a source file, looking it up in the
+     * shared cache before parsing. Falls back to
+     * {@link #getOrParseCompilationUnit(Supplier)} without a shared cache.
+     *
+     * @param file   the source file the compilation unit is parsed from
+     * @param parser supplier to parse the compilation unit if not cached
+     * @return the compilation unit, or null if parsing failed
+     */
+    public CompilationUnit getOrParseCompilationUnit(Path file, Supplier<CompilationUnit> parser) {
+        return getOrParseCompilationUnit(() -> sourceModels.getModel(file, SourceModelProvider.Frontend.JAVAPARSER,
+                CompilationUnit.class, parser));
     }
 
     /**
@@ -109,14 +177,29 @@ public class LocalCache {
      * @return the class bytes
      */
     public byte[] getOrLoadClassBytes(Supplier<byte[]> loader) {
-        if (!enabled || classBytes == null) {
-            classBytes = loader.get();
+        Scope cache = currentScope();
+        if (!enabled || cache.classBytes == null) {
+            cache.classBytes = loader.get();
             logger.trace("Class bytes loaded and cached ({} bytes)",
-                    classBytes != null ? classBytes.length : 0);
+                    cache.classBytes != null ? cache.classBytes.length : 0);
         } else {
-            logger.trace("Class bytes retrieved from cache ({} bytes)", classBytes.length);
+            logger.trace("Class bytes retrieved from cache ({} bytes)", cache.classBytes.length);
         }
-        return classBytes;
+        return cache.classBytes;
+    }
+
+    /**
+     * Gets or loads the bytes of a class file, looking them up in the shared
+     * cache before loading. Falls back to {@link #getOrLoadClassBytes(Supplier)}
+     * without a shared cache.
+     *
+     * @param file   the class file the bytes are loaded from
+     * @param loader supplier to load the bytes if not cached
+     * @return the class bytes
+     */
+    public byte[] getOrLoadClassBytes(Path file, Supplier<byte[]> loader) {
+        return getOrLoadClassBytes(
+                () -> getOrLoadShared(file, SharedParseCache.Kind.CLASS_BYTES, byte[].class, loader));
     }
 
     /**
@@ -128,13 +211,28 @@ public class LocalCache {
      * @return the ClassReader
      */
     public ClassReader getOrCreateClassReader(Supplier<ClassReader> creator) {
-        if (!enabled || asmClassReader == null) {
-            asmClassReader = creator.get();
+        Scope cache = currentScope();
+        if (!enabled || cache.asmClassReader == null) {
+            cache.asmClassReader = creator.get();
             logger.trace("ClassReader created and cached");
         } else {
             logger.trace("ClassReader retrieved from cache");
         }
-        return asmClassReader;
+        return cache.asmClassReader;
+    }
+
+    /**
+     * Gets or creates the ClassReader of a class file, looking it up in the
+     * shared cache before creating it. Falls back to
+     * {@link #getOrCreateClassReader(Supplier)} without a shared cache.
+     *
+     * @param file    the class file the reader is created for
+     * @param creator supplier to create the ClassReader if not cached
+     * @return the ClassReader
+     */
+    public ClassReader getOrCreateClassReader(Path file, Supplier<ClassReader> creator) {
+        return getOrCreateClassReader(
+                () -> getOrLoadShared(file, SharedParseCache.Kind.CLASS_READER, ClassReader.class, creator));
     }
 
     /**
@@ -146,14 +244,56 @@ public class LocalCache {
      * @return the source content
      */
     public String getOrLoadSourceContent(Supplier<String> loader) {
-        if (!enabled || sourceContent == null) {
-            sourceContent = loader.get();
+        Scope cache = currentScope();
+        if (!enabled || cache.sourceContent == null) {
+            cache.sourceContent = loader.get();
             logger.trace("Source content loaded and cached ({} chars)",
-                    sourceContent != null ? sourceContent.length() : 0);
+                    cache.sourceContent != null ? cache.sourceContent.length() : 0);
+        } else {
+            logger.trace("Source content retrieved from cache ({} chars)", cache.sourceContent.length());
+        }
+        return cache.sourceContent;
+    }
+
+    /**
+     * Gets or loads the content of a source file, looking it up in the shared
+     * cache before reading it. Falls back to
+     * {@link #getOrLoadSourceContent(Supplier)} without a shared cache.
+     *
+     * @param file   the source file the content is read from
+     * @param loader supplier to load the content if not cached
+     * @return the source content
+     */
+    public String getOrLoadSourceContent(Path file, Supplier<String> loader) {
+        return getOrLoadSourceContent(() -> sourceModels.getSource(file, loader));
+    }
+
+    /**
+     * Gets or parses the model of a source file for a front end other than
+     * JavaParser, looking it up in the shared cache before parsing.
+     *
+     * @param file     the source file the model is parsed from
+     * @param frontend the front end creating the model
+     * @param type     the model type
+     * @param parser   supplier to parse the model if not cached
+     * @param <T>      the model type
+     * @return the model, or null if parsing failed
+     */
+    public <T> T getOrParseSourceModel(Path file, SourceModelProvider.Frontend frontend, Class<T> type,
+            Supplier<T> parser) {
+        if (!enabled) {
+            return sourceModels.getModel(file, frontend, type, parser);
+        }
+        Map<SourceModelProvider.Frontend, Object> models = currentScope().sourceModels;
+        Object model = models.get(frontend);
+        if (model == null) {
+            model = sourceModels.getModel(file, frontend, type, parser);
+            models.put(frontend, model);
+            logger.trace("{} model parsed and cached", frontend);
         } else {
-            logger.trace("Source content retrieved from cache ({} chars)", sourceContent.length());
+            logger.trace("{} model retrieved from cache", frontend);
         }
-        return sourceContent;
+        return type.cast(model);
     }
 
     /**
@@ -171,6 +311,7 @@ public class LocalCache {
             return supplier.get();
         }
 
+        Map<String, Object> customCache = currentScope().customCache;
         Object value = customCache.get(key);
         if (value == null) {
             value = supplier.get();
@@ -182,6 +323,38 @@ public class LocalCache {
         return (T) value;
     }
 
+    private <T> T getOrLoadShared(Path file, SharedParseCache.Kind kind, Class<T> type, Supplier<T> loader) {
+        SharedParseCache.FileKey key = enabled && sharedCache != null ? SharedParseCache.FileKey.of(file) : null;
+        if (key == null) {
+            return loader.get();
+        }
+
+        T value = sharedCache.get(key, kind, type);
+        if (value == null) {
+            value = loader.get();
+            sharedCache.put(key, kind, value);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the project-wide cache backing the keyed lookups.
+     *
+     * @return the shared cache, or null if none is configured
+     */
+    public SharedParseCache getSharedCache() {
+        return sharedCache;
+    }
+
+    /**
+     * Gets the provider of source text and models behind the keyed lookups.
+     *
+     * @return the source model provider
+     */
+    public SourceModelProvider getSourceModels() {
+        return sourceModels;
+    }
+
     /**
      * Checks if caching is enabled.
      *
@@ -190,4 +363,74 @@ public class LocalCache {
     public boolean isEnabled() {
         return enabled;
     }
+
+    /**
+     * Cached resources for a single item. A scope is confined to the thread that
+     * opened it and must be closed by that thread.
+     */
+    public final class Scope implements AutoCloseable {
+        private final Object item;
+        private final Scope previous;
+        private final Thread owner;
+        private boolean closed;
+
+        // Core cached resources (type-safe fields for common types)
+        private Object resourceLocation; // Using Object to avoid circular dependency
+        private CompilationUnit javaParserCompilationUnit;
+        private byte[] classBytes;
+        private ClassReader asmClassReader;
+        private String sourceContent;
+        private final Map<SourceModelProvider.Frontend, Object> sourceModels = new EnumMap<>(
+                SourceModelProvider.Frontend.class);
+
+        // Extension point for custom caching needs
+        private final Map<String, Object> customCache = new HashMap<>();
+
+        private Scope(Object item, Scope previous) {
+            this.item = item;
+            this.previous = previous;
+            this.owner = Thread.currentThread();
+        }
+
+        /**
+         * Gets the item this scope is bound to.
+         *
+         * @return the item, or null for a thread's default scope
+         */
+        public Object getItem() {
+            return item;
+        }
+
+        private void clear() {
+            resourceLocation = null;
+            javaParserCompilationUnit = null;
+            classBytes = null;
+            asmClassReader = null;
+            sourceContent = null;
+            sourceModels.clear();
+            customCache.clear();
+        }
+
+        /**
+         * Releases the cached values and restores the previously open scope.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            if (Thread.currentThread() != owner) {
+                throw new IllegalStateException("LocalCache scope for " + item
+                        + " must be closed by the thread that opened it");
+            }
+            closed = true;
+            clear();
+            if (previous != null) {
+                currentScope.set(previous);
+            } else {
+                currentScope.remove();
+            }
+            logger.trace("LocalCache scope closed for {}", item);
+        }
+    }
 }
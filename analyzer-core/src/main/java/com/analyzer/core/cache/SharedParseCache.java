@@ -0,0 +1,272 @@
+package com.analyzer.core.cache;
+
+import com.github.javaparser.ast.CompilationUnit;
+import org.objectweb.asm.ClassReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Project-wide cache for parsed resources shared across items, phases and
+ * passes.
+ * <p>
+ * While {@link LocalCache} only keeps values for the item being processed,
+ * this cache keeps source text, the models of the source front ends
+ * (JavaParser CompilationUnits, Roaster sources), ASM ClassReaders and raw
+ * class bytes for the whole analysis, so that a file inspected in Phase 3 and
+ * again in Phase 4 is only read and parsed once.
+ * <p>
+ * Entries are keyed by file path, last modified time and size, so a file that
+ * changes on disk is never served from a stale entry. The cache is bounded by
+ * an estimated size in bytes and evicts the least recently used entries first.
+ * Values are additionally held through soft references, letting the garbage
+ * collector reclaim them under memory pressure.
+ * <p>
+ * Cached values are shared between threads and must be treated as read-only
+ * by inspectors.
+ */
+public class SharedParseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedParseCache.class);
+
+    /**
+     * Estimated retained size of a JavaParser AST per source line, in bytes.
+     */
+    static final long AST_BYTES_PER_LINE = 2048;
+
+    /**
+     * Estimated retained size of a source model whose extent is not known, per
+     * byte of the source file.
+     */
+    static final long SOURCE_MODEL_BYTES_PER_BYTE = 64;
+
+    /**
+     * Minimum weight of an entry, covering the entry and key overhead.
+     */
+    static final long MIN_ENTRY_WEIGHT = 256;
+
+    /**
+     * Kind of resource held by an entry.
+     */
+    public enum Kind {
+        SOURCE_TEXT,
+        COMPILATION_UNIT,
+        ROASTER_SOURCE,
+        CLASS_BYTES,
+        CLASS_READER
+    }
+
+    /**
+     * Identifies a version of a file: its path, last modified time and size.
+     */
+    public record FileKey(Path path, long lastModified, long size) {
+
+        /**
+         * Creates the key for the current version of a file.
+         *
+         * @param path the file path
+         * @return the key, or null if the file attributes cannot be read
+         */
+        public static FileKey of(Path path) {
+            if (path == null) {
+                return null;
+            }
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileKey(path, attributes.lastModifiedTime().toMillis(), attributes.size());
+            } catch (IOException | UnsupportedOperationException | SecurityException e) {
+                logger.trace("Cannot read attributes of {}: {}", path, e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the cache counters.
+     */
+    public record Statistics(long hits, long misses, long evictions, long entries, long weightBytes,
+            long maxWeightBytes) {
+
+        /**
+         * Gets the ratio of lookups served from the cache.
+         *
+         * @return the hit rate between 0 and 1
+         */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+
+        /**
+         * Gets the counters accumulated since an earlier snapshot. Entry count
+         * and weight are taken from this snapshot.
+         *
+         * @param earlier an earlier snapshot of the same cache
+         * @return the difference between the two snapshots
+         */
+        public Statistics since(Statistics earlier) {
+            return new Statistics(hits - earlier.hits, misses - earlier.misses,
+                    evictions - earlier.evictions, entries, weightBytes, maxWeightBytes);
+        }
+    }
+
+    private record EntryKey(FileKey file, Kind kind) {
+    }
+
+    private record Entry(SoftReference<Object> value, long weight) {
+    }
+
+    private final long maxWeightBytes;
+
+    // Access-ordered: iteration starts with the least recently used entry
+    private final LinkedHashMap<EntryKey, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long weightBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a shared cache bounded to the given estimated size.
+     *
+     * @param maxWeightBytes the maximum estimated size of all entries, in bytes
+     */
+    public SharedParseCache(long maxWeightBytes) {
+        if (maxWeightBytes <= 0) {
+            throw new IllegalArgumentException("maxWeightBytes must be positive: " + maxWeightBytes);
+        }
+        this.maxWeightBytes = maxWeightBytes;
+        logger.debug("SharedParseCache created with a limit of {} bytes", maxWeightBytes);
+    }
+
+    /**
+     * Gets the default size limit: a quarter of the maximum heap, capped at
+     * 512 MB.
+     *
+     * @return the default limit in bytes
+     */
+    public static long defaultMaxWeightBytes() {
+        return Math.min(Runtime.getRuntime().maxMemory() / 4, 512L * 1024 * 1024);
+    }
+
+    /**
+     * Gets a cached value.
+     *
+     * @param file the file version
+     * @param kind the kind of resource
+     * @param type the expected value type
+     * @param <T>  the value type
+     * @return the cached value, or null on a miss
+     */
+    public <T> T get(FileKey file, Kind kind, Class<T> type) {
+        EntryKey key = new EntryKey(file, kind);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                Object value = entry.value().get();
+                if (value != null) {
+                    hits.increment();
+                    return type.cast(value);
+                }
+                // Reclaimed by the garbage collector
+                entries.remove(key);
+                weightBytes -= entry.weight();
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores a value, evicting least recently used entries as needed. Values
+     * heavier than the whole cache are not stored.
+     *
+     * @param file  the file version
+     * @param kind  the kind of resource
+     * @param value the value to store, ignored if null
+     */
+    public void put(FileKey file, Kind kind, Object value) {
+        if (value == null) {
+            return;
+        }
+        long weight = weigh(file, kind, value);
+        if (weight > maxWeightBytes) {
+            logger.trace("Not caching {} of {} ({} bytes exceeds the limit)", kind, file.path(), weight);
+            return;
+        }
+
+        synchronized (entries) {
+            Entry previous = entries.put(new EntryKey(file, kind), new Entry(new SoftReference<>(value), weight));
+            if (previous != null) {
+                weightBytes -= previous.weight();
+            }
+            weightBytes += weight;
+
+            Iterator<Map.Entry<EntryKey, Entry>> eldest = entries.entrySet().iterator();
+            while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next().getValue();
+                eldest.remove();
+                weightBytes -= evicted.weight();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries. Counters are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weightBytes = 0;
+        }
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return the statistics
+     */
+    public Statistics getStatistics() {
+        synchronized (entries) {
+            return new Statistics(hits.sum(), misses.sum(), evictions.sum(), entries.size(), weightBytes,
+                    maxWeightBytes);
+        }
+    }
+
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
+    }
+
+    /**
+     * Estimates the retained size of a value. ClassReaders share the byte
+     * array they were created from with the CLASS_BYTES entry, so only their
+     * own index tables are counted. Roaster sources do not expose their extent
+     * and are weighed from the size of the file.
+     */
+    static long weigh(FileKey file, Kind kind, Object value) {
+        long weight = switch (kind) {
+            case SOURCE_TEXT -> (long) ((String) value).length() * Character.BYTES;
+            case ROASTER_SOURCE -> file.size() * SOURCE_MODEL_BYTES_PER_BYTE;
+            case CLASS_BYTES -> ((byte[]) value).length;
+            case CLASS_READER -> {
+                ClassReader reader = (ClassReader) value;
+                yield (long) reader.getItemCount() * Integer.BYTES + (long) reader.getMaxStringLength() * Character.BYTES;
+            }
+            case COMPILATION_UNIT -> ((CompilationUnit) value).getRange()
+                    .map(range -> (long) range.end.line * AST_BYTES_PER_LINE)
+                    .orElse(AST_BYTES_PER_LINE);
+        };
+        return Math.max(weight, MIN_ENTRY_WEIGHT);
+    }
+}
@@ -0,0 +1,151 @@
+package com.analyzer.core.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single entry point to the text and parsed models of source files, shared by
+ * the source front ends (JavaParser, Roaster and the text-based inspectors).
+ * <p>
+ * The text of a file is read once and shared by every front end parsing it;
+ * each front end model is created lazily, on first request, and kept in the
+ * {@link SharedParseCache} so that it is created at most once per version of
+ * the file while retained. Retention is bounded by the shared cache; without
+ * one, text and models are loaded on every request.
+ * <p>
+ * The loads, reuses and loading time of each front end are counted, to show
+ * which front ends an analysis actually pays for.
+ */
+public class SourceModelProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(SourceModelProvider.class);
+
+    /**
+     * A source front end and the kind of its entries in the shared cache.
+     */
+    public enum Frontend {
+        TEXT(SharedParseCache.Kind.SOURCE_TEXT),
+        JAVAPARSER(SharedParseCache.Kind.COMPILATION_UNIT),
+        ROASTER(SharedParseCache.Kind.ROASTER_SOURCE);
+
+        private final SharedParseCache.Kind kind;
+
+        Frontend(SharedParseCache.Kind kind) {
+            this.kind = kind;
+        }
+
+        public SharedParseCache.Kind getKind() {
+            return kind;
+        }
+    }
+
+    /**
+     * Activity of one front end.
+     */
+    public record Statistics(long loads, long reuses, long loadNanos) {
+
+        /**
+         * Gets the average time of a load.
+         *
+         * @return the average load time in milliseconds
+         */
+        public double averageLoadMillis() {
+            return loads == 0 ? 0.0 : loadNanos / 1_000_000.0 / loads;
+        }
+
+        /**
+         * Gets the counters accumulated since an earlier snapshot.
+         *
+         * @param earlier an earlier snapshot of the same front end
+         * @return the difference between the two snapshots
+         */
+        public Statistics since(Statistics earlier) {
+            return new Statistics(loads - earlier.loads, reuses - earlier.reuses, loadNanos - earlier.loadNanos);
+        }
+    }
+
+    private record Counters(LongAdder loads, LongAdder reuses, LongAdder loadNanos) {
+    }
+
+    private final SharedParseCache sharedCache;
+    private final Map<Frontend, Counters> counters = new EnumMap<>(Frontend.class);
+
+    /**
+     * Creates a provider retaining text and models in the given cache.
+     *
+     * @param sharedCache the cache shared across items, or null to retain
+     *                    nothing
+     */
+    public SourceModelProvider(SharedParseCache sharedCache) {
+        this.sharedCache = sharedCache;
+        for (Frontend frontend : Frontend.values()) {
+            counters.put(frontend, new Counters(new LongAdder(), new LongAdder(), new LongAdder()));
+        }
+    }
+
+    /**
+     * Gets the text of a source file, reading it only if it is not retained.
+     *
+     * @param file   the source file
+     * @param reader supplier reading the text of the file
+     * @return the text, or null if it cannot be read
+     */
+    public String getSource(Path file, Supplier<String> reader) {
+        return getModel(file, Frontend.TEXT, String.class, reader);
+    }
+
+    /**
+     * Gets the model of a source file for a front end, creating it only if it
+     * is not retained. The parser is expected to read the text of the file
+     * through {@link #getSource}.
+     *
+     * @param file     the source file
+     * @param frontend the front end creating the model
+     * @param type     the model type
+     * @param parser   supplier creating the model
+     * @param <T>      the model type
+     * @return the model, or null if it cannot be created
+     */
+    public <T> T getModel(Path file, Frontend frontend, Class<T> type, Supplier<T> parser) {
+        Counters frontendCounters = counters.get(frontend);
+        SharedParseCache.FileKey key = sharedCache != null ? SharedParseCache.FileKey.of(file) : null;
+        if (key != null) {
+            T model = sharedCache.get(key, frontend.getKind(), type);
+            if (model != null) {
+                frontendCounters.reuses().increment();
+                return model;
+            }
+        }
+
+        long startTime = System.nanoTime();
+        T model = parser.get();
+        frontendCounters.loadNanos().add(System.nanoTime() - startTime);
+        frontendCounters.loads().increment();
+        logger.trace("{} model of {} loaded", frontend, file);
+
+        if (key != null) {
+            sharedCache.put(key, frontend.getKind(), model);
+        }
+        return model;
+    }
+
+    /**
+     * Gets a snapshot of the activity of each front end. The time of a front
+     * end includes the reading of the text when its parser triggered it.
+     *
+     * @return the statistics by front end
+     */
+    public Map<Frontend, Statistics> getStatistics() {
+        Map<Frontend, Statistics> statistics = new EnumMap<>(Frontend.class);
+        counters.forEach((frontend, frontendCounters) -> statistics.put(frontend, new Statistics(
+                frontendCounters.loads().sum(), frontendCounters.reuses().sum(), frontendCounters.loadNanos().sum())));
+        return Collections.unmodifiableMap(statistics);
+    }
+}
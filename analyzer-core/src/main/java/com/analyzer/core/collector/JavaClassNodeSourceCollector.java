@@ -13,14 +13,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import static com.analyzer.core.inspector.InspectorTags.FORMAT_SOURCE;
 
 /**
  * Collector that creates JavaClassNode objects from Java source files using
- * JavaParser.
+ * a lightweight header scan, with JavaParser as a fallback.
  * <p>
  * This collector parses .java source files to extract class declarations and
  * create
@@ -105,7 +109,7 @@ public class JavaClassNodeSourceCollector implements ClassNodeCollector {
     }
 
     /**
-     * Collects JavaClassNode from a Java source file using JavaParser.
+     * Collects JavaClassNode from a Java source file.
      *
      * @param source  the .java file to process
      * @param context the collection context
@@ -114,7 +118,7 @@ public class JavaClassNodeSourceCollector implements ClassNodeCollector {
     public void collect(final ProjectFile source, final CollectionContext context) {
 
         try {
-            // Extract FQN by parsing source
+            // Extract FQN from the source header
             final String fqn = extractFQNFromSource(source);
 
             if (fqn == null || fqn.isEmpty()) {
@@ -141,7 +145,7 @@ public class JavaClassNodeSourceCollector implements ClassNodeCollector {
             // Update PackageNode via cache
             packageNodeCache.addClassToPackage(classNode);
 
-            logger.debug("Created JavaClassNode for {} from {} using JavaParser",
+            logger.debug("Created JavaClassNode for {} from {}",
                     fqn, source.getRelativePath());
 
         } catch (final Exception e) {
@@ -151,10 +155,12 @@ public class JavaClassNodeSourceCollector implements ClassNodeCollector {
     }
 
     /**
-     * Extracts the fully qualified name from a .java source file using JavaParser.
+     * Extracts the fully qualified name from a .java source file.
      * <p>
-     * This method parses the source code and extracts the package name and primary
-     * type declaration to construct the FQN.
+     * The package name and primary type declaration are read with the
+     * lightweight {@link JavaSourceHeaderScanner}, which stops at the first
+     * top-level type. Sources the scanner cannot handle reliably are parsed
+     * with JavaParser instead.
      *
      * @param source the .java file
      * @return the fully qualified name, or null if extraction fails
@@ -170,45 +176,28 @@ public class JavaClassNodeSourceCollector implements ClassNodeCollector {
                 return null;
             }
 
-            // Parse the source file
+            // Scan the source header
+            final Optional<JavaSourceHeaderScanner.JavaSourceHeader> header;
             try (final InputStream inputStream = resourceResolver.openStream(location)) {
                 if (inputStream == null) {
                     logger.warn("Could not open input stream for {}", source.getRelativePath());
                     return null;
                 }
+                header = JavaSourceHeaderScanner.scan(
+                        new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), 1);
+            }
 
-                final ParseResult<CompilationUnit> parseResult = javaParser.parse(inputStream);
-
-                if (!parseResult.isSuccessful()) {
-                    logger.warn("Failed to parse {}: {}", source.getRelativePath(),
-                            parseResult.getProblems());
-                    return null;
-                }
-
-                final CompilationUnit cu = parseResult.getResult().orElse(null);
-                if (cu == null) {
-                    logger.warn("No compilation unit for {}", source.getRelativePath());
-                    return null;
-                }
-
-                // Extract package name
-                final String packageName = cu.getPackageDeclaration()
-                        .map(pd -> pd.getNameAsString())
-                        .orElse("");
-
-                // Find primary type declaration
-                final TypeDeclaration<?> primaryType = cu.getType(0);
-                if (primaryType == null) {
+            if (header.isPresent()) {
+                final String fqn = header.get().primaryTypeFqn().orElse(null);
+                if (fqn == null) {
                     logger.warn("No primary type found in {}", source.getRelativePath());
-                    return null;
                 }
-
-                final String className = primaryType.getNameAsString();
-
-                // Construct FQN
-                return packageName.isEmpty() ? className : packageName + "." + className;
+                return fqn;
             }
 
+            logger.debug("Header scan inconclusive for {}, falling back to JavaParser", source.getRelativePath());
+            return extractFQNWithJavaParser(source, location);
+
         } catch (final Exception e) {
             logger.error("Failed to parse source from {}: {}",
                     source.getRelativePath(), e.getMessage());
@@ -216,6 +205,59 @@ public class JavaClassNodeSourceCollector implements ClassNodeCollector {
         }
     }
 
+    /**
+     * Extracts the fully qualified name from a .java source file using JavaParser.
+     * <p>
+     * This method parses the source code and extracts the package name and primary
+     * type declaration to construct the FQN.
+     *
+     * @param source   the .java file
+     * @param location the location of the source file
+     * @return the fully qualified name, or null if extraction fails
+     * @throws IOException if the source file cannot be read
+     */
+    protected String extractFQNWithJavaParser(final ProjectFile source, final ResourceLocation location)
+            throws IOException {
+        // Parse the source file
+        try (final InputStream inputStream = resourceResolver.openStream(location)) {
+            if (inputStream == null) {
+                logger.warn("Could not open input stream for {}", source.getRelativePath());
+                return null;
+            }
+
+            final ParseResult<CompilationUnit> parseResult = javaParser.parse(inputStream);
+
+            if (!parseResult.isSuccessful()) {
+                logger.warn("Failed to parse {}: {}", source.getRelativePath(),
+                        parseResult.getProblems());
+                return null;
+            }
+
+            final CompilationUnit cu = parseResult.getResult().orElse(null);
+            if (cu == null) {
+                logger.warn("No compilation unit for {}", source.getRelativePath());
+                return null;
+            }
+
+            // Extract package name
+            final String packageName = cu.getPackageDeclaration()
+                    .map(pd -> pd.getNameAsString())
+                    .orElse("");
+
+            // Find primary type declaration
+            if (cu.getTypes().isEmpty()) {
+                logger.warn("No primary type found in {}", source.getRelativePath());
+                return null;
+            }
+            final TypeDeclaration<?> primaryType = cu.getType(0);
+
+            final String className = primaryType.getNameAsString();
+
+            // Construct FQN
+            return packageName.isEmpty() ? className : packageName + "." + className;
+        }
+    }
+
     /**
      * Creates a JavaClassNode with the given FQN and links it to the source file.
      * <p>
@@ -0,0 +1,451 @@
+package com.analyzer.core.collector;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Lightweight scanner reading the header of a Java source file: its package
+ * declaration and the names of its top-level types.
+ * <p>
+ * Unlike a full JavaParser parse, the scanner only tokenizes the file. It skips
+ * comments, string, text block and character literals, annotations, import
+ * declarations and type bodies, and can stop as soon as the requested number
+ * of top-level types has been found. It understands classes, interfaces,
+ * enums, records, annotation types, sealed and non-sealed modifiers, as well
+ * as {@code module-info.java} files.
+ * <p>
+ * Whenever the input does not follow the expected shape (unicode escapes,
+ * unbalanced braces, unterminated literals or top-level members such as
+ * implicitly declared classes), the scanner gives up and returns an empty
+ * result, so that callers can fall back to JavaParser.
+ */
+public final class JavaSourceHeaderScanner {
+
+    private static final Set<String> MODIFIERS = Set.of(
+            "public", "protected", "private", "abstract", "static", "final", "sealed", "non-sealed", "strictfp");
+
+    private static final Set<String> TYPE_KEYWORDS = Set.of("class", "interface", "enum", "record");
+
+    /**
+     * Header of a Java source file.
+     *
+     * @param packageName       the package name, empty for the default package
+     * @param typeNames         the simple names of the top-level types, in
+     *                          declaration order
+     * @param moduleDeclaration whether the file declares a module
+     */
+    public record JavaSourceHeader(String packageName, List<String> typeNames, boolean moduleDeclaration) {
+
+        /**
+         * Gets the fully qualified name of the first top-level type.
+         *
+         * @return the FQN, or empty if the file declares no type
+         */
+        public Optional<String> primaryTypeFqn() {
+            if (typeNames.isEmpty()) {
+                return Optional.empty();
+            }
+            String typeName = typeNames.get(0);
+            return Optional.of(packageName.isEmpty() ? typeName : packageName + "." + typeName);
+        }
+    }
+
+    private JavaSourceHeaderScanner() {
+    }
+
+    /**
+     * Scans the header of a source file.
+     *
+     * @param reader   the source content, positioned at the start of the file
+     * @param maxTypes the number of top-level types after which scanning stops
+     * @return the header, or empty if the source could not be scanned reliably
+     * @throws IOException if the content cannot be read
+     */
+    public static Optional<JavaSourceHeader> scan(Reader reader, int maxTypes) throws IOException {
+        try {
+            return Optional.of(new HeaderParser(new Lexer(reader), maxTypes).parse());
+        } catch (AmbiguousSourceException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Scans the header of a source file, reading all its top-level types.
+     *
+     * @param reader the source content, positioned at the start of the file
+     * @return the header, or empty if the source could not be scanned reliably
+     * @throws IOException if the content cannot be read
+     */
+    public static Optional<JavaSourceHeader> scan(Reader reader) throws IOException {
+        return scan(reader, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Signals that the source does not have a shape the scanner handles.
+     */
+    private static final class AmbiguousSourceException extends Exception {
+        AmbiguousSourceException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private enum TokenKind {
+        IDENTIFIER,
+        SYMBOL,
+        LITERAL,
+        EOF
+    }
+
+    private record Token(TokenKind kind, String text) {
+
+        static final Token EOF = new Token(TokenKind.EOF, "");
+        static final Token LITERAL = new Token(TokenKind.LITERAL, "");
+
+        boolean isSymbol(char symbol) {
+            return kind == TokenKind.SYMBOL && text.charAt(0) == symbol;
+        }
+
+        boolean isIdentifier(String identifier) {
+            return kind == TokenKind.IDENTIFIER && text.equals(identifier);
+        }
+    }
+
+    /**
+     * Recognizes the top-level structure of a compilation unit from tokens.
+     */
+    private static final class HeaderParser {
+        private final Lexer lexer;
+        private final int maxTypes;
+        private final List<String> typeNames = new ArrayList<>();
+        private String packageName = "";
+        private Token pushedBack;
+
+        HeaderParser(Lexer lexer, int maxTypes) {
+            this.lexer = lexer;
+            this.maxTypes = maxTypes;
+        }
+
+        JavaSourceHeader parse() throws IOException, AmbiguousSourceException {
+            boolean packageAllowed = true;
+            while (true) {
+                Token token = next();
+                if (token.kind() == TokenKind.EOF) {
+                    return header(false);
+                }
+                if (token.isSymbol(';')) {
+                    continue;
+                }
+                if (token.isSymbol('@')) {
+                    Token annotationName = next();
+                    if (annotationName.isIdentifier("interface")) {
+                        if (declareType()) {
+                            return header(false);
+                        }
+                        packageAllowed = false;
+                    } else {
+                        pushBack(annotationName);
+                        skipAnnotation();
+                    }
+                    continue;
+                }
+                if (token.kind() != TokenKind.IDENTIFIER) {
+                    throw new AmbiguousSourceException();
+                }
+
+                String word = token.text();
+                if (word.equals("package") && packageAllowed) {
+                    packageName = qualifiedName();
+                    expectSymbol(';');
+                    packageAllowed = false;
+                } else if (word.equals("import")) {
+                    skipPast(';');
+                    packageAllowed = false;
+                } else if (word.equals("module") || word.equals("open")) {
+                    return header(true);
+                } else if (MODIFIERS.contains(word)) {
+                    packageAllowed = false;
+                } else if (TYPE_KEYWORDS.contains(word)) {
+                    if (declareType()) {
+                        return header(false);
+                    }
+                    packageAllowed = false;
+                } else {
+                    throw new AmbiguousSourceException();
+                }
+            }
+        }
+
+        /**
+         * Records a type name and skips its declaration.
+         *
+         * @return true if enough types have been found
+         */
+        private boolean declareType() throws IOException, AmbiguousSourceException {
+            Token name = next();
+            if (name.kind() != TokenKind.IDENTIFIER) {
+                throw new AmbiguousSourceException();
+            }
+            typeNames.add(name.text());
+            if (typeNames.size() >= maxTypes) {
+                return true;
+            }
+            skipDeclaration();
+            return false;
+        }
+
+        private JavaSourceHeader header(boolean moduleDeclaration) {
+            return new JavaSourceHeader(packageName, List.copyOf(typeNames), moduleDeclaration);
+        }
+
+        private String qualifiedName() throws IOException, AmbiguousSourceException {
+            StringBuilder name = new StringBuilder(expectIdentifier());
+            Token token = next();
+            while (token.isSymbol('.')) {
+                name.append('.').append(expectIdentifier());
+                token = next();
+            }
+            pushBack(token);
+            return name.toString();
+        }
+
+        private void skipAnnotation() throws IOException, AmbiguousSourceException {
+            qualifiedName();
+            Token token = next();
+            if (token.isSymbol('(')) {
+                skipBalanced('(', ')');
+            } else {
+                pushBack(token);
+            }
+        }
+
+        /**
+         * Skips a type declaration up to and including its body.
+         */
+        private void skipDeclaration() throws IOException, AmbiguousSourceException {
+            int parenDepth = 0;
+            while (true) {
+                Token token = next();
+                if (token.kind() == TokenKind.EOF) {
+                    throw new AmbiguousSourceException();
+                }
+                if (token.isSymbol('(')) {
+                    parenDepth++;
+                } else if (token.isSymbol(')')) {
+                    parenDepth--;
+                } else if (token.isSymbol('{') && parenDepth == 0) {
+                    skipBalanced('{', '}');
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Skips tokens until the closing symbol matching an already consumed
+         * opening symbol.
+         */
+        private void skipBalanced(char open, char close) throws IOException, AmbiguousSourceException {
+            int depth = 1;
+            while (depth > 0) {
+                Token token = next();
+                if (token.kind() == TokenKind.EOF) {
+                    throw new AmbiguousSourceException();
+                }
+                if (token.isSymbol(open)) {
+                    depth++;
+                } else if (token.isSymbol(close)) {
+                    depth--;
+                }
+            }
+        }
+
+        private void skipPast(char symbol) throws IOException, AmbiguousSourceException {
+            Token token = next();
+            while (!token.isSymbol(symbol)) {
+                if (token.kind() == TokenKind.EOF) {
+                    throw new AmbiguousSourceException();
+                }
+                token = next();
+            }
+        }
+
+        private String expectIdentifier() throws IOException, AmbiguousSourceException {
+            Token token = next();
+            if (token.kind() != TokenKind.IDENTIFIER) {
+                throw new AmbiguousSourceException();
+            }
+            return token.text();
+        }
+
+        private void expectSymbol(char symbol) throws IOException, AmbiguousSourceException {
+            if (!next().isSymbol(symbol)) {
+                throw new AmbiguousSourceException();
+            }
+        }
+
+        private Token next() throws IOException, AmbiguousSourceException {
+            if (pushedBack != null) {
+                Token token = pushedBack;
+                pushedBack = null;
+                return token;
+            }
+            return lexer.next();
+        }
+
+        private void pushBack(Token token) {
+            pushedBack = token;
+        }
+    }
+
+    /**
+     * Splits Java source into identifiers and symbols, skipping whitespace,
+     * comments and literals.
+     */
+    private static final class Lexer {
+        private static final int EOF = -1;
+        private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+        private final PushbackReader reader;
+        private final StringBuilder word = new StringBuilder(32);
+
+        Lexer(Reader reader) {
+            this.reader = new PushbackReader(reader, 2);
+        }
+
+        Token next() throws IOException, AmbiguousSourceException {
+            while (true) {
+                int c = reader.read();
+                if (c == EOF) {
+                    return Token.EOF;
+                }
+                if (Character.isWhitespace(c) || c == BYTE_ORDER_MARK) {
+                    continue;
+                }
+                if (c == '/') {
+                    int following = reader.read();
+                    if (following == '/') {
+                        skipLineComment();
+                        continue;
+                    }
+                    if (following == '*') {
+                        skipBlockComment();
+                        continue;
+                    }
+                    unread(following);
+                    return new Token(TokenKind.SYMBOL, "/");
+                }
+                if (c == '"') {
+                    skipStringOrTextBlock();
+                    return Token.LITERAL;
+                }
+                if (c == '\'') {
+                    skipQuoted('\'');
+                    return Token.LITERAL;
+                }
+                if (c == '\\') {
+                    // Unicode escapes may hide any character, including delimiters
+                    throw new AmbiguousSourceException();
+                }
+                if (Character.isJavaIdentifierPart(c)) {
+                    return new Token(TokenKind.IDENTIFIER, readWord(c));
+                }
+                return new Token(TokenKind.SYMBOL, String.valueOf((char) c));
+            }
+        }
+
+        private String readWord(int first) throws IOException, AmbiguousSourceException {
+            word.setLength(0);
+            word.append((char) first);
+            int c = reader.read();
+            while (c != EOF && Character.isJavaIdentifierPart(c)) {
+                word.append((char) c);
+                c = reader.read();
+            }
+            unread(c);
+
+            // "non-sealed" is the only hyphenated keyword
+            if (c == '-' && word.length() == 3 && word.toString().equals("non")) {
+                reader.read();
+                int next = reader.read();
+                if (next == EOF || !Character.isJavaIdentifierStart(next) || !readWord(next).equals("sealed")) {
+                    throw new AmbiguousSourceException();
+                }
+                return "non-sealed";
+            }
+            return word.toString();
+        }
+
+        private void skipLineComment() throws IOException {
+            int c = reader.read();
+            while (c != EOF && c != '\n' && c != '\r') {
+                c = reader.read();
+            }
+        }
+
+        private void skipBlockComment() throws IOException, AmbiguousSourceException {
+            int previous = 0;
+            int c = reader.read();
+            while (!(previous == '*' && c == '/')) {
+                if (c == EOF) {
+                    throw new AmbiguousSourceException();
+                }
+                previous = c;
+                c = reader.read();
+            }
+        }
+
+        private void skipStringOrTextBlock() throws IOException, AmbiguousSourceException {
+            int second = reader.read();
+            if (second != '"') {
+                unread(second);
+                skipQuoted('"');
+                return;
+            }
+            int third = reader.read();
+            if (third != '"') {
+                // Empty string literal
+                unread(third);
+                return;
+            }
+
+            // Text block: ends at the first unescaped triple quote
+            int quotes = 0;
+            while (quotes < 3) {
+                int c = reader.read();
+                if (c == EOF) {
+                    throw new AmbiguousSourceException();
+                }
+                if (c == '\\') {
+                    reader.read();
+                    quotes = 0;
+                } else {
+                    quotes = c == '"' ? quotes + 1 : 0;
+                }
+            }
+        }
+
+        private void skipQuoted(char delimiter) throws IOException, AmbiguousSourceException {
+            while (true) {
+                int c = reader.read();
+                if (c == EOF || c == '\n' || c == '\r') {
+                    throw new AmbiguousSourceException();
+                }
+                if (c == '\\') {
+                    reader.read();
+                } else if (c == delimiter) {
+                    return;
+                }
+            }
+        }
+
+        private void unread(int c) throws IOException {
+            if (c != EOF) {
+                reader.unread(c);
+            }
+        }
+    }
+}
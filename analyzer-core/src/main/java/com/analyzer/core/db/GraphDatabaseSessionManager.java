@@ -131,6 +131,7 @@ class GraphDatabaseSessionManager {
             "mybatis/mappers/NodeMapper.xml",
             "mybatis/mappers/EdgeMapper.xml",
             "mybatis/mappers/TagMapper.xml",
+            "mybatis/mappers/PromotedValueMapper.xml",
             "mybatis/mappers/ProjectMapper.xml"
         };
 
@@ -0,0 +1,634 @@
+package com.analyzer.core.db;
+
+import com.analyzer.api.graph.BaseGraphNode;
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.graph.GraphRepository;
+import com.analyzer.core.db.entity.GraphNodeEntity;
+import com.analyzer.core.db.loader.LoadOptions;
+import com.analyzer.core.graph.NodeTypeRegistry;
+import com.analyzer.core.serialization.JsonSerializationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binary snapshot of the graph stored next to the H2 database file, so that
+ * the graph can be loaded without reading the JSON CLOB columns.
+ * <p>
+ * The file starts with a magic number, the format version and the graph
+ * version of the database it was written from (see
+ * {@link H2GraphStorageRepository#getGraphVersion()}); a snapshot whose graph
+ * version no longer matches the database is ignored. All strings (IDs, types,
+ * property keys, tags, string values) are stored once in a dictionary and
+ * referenced by index. Properties and tags are stored per node in CSR form,
+ * metrics column by column, and edges in CSR form indexed by source node. The
+ * file is read through a {@link MappedByteBuffer}.
+ * <p>
+ * Property values are stored as they read back from the JSON properties
+ * column: numbers become Integer, Long or Double, and values that are not
+ * scalars or string lists are stored as JSON.
+ */
+public class GraphSnapshotFile {
+    private static final Logger logger = LoggerFactory.getLogger(GraphSnapshotFile.class);
+
+    /**
+     * Extension appended to the database path (e.g. graph.snapshot next to
+     * graph.mv.db).
+     */
+    public static final String EXTENSION = ".snapshot";
+
+    static final int MAGIC = 0x4A41474D; // "JAGM"
+    static final int FORMAT_VERSION = 1;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_STRING_LIST = 6;
+    private static final byte TYPE_JSON = 7;
+
+    private final Path file;
+    private final JsonSerializationService jsonSerializer;
+
+    public GraphSnapshotFile(final Path file, final JsonSerializationService jsonSerializer) {
+        this.file = file;
+        this.jsonSerializer = jsonSerializer;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Deletes the snapshot file, if it exists.
+     */
+    public void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            logger.warn("Failed to delete graph snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    // ==================== WRITING ====================
+
+    /**
+     * Writes the snapshot of a repository. The file is replaced atomically.
+     *
+     * @param repository   the repository, holding the same graph as the database
+     * @param graphVersion the graph version of the database
+     * @throws IOException if the file cannot be written
+     */
+    public void write(final GraphRepository repository, final String graphVersion) throws IOException {
+        final long start = System.nanoTime();
+        final Encoder encoder = new Encoder(jsonSerializer.getObjectMapper());
+        encoder.encode(repository);
+
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeString(out, graphVersion);
+            encoder.writeTo(out);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        logger.info("Wrote graph snapshot with {} nodes and {} edges to {} in {} ms", encoder.nodes.size(),
+                encoder.edgeCount, file, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeInts(final DataOutputStream out, final int[] values, final int length)
+            throws IOException {
+        for (int i = 0; i < length; i++) {
+            out.writeInt(values[i]);
+        }
+    }
+
+    /**
+     * Turns a repository into the dictionary-encoded arrays of the file.
+     */
+    private static final class Encoder {
+        private final ObjectMapper objectMapper;
+        private final Map<String, Integer> stringIndex = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        private List<GraphNode> nodes;
+        private int[] nodeIds;
+        private int[] nodeTypes;
+
+        private final IntList propertyOffsets = new IntList();
+        private final IntList propertyKeys = new IntList();
+        private final ByteList propertyTypes = new ByteList();
+        private final LongList propertyValues = new LongList();
+        private final IntList stringLists = new IntList();
+
+        private final IntList tagOffsets = new IntList();
+        private final IntList tags = new IntList();
+
+        // Metric columns by the dictionary index of the metric name
+        private final Map<Integer, IntList> metricNodes = new HashMap<>();
+        private final Map<Integer, List<Double>> metricValues = new HashMap<>();
+
+        private int[] edgeOffsets;
+        private int[] edgeTargets;
+        private int[] edgeTypes;
+        private int edgeCount;
+
+        private Encoder(final ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        private void encode(final GraphRepository repository) throws IOException {
+            nodes = new ArrayList<>(repository.getNodes());
+            final int nodeCount = nodes.size();
+            final Map<String, Integer> nodeIndex = new HashMap<>(nodeCount * 2);
+            nodeIds = new int[nodeCount];
+            nodeTypes = new int[nodeCount];
+
+            propertyOffsets.add(0);
+            tagOffsets.add(0);
+            for (int i = 0; i < nodeCount; i++) {
+                final GraphNode node = nodes.get(i);
+                nodeIndex.put(node.getId(), i);
+                nodeIds[i] = intern(node.getId());
+                nodeTypes[i] = intern(node.getNodeType());
+                encodeProperties(node.getNodeProperties());
+                propertyOffsets.add(propertyKeys.size());
+                for (final String tag : node.getTags()) {
+                    tags.add(intern(tag));
+                }
+                tagOffsets.add(tags.size());
+                if (node.getMetrics() != null) {
+                    encodeMetrics(i, node.getMetrics().getAllMetrics());
+                }
+            }
+            encodeEdges(repository.getAllEdges(), nodeIndex);
+        }
+
+        private void encodeProperties(final Map<String, Object> properties) throws IOException {
+            for (final Map.Entry<String, Object> entry : properties.entrySet()) {
+                Object value = entry.getValue();
+                if (value == null) {
+                    continue;
+                }
+                if (!isNative(value)) {
+                    // Use the value the JSON column would read back
+                    value = objectMapper.readValue(objectMapper.writeValueAsString(value), Object.class);
+                    if (value == null) {
+                        continue;
+                    }
+                }
+                propertyKeys.add(intern(entry.getKey()));
+                encodeValue(value);
+            }
+        }
+
+        private static boolean isNative(final Object value) {
+            return value instanceof String || value instanceof Boolean || value instanceof Integer
+                    || value instanceof Long || value instanceof Short || value instanceof Byte
+                    || (value instanceof Double d && Double.isFinite(d));
+        }
+
+        private void encodeValue(final Object value) throws IOException {
+            if (value instanceof String string) {
+                propertyTypes.add(TYPE_STRING);
+                propertyValues.add(intern(string));
+            } else if (value instanceof Boolean bool) {
+                propertyTypes.add(TYPE_BOOLEAN);
+                propertyValues.add(bool ? 1 : 0);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte
+                    || (value instanceof Long l && l == l.intValue())) {
+                // JSON reads integral numbers in the int range back as Integer
+                propertyTypes.add(TYPE_INT);
+                propertyValues.add(((Number) value).intValue());
+            } else if (value instanceof Long l) {
+                propertyTypes.add(TYPE_LONG);
+                propertyValues.add(l);
+            } else if (value instanceof Double d && Double.isFinite(d)) {
+                propertyTypes.add(TYPE_DOUBLE);
+                propertyValues.add(Double.doubleToRawLongBits(d));
+            } else if (value instanceof List<?> list && list.stream().allMatch(String.class::isInstance)) {
+                propertyTypes.add(TYPE_STRING_LIST);
+                propertyValues.add(((long) stringLists.size() << 32) | list.size());
+                for (final Object element : list) {
+                    stringLists.add(intern((String) element));
+                }
+            } else {
+                propertyTypes.add(TYPE_JSON);
+                propertyValues.add(intern(objectMapper.writeValueAsString(value)));
+            }
+        }
+
+        private void encodeMetrics(final int node, final Map<String, Double> metrics) {
+            for (final Map.Entry<String, Double> entry : metrics.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                final int metric = intern(entry.getKey());
+                metricNodes.computeIfAbsent(metric, key -> new IntList()).add(node);
+                metricValues.computeIfAbsent(metric, key -> new ArrayList<>()).add(entry.getValue());
+            }
+        }
+
+        private void encodeEdges(final Collection<GraphEdge> edges, final Map<String, Integer> nodeIndex) {
+            final int nodeCount = nodes.size();
+            final List<GraphEdge> storedEdges = new ArrayList<>(edges.size());
+            edgeOffsets = new int[nodeCount + 1];
+            for (final GraphEdge edge : edges) {
+                final Integer source = nodeIndex.get(edge.getSource().getId());
+                if (source != null && nodeIndex.containsKey(edge.getTarget().getId())) {
+                    storedEdges.add(edge);
+                    edgeOffsets[source + 1]++;
+                }
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                edgeOffsets[i + 1] += edgeOffsets[i];
+            }
+
+            edgeCount = storedEdges.size();
+            edgeTargets = new int[edgeCount];
+            edgeTypes = new int[edgeCount];
+            final int[] next = Arrays.copyOf(edgeOffsets, nodeCount);
+            for (final GraphEdge edge : storedEdges) {
+                final int position = next[nodeIndex.get(edge.getSource().getId())]++;
+                edgeTargets[position] = nodeIndex.get(edge.getTarget().getId());
+                edgeTypes[position] = intern(edge.getEdgeType());
+            }
+        }
+
+        private int intern(final String value) {
+            return stringIndex.computeIfAbsent(value, key -> {
+                strings.add(key);
+                return strings.size() - 1;
+            });
+        }
+
+        private void writeTo(final DataOutputStream out) throws IOException {
+            // String dictionary: offsets into one block of UTF-8 bytes
+            final byte[][] encoded = new byte[strings.size()][];
+            int offset = 0;
+            out.writeInt(strings.size());
+            out.writeInt(0);
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = strings.get(i).getBytes(StandardCharsets.UTF_8);
+                offset += encoded[i].length;
+                out.writeInt(offset);
+            }
+            for (final byte[] bytes : encoded) {
+                out.write(bytes);
+            }
+
+            // Nodes
+            final int nodeCount = nodes.size();
+            out.writeInt(nodeCount);
+            writeInts(out, nodeIds, nodeCount);
+            writeInts(out, nodeTypes, nodeCount);
+
+            // Properties
+            writeInts(out, propertyOffsets.values, propertyOffsets.size);
+            writeInts(out, propertyKeys.values, propertyKeys.size);
+            out.write(propertyTypes.values, 0, propertyTypes.size);
+            for (int i = 0; i < propertyValues.size; i++) {
+                out.writeLong(propertyValues.values[i]);
+            }
+            out.writeInt(stringLists.size);
+            writeInts(out, stringLists.values, stringLists.size);
+
+            // Tags
+            writeInts(out, tagOffsets.values, tagOffsets.size);
+            writeInts(out, tags.values, tags.size);
+
+            // Metrics, one column per metric
+            out.writeInt(metricNodes.size());
+            for (final Map.Entry<Integer, IntList> column : metricNodes.entrySet()) {
+                final List<Double> values = metricValues.get(column.getKey());
+                out.writeInt(column.getKey());
+                out.writeInt(column.getValue().size);
+                writeInts(out, column.getValue().values, column.getValue().size);
+                for (final Double value : values) {
+                    out.writeDouble(value);
+                }
+            }
+
+            // Edges
+            out.writeInt(edgeCount);
+            writeInts(out, edgeOffsets, nodeCount + 1);
+            writeInts(out, edgeTargets, edgeCount);
+            writeInts(out, edgeTypes, edgeCount);
+        }
+    }
+
+    // ==================== READING ====================
+
+    /**
+     * Loads the snapshot into a repository, selecting nodes and edges the same
+     * way as a load from the database with the given options. Nothing is added
+     * if the snapshot is missing or was written from another graph version.
+     *
+     * @param target       the repository to populate
+     * @param graphVersion the current graph version of the database
+     * @param options      the load options
+     * @return true if the snapshot was loaded
+     * @throws IOException if the file cannot be read or is corrupt
+     */
+    public boolean readInto(final GraphRepository target, final String graphVersion, final LoadOptions options)
+            throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        final long start = System.nanoTime();
+        final DecodedGraph graph;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a graph snapshot: " + file);
+            }
+            final int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                logger.info("Ignoring graph snapshot with format version {}", formatVersion);
+                return false;
+            }
+            final String snapshotVersion = readString(buffer);
+            if (!snapshotVersion.equals(graphVersion)) {
+                logger.info("Ignoring stale graph snapshot {}", file);
+                return false;
+            }
+            graph = decode(buffer, options);
+        } catch (final RuntimeException e) {
+            // Buffer underflows and bad indices of a truncated or corrupt file
+            throw new IOException("Corrupt graph snapshot: " + file, e);
+        }
+
+        for (final GraphNode node : graph.nodes) {
+            if (node != null) {
+                target.addNode(node);
+            }
+        }
+        int edgesAdded = 0;
+        for (final int[] edge : graph.edges) {
+            target.getOrCreateEdge(graph.nodes[edge[0]], graph.nodes[edge[1]], graph.strings.get(edge[2]));
+            edgesAdded++;
+        }
+        logger.info("Loaded {} nodes and {} edges from graph snapshot in {} ms", target.getNodeCount(), edgesAdded,
+                (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    private DecodedGraph decode(final ByteBuffer buffer, final LoadOptions options) throws IOException {
+        final StringDictionary strings = readDictionary(buffer);
+
+        final int nodeCount = buffer.getInt();
+        final int[] nodeIds = readInts(buffer, nodeCount);
+        final int[] nodeTypes = readInts(buffer, nodeCount);
+
+        final int[] propertyOffsets = readInts(buffer, nodeCount + 1);
+        final int propertyCount = propertyOffsets[nodeCount];
+        final int[] propertyKeys = readInts(buffer, propertyCount);
+        final byte[] propertyTypes = new byte[propertyCount];
+        buffer.get(propertyTypes);
+        final long[] propertyValues = new long[propertyCount];
+        buffer.asLongBuffer().get(propertyValues);
+        buffer.position(buffer.position() + propertyCount * Long.BYTES);
+        final int[] stringLists = readInts(buffer, buffer.getInt());
+
+        final int[] tagOffsets = readInts(buffer, nodeCount + 1);
+        final int[] tags = readInts(buffer, tagOffsets[nodeCount]);
+
+        // Create the selected nodes and apply their properties and tags
+        final Set<String> nodeTypeFilter = selectedNodeTypes(options);
+        final GraphNode[] nodes = new GraphNode[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            final String nodeType = strings.get(nodeTypes[i]);
+            if (nodeTypeFilter != null && !nodeTypeFilter.contains(nodeType)) {
+                continue;
+            }
+            final String nodeId = strings.get(nodeIds[i]);
+            try {
+                // An entity without JSON columns: only the factory's node creation applies
+                nodes[i] = NodeTypeRegistry.createFromEntity(
+                        new GraphNodeEntity(nodeId, nodeType, null, null, null, null),
+                        jsonSerializer, options.getProjectRoot());
+            } catch (final Exception e) {
+                logger.warn("Failed to load node {}: {}", nodeId, e.getMessage(), e);
+                continue;
+            }
+            if (nodes[i] instanceof final BaseGraphNode baseNode) {
+                for (int p = propertyOffsets[i]; p < propertyOffsets[i + 1]; p++) {
+                    baseNode.setProperty(strings.get(propertyKeys[p]),
+                            decodeValue(propertyTypes[p], propertyValues[p], strings, stringLists));
+                }
+            }
+            for (int t = tagOffsets[i]; t < tagOffsets[i + 1]; t++) {
+                nodes[i].enableTag(strings.get(tags[t]));
+            }
+        }
+
+        final int metricCount = buffer.getInt();
+        for (int m = 0; m < metricCount; m++) {
+            final String metric = strings.get(buffer.getInt());
+            final int count = buffer.getInt();
+            final int[] metricNodes = readInts(buffer, count);
+            for (final int node : metricNodes) {
+                final double value = buffer.getDouble();
+                if (nodes[node] != null) {
+                    nodes[node].getMetrics().setMetric(metric, value);
+                }
+            }
+        }
+
+        final int edgeCount = buffer.getInt();
+        final int[] edgeOffsets = readInts(buffer, nodeCount + 1);
+        final int[] edgeTargets = readInts(buffer, edgeCount);
+        final int[] edgeTypes = readInts(buffer, edgeCount);
+        final EdgeSelection edgeSelection = selectedEdgeTypes(options);
+        final List<int[]> edges = new ArrayList<>();
+        if (edgeSelection.loadEdges()) {
+            for (int source = 0; source < nodeCount; source++) {
+                for (int e = edgeOffsets[source]; e < edgeOffsets[source + 1]; e++) {
+                    if (nodes[source] != null && nodes[edgeTargets[e]] != null
+                            && edgeSelection.accepts(strings.get(edgeTypes[e]))) {
+                        edges.add(new int[] { source, edgeTargets[e], edgeTypes[e] });
+                    }
+                }
+            }
+        }
+        return new DecodedGraph(strings, nodes, edges);
+    }
+
+    private Object decodeValue(final byte type, final long value, final StringDictionary strings,
+            final int[] stringLists) throws IOException {
+        switch (type) {
+            case TYPE_STRING:
+                return strings.get((int) value);
+            case TYPE_INT:
+                return (int) value;
+            case TYPE_LONG:
+                return value;
+            case TYPE_DOUBLE:
+                return Double.longBitsToDouble(value);
+            case TYPE_BOOLEAN:
+                return value != 0;
+            case TYPE_STRING_LIST:
+                final int offset = (int) (value >>> 32);
+                final int length = (int) value;
+                final List<String> list = new ArrayList<>(length);
+                for (int i = offset; i < offset + length; i++) {
+                    list.add(strings.get(stringLists[i]));
+                }
+                return list;
+            case TYPE_JSON:
+                return jsonSerializer.getObjectMapper().readValue(strings.get((int) value), Object.class);
+            default:
+                throw new IOException("Unknown property value type " + type);
+        }
+    }
+
+    /**
+     * The node types to load, or null to load all nodes, matching the node
+     * selection of the database load.
+     */
+    private static Set<String> selectedNodeTypes(final LoadOptions options) {
+        if (!options.shouldLoadAllNodes() && options.getNodeTypeFilters() != null
+                && !options.getNodeTypeFilters().isEmpty()) {
+            return Set.copyOf(options.getNodeTypeFilters());
+        }
+        return null;
+    }
+
+    /**
+     * The edges to load, matching the edge selection of the database load:
+     * edges are only loaded when requested, either all of them or the filtered
+     * types.
+     */
+    private static EdgeSelection selectedEdgeTypes(final LoadOptions options) {
+        final boolean filtered = options.getEdgeTypeFilters() != null && !options.getEdgeTypeFilters().isEmpty();
+        return new EdgeSelection(options.shouldLoadAllEdges() || filtered,
+                filtered ? Set.copyOf(options.getEdgeTypeFilters()) : null);
+    }
+
+    private record EdgeSelection(boolean loadEdges, Set<String> edgeTypes) {
+        boolean accepts(final String edgeType) {
+            return edgeTypes == null || edgeTypes.contains(edgeType);
+        }
+    }
+
+    private record DecodedGraph(StringDictionary strings, GraphNode[] nodes, List<int[]> edges) {
+    }
+
+    private static StringDictionary readDictionary(final ByteBuffer buffer) {
+        final int count = buffer.getInt();
+        final int[] offsets = readInts(buffer, count + 1);
+        final byte[] bytes = new byte[offsets[count]];
+        buffer.get(bytes);
+        return new StringDictionary(bytes, offsets);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int[] readInts(final ByteBuffer buffer, final int count) {
+        final int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    /**
+     * The string dictionary; strings are decoded when first used, so that a
+     * filtered load does not decode the strings of the nodes it skips.
+     */
+    private static final class StringDictionary {
+        private final byte[] bytes;
+        private final int[] offsets;
+        private final String[] decoded;
+
+        private StringDictionary(final byte[] bytes, final int[] offsets) {
+            this.bytes = bytes;
+            this.offsets = offsets;
+            this.decoded = new String[offsets.length - 1];
+        }
+
+        private String get(final int index) {
+            String value = decoded[index];
+            if (value == null) {
+                value = new String(bytes, offsets[index], offsets[index + 1] - offsets[index],
+                        StandardCharsets.UTF_8);
+                decoded[index] = value;
+            }
+            return value;
+        }
+    }
+
+    // ==================== PRIMITIVE LISTS ====================
+
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+
+    private static final class LongList {
+        private long[] values = new long[16];
+        private int size;
+
+        private void add(final long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    private static final class ByteList {
+        private byte[] values = new byte[16];
+        private int size;
+
+        private void add(final byte value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
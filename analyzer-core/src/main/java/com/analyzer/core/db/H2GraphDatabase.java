@@ -11,17 +11,30 @@ import com.analyzer.core.serialization.JsonSerializationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class H2GraphDatabase implements GraphDatabase {
     private static final Logger logger = LoggerFactory.getLogger(H2GraphDatabase.class);
+
+    /**
+     * Default number of rows per JDBC batch and transaction in
+     * {@link #persist(GraphRepository)}, overridable with the
+     * {@code analyzer.db.batchSize} system property.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
     private final LoadOptions options;
     private final H2GraphStorageRepository h2Repository;
     private final GraphDatabaseSessionManager dbConfig;
     private final JsonSerializationService jsonSerializer;
+    private int batchSize = Math.max(1, Integer.getInteger("analyzer.db.batchSize", DEFAULT_BATCH_SIZE));
+    // Binary snapshot next to the database file, disabled with -Danalyzer.db.snapshot=false
+    private GraphSnapshotFile snapshotFile;
 
     public H2GraphDatabase(final LoadOptions options, final JsonSerializationService jsonSerializer) {
         this.options = options;
@@ -51,6 +64,14 @@ public class H2GraphDatabase implements GraphDatabase {
 
                 if (!dbExists) {
                     logger.info("New empty database created and schema initialized successfully");
+                } else {
+                    h2Repository.migrateTagsFromJson(batchSize);
+                }
+                h2Repository.syncPromotedKeys(batchSize);
+
+                if (Boolean.parseBoolean(System.getProperty("analyzer.db.snapshot", "true"))) {
+                    snapshotFile = new GraphSnapshotFile(
+                            java.nio.file.Paths.get(dbPath + GraphSnapshotFile.EXTENSION), jsonSerializer);
                 }
             } else if (options.getJdbcUrl() != null) {
                 throw new IllegalArgumentException(
@@ -63,22 +84,127 @@ public class H2GraphDatabase implements GraphDatabase {
         }
     }
 
+    /**
+     * Loads the graph into a new in-memory repository. The binary graph
+     * snapshot is used when it is up to date with the database, otherwise the
+     * graph is read from the database.
+     *
+     * @return the in-memory repository
+     */
     public GraphRepository snapshot() {
-        final InMemoryGraphRepository memoryRepo = new InMemoryGraphRepository();
-        loadDataIntoMemoryRepository(memoryRepo, options);
+        InMemoryGraphRepository memoryRepo = new InMemoryGraphRepository();
+        if (!loadSnapshotFile(memoryRepo)) {
+            memoryRepo = new InMemoryGraphRepository();
+            loadDataIntoMemoryRepository(memoryRepo, options);
+        }
+        // Everything matches the database until the snapshot is modified
+        memoryRepo.markClean();
         return memoryRepo;
     }
 
+    /**
+     * Persists the changes of the repository: nodes that are dirty and edges
+     * created since the repository was last marked clean. Unchanged rows are
+     * not written. Rows are written in JDBC batches, one transaction per batch;
+     * existing nodes are merged and existing edges are kept. The repository is
+     * marked clean afterwards, so this must not run concurrently with analysis.
+     * <p>
+     * When the repository holds the whole stored graph, the binary graph
+     * snapshot is rewritten from it; otherwise the snapshot is deleted.
+     *
+     * @param graphRepository the repository to persist
+     */
     @Override
     public void persist(final GraphRepository graphRepository) {
-        for (final GraphNode node : graphRepository.getNodes()) {
-            h2Repository.saveNode(node);
+        final long nodesStart = System.nanoTime();
+        final Collection<GraphNode> dirtyNodes = graphRepository.getDirtyNodes();
+        final int nodesSaved = h2Repository.saveNodes(dirtyNodes, batchSize);
+        final long nodesTime = System.nanoTime() - nodesStart;
+
+        final long edgesStart = System.nanoTime();
+        final Collection<GraphEdge> edges = graphRepository.getNewEdges();
+        final int edgesInserted = h2Repository.saveEdges(edges, batchSize);
+        final long edgesTime = System.nanoTime() - edgesStart;
+
+        graphRepository.markClean();
+
+        logger.info("Persisted {} changed nodes, skipped {} unchanged, in {} ms ({} rows/s)", nodesSaved,
+                graphRepository.getNodeCount() - nodesSaved, nodesTime / 1_000_000,
+                rowsPerSecond(nodesSaved, nodesTime));
+        logger.info("Persisted {} new edges out of {} created in {} ms ({} rows/s)", edgesInserted, edges.size(),
+                edgesTime / 1_000_000, rowsPerSecond(edges.size(), edgesTime));
+
+        writeSnapshotFile(graphRepository);
+    }
+
+    private boolean loadSnapshotFile(final GraphRepository targetRepo) {
+        if (snapshotFile == null) {
+            return false;
         }
-        for (final GraphEdge edge : graphRepository.getAllEdges()) {
-            h2Repository.saveEdge(edge);
+        try {
+            return snapshotFile.readInto(targetRepo, h2Repository.getGraphVersion(), options);
+        } catch (final IOException e) {
+            logger.warn("Failed to load graph snapshot, loading from the database: {}", e.getMessage());
+            return false;
         }
     }
 
+    private void writeSnapshotFile(final GraphRepository graphRepository) {
+        if (snapshotFile == null) {
+            return;
+        }
+        // Every persisted node and edge is stored, so equal counts mean the same graph
+        final H2GraphStorageRepository.GraphStatistics stats = h2Repository.getStatistics();
+        if (stats.nodeCount() != graphRepository.getNodeCount()
+                || stats.edgeCount() != graphRepository.getEdgeCount()) {
+            logger.info("Repository holds part of the stored graph, removing graph snapshot {}",
+                    snapshotFile.getFile());
+            snapshotFile.delete();
+            return;
+        }
+        try {
+            snapshotFile.write(graphRepository, h2Repository.getGraphVersion());
+        } catch (final IOException | RuntimeException e) {
+            logger.warn("Failed to write graph snapshot {}: {}", snapshotFile.getFile(), e.getMessage());
+            snapshotFile.delete();
+        }
+    }
+
+    /**
+     * Deletes nodes from the database, together with their edges.
+     *
+     * @param nodeIds the IDs of the nodes to delete
+     * @return the number of delete statements executed
+     */
+    public int deleteNodes(final Collection<String> nodeIds) {
+        final int deleted = h2Repository.deleteNodes(nodeIds, batchSize);
+        if (deleted > 0) {
+            logger.info("Deleted {} nodes from the database", deleted);
+        }
+        return deleted;
+    }
+
+    private static long rowsPerSecond(final int rows, final long nanos) {
+        return nanos > 0 ? rows * 1_000_000_000L / nanos : rows;
+    }
+
+    /**
+     * Sets the number of rows per JDBC batch and transaction used by
+     * {@link #persist(GraphRepository)}.
+     *
+     * @param batchSize the batch size, at least 1
+     */
+    public void setBatchSize(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     /**
      * Loads data from H2 database into an existing GraphRepository.
      * This is useful for incremental analysis where you want to populate
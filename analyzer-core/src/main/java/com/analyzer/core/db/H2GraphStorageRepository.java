@@ -4,10 +4,15 @@ import com.analyzer.api.graph.GraphEdge;
 import com.analyzer.api.graph.GraphNode;
 import com.analyzer.core.db.entity.GraphEdgeEntity;
 import com.analyzer.core.db.entity.GraphNodeEntity;
+import com.analyzer.core.db.entity.NodeTagEntity;
+import com.analyzer.core.db.entity.PromotedValueEntity;
 import com.analyzer.core.db.mapper.EdgeMapper;
 import com.analyzer.core.db.mapper.NodeMapper;
+import com.analyzer.core.db.mapper.PromotedValueMapper;
+import com.analyzer.core.db.mapper.TagMapper;
 import com.analyzer.core.db.validation.PropertiesValidator;
 import com.analyzer.core.serialization.JsonSerializationService;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +31,7 @@ public class H2GraphStorageRepository {
 
     private final GraphDatabaseSessionManager config;
     private final JsonSerializationService jsonSerializer;
+    private final PromotedKeys promotedKeys;
 
     public H2GraphStorageRepository(final GraphDatabaseSessionManager config) {
         this(config, new JsonSerializationService());
@@ -33,8 +39,14 @@ public class H2GraphStorageRepository {
 
     public H2GraphStorageRepository(final GraphDatabaseSessionManager config,
             final JsonSerializationService jsonSerializer) {
+        this(config, jsonSerializer, PromotedKeys.fromSystemProperties());
+    }
+
+    public H2GraphStorageRepository(final GraphDatabaseSessionManager config,
+            final JsonSerializationService jsonSerializer, final PromotedKeys promotedKeys) {
         this.config = config;
         this.jsonSerializer = jsonSerializer;
+        this.promotedKeys = promotedKeys;
     }
 
     // ==================== NODE OPERATIONS ====================
@@ -122,6 +134,9 @@ public class H2GraphStorageRepository {
      */
     public List<GraphNodeEntity> findNodesByAnyTags(final org.apache.ibatis.session.SqlSession session,
             final List<String> tags) {
+        if (tags.isEmpty()) {
+            return List.of();
+        }
         final NodeMapper mapper = session.getMapper(NodeMapper.class);
         return mapper.findByAnyTags(tags);
     }
@@ -136,7 +151,7 @@ public class H2GraphStorageRepository {
     public List<GraphNodeEntity> findNodesByAllTags(final org.apache.ibatis.session.SqlSession session,
             final List<String> tags) {
         final NodeMapper mapper = session.getMapper(NodeMapper.class);
-        return mapper.findByAllTags(tags);
+        return mapper.findByAllTags(distinct(tags));
     }
 
     /**
@@ -149,6 +164,9 @@ public class H2GraphStorageRepository {
      */
     public List<GraphNodeEntity> findNodesByTypeAndAnyTags(final org.apache.ibatis.session.SqlSession session,
             final String nodeType, final List<String> tags) {
+        if (tags.isEmpty()) {
+            return List.of();
+        }
         final NodeMapper mapper = session.getMapper(NodeMapper.class);
         return mapper.findByTypeAndAnyTags(nodeType, tags);
     }
@@ -164,7 +182,7 @@ public class H2GraphStorageRepository {
     public List<GraphNodeEntity> findNodesByTypeAndAllTags(final org.apache.ibatis.session.SqlSession session,
             final String nodeType, final List<String> tags) {
         final NodeMapper mapper = session.getMapper(NodeMapper.class);
-        return mapper.findByTypeAndAllTags(nodeType, tags);
+        return mapper.findByTypeAndAllTags(nodeType, distinct(tags));
     }
 
     /**
@@ -207,6 +225,9 @@ public class H2GraphStorageRepository {
 
     /**
      * Find nodes by property value using the provided SqlSession.
+     * Paths selecting a promoted property (e.g., '$.packageName') are answered
+     * from the promoted_values index. H2 has no JSON_VALUE, so other paths of
+     * dot-separated members are evaluated after reading all nodes.
      *
      * @param session  The SqlSession to use
      * @param jsonPath JSON path (e.g., '$.java.fullyQualifiedName')
@@ -216,7 +237,69 @@ public class H2GraphStorageRepository {
     public List<GraphNodeEntity> findNodesByPropertyValue(final org.apache.ibatis.session.SqlSession session,
             final String jsonPath, final String value) {
         final NodeMapper mapper = session.getMapper(NodeMapper.class);
-        return mapper.findByPropertyValue(jsonPath, value);
+        final Optional<String> promotedProperty = promotedKeys.promotedPropertyOf(jsonPath);
+        if (promotedProperty.isPresent()) {
+            return mapper.findByPromotedValue(PromotedKeys.KIND_PROPERTY, promotedProperty.get(), value);
+        }
+
+        final List<GraphNodeEntity> matches = new ArrayList<>();
+        for (final GraphNodeEntity node : mapper.findAll()) {
+            if (matchesPath(jsonSerializer.deserializeProperties(node.getProperties()), jsonPath, value)) {
+                matches.add(node);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Checks whether a JSON path of dot-separated members selects a scalar
+     * with the given value, rendered the way promoted values are.
+     */
+    private static boolean matchesPath(final Map<String, Object> properties, final String jsonPath,
+            final String value) {
+        final String path = jsonPath == null ? "" : jsonPath.trim();
+        if (!path.startsWith("$.")) {
+            return false;
+        }
+        Object selected = properties;
+        for (final String member : path.substring(2).split("\\.", -1)) {
+            if (!(selected instanceof final Map<?, ?> map)) {
+                return false;
+            }
+            selected = map.get(member);
+        }
+        return (selected instanceof Number || selected instanceof String || selected instanceof Boolean)
+                && selected.toString().equals(value);
+    }
+
+    /**
+     * Find nodes whose metric lies within a range using the provided
+     * SqlSession. Promoted metrics are answered from the promoted_values
+     * index, other metrics are filtered after reading all nodes.
+     *
+     * @param session    The SqlSession to use
+     * @param metricName The metric name
+     * @param min        Inclusive lower bound, or null
+     * @param max        Inclusive upper bound, or null
+     * @return List of matching nodes
+     */
+    public List<GraphNodeEntity> findNodesByMetricRange(final org.apache.ibatis.session.SqlSession session,
+            final String metricName, final Double min, final Double max) {
+        final NodeMapper mapper = session.getMapper(NodeMapper.class);
+        if (promotedKeys.getMetrics().contains(metricName)) {
+            return mapper.findByPromotedRange(PromotedKeys.KIND_METRIC, metricName, min, max);
+        }
+
+        final List<GraphNodeEntity> matches = new ArrayList<>();
+        for (final GraphNodeEntity node : mapper.findAll()) {
+            final Object value = jsonSerializer.deserializeProperties(node.getMetricsMap()).get(metricName);
+            if (value instanceof final Number number
+                    && (min == null || number.doubleValue() >= min)
+                    && (max == null || number.doubleValue() <= max)) {
+                matches.add(node);
+            }
+        }
+        return matches;
     }
 
     // ==================== NODE OPERATIONS (Legacy - for backward compatibility)
@@ -260,6 +343,13 @@ public class H2GraphStorageRepository {
         }
     }
 
+    /**
+     * Removes duplicate tags, which the all-tags queries count only once.
+     */
+    private static List<String> distinct(final List<String> tags) {
+        return List.copyOf(new LinkedHashSet<>(tags));
+    }
+
     /**
      * Find nodes by a single tag (optimized query).
      *
@@ -281,8 +371,7 @@ public class H2GraphStorageRepository {
      */
     public List<GraphNodeEntity> findNodesByAnyTags(final List<String> tags) {
         try (final SqlSession session = config.openSession()) {
-            final NodeMapper mapper = session.getMapper(NodeMapper.class);
-            return mapper.findByAnyTags(tags);
+            return findNodesByAnyTags(session, tags);
         }
     }
 
@@ -294,8 +383,7 @@ public class H2GraphStorageRepository {
      */
     public List<GraphNodeEntity> findNodesByAllTags(final List<String> tags) {
         try (final SqlSession session = config.openSession()) {
-            final NodeMapper mapper = session.getMapper(NodeMapper.class);
-            return mapper.findByAllTags(tags);
+            return findNodesByAllTags(session, tags);
         }
     }
 
@@ -308,8 +396,7 @@ public class H2GraphStorageRepository {
      */
     public List<GraphNodeEntity> findNodesByTypeAndAnyTags(final String nodeType, final List<String> tags) {
         try (final SqlSession session = config.openSession()) {
-            final NodeMapper mapper = session.getMapper(NodeMapper.class);
-            return mapper.findByTypeAndAnyTags(nodeType, tags);
+            return findNodesByTypeAndAnyTags(session, nodeType, tags);
         }
     }
 
@@ -322,8 +409,7 @@ public class H2GraphStorageRepository {
      */
     public List<GraphNodeEntity> findNodesByTypeAndAllTags(final String nodeType, final List<String> tags) {
         try (final SqlSession session = config.openSession()) {
-            final NodeMapper mapper = session.getMapper(NodeMapper.class);
-            return mapper.findByTypeAndAllTags(nodeType, tags);
+            return findNodesByTypeAndAllTags(session, nodeType, tags);
         }
     }
 
@@ -457,8 +543,21 @@ public class H2GraphStorageRepository {
      */
     public List<GraphNodeEntity> findNodesByPropertyValue(final String jsonPath, final String value) {
         try (final SqlSession session = config.openSession()) {
-            final NodeMapper mapper = session.getMapper(NodeMapper.class);
-            return mapper.findByPropertyValue(jsonPath, value);
+            return findNodesByPropertyValue(session, jsonPath, value);
+        }
+    }
+
+    /**
+     * Find nodes whose metric lies within a range.
+     *
+     * @param metricName The metric name
+     * @param min        Inclusive lower bound, or null
+     * @param max        Inclusive upper bound, or null
+     * @return List of matching nodes
+     */
+    public List<GraphNodeEntity> findNodesByMetricRange(final String metricName, final Double min, final Double max) {
+        try (final SqlSession session = config.openSession()) {
+            return findNodesByMetricRange(session, metricName, min, max);
         }
     }
 
@@ -473,20 +572,24 @@ public class H2GraphStorageRepository {
         try (final SqlSession session = config.openSession()) {
             final NodeMapper nodeMapper = session.getMapper(NodeMapper.class);
             final EdgeMapper edgeMapper = session.getMapper(EdgeMapper.class);
-
-            // Count nodes with tags from JSON column
-            int tagCount = 0;
-            final List<GraphNodeEntity> nodes = nodeMapper.findAll();
-            for (final GraphNodeEntity node : nodes) {
-                if (node.getTags() != null && !node.getTags().isEmpty() && !"[]".equals(node.getTags())) {
-                    tagCount++;
-                }
-            }
+            final TagMapper tagMapper = session.getMapper(TagMapper.class);
 
             return new GraphStatistics(
                     nodeMapper.countNodes(),
                     edgeMapper.countEdges(),
-                    tagCount);
+                    tagMapper.countTaggedNodes());
+        }
+    }
+
+    /**
+     * Get the version of the stored graph, which changes whenever nodes or
+     * edges are written or deleted. Used to detect stale graph snapshots.
+     *
+     * @return the graph version
+     */
+    public String getGraphVersion() {
+        try (final SqlSession session = config.openSession()) {
+            return session.getMapper(NodeMapper.class).findGraphVersion();
         }
     }
 
@@ -496,10 +599,14 @@ public class H2GraphStorageRepository {
     public void clearAll() {
         try (final SqlSession session = config.openSession()) {
             final EdgeMapper edgeMapper = session.getMapper(EdgeMapper.class);
+            final TagMapper tagMapper = session.getMapper(TagMapper.class);
+            final PromotedValueMapper promotedMapper = session.getMapper(PromotedValueMapper.class);
             final NodeMapper nodeMapper = session.getMapper(NodeMapper.class);
 
             // Delete in order (respecting foreign keys)
             edgeMapper.deleteAll();
+            tagMapper.deleteAll();
+            promotedMapper.deleteAll();
             nodeMapper.deleteAll();
 
             session.commit();
@@ -516,45 +623,19 @@ public class H2GraphStorageRepository {
      */
     public void saveNode(final GraphNode node) {
         try (final SqlSession session = config.openSession()) {
-            // Extract node data
-            final String nodeId = node.getId();
-            final String nodeType = node.getNodeType();
-            final String displayLabel = node.getDisplayLabel();
-            final Map<String, Object> properties = node.getNodeProperties();
-            final Set<String> tags = node.getTags();
-
-            // Extract metrics separately - DO NOT include in properties
-            Map<String, Double> metricsMap = null;
-            if (node.getMetrics() != null) {
-                metricsMap = node.getMetrics().getAllMetrics();
-            }
-
-            // Validate properties
-            PropertiesValidator.validate(properties);
-
             final NodeMapper nodeMapper = session.getMapper(NodeMapper.class);
 
-            // Serialize properties, metrics, and tags to JSON
-            final String propertiesJson = jsonSerializer.serializeProperties(properties);
-
-            String metricsJson = null;
-            if (metricsMap != null && !metricsMap.isEmpty()) {
-                // Cast Map<String, Double> to Map<String, Object> for serialization
-                final Map<String, Object> metricsAsObjects = new HashMap<>(metricsMap);
-                metricsJson = jsonSerializer.serializeProperties(metricsAsObjects);
-            }
-
-            final String tagsJson = jsonSerializer.serializeTags(tags);
-
             // Use merge operation for atomic insert/update
-            final GraphNodeEntity nodeEntity = new GraphNodeEntity(nodeId, nodeType, displayLabel, propertiesJson,
-                    metricsJson, tagsJson);
+            final GraphNodeEntity nodeEntity = toNodeEntity(node);
             nodeMapper.mergeNode(nodeEntity);
+            replaceTags(session.getMapper(TagMapper.class), List.of(node));
+            replacePromotedValues(session.getMapper(PromotedValueMapper.class), List.of(node));
 
             session.commit();
-            logger.debug("Saved/merged node: {} (type: {}, {} tags, {} metrics)", nodeId, nodeType,
-                    tags != null ? tags.size() : 0,
-                    metricsMap != null ? metricsMap.size() : 0);
+            logger.debug("Saved/merged node: {} (type: {}, {} tags, {} metrics)", nodeEntity.getId(),
+                    nodeEntity.getNodeType(),
+                    node.getTags() != null ? node.getTags().size() : 0,
+                    node.getMetrics() != null ? node.getMetrics().getAllMetrics().size() : 0);
         }
     }
 
@@ -572,7 +653,6 @@ public class H2GraphStorageRepository {
             final String sourceId = edge.getSource().getId();
             final String targetId = edge.getTarget().getId();
             final String edgeType = edge.getEdgeType();
-            final Map<String, Object> properties = edge.getProperties();
 
             // Check if edge already exists
             final GraphEdgeEntity existingEdge = edgeMapper.findEdge(sourceId, targetId, edgeType);
@@ -581,21 +661,348 @@ public class H2GraphStorageRepository {
                 return;
             }
 
-            // Serialize properties to JSON metadata
-            String metadataJson = null;
-            if (properties != null && !properties.isEmpty()) {
-                metadataJson = jsonSerializer.serializeProperties(properties);
+            // Create and insert edge
+            edgeMapper.insertEdge(toEdgeEntity(edge));
+            session.commit();
+
+            logger.debug("Saved edge: {} -> {} (type: {})", sourceId, targetId, edgeType);
+        }
+    }
+
+    /**
+     * Save GraphNodes in bulk with merge semantics, replacing their rows in
+     * node_tags and promoted_values.
+     * Statements are sent to the database in JDBC batches of the given size, and
+     * each batch is committed as its own transaction.
+     *
+     * @param nodes     The GraphNodes to save
+     * @param batchSize Number of nodes per batch and transaction
+     * @return Number of nodes saved
+     */
+    public int saveNodes(final Collection<? extends GraphNode> nodes, final int batchSize) {
+        int saved = 0;
+        try (final SqlSession session = config.getSqlSessionFactory().openSession(ExecutorType.BATCH, false)) {
+            final List<GraphNode> chunk = new ArrayList<>(Math.min(batchSize, nodes.size()));
+
+            for (final GraphNode node : nodes) {
+                chunk.add(node);
+                if (chunk.size() == batchSize) {
+                    saved += saveNodeChunk(session, chunk);
+                    chunk.clear();
+                    logger.debug("Saved/merged {} of {} nodes", saved, nodes.size());
+                }
             }
+            saved += saveNodeChunk(session, chunk);
+        }
+        return saved;
+    }
 
-            // Create and insert edge
-            final GraphEdgeEntity edgeEntity = new GraphEdgeEntity(sourceId, targetId, edgeType);
-            edgeEntity.setMetadataJson(metadataJson);
+    /**
+     * Writes one chunk of nodes as a single transaction. Statements are issued
+     * grouped by kind, since the batch executor starts a new JDBC batch
+     * whenever the statement changes. A node found twice in the chunk is saved
+     * in its last state, as it would be across chunks.
+     */
+    private int saveNodeChunk(final SqlSession session, final List<GraphNode> chunk) {
+        final Map<String, GraphNode> latest = new LinkedHashMap<>();
+        for (final GraphNode node : chunk) {
+            latest.put(node.getId(), node);
+        }
+        final List<GraphNode> nodes = List.copyOf(latest.values());
+
+        final NodeMapper nodeMapper = session.getMapper(NodeMapper.class);
+        for (final GraphNode node : nodes) {
+            nodeMapper.mergeNode(toNodeEntity(node));
+        }
+        replaceTags(session.getMapper(TagMapper.class), nodes);
+        replacePromotedValues(session.getMapper(PromotedValueMapper.class), nodes);
+        session.flushStatements();
+        session.commit();
+        return chunk.size();
+    }
+
+    /**
+     * Replaces the node_tags rows of the given nodes with their current tags.
+     */
+    private void replaceTags(final TagMapper tagMapper, final List<? extends GraphNode> nodes) {
+        for (final GraphNode node : nodes) {
+            tagMapper.deleteByNodeId(node.getId());
+        }
+        for (final GraphNode node : nodes) {
+            if (node.getTags() != null) {
+                for (final String tag : node.getTags()) {
+                    tagMapper.insertTag(new NodeTagEntity(node.getId(), tag));
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the promoted_values rows of the given nodes with their current
+     * promoted properties and metrics.
+     */
+    private void replacePromotedValues(final PromotedValueMapper promotedMapper,
+            final List<? extends GraphNode> nodes) {
+        for (final GraphNode node : nodes) {
+            promotedMapper.deleteByNodeId(node.getId());
+        }
+        for (final GraphNode node : nodes) {
+            for (final PromotedValueEntity value : promotedKeys.extract(node)) {
+                promotedMapper.insertValue(value);
+            }
+        }
+    }
+
+    /**
+     * Brings promoted_values in line with the configured promoted keys. Values
+     * of keys that are no longer promoted are dropped, and newly promoted keys
+     * are filled from the JSON columns of all nodes, so that queries on a
+     * promoted key can always be answered from the index.
+     *
+     * @param batchSize Number of values per batch and transaction
+     * @return Number of values added
+     */
+    public int syncPromotedKeys(final int batchSize) {
+        final Map<String, Set<String>> missingKeys = new HashMap<>();
+        try (final SqlSession session = config.openSession()) {
+            final PromotedValueMapper promotedMapper = session.getMapper(PromotedValueMapper.class);
+            for (final String kind : List.of(PromotedKeys.KIND_PROPERTY, PromotedKeys.KIND_METRIC)) {
+                final Set<String> indexed = new HashSet<>(promotedMapper.findIndexedKeys(kind));
+                for (final String key : indexed) {
+                    if (!promotedKeys.getKeys(kind).contains(key)) {
+                        promotedMapper.unmarkKey(kind, key);
+                        promotedMapper.deleteValuesByKey(kind, key);
+                        logger.info("Dropped the index of the {} {}, which is no longer promoted", kind, key);
+                    }
+                }
+                final Set<String> missing = new HashSet<>(promotedKeys.getKeys(kind));
+                missing.removeAll(indexed);
+                if (!missing.isEmpty()) {
+                    missingKeys.put(kind, missing);
+                }
+            }
+            session.commit();
+        }
+        if (missingKeys.isEmpty()) {
+            return 0;
+        }
 
-            edgeMapper.insertEdge(edgeEntity);
+        int added = 0;
+        // One session for reading and writing, so that the CLOB columns stay readable
+        try (final SqlSession session = config.getSqlSessionFactory().openSession(ExecutorType.BATCH, false)) {
+            final PromotedValueMapper promotedMapper = session.getMapper(PromotedValueMapper.class);
+            final List<GraphNodeEntity> nodes = session.getMapper(NodeMapper.class).findAll();
+            for (final GraphNodeEntity node : nodes) {
+                final List<PromotedValueEntity> values = new ArrayList<>();
+                final Set<String> properties = missingKeys.get(PromotedKeys.KIND_PROPERTY);
+                if (properties != null) {
+                    values.addAll(promotedKeys.extract(node.getId(), PromotedKeys.KIND_PROPERTY, properties,
+                            jsonSerializer.deserializeProperties(node.getProperties())));
+                }
+                final Set<String> metrics = missingKeys.get(PromotedKeys.KIND_METRIC);
+                if (metrics != null && node.getMetricsMap() != null) {
+                    values.addAll(promotedKeys.extract(node.getId(), PromotedKeys.KIND_METRIC, metrics,
+                            jsonSerializer.deserializeProperties(node.getMetricsMap())));
+                }
+                for (final PromotedValueEntity value : values) {
+                    promotedMapper.insertValue(value);
+                    if (++added % batchSize == 0) {
+                        session.flushStatements();
+                        session.commit();
+                    }
+                }
+            }
+            missingKeys.forEach((kind, keys) -> keys.forEach(key -> promotedMapper.markKeyIndexed(kind, key)));
+            session.flushStatements();
             session.commit();
+        }
+        logger.info("Promoted {} to indexed columns, {} values added", missingKeys, added);
+        return added;
+    }
 
-            logger.debug("Saved edge: {} -> {} (type: {})", sourceId, targetId, edgeType);
+    /**
+     * Fills node_tags from the JSON tags column of the nodes table, for
+     * databases created before node_tags existed. Does nothing once node_tags
+     * holds any row.
+     *
+     * @param batchSize Number of nodes per batch and transaction
+     * @return Number of nodes whose tags were migrated
+     */
+    public int migrateTagsFromJson(final int batchSize) {
+        final List<GraphNodeEntity> taggedNodes;
+        try (final SqlSession session = config.openSession()) {
+            final TagMapper tagMapper = session.getMapper(TagMapper.class);
+            if (tagMapper.countTags() > 0) {
+                return 0;
+            }
+            taggedNodes = tagMapper.findNodesWithJsonTags();
+        }
+        if (taggedNodes.isEmpty()) {
+            return 0;
+        }
+
+        int migrated = 0;
+        try (final SqlSession session = config.getSqlSessionFactory().openSession(ExecutorType.BATCH, false)) {
+            final TagMapper tagMapper = session.getMapper(TagMapper.class);
+            for (final GraphNodeEntity node : taggedNodes) {
+                for (final String tag : jsonSerializer.deserializeTags(node.getTags())) {
+                    tagMapper.insertTag(new NodeTagEntity(node.getId(), tag));
+                }
+                migrated++;
+
+                if (migrated % batchSize == 0) {
+                    session.flushStatements();
+                    session.commit();
+                }
+            }
+            session.flushStatements();
+            session.commit();
+        }
+        logger.info("Migrated the tags of {} nodes to the node_tags table", migrated);
+        return migrated;
+    }
+
+    /**
+     * Save GraphEdges in bulk with duplicate prevention.
+     * The keys of the existing edges are read once, and duplicates are then
+     * detected in memory instead of with one query per edge. New edges are
+     * inserted in JDBC batches of the given size, and each batch is committed as
+     * its own transaction.
+     *
+     * @param edges     The GraphEdges to save
+     * @param batchSize Number of edges per batch and transaction
+     * @return Number of edges inserted
+     */
+    public int saveEdges(final Collection<? extends GraphEdge> edges, final int batchSize) {
+        if (edges.isEmpty()) {
+            return 0;
+        }
+
+        final Set<EdgeKey> knownEdges = new HashSet<>();
+        try (final SqlSession session = config.openSession()) {
+            for (final GraphEdgeEntity existing : session.getMapper(EdgeMapper.class).findAllKeys()) {
+                knownEdges.add(new EdgeKey(existing.getSourceId(), existing.getTargetId(), existing.getEdgeType()));
+            }
+        }
+
+        int inserted = 0;
+        try (final SqlSession session = config.getSqlSessionFactory().openSession(ExecutorType.BATCH, false)) {
+            final EdgeMapper edgeMapper = session.getMapper(EdgeMapper.class);
+
+            for (final GraphEdge edge : edges) {
+                final EdgeKey key = new EdgeKey(edge.getSource().getId(), edge.getTarget().getId(),
+                        edge.getEdgeType());
+                if (!knownEdges.add(key)) {
+                    continue;
+                }
+
+                edgeMapper.insertEdge(toEdgeEntity(edge));
+                inserted++;
+
+                if (inserted % batchSize == 0) {
+                    session.flushStatements();
+                    session.commit();
+                    logger.debug("Inserted {} edges", inserted);
+                }
+            }
+
+            session.flushStatements();
+            session.commit();
+        }
+        logger.debug("Inserted {} new edges, skipped {} existing", inserted, edges.size() - inserted);
+        return inserted;
+    }
+
+    /**
+     * Delete nodes in bulk. Their edges are removed by the cascading foreign
+     * keys. Statements are sent in JDBC batches of the given size, and each
+     * batch is committed as its own transaction.
+     *
+     * @param nodeIds   The IDs of the nodes to delete
+     * @param batchSize Number of nodes per batch and transaction
+     * @return Number of delete statements executed
+     */
+    public int deleteNodes(final Collection<String> nodeIds, final int batchSize) {
+        if (nodeIds.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = 0;
+        try (final SqlSession session = config.getSqlSessionFactory().openSession(ExecutorType.BATCH, false)) {
+            final NodeMapper nodeMapper = session.getMapper(NodeMapper.class);
+
+            for (final String nodeId : nodeIds) {
+                nodeMapper.deleteNode(nodeId);
+                deleted++;
+
+                if (deleted % batchSize == 0) {
+                    session.flushStatements();
+                    session.commit();
+                }
+            }
+
+            session.flushStatements();
+            session.commit();
         }
+        logger.debug("Deleted {} nodes", deleted);
+        return deleted;
+    }
+
+    /**
+     * Converts a GraphNode to its database entity, serializing properties,
+     * metrics and tags to JSON.
+     */
+    private GraphNodeEntity toNodeEntity(final GraphNode node) {
+        final Map<String, Object> properties = node.getNodeProperties();
+
+        // Extract metrics separately - DO NOT include in properties
+        Map<String, Double> metricsMap = null;
+        if (node.getMetrics() != null) {
+            metricsMap = node.getMetrics().getAllMetrics();
+        }
+
+        // Validate properties
+        PropertiesValidator.validate(properties);
+
+        // Serialize properties, metrics, and tags to JSON
+        final String propertiesJson = jsonSerializer.serializeProperties(properties);
+
+        String metricsJson = null;
+        if (metricsMap != null && !metricsMap.isEmpty()) {
+            // Cast Map<String, Double> to Map<String, Object> for serialization
+            final Map<String, Object> metricsAsObjects = new HashMap<>(metricsMap);
+            metricsJson = jsonSerializer.serializeProperties(metricsAsObjects);
+        }
+
+        final String tagsJson = jsonSerializer.serializeTags(node.getTags());
+
+        return new GraphNodeEntity(node.getId(), node.getNodeType(), node.getDisplayLabel(), propertiesJson,
+                metricsJson, tagsJson);
+    }
+
+    /**
+     * Converts a GraphEdge to its database entity, serializing its properties to
+     * JSON metadata.
+     */
+    private GraphEdgeEntity toEdgeEntity(final GraphEdge edge) {
+        final Map<String, Object> properties = edge.getProperties();
+
+        // Serialize properties to JSON metadata
+        String metadataJson = null;
+        if (properties != null && !properties.isEmpty()) {
+            metadataJson = jsonSerializer.serializeProperties(properties);
+        }
+
+        final GraphEdgeEntity edgeEntity = new GraphEdgeEntity(edge.getSource().getId(), edge.getTarget().getId(),
+                edge.getEdgeType());
+        edgeEntity.setMetadataJson(metadataJson);
+        return edgeEntity;
+    }
+
+    /**
+     * Identity of an edge, matching the unique_edge constraint.
+     */
+    private record EdgeKey(String sourceId, String targetId, String edgeType) {
     }
 
     public Collection<? extends GraphEdgeEntity> findAllEdges() {
@@ -0,0 +1,150 @@
+package com.analyzer.core.db;
+
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.core.db.entity.PromotedValueEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The properties and metrics promoted out of the JSON columns of the nodes
+ * table into the typed, indexed promoted_values table.
+ * <p>
+ * Queries on a promoted key are answered from the index instead of evaluating
+ * a JSON path on every row. The keys can be replaced with the comma-separated
+ * {@code analyzer.db.promotedProperties} and
+ * {@code analyzer.db.promotedMetrics} system properties.
+ */
+public final class PromotedKeys {
+
+    public static final String KIND_PROPERTY = "property";
+    public static final String KIND_METRIC = "metric";
+
+    public static final Set<String> DEFAULT_PROPERTIES = Set.of(
+            JavaClassNode.PROP_PACKAGE_NAME,
+            JavaClassNode.PROP_SIMPLE_NAME,
+            JavaClassNode.PROP_FULLY_QUALIFIED_NAME,
+            JavaClassNode.PROP_CLASS_TYPE,
+            JavaClassNode.PROP_SOURCE_TYPE);
+
+    public static final Set<String> DEFAULT_METRICS = Set.of(
+            JavaClassNode.METRIC_METHOD_COUNT,
+            JavaClassNode.METRIC_CYCLOMATIC_COMPLEXITY,
+            JavaClassNode.METRIC_AFFERENT_COUPLING,
+            JavaClassNode.METRIC_EFFERENT_COUPLING,
+            JavaClassNode.METRIC_INSTABILITY);
+
+    // A JSON path selecting a top-level member, e.g. $.packageName
+    private static final Pattern TOP_LEVEL_PATH = Pattern.compile("\\$\\.([A-Za-z_][A-Za-z0-9_]*)");
+
+    private final Set<String> properties;
+    private final Set<String> metrics;
+
+    public PromotedKeys(final Set<String> properties, final Set<String> metrics) {
+        this.properties = Set.copyOf(properties);
+        this.metrics = Set.copyOf(metrics);
+    }
+
+    /**
+     * Creates the promoted keys from the system properties, falling back to
+     * the defaults.
+     *
+     * @return the promoted keys
+     */
+    public static PromotedKeys fromSystemProperties() {
+        return new PromotedKeys(
+                parse(System.getProperty("analyzer.db.promotedProperties"), DEFAULT_PROPERTIES),
+                parse(System.getProperty("analyzer.db.promotedMetrics"), DEFAULT_METRICS));
+    }
+
+    static Set<String> parse(final String value, final Set<String> defaults) {
+        if (value == null) {
+            return defaults;
+        }
+        final Set<String> keys = new LinkedHashSet<>();
+        Arrays.stream(value.split(","))
+              .map(String::trim)
+              .filter(key -> !key.isEmpty())
+              .forEach(keys::add);
+        return keys;
+    }
+
+    public Set<String> getProperties() {
+        return properties;
+    }
+
+    public Set<String> getMetrics() {
+        return metrics;
+    }
+
+    public Set<String> getKeys(final String kind) {
+        return KIND_METRIC.equals(kind) ? metrics : properties;
+    }
+
+    /**
+     * Gets the promoted property selected by a JSON path, if the path selects a
+     * top-level member that is promoted.
+     *
+     * @param jsonPath JSON path expression (e.g., '$.packageName')
+     * @return the property name, or empty if the query cannot use the index
+     */
+    public Optional<String> promotedPropertyOf(final String jsonPath) {
+        if (jsonPath == null) {
+            return Optional.empty();
+        }
+        final Matcher matcher = TOP_LEVEL_PATH.matcher(jsonPath.trim());
+        if (matcher.matches() && properties.contains(matcher.group(1))) {
+            return Optional.of(matcher.group(1));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Extracts the promoted values of a node.
+     *
+     * @param node the node
+     * @return one entity per promoted key the node has a scalar value for
+     */
+    public List<PromotedValueEntity> extract(final GraphNode node) {
+        final List<PromotedValueEntity> values = new ArrayList<>();
+        if (!properties.isEmpty()) {
+            addValues(values, node.getId(), KIND_PROPERTY, properties, node.getNodeProperties());
+        }
+        if (!metrics.isEmpty() && node.getMetrics() != null) {
+            addValues(values, node.getId(), KIND_METRIC, metrics, node.getMetrics().getAllMetrics());
+        }
+        return values;
+    }
+
+    /**
+     * Extracts the promoted values of a node from its deserialized JSON
+     * columns, for the given keys only.
+     */
+    List<PromotedValueEntity> extract(final String nodeId, final String kind, final Set<String> keys,
+            final Map<String, ?> source) {
+        final List<PromotedValueEntity> values = new ArrayList<>();
+        addValues(values, nodeId, kind, keys, source);
+        return values;
+    }
+
+    private static void addValues(final List<PromotedValueEntity> values, final String nodeId, final String kind,
+            final Set<String> keys, final Map<String, ?> source) {
+        for (final String key : keys) {
+            final Object value = source.get(key);
+            if (value instanceof final Number number) {
+                values.add(new PromotedValueEntity(nodeId, kind, key, String.valueOf(value), number.doubleValue()));
+            } else if (value instanceof String || value instanceof Boolean || value instanceof Enum<?>) {
+                // Matches the scalar rendering that JSON_VALUE compares against
+                values.add(new PromotedValueEntity(nodeId, kind, key, value.toString(), null));
+            }
+        }
+    }
+}
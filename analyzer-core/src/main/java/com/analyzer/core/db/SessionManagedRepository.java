@@ -242,6 +242,22 @@ public class SessionManagedRepository implements AutoCloseable {
         return repository.findNodesByPropertyValue(session, jsonPath, value);
     }
 
+    /**
+     * Find nodes whose metric lies within a range.
+     * The session remains open, so CLOB fields can be accessed after this call.
+     *
+     * @param metricName Metric name
+     * @param min        Inclusive lower bound, or null
+     * @param max        Inclusive upper bound, or null
+     * @return List of matching nodes
+     * @throws IllegalStateException if repository is closed
+     */
+    public List<GraphNodeEntity> findNodesByMetricRange(final String metricName, final Double min,
+            final Double max) {
+        ensureOpen();
+        return repository.findNodesByMetricRange(session, metricName, min, max);
+    }
+
     /**
      * Check if this repository is still open.
      *
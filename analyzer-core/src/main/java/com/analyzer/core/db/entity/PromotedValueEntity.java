@@ -0,0 +1,80 @@
+package com.analyzer.core.db.entity;
+
+/**
+ * Database entity representing a promoted property or metric value.
+ * Maps to the 'promoted_values' table in H2 database, which holds typed,
+ * indexed copies of selected values of the JSON properties and metrics
+ * columns.
+ */
+public class PromotedValueEntity {
+
+    private String nodeId;
+    private String kind; // property or metric
+    private String name;
+    private String stringValue;
+    private Double numberValue;
+
+    public PromotedValueEntity() {
+    }
+
+    public PromotedValueEntity(String nodeId, String kind, String name, String stringValue, Double numberValue) {
+        this.nodeId = nodeId;
+        this.kind = kind;
+        this.name = name;
+        this.stringValue = stringValue;
+        this.numberValue = numberValue;
+    }
+
+    // Getters and Setters
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getStringValue() {
+        return stringValue;
+    }
+
+    public void setStringValue(String stringValue) {
+        this.stringValue = stringValue;
+    }
+
+    public Double getNumberValue() {
+        return numberValue;
+    }
+
+    public void setNumberValue(Double numberValue) {
+        this.numberValue = numberValue;
+    }
+
+    @Override
+    public String toString() {
+        return "PromotedValueEntity{" +
+                "nodeId='" + nodeId + '\'' +
+                ", kind='" + kind + '\'' +
+                ", name='" + name + '\'' +
+                ", stringValue='" + stringValue + '\'' +
+                ", numberValue=" + numberValue +
+                '}';
+    }
+}
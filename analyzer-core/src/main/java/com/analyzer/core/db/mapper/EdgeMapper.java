@@ -68,6 +68,13 @@ public interface EdgeMapper {
      */
     List<GraphEdgeEntity> findAll();
 
+    /**
+     * Find the source, target and type of all edges, without their metadata.
+     *
+     * @return List of edges with only their key columns populated
+     */
+    List<GraphEdgeEntity> findAllKeys();
+
     /**
      * Delete an edge by its ID.
      *
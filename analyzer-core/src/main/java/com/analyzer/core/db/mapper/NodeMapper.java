@@ -42,13 +42,29 @@ public interface NodeMapper {
     List<GraphNodeEntity> findByType(@Param("nodeType") String nodeType);
 
     /**
-     * Find nodes by JSON property value using JSON path query.
+     * Find nodes by the text value of a promoted property or metric, using the
+     * promoted_values index.
      *
-     * @param jsonPath JSON path expression (e.g., '$.java.fullyQualifiedName')
-     * @param value    The value to match
+     * @param kind  property or metric
+     * @param name  The promoted key
+     * @param value The value to match
      * @return List of matching nodes
      */
-    List<GraphNodeEntity> findByPropertyValue(@Param("jsonPath") String jsonPath, @Param("value") String value);
+    List<GraphNodeEntity> findByPromotedValue(@Param("kind") String kind, @Param("name") String name,
+            @Param("value") String value);
+
+    /**
+     * Find nodes by the numeric value of a promoted property or metric, using
+     * the promoted_values index. Results are ordered by descending value.
+     *
+     * @param kind property or metric
+     * @param name The promoted key
+     * @param min  Inclusive lower bound, or null
+     * @param max  Inclusive upper bound, or null
+     * @return List of matching nodes
+     */
+    List<GraphNodeEntity> findByPromotedRange(@Param("kind") String kind, @Param("name") String name,
+            @Param("min") Double min, @Param("max") Double max);
 
     /**
      * Merge properties into a node using JSON_MERGEPATCH.
@@ -91,6 +107,15 @@ public interface NodeMapper {
      */
     int countNodes();
 
+    /**
+     * Find the version of the stored graph: the node and edge counts, the
+     * latest node update and the latest edge ID. It changes whenever nodes or
+     * edges are written or deleted.
+     *
+     * @return The graph version
+     */
+    String findGraphVersion();
+
     /**
      * Count nodes by type.
      *
@@ -0,0 +1,67 @@
+package com.analyzer.core.db.mapper;
+
+import com.analyzer.core.db.entity.PromotedValueEntity;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * MyBatis mapper for promoted property and metric values.
+ * The promoted_values table mirrors selected values of the JSON properties and
+ * metrics columns, and backs the indexed property queries of
+ * {@link NodeMapper}. The promoted_keys table records the keys whose values
+ * are complete for every node.
+ */
+public interface PromotedValueMapper {
+
+    /**
+     * Insert a promoted value, replacing the existing one.
+     *
+     * @param value The value entity to insert
+     */
+    void insertValue(PromotedValueEntity value);
+
+    /**
+     * Delete all promoted values of a node.
+     *
+     * @param nodeId The node ID
+     */
+    void deleteByNodeId(@Param("nodeId") String nodeId);
+
+    /**
+     * Delete all promoted values.
+     */
+    void deleteAll();
+
+    /**
+     * Find the names of the keys of a kind whose values are complete.
+     *
+     * @param kind property or metric
+     * @return List of key names
+     */
+    List<String> findIndexedKeys(@Param("kind") String kind);
+
+    /**
+     * Record that the values of a key are complete.
+     *
+     * @param kind property or metric
+     * @param name The key name
+     */
+    void markKeyIndexed(@Param("kind") String kind, @Param("name") String name);
+
+    /**
+     * Record that the values of a key are no longer maintained.
+     *
+     * @param kind property or metric
+     * @param name The key name
+     */
+    void unmarkKey(@Param("kind") String kind, @Param("name") String name);
+
+    /**
+     * Delete all values of a key.
+     *
+     * @param kind property or metric
+     * @param name The key name
+     */
+    void deleteValuesByKey(@Param("kind") String kind, @Param("name") String name);
+}
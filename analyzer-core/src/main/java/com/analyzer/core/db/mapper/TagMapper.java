@@ -1,5 +1,6 @@
 package com.analyzer.core.db.mapper;
 
+import com.analyzer.core.db.entity.GraphNodeEntity;
 import com.analyzer.core.db.entity.NodeTagEntity;
 import org.apache.ibatis.annotations.Param;
 
@@ -7,6 +8,8 @@ import java.util.List;
 
 /**
  * MyBatis mapper for node tag operations.
+ * The node_tags table mirrors the JSON tags column of the nodes table and
+ * backs the indexed tag queries of {@link NodeMapper}.
  */
 public interface TagMapper {
 
@@ -90,4 +93,19 @@ public interface TagMapper {
      * @return Count of nodes with this tag
      */
     int countNodesWithTag(@Param("tag") String tag);
+
+    /**
+     * Count how many nodes have at least one tag.
+     *
+     * @return Count of tagged nodes
+     */
+    int countTaggedNodes();
+
+    /**
+     * Find the IDs and JSON tags of all nodes with a non-empty tags column.
+     * Used to fill node_tags in databases created before the table existed.
+     *
+     * @return Node entities with only the id and tags fields set
+     */
+    List<GraphNodeEntity> findNodesWithJsonTags();
 }
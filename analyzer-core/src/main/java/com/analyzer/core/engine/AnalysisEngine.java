@@ -4,11 +4,14 @@ import com.analyzer.api.analysis.Analysis;
 import com.analyzer.api.analysis.AnalysisResult;
 import com.analyzer.api.collector.ClassNodeCollector;
 import com.analyzer.api.graph.*;
+import com.analyzer.core.AnalysisConstants;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.core.collector.CollectionContext;
 import com.analyzer.api.detector.FileDetector;
+import com.analyzer.core.export.NodeChangeListener;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.core.filter.FileIgnoreFilter;
+import com.analyzer.core.graph.GraphViewService;
 import com.analyzer.core.inspector.InspectorProgressTracker;
 import com.analyzer.core.inspector.InspectorRegistry;
 import com.analyzer.core.inspector.InspectorTags;
@@ -17,12 +20,20 @@ import com.analyzer.core.model.Project;
 import com.analyzer.core.model.ProjectDeserializer;
 import com.analyzer.core.model.ProjectFile;
 import com.analyzer.core.model.ProjectHolder;
+import com.analyzer.core.resource.ArchiveMounts;
 import com.analyzer.core.resource.JARClassLoaderService;
+import com.analyzer.core.resource.JarExtractor;
+import com.analyzer.api.inspector.AstEventBus;
+import com.analyzer.api.inspector.ClassVisitorInspector;
+import com.analyzer.api.inspector.CompilationUnitInspector;
 import com.analyzer.api.inspector.Inspector;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.javaparser.ast.CompilationUnit;
 import me.tongfei.progressbar.ProgressBar;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,8 +42,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Core analysis engine responsible for the new Project/ProjectFile-based
@@ -58,6 +71,10 @@ public class AnalysisEngine {
     private final InspectorProgressTracker progressTracker;
     private final ProjectHolder projectHolder;
     private final LocalCache localCache;
+    private final GraphViewService graphViewService;
+    private final ArchiveMounts archiveMounts;
+    private int threadCount = 1;
+    private boolean virtualArchives;
 
     /**
      * Primary constructor used by PicoContainer for dependency injection.
@@ -71,6 +88,9 @@ public class AnalysisEngine {
      * @param projectHolder         the project holder for DI into inspectors
      * @param localCache            the per-item cache for optimizing resource
      *                              access
+     * @param graphViewService      the shared views of the graph repository
+     * @param archiveMounts         the archives mounted in place of extraction,
+     *                              served by the ResourceResolver
      */
     public AnalysisEngine(InspectorRegistry inspectorRegistry,
             GraphRepository graphRepository,
@@ -78,7 +98,9 @@ public class AnalysisEngine {
             ClassNodeRepository classNodeRepository,
             InspectorProgressTracker progressTracker,
             ProjectHolder projectHolder,
-            LocalCache localCache) {
+            LocalCache localCache,
+            GraphViewService graphViewService,
+            ArchiveMounts archiveMounts) {
         this.inspectorRegistry = inspectorRegistry;
         this.availableAnalyses = new ArrayList<>();
         this.graphRepository = graphRepository;
@@ -87,6 +109,8 @@ public class AnalysisEngine {
         this.progressTracker = progressTracker != null ? progressTracker : new InspectorProgressTracker();
         this.projectHolder = projectHolder;
         this.localCache = localCache;
+        this.graphViewService = graphViewService;
+        this.archiveMounts = archiveMounts;
 
     }
 
@@ -104,6 +128,38 @@ public class AnalysisEngine {
         }
     }
 
+    /**
+     * Sets the number of worker threads used by Phase 1 file discovery and the
+     * multi-pass phases (Phase 3 and Phase 4). A value of 1 keeps the
+     * sequential execution; values below 1 select the number of available
+     * processors.
+     *
+     * @param threadCount the number of worker threads
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount < 1 ? MultiPassExecutor.defaultParallelism() : threadCount;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets whether Phase 1 mounts archives instead of extracting them to
+     * .analysis/binaries/. Mounted archive entries get the same paths as
+     * extracted ones and are read through the ResourceResolver, so nothing is
+     * written to disk; readers opening the paths directly do not see them.
+     *
+     * @param virtualArchives true to mount archives, false to extract them
+     */
+    public void setVirtualArchives(boolean virtualArchives) {
+        this.virtualArchives = virtualArchives;
+    }
+
+    public boolean isVirtualArchives() {
+        return virtualArchives;
+    }
+
     /**
      * Analyzes a project using the new ProjectFile-based workflow with multi-pass
      * algorithm.
@@ -213,43 +269,51 @@ public class AnalysisEngine {
         FileIgnoreFilter ignoreFilter = FileIgnoreFilter.fromApplicationProperties();
         logger.info("Initialized file filtering with {} ignore patterns", ignoreFilter.getPatternCount());
 
-        try (Stream<Path> paths = Files.walk(projectPath)) {
-            List<Path> allFiles = paths
-                    .filter(Files::isRegularFile)
-                    .toList();
-
-            logger.info("Found {} files in project directory before filtering", allFiles.size());
-
-            // Apply ignore filtering
-            List<Path> filteredFiles = allFiles.stream()
-                    .filter(filePath -> {
-                        boolean shouldIgnore = ignoreFilter.shouldIgnore(filePath, projectPath);
-                        return !shouldIgnore;
-                    })
-                    .toList();
-
-            logger.info("After filtering: {} files remaining (filtered out: {})",
-                    filteredFiles.size(), allFiles.size() - filteredFiles.size());
-
-            // Phase 1a: Scan filesystem files and collect archives
-            logger.info("Phase 1a: Scanning filesystem files");
-            List<ProjectFile> archiveFiles = new ArrayList<>();
-
-            try (ProgressBar pb = new ProgressBar("Phase 1a: Filesystem Files", filteredFiles.size())) {
-                logger.info("Using {} file detection inspectors", inspectorRegistry.getFileDetectors().size());
-                for (Path filePath : filteredFiles) {
-                    ProjectFile projectFile = scanFile(project, filePath, phase1Profile,
-                            ExecutionProfile.ExecutionPhase.PHASE_1A_FILESYSTEM_SCAN);
-
-                    // Collect archive files for physical extraction
-                    if (projectFile != null && isArchiveFile(projectFile)) {
-                        archiveFiles.add(projectFile);
-                    }
+        // Phase 1a: Scan filesystem files and collect archives. Files are detected as
+        // the walk finds them; ignored directories are skipped without being listed.
+        logger.info("Phase 1a: Scanning filesystem files");
+        FileDetectorIndex detectorIndex = new FileDetectorIndex(inspectorRegistry.getFileDetectors());
+        logger.info("Using {} file detection inspectors ({} offered every file)",
+                inspectorRegistry.getFileDetectors().size(), detectorIndex.getResidualCount());
+        List<ProjectFile> archiveFiles = Collections.synchronizedList(new ArrayList<>());
+        LongAdder scannedFiles = new LongAdder();
+        long walkStart = System.currentTimeMillis();
+
+        try (ProgressBar pb = new ProgressBar("Phase 1a: Filesystem Files", -1)) {
+            Consumer<Path> fileScanner = filePath -> {
+                ProjectFile projectFile = scanFile(project, filePath, detectorIndex, phase1Profile,
+                        ExecutionProfile.ExecutionPhase.PHASE_1A_FILESYSTEM_SCAN);
+
+                // Collect archive files for physical extraction
+                if (projectFile != null && isArchiveFile(projectFile)) {
+                    archiveFiles.add(projectFile);
+                }
 
-                    pb.step();
+                scannedFiles.increment();
+                pb.step();
+            };
+            if (threadCount > 1) {
+                ForkJoinPool pool = new ForkJoinPool(threadCount);
+                try {
+                    ignoreFilter.walkFilesInParallel(projectPath, projectPath, fileScanner, pool);
+                } finally {
+                    pool.shutdown();
                 }
+            } else {
+                ignoreFilter.walkFiles(projectPath, projectPath, fileScanner);
             }
+        }
+
+        logger.info("Phase 1a: scanned {} files in {} ms with {} thread(s)",
+                scannedFiles.sum(), System.currentTimeMillis() - walkStart, threadCount);
+        // Extract in a stable order, whatever order the workers found the archives in
+        archiveFiles.sort(Comparator.comparing(ProjectFile::getRelativePath));
 
+        if (virtualArchives) {
+            // Phase 1b/1c: Mount archives and add their entries without extraction
+            logger.info("Phase 1b: Mounting {} archive files", archiveFiles.size());
+            mountArchives(project, archiveFiles, ignoreFilter);
+        } else {
             // Phase 1b: Physical extraction of archives
             if (!archiveFiles.isEmpty()) {
                 logger.info("Phase 1b: Physically extracting {} archive files", archiveFiles.size());
@@ -273,22 +337,24 @@ public class AnalysisEngine {
     }
 
     /**
-     * Scans a single file with all available file detection inspectors.
+     * Scans a single file with the file detection inspectors that may support
+     * it. Called concurrently when Phase 1 runs on several threads.
      *
      * @param project          the project context
      * @param filePath         the file path to scan
+     * @param detectorIndex    the detectors, indexed by extension and file name
      * @param executionProfile the execution profile for tracking (optional)
      * @param phase            the execution phase for tracking
      * @return the created ProjectFile
      */
-    private ProjectFile scanFile(Project project, Path filePath, ExecutionProfile executionProfile,
-            ExecutionProfile.ExecutionPhase phase) {
+    private ProjectFile scanFile(Project project, Path filePath, FileDetectorIndex detectorIndex,
+            ExecutionProfile executionProfile, ExecutionProfile.ExecutionPhase phase) {
         // Create ProjectFile for this path (all files get a ProjectFile)
         String relativePath = project.getProjectPath().relativize(filePath).toString();
         ProjectFile projectFile = project.getOrCreateProjectFile(relativePath, filePath);
 
         // Apply file detection inspectors to identify and tag the file
-        for (FileDetector detector : inspectorRegistry.getFileDetectors()) {
+        for (FileDetector detector : detectorIndex.candidatesFor(projectFile)) {
             try {
                 if (detector.supports(projectFile)) {
                     // Record execution start time for performance tracking
@@ -336,7 +402,8 @@ public class AnalysisEngine {
      * Physically extracts archives using the ExtractionManager.
      */
     private void extractArchivesPhysically(Project project, List<ProjectFile> archiveFiles) {
-        ExtractionManager extractionManager = new ExtractionManager(FileIgnoreFilter.fromApplicationProperties());
+        ExtractionManager extractionManager = new ExtractionManager(FileIgnoreFilter.fromApplicationProperties(),
+                threadCount);
 
         try {
             ExtractionManager.ExtractionManagerResult result = extractionManager.cleanAndExtractAll(
@@ -358,6 +425,39 @@ public class AnalysisEngine {
         }
     }
 
+    /**
+     * Mounts archives at the directories they would be extracted to and adds
+     * their entries to the project, like the re-scan of extracted content does.
+     */
+    private void mountArchives(Project project, List<ProjectFile> archiveFiles, FileIgnoreFilter ignoreFilter) {
+        Path projectPath = project.getProjectPath();
+        Path extractionRoot = projectPath.resolve(AnalysisConstants.ANALYSIS_DIR)
+                .resolve(AnalysisConstants.BINARIES_DIR);
+        archiveMounts.clear();
+
+        Set<String> usedNames = new HashSet<>();
+        int mountedFiles = 0;
+        try (ProgressBar pb = new ProgressBar("Phase 1b: Mounted Archives", archiveFiles.size())) {
+            for (ProjectFile archive : archiveFiles) {
+                Path mountDirectory = extractionRoot.resolve(JarExtractor.reserveDirectoryName(archive, usedNames));
+                try {
+                    for (ArchiveMounts.MountedEntry entry : archiveMounts.mount(archive.getFilePath(), mountDirectory)) {
+                        if (!ignoreFilter.shouldIgnore(entry.path(), projectPath)) {
+                            project.getOrCreateArchiveEntryFile(entry.path(), entry.sourceJarPath(),
+                                    entry.jarEntryPath());
+                            mountedFiles++;
+                        }
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to mount archive {}: {}", archive.getRelativePath(), e.getMessage());
+                }
+                pb.step();
+            }
+        }
+
+        logger.info("Mounted {} archives: {} archive entries added to project", archiveFiles.size(), mountedFiles);
+    }
+
     /**
      * Re-scans the project directory to include extracted content from
      * .analysis/binaries/
@@ -378,11 +478,8 @@ public class AnalysisEngine {
         // Initialize file ignore filter for extracted content
         FileIgnoreFilter ignoreFilter = FileIgnoreFilter.fromApplicationProperties();
 
-        try (Stream<Path> paths = Files.walk(extractionRoot)) {
-            List<Path> extractedFiles = paths
-                    .filter(Files::isRegularFile)
-                    .filter(filePath -> !ignoreFilter.shouldIgnore(filePath, projectPath))
-                    .toList();
+        try {
+            List<Path> extractedFiles = ignoreFilter.findFiles(extractionRoot, projectPath);
 
             logger.info("Found {} files in extracted content", extractedFiles.size());
 
@@ -558,9 +655,10 @@ public class AnalysisEngine {
                 for (ProjectFile projectFile : projectFiles) {
                     try {
                         if (inspector.canProcess(projectFile)) {
-                            localCache.reset();
-                            NodeDecorator<ProjectFile> decorator = new NodeDecorator<>(projectFile);
-                            inspector.inspect(projectFile, decorator);
+                            try (LocalCache.Scope ignored = localCache.openScope(projectFile)) {
+                                NodeDecorator<ProjectFile> decorator = new NodeDecorator<>(projectFile);
+                                inspector.inspect(projectFile, decorator);
+                            }
                         }
                     } catch (Exception e) {
                         logger.error("Error running global inspector '{}' on file '{}': {}",
@@ -617,9 +715,10 @@ public class AnalysisEngine {
                 for (JavaClassNode classNode : classNodes) {
                     try {
                         if (inspector.canProcess(classNode)) {
-                            localCache.reset();
-                            NodeDecorator<JavaClassNode> decorator = new NodeDecorator<>(classNode);
-                            inspector.inspect(classNode, decorator);
+                            try (LocalCache.Scope ignored = localCache.openScope(classNode)) {
+                                NodeDecorator<JavaClassNode> decorator = new NodeDecorator<>(classNode);
+                                inspector.inspect(classNode, decorator);
+                            }
                         }
                     } catch (Exception e) {
                         logger.error("Error running global inspector '{}' on class '{}': {}",
@@ -681,18 +780,21 @@ public class AnalysisEngine {
             return;
         }
 
-        logger.info("Phase 4: Executing {} inspectors on {} class nodes (max passes: {})",
-                inspectors.size(), classNodes.size(), maxPasses);
+        logger.info("Phase 4: Executing {} inspectors on {} class nodes (max passes: {}, threads: {})",
+                inspectors.size(), classNodes.size(), maxPasses, threadCount);
 
         // Create multi-pass executor configuration
-        MultiPassExecutor<JavaClassNode> executor = new MultiPassExecutor<>();
+        MultiPassExecutor<JavaClassNode> executor = new MultiPassExecutor<>(threadCount, localCache.getSharedCache(),
+                localCache.getSourceModels());
+        InspectorWorklist<JavaClassNode> worklist = new InspectorWorklist<>(inspectors);
         MultiPassExecutor.ExecutionConfig<JavaClassNode> config = new MultiPassExecutor.ExecutionConfig<>(
                 "Phase 4",
                 maxPasses,
                 ExecutionProfile.ExecutionPhase.PHASE_4_CLASSNODE_ANALYSIS,
                 classNodeRepository::findAll,
                 inspectors,
-                this::analyzeClassNodeWithTracking);
+                (classNode, passInspectors, passStartTime, executionProfile, pass) -> analyzeClassNodeWithTracking(
+                        classNode, passInspectors, worklist, passStartTime, executionProfile, pass));
 
         // Execute multi-pass analysis
         MultiPassExecutor.ExecutionResult result = executor.execute(config);
@@ -705,10 +807,13 @@ public class AnalysisEngine {
      * Analyzes a single JavaClassNode with execution tracking.
      * Uses JavaClassNode's execution tracking to determine if inspectors need to
      * run.
-     * Resets the LocalCache before analysis to ensure a clean state for this item.
+     * Opens a LocalCache scope bound to this item, so that concurrently analyzed
+     * items never share cached resources. The ASM inspectors due together on
+     * the node share a single traversal of its class file.
      *
      * @param classNode        the class node to analyze
      * @param inspectors       the inspectors to run
+     * @param worklist         the worklist scheduling the inspectors on the node
      * @param passStartTime    the start time of the current pass
      * @param executionProfile the execution profile for tracking
      * @param pass             the current pass number
@@ -716,58 +821,172 @@ public class AnalysisEngine {
      */
     private Set<String> analyzeClassNodeWithTracking(JavaClassNode classNode,
             List<Inspector<JavaClassNode>> inspectors,
+            InspectorWorklist<JavaClassNode> worklist,
             LocalDateTime passStartTime,
             ExecutionProfile executionProfile,
             int pass) {
-        // Reset cache for this item to prevent memory bloat and ensure fresh state
-        localCache.reset();
-
-        Set<String> triggeredInspectors = new HashSet<>();
-        ExecutionProfile.ExecutionPhase phase = ExecutionProfile.ExecutionPhase.PHASE_4_CLASSNODE_ANALYSIS;
+        // Scope the cache to this item; it is released when the item is done
+        try (LocalCache.Scope ignored = localCache.openScope(classNode)) {
+            return worklist.run(classNode, inspectors,
+                    (inspector, changeListener) -> analyzeClassNodeInternal(
+                            classNode, inspector, changeListener, passStartTime, executionProfile, pass),
+                    ClassVisitorInspector.class::isInstance,
+                    (batch, changeListener) -> analyzeClassNodeBatch(
+                            classNode, batch, changeListener, passStartTime, executionProfile, pass));
+        }
+    }
 
-        for (Inspector<JavaClassNode> inspector : inspectors) {
+    /**
+     * Runs a batch of Phase 4 ASM inspectors on a class node, reading and
+     * decoding its class file once and feeding the visitors of all eligible
+     * inspectors in the same traversal, in batch order. Each visitor writes
+     * through the decorator of its own inspector; a failing visitor only stops
+     * its own analysis, and an inspector failing to read the class file
+     * reports the failure like it would alone.
+     * <p>
+     * The time of the shared traversal is divided evenly between the
+     * inspectors of the batch in the execution profile.
+     *
+     * @return the inspectors that were triggered for this node
+     */
+    private List<Inspector<JavaClassNode>> analyzeClassNodeBatch(JavaClassNode classNode,
+            List<Inspector<JavaClassNode>> batch,
+            NodeChangeListener changeListener,
+            LocalDateTime passStartTime,
+            ExecutionProfile executionProfile,
+            int pass) {
+        List<Inspector<JavaClassNode>> triggered = new ArrayList<>(batch.size());
+        List<Inspector<JavaClassNode>> eligible = new ArrayList<>(batch.size());
+        for (Inspector<JavaClassNode> inspector : batch) {
             try {
-                String inspectorName = inspector.getName();
-
-                logger.debug("Inspector '{}' needs to run on class: {}", inspectorName,
-                        classNode.getFullyQualifiedName());
-
                 if (inspector.canProcess(classNode)) {
-                    // Record execution start time for performance tracking
-                    long startTime = System.nanoTime();
-
-                    // Execute inspector
-                    NodeDecorator<JavaClassNode> decorator = new NodeDecorator<>(classNode);
-                    inspector.inspect(classNode, decorator);
-
-                    // Record execution timing in ExecutionProfile with pass number
-                    long executionTimeNanos = System.nanoTime() - startTime;
-                    executionProfile.recordInspectorExecution(inspectorName, phase, pass, executionTimeNanos);
-
-                    logger.debug("Inspector '{}' executed on class: {}", inspectorName,
-                            classNode.getFullyQualifiedName());
-
-                    // Mark inspector as executed
-                    classNode.markInspectorExecuted(inspectorName, passStartTime);
-                    triggeredInspectors.add(inspectorName);
+                    eligible.add(inspector);
                 } else {
-                    logger.debug("Inspector '{}' not supported for class: {}", inspectorName,
+                    logger.debug("Inspector '{}' not supported for class: {}", inspector.getName(),
                             classNode.getFullyQualifiedName());
                 }
             } catch (Exception e) {
                 logger.error("Error running inspector '{}' on class '{}': {}",
                         inspector.getName(), classNode.getFullyQualifiedName(), e.getMessage());
+                executionProfile.recordInspectorExecution(inspector.getName(),
+                        ExecutionProfile.ExecutionPhase.PHASE_4_CLASSNODE_ANALYSIS, 0);
+                classNode.markInspectorExecuted(inspector.getName(), passStartTime);
+                triggered.add(inspector);
+            }
+        }
+        triggered.addAll(eligible);
+        if (eligible.size() < 2) {
+            for (Inspector<JavaClassNode> inspector : eligible) {
+                analyzeClassNodeInternal(classNode, inspector, changeListener, passStartTime, executionProfile,
+                        pass);
+            }
+            return triggered;
+        }
 
-                // Record failed execution in ExecutionProfile
-                executionProfile.recordInspectorExecution(inspector.getName(), phase, 0);
+        long startTime = System.nanoTime();
+        List<NodeDecorator<JavaClassNode>> decorators = new ArrayList<>(eligible.size());
+        for (int i = 0; i < eligible.size(); i++) {
+            decorators.add(new NodeDecorator<>(classNode, changeListener));
+        }
 
-                // Mark as executed to prevent repeated errors
-                classNode.markInspectorExecuted(inspector.getName(), passStartTime);
-                triggeredInspectors.add(inspector.getName());
+        // Each inspector whose read of the class file fails reports it through its
+        // own decorator, as when run alone; the others share the first reader
+        ClassReader classReader = null;
+        int first = 0;
+        while (classReader == null && first < eligible.size()) {
+            classReader = ((ClassVisitorInspector) eligible.get(first)).getClassReader(classNode,
+                    decorators.get(first));
+            if (classReader == null) {
+                first++;
             }
         }
+        if (classReader != null) {
+            List<ClassVisitor> visitors = new ArrayList<>(eligible.size());
+            List<NodeDecorator<JavaClassNode>> visitorDecorators = new ArrayList<>(eligible.size());
+            for (int i = first; i < eligible.size(); i++) {
+                try {
+                    visitors.add(((ClassVisitorInspector) eligible.get(i)).createVisitor(classNode,
+                            decorators.get(i)));
+                    visitorDecorators.add(decorators.get(i));
+                } catch (Exception e) {
+                    decorators.get(i).error("ASM analysis error: " + e.getMessage());
+                }
+            }
+            MultiplexClassVisitor multiplexer = new MultiplexClassVisitor(visitors, (index, e) -> visitorDecorators
+                    .get(index).error("ASM analysis error: " + e.getMessage()));
+            try {
+                classReader.accept(multiplexer, 0);
+            } catch (IllegalArgumentException e) {
+                // ASM ClassReader throws IllegalArgumentException for invalid bytecode
+                visitorDecorators.forEach(decorator -> decorator.error("Invalid bytecode format: " + e.getMessage()));
+            } catch (Exception e) {
+                visitorDecorators.forEach(decorator -> decorator.error("ASM analysis error: " + e.getMessage()));
+            }
+        }
+
+        long executionTimeNanos = (System.nanoTime() - startTime) / eligible.size();
+        for (Inspector<JavaClassNode> inspector : eligible) {
+            executionProfile.recordInspectorExecution(inspector.getName(),
+                    ExecutionProfile.ExecutionPhase.PHASE_4_CLASSNODE_ANALYSIS, pass, executionTimeNanos);
+            classNode.markInspectorExecuted(inspector.getName(), passStartTime);
+        }
+        logger.debug("{} ASM inspectors shared one traversal of class: {}", eligible.size(),
+                classNode.getFullyQualifiedName());
+        return triggered;
+    }
+
+    /**
+     * Runs one Phase 4 inspector on a class node within its cache scope.
+     *
+     * @return true if the inspector was triggered for this node
+     */
+    private boolean analyzeClassNodeInternal(JavaClassNode classNode,
+            Inspector<JavaClassNode> inspector,
+            NodeChangeListener changeListener,
+            LocalDateTime passStartTime,
+            ExecutionProfile executionProfile,
+            int pass) {
+        ExecutionProfile.ExecutionPhase phase = ExecutionProfile.ExecutionPhase.PHASE_4_CLASSNODE_ANALYSIS;
+
+        try {
+            String inspectorName = inspector.getName();
+
+            logger.debug("Inspector '{}' needs to run on class: {}", inspectorName,
+                    classNode.getFullyQualifiedName());
 
-        return triggeredInspectors;
+            if (!inspector.canProcess(classNode)) {
+                logger.debug("Inspector '{}' not supported for class: {}", inspectorName,
+                        classNode.getFullyQualifiedName());
+                return false;
+            }
+
+            // Record execution start time for performance tracking
+            long startTime = System.nanoTime();
+
+            // Execute inspector, publishing its changes to the worklist
+            NodeDecorator<JavaClassNode> decorator = new NodeDecorator<>(classNode, changeListener);
+            inspector.inspect(classNode, decorator);
+
+            // Record execution timing in ExecutionProfile with pass number
+            long executionTimeNanos = System.nanoTime() - startTime;
+            executionProfile.recordInspectorExecution(inspectorName, phase, pass, executionTimeNanos);
+
+            logger.debug("Inspector '{}' executed on class: {}", inspectorName,
+                    classNode.getFullyQualifiedName());
+
+            // Mark inspector as executed
+            classNode.markInspectorExecuted(inspectorName, passStartTime);
+        } catch (Exception e) {
+            logger.error("Error running inspector '{}' on class '{}': {}",
+                    inspector.getName(), classNode.getFullyQualifiedName(), e.getMessage());
+
+            // Record failed execution in ExecutionProfile
+            executionProfile.recordInspectorExecution(inspector.getName(), phase, 0);
+
+            // Mark as executed to prevent repeated errors
+            classNode.markInspectorExecuted(inspector.getName(), passStartTime);
+        }
+        return true;
     }
 
     /**
@@ -783,8 +1002,8 @@ public class AnalysisEngine {
             return;
         }
 
-        logger.info("Phase 3: Executing {} inspectors on {} project files (max passes: {})",
-                projectFileInspectors.size(), project.getProjectFiles().size(), maxPasses);
+        logger.info("Phase 3: Executing {} inspectors on {} project files (max passes: {}, threads: {})",
+                projectFileInspectors.size(), project.getProjectFiles().size(), maxPasses, threadCount);
 
         // Print the specific inspectors that will be executed
         List<String> executingInspectorNames = projectFileInspectors.stream()
@@ -795,14 +1014,18 @@ public class AnalysisEngine {
                 String.join(", ", executingInspectorNames));
 
         // Create multi-pass executor configuration
-        MultiPassExecutor<ProjectFile> executor = new MultiPassExecutor<>();
+        MultiPassExecutor<ProjectFile> executor = new MultiPassExecutor<>(threadCount, localCache.getSharedCache(),
+                localCache.getSourceModels());
+        InspectorWorklist<ProjectFile> worklist = new InspectorWorklist<>(projectFileInspectors);
         MultiPassExecutor.ExecutionConfig<ProjectFile> config = new MultiPassExecutor.ExecutionConfig<>(
                 "Phase 3",
                 maxPasses,
                 ExecutionProfile.ExecutionPhase.PHASE_3_PROJECTFILE_ANALYSIS,
                 () -> project.getProjectFiles().values(),
                 projectFileInspectors,
-                this::analyzeProjectFileWithTrackingAndCollection);
+                (projectFile, passInspectors, passStartTime, executionProfile, pass) ->
+                        analyzeProjectFileWithTrackingAndCollection(projectFile, passInspectors, worklist,
+                                passStartTime, executionProfile, pass));
 
         // Execute multi-pass analysis
         MultiPassExecutor.ExecutionResult result = executor.execute(config);
@@ -815,21 +1038,17 @@ public class AnalysisEngine {
         progressTracker.logProgressReport();
     }
 
-    /**
-     * Result of analyzing a ProjectFile - contains processing status and triggered
-     * inspectors.
-     */
-    private record ProjectFileAnalysisResult(boolean wasProcessed, Set<String> triggeredInspectors) {
-    }
-
     /**
      * Analyzes a single ProjectFile with execution tracking and collects triggered
      * inspectors.
      * Uses ProjectFile's execution tracking to determine if inspectors need to run.
-     * Resets the LocalCache before analysis to ensure a clean state for this item.
+     * Opens a LocalCache scope bound to this item, so that concurrently analyzed
+     * items never share cached resources. The JavaParser inspectors due together
+     * on the file share a single walk of its AST.
      *
      * @param projectFile      the file to analyze
      * @param inspectors       the inspectors to run
+     * @param worklist         the worklist scheduling the inspectors on the file
      * @param passStartTime    the start time of the current pass
      * @param executionProfile the execution profile for tracking
      * @param pass             the current pass number
@@ -837,125 +1056,203 @@ public class AnalysisEngine {
      */
     private Set<String> analyzeProjectFileWithTrackingAndCollection(ProjectFile projectFile,
             List<Inspector<ProjectFile>> inspectors,
+            InspectorWorklist<ProjectFile> worklist,
+            LocalDateTime passStartTime,
+            ExecutionProfile executionProfile,
+            int pass) {
+        // Scope the cache to this item; it is released when the item is done
+        try (LocalCache.Scope ignored = localCache.openScope(projectFile)) {
+            return worklist.run(projectFile, inspectors, (inspector, changeListener) -> analyzeProjectFileInternal(
+                    projectFile, inspector, changeListener, passStartTime, true, executionProfile, pass),
+                    CompilationUnitInspector.class::isInstance,
+                    (batch, changeListener) -> analyzeProjectFileBatch(
+                            projectFile, batch, changeListener, passStartTime, executionProfile, pass));
+        }
+    }
+
+    /**
+     * Runs a batch of Phase 3 JavaParser inspectors on a file, getting its
+     * compilation unit once and publishing it on a single AstEventBus to which
+     * all eligible inspectors subscribe, in batch order. Each inspector writes
+     * through its own decorator; a failing callback only stops its own
+     * analysis, and an inspector failing to get the compilation unit reports
+     * the failure like it would alone.
+     * <p>
+     * The time of the shared walk is divided evenly between the inspectors of
+     * the batch in the execution profile.
+     *
+     * @return the inspectors that were triggered for this file
+     */
+    private List<Inspector<ProjectFile>> analyzeProjectFileBatch(ProjectFile projectFile,
+            List<Inspector<ProjectFile>> batch,
+            NodeChangeListener changeListener,
             LocalDateTime passStartTime,
             ExecutionProfile executionProfile,
             int pass) {
-        // Reset cache for this item to prevent memory bloat and ensure fresh state
-        localCache.reset();
+        ExecutionProfile.ExecutionPhase phase = ExecutionProfile.ExecutionPhase.PHASE_3_PROJECTFILE_ANALYSIS;
+        List<Inspector<ProjectFile>> triggered = new ArrayList<>(batch.size());
+        List<Inspector<ProjectFile>> eligible = new ArrayList<>(batch.size());
+        for (Inspector<ProjectFile> inspector : batch) {
+            String inspectorName = inspector.getName();
+            try {
+                if (projectFile.isInspectorUpToDate(inspectorName)) {
+                    logger.debug("Inspector '{}' up-to-date for file: {}", inspectorName,
+                            projectFile.getRelativePath());
+                } else if (inspector.canProcess(projectFile)) {
+                    eligible.add(inspector);
+                } else {
+                    logger.debug("Inspector '{}' not supported for file: {}", inspectorName,
+                            projectFile.getRelativePath());
+                }
+            } catch (Exception e) {
+                logger.error("Error running inspector '{}' on file '{}': {}",
+                        inspectorName, projectFile.getRelativePath(), e.getMessage());
+                projectFile.setProperty(InspectorTags.PROCESSING_ERROR, "ERROR: " + e.getMessage());
+                executionProfile.recordInspectorExecution(inspectorName, phase, 0);
+                projectFile.markInspectorExecuted(inspectorName, passStartTime);
+                triggered.add(inspector);
+            }
+        }
+        triggered.addAll(eligible);
+        if (eligible.size() < 2) {
+            for (Inspector<ProjectFile> inspector : eligible) {
+                analyzeProjectFileInternal(projectFile, inspector, changeListener, passStartTime, true,
+                        executionProfile, pass);
+            }
+            return triggered;
+        }
+
+        long startTime = System.nanoTime();
+        List<NodeDecorator<ProjectFile>> decorators = new ArrayList<>(eligible.size());
+        for (Inspector<ProjectFile> inspector : eligible) {
+            progressTracker.recordInspectorTrigger(inspector.getName(), projectFile);
+            decorators.add(new NodeDecorator<>(projectFile, changeListener));
+        }
 
-        ProjectFileAnalysisResult result = analyzeProjectFileInternal(projectFile, inspectors, passStartTime, true,
-                executionProfile, pass);
-        return result.triggeredInspectors();
+        // Each inspector failing to get the compilation unit reports it through its
+        // own decorator, as when run alone; the others share the first one parsed
+        CompilationUnit cu = null;
+        int first = 0;
+        while (cu == null && first < eligible.size()) {
+            cu = ((CompilationUnitInspector) eligible.get(first)).getCompilationUnit(projectFile,
+                    decorators.get(first));
+            if (cu == null) {
+                first++;
+            }
+        }
+        if (cu != null) {
+            AstEventBus bus = new AstEventBus();
+            for (int i = first; i < eligible.size(); i++) {
+                try {
+                    ((CompilationUnitInspector) eligible.get(i)).subscribe(bus, cu, projectFile, decorators.get(i));
+                } catch (Exception e) {
+                    decorators.get(i).error("Unexpected error in JavaParser analysis: " + e.getMessage());
+                }
+            }
+            try {
+                bus.publish(cu);
+            } catch (Exception e) {
+                logger.error("Error walking the AST of file '{}': {}", projectFile.getRelativePath(), e.getMessage());
+                // Reported by each inspector of the walk, as a failure of its own walk would be
+                for (int i = first; i < eligible.size(); i++) {
+                    decorators.get(i).error("Unexpected error in JavaParser analysis: " + e.getMessage());
+                }
+            }
+        }
+
+        long executionTimeNanos = (System.nanoTime() - startTime) / eligible.size();
+        for (Inspector<ProjectFile> inspector : eligible) {
+            executionProfile.recordInspectorExecution(inspector.getName(), phase, pass, executionTimeNanos);
+            projectFile.markInspectorExecuted(inspector.getName(), passStartTime);
+        }
+        logger.debug("{} JavaParser inspectors shared one AST walk of file: {}", eligible.size(),
+                projectFile.getRelativePath());
+        return triggered;
     }
 
     /**
-     * Internal method that contains the core logic for analyzing a ProjectFile.
-     * This eliminates code duplication between the various analyzeProjectFile*
-     * methods.
+     * Internal method that contains the core logic for running one inspector on a
+     * ProjectFile.
      *
      * @param projectFile      the file to analyze
-     * @param inspectors       the inspectors to run
+     * @param inspector        the inspector to run
+     * @param changeListener   the listener notified of the inspector's changes
      * @param passStartTime    the start time of the current pass (null if not using
      *                         tracking)
      * @param useTracking      whether to use execution tracking
      * @param executionProfile the execution profile for tracking (null if not
      *                         using)
      * @param pass             the current pass number (0 if not using)
-     * @return analysis result containing processing status and triggered inspectors
+     * @return true if the inspector was triggered for this file
      */
-    private ProjectFileAnalysisResult analyzeProjectFileInternal(ProjectFile projectFile,
-            List<Inspector<ProjectFile>> inspectors,
+    private boolean analyzeProjectFileInternal(ProjectFile projectFile,
+            Inspector<ProjectFile> inspector,
+            NodeChangeListener changeListener,
             LocalDateTime passStartTime,
             boolean useTracking,
             ExecutionProfile executionProfile,
             int pass) {
-        boolean fileProcessed = false;
-        Set<String> triggeredInspectors = new HashSet<>();
-
-        // Determine the execution phase based on pass number
         ExecutionProfile.ExecutionPhase phase = ExecutionProfile.ExecutionPhase.PHASE_3_PROJECTFILE_ANALYSIS;
-        if (pass == 1) {
-            // First pass could be mixed, but let's classify as Analysis Pass since it's
-            // Phase 3
-            phase = ExecutionProfile.ExecutionPhase.PHASE_3_PROJECTFILE_ANALYSIS;
-        }
-
-        for (Inspector<ProjectFile> inspector : inspectors) {
-            try {
-                String inspectorName = inspector.getName();
-                boolean shouldRun = true;
-
-                // Check if this inspector needs to run on this file (only if using tracking)
-                if (useTracking && projectFile.isInspectorUpToDate(inspectorName)) {
-                    logger.debug("Inspector '{}' up-to-date for file: {}", inspectorName,
-                            projectFile.getRelativePath());
-                    shouldRun = false;
-                }
+        String inspectorName = inspector.getName();
 
-                if (shouldRun) {
-                    logger.debug("Inspector '{}' needs to run on file: {}", inspectorName,
-                            projectFile.getRelativePath());
+        try {
+            // Check if this inspector needs to run on this file (only if using tracking)
+            if (useTracking && projectFile.isInspectorUpToDate(inspectorName)) {
+                logger.debug("Inspector '{}' up-to-date for file: {}", inspectorName,
+                        projectFile.getRelativePath());
+                return false;
+            }
 
-                    if (inspector.canProcess(projectFile)) {
-                        // Record execution start time for performance tracking
-                        long startTime = System.nanoTime();
+            logger.debug("Inspector '{}' needs to run on file: {}", inspectorName,
+                    projectFile.getRelativePath());
 
-                        executeInspector(projectFile, inspector);
+            if (!inspector.canProcess(projectFile)) {
+                logger.debug("Inspector '{}' not supported for file: {}", inspectorName,
+                        projectFile.getRelativePath());
+                return false;
+            }
 
-                        // Record execution timing in ExecutionProfile with pass number
-                        if (executionProfile != null) {
-                            long executionTimeNanos = System.nanoTime() - startTime;
-                            executionProfile.recordInspectorExecution(inspectorName, phase, pass, executionTimeNanos);
-                        }
+            // Record execution start time for performance tracking
+            long startTime = System.nanoTime();
 
-                        logger.debug("Inspector '{}' executed on file: {}", inspectorName,
-                                projectFile.getRelativePath());
+            executeInspector(projectFile, inspector, changeListener);
 
-                        // Mark inspector as executed (only if using tracking)
-                        if (useTracking) {
-                            projectFile.markInspectorExecuted(inspectorName, passStartTime);
-                            // Add to triggered set since we processed it
-                            triggeredInspectors.add(inspectorName);
-                        }
-                    } else {
-                        logger.debug("Inspector '{}' not supported for file: {}", inspectorName,
-                                projectFile.getRelativePath());
-                    }
-
-                    fileProcessed = true;
-                }
-            } catch (Exception e) {
-                logger.error("Error running inspector '{}' on file '{}': {}",
-                        inspector.getName(), projectFile.getRelativePath(), e.getMessage());
-                projectFile.setProperty(InspectorTags.PROCESSING_ERROR, "ERROR: " + e.getMessage());
-
-                // Record failed execution in ExecutionProfile
-                if (executionProfile != null) {
-                    executionProfile.recordInspectorExecution(inspector.getName(), phase, 0); // 0 time for failed
-                                                                                              // execution
-                }
+            // Record execution timing in ExecutionProfile with pass number
+            if (executionProfile != null) {
+                long executionTimeNanos = System.nanoTime() - startTime;
+                executionProfile.recordInspectorExecution(inspectorName, phase, pass, executionTimeNanos);
+            }
 
-                // Mark as executed to prevent repeated errors (only if using tracking)
-                if (useTracking) {
-                    projectFile.markInspectorExecuted(inspector.getName(), passStartTime);
-                    triggeredInspectors.add(inspector.getName());
-                }
+            logger.debug("Inspector '{}' executed on file: {}", inspectorName,
+                    projectFile.getRelativePath());
+        } catch (Exception e) {
+            logger.error("Error running inspector '{}' on file '{}': {}",
+                    inspectorName, projectFile.getRelativePath(), e.getMessage());
+            projectFile.setProperty(InspectorTags.PROCESSING_ERROR, "ERROR: " + e.getMessage());
 
-                fileProcessed = true;
+            // Record failed execution in ExecutionProfile
+            if (executionProfile != null) {
+                executionProfile.recordInspectorExecution(inspectorName, phase, 0); // 0 time for failed execution
             }
         }
 
-        return new ProjectFileAnalysisResult(fileProcessed, triggeredInspectors);
+        // Mark inspector as executed (only if using tracking), also to prevent
+        // repeated errors
+        if (useTracking) {
+            projectFile.markInspectorExecuted(inspectorName, passStartTime);
+        }
+        return useTracking;
     }
 
-    private void executeInspector(ProjectFile projectFile, Inspector<ProjectFile> inspector) {
+    private void executeInspector(ProjectFile projectFile, Inspector<ProjectFile> inspector,
+            NodeChangeListener changeListener) {
         // Record inspector trigger for progress tracking
         progressTracker.recordInspectorTrigger(inspector.getName(), projectFile);
 
         // GraphRepository is now injected via @Inject in inspector constructors
         // No need for manual injection anymore
 
-        NodeDecorator<ProjectFile> decorator = new NodeDecorator<>(projectFile);
+        NodeDecorator<ProjectFile> decorator = new NodeDecorator<>(projectFile, changeListener);
         inspector.inspect(projectFile, decorator);
     }
 
@@ -1059,18 +1356,19 @@ public class AnalysisEngine {
     }
 
     /**
-     * Builds and returns a graph based on the specified criteria.
+     * Returns a read-only graph based on the specified criteria, backed by the
+     * shared graph view instead of a copy of the repository.
      *
      * @param nodeTypes the types of nodes to include (null = all)
      * @param edgeTypes the types of edges to include (null = all)
-     * @return the built graph, or null if no GraphRepository is configured
+     * @return the graph, or null if no GraphRepository is configured
      */
     public org.jgrapht.Graph<GraphNode, GraphEdge> buildGraph(Set<String> nodeTypes, Set<String> edgeTypes) {
         if (graphRepository == null) {
             logger.warn("No GraphRepository configured, cannot build graph");
             return null;
         }
-        return graphRepository.buildGraph(nodeTypes, edgeTypes);
+        return graphViewService.getGraph(nodeTypes, edgeTypes);
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.analyzer.core.engine;
 
+import com.analyzer.core.cache.SharedParseCache;
+import com.analyzer.core.cache.SourceModelProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,10 +64,16 @@ public class ExecutionProfile {
     private LocalDateTime analysisEndTime;
     private int totalPasses = 0;
     private int totalFilesProcessed = 0;
+    private int parallelism = 1;
+    private SharedParseCache.Statistics parseCacheStatistics;
+    private Map<SourceModelProvider.Frontend, SourceModelProvider.Statistics> sourceModelStatistics = Map.of();
+    private List<InspectorWavePlan.Wave> executionWaves = List.of();
+    private Set<String> convergenceInspectors = Set.of();
 
     public ExecutionProfile(Collection<String> availableInspectors) {
         this.registeredInspectors = new HashSet<>(availableInspectors);
-        this.executions = new ArrayList<>();
+        // Synchronized: inspectors may be recorded from several worker threads
+        this.executions = Collections.synchronizedList(new ArrayList<>());
         this.analysisStartTime = LocalDateTime.now();
         logger.info("ExecutionProfile initialized with {} available inspectors", availableInspectors.size());
     }
@@ -92,6 +100,66 @@ public class ExecutionProfile {
         this.totalFilesProcessed = totalFiles;
     }
 
+    /**
+     * Records the number of worker threads used for the analysis.
+     *
+     * @param parallelism the number of worker threads
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Records the shared parse cache activity observed during the analysis.
+     *
+     * @param parseCacheStatistics hits, misses and evictions of the analysis
+     */
+    public void setParseCacheStatistics(SharedParseCache.Statistics parseCacheStatistics) {
+        this.parseCacheStatistics = parseCacheStatistics;
+    }
+
+    public SharedParseCache.Statistics getParseCacheStatistics() {
+        return parseCacheStatistics;
+    }
+
+    /**
+     * Records the activity of the source front ends observed during the
+     * analysis.
+     *
+     * @param sourceModelStatistics loads, reuses and loading time by front end
+     */
+    public void setSourceModelStatistics(
+            Map<SourceModelProvider.Frontend, SourceModelProvider.Statistics> sourceModelStatistics) {
+        this.sourceModelStatistics = Map.copyOf(sourceModelStatistics);
+    }
+
+    public Map<SourceModelProvider.Frontend, SourceModelProvider.Statistics> getSourceModelStatistics() {
+        return sourceModelStatistics;
+    }
+
+    /**
+     * Records the waves planned for the analysis.
+     *
+     * @param waves                 the waves in execution order
+     * @param convergenceInspectors the inspectors allowed to run in later passes
+     */
+    public void setExecutionPlan(List<InspectorWavePlan.Wave> waves, Set<String> convergenceInspectors) {
+        this.executionWaves = List.copyOf(waves);
+        this.convergenceInspectors = Set.copyOf(convergenceInspectors);
+    }
+
+    public List<InspectorWavePlan.Wave> getExecutionWaves() {
+        return executionWaves;
+    }
+
+    public Set<String> getConvergenceInspectors() {
+        return convergenceInspectors;
+    }
+
     public void markAnalysisComplete() {
         this.analysisEndTime = LocalDateTime.now();
         logger.info("ExecutionProfile analysis completed with {} executions recorded", executions.size());
@@ -130,6 +198,9 @@ public class ExecutionProfile {
             logAnalysisSummary();
             logInspectorExecutionSummary();
             logPerformanceAnalysis();
+            logExecutionPlan();
+            logParseCacheAnalysis();
+            logSourceFrontendAnalysis();
             logUtilizationAnalysis();
             logUnusedInspectors();
             logger.info("=== END EXECUTION PROFILE ===");
@@ -139,6 +210,7 @@ public class ExecutionProfile {
             logger.info("Analysis Duration: {} ({} seconds)", formatDuration(analysisDuration),
                     analysisDuration.getSeconds());
             logger.info("Total Passes: {}", totalPasses);
+            logger.info("Worker Threads: {}", parallelism);
             logger.info("Total Files Processed: {}", String.format("%,d", totalFilesProcessed));
             logger.info("");
         }
@@ -218,6 +290,60 @@ public class ExecutionProfile {
             logger.info("");
         }
 
+        private void logExecutionPlan() {
+            if (executionWaves.isEmpty()) {
+                return;
+            }
+
+            logger.info("Execution Plan:");
+            for (InspectorWavePlan.Wave wave : executionWaves) {
+                String kind = !wave.declared() ? " (undeclared dependencies)" : wave.cyclic() ? " (cyclic)" : "";
+                logger.info("• Wave {}{}: [{}]", wave.index(), kind, String.join(", ", wave.inspectorNames()));
+            }
+            logger.info("• Convergence Inspectors: {}", convergenceInspectors.isEmpty()
+                    ? "none"
+                    : String.join(", ", convergenceInspectors.stream().sorted().toList()));
+            logger.info("");
+        }
+
+        private void logParseCacheAnalysis() {
+            if (parseCacheStatistics == null) {
+                return;
+            }
+
+            logger.info("Parse Cache Analysis:");
+            logger.info("• Hits: {} ({})", String.format("%,d", parseCacheStatistics.hits()),
+                    String.format("%.1f%%", parseCacheStatistics.hitRate() * 100.0));
+            logger.info("• Misses: {}", String.format("%,d", parseCacheStatistics.misses()));
+            logger.info("• Evictions: {}", String.format("%,d", parseCacheStatistics.evictions()));
+            logger.info("• Cached Entries: {} ({} of {} KB)", String.format("%,d", parseCacheStatistics.entries()),
+                    String.format("%,d", parseCacheStatistics.weightBytes() / 1024),
+                    String.format("%,d", parseCacheStatistics.maxWeightBytes() / 1024));
+            logger.info("");
+        }
+
+        private void logSourceFrontendAnalysis() {
+            List<Map.Entry<SourceModelProvider.Frontend, SourceModelProvider.Statistics>> used = sourceModelStatistics
+                    .entrySet().stream()
+                    .filter(e -> e.getValue().loads() + e.getValue().reuses() > 0)
+                    .sorted(Map.Entry.comparingByKey())
+                    .toList();
+            if (used.isEmpty()) {
+                return;
+            }
+
+            logger.info("Source Front End Analysis:");
+            for (Map.Entry<SourceModelProvider.Frontend, SourceModelProvider.Statistics> e : used) {
+                SourceModelProvider.Statistics statistics = e.getValue();
+                logger.info("• {}: {} loads ({} total, avg: {}), {} reuses", e.getKey(),
+                        String.format("%,d", statistics.loads()),
+                        String.format("%.1fms", statistics.loadNanos() / 1_000_000.0),
+                        String.format("%.2fms", statistics.averageLoadMillis()),
+                        String.format("%,d", statistics.reuses()));
+            }
+            logger.info("");
+        }
+
         private void logUtilizationAnalysis() {
             int totalInspectors = registeredInspectors.size();
             int executedCount = executedInspectors.size();
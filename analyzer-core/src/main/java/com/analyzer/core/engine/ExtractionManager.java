@@ -8,12 +8,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 /**
@@ -26,9 +32,14 @@ public class ExtractionManager {
 
     private static final Logger logger = LoggerFactory.getLogger(ExtractionManager.class);
     private static final String MD5_CACHE_FILE = ".md5_cache";
+    private static final int DIGEST_BUFFER_SIZE = 256 * 1024;
 
+    /** Direct read buffer reused by each hashing thread */
+    private static final ThreadLocal<ByteBuffer> DIGEST_BUFFER = ThreadLocal
+            .withInitial(() -> ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE));
 
     private final JarExtractor jarExtractor;
+    private final int parallelism;
     private final Map<String, String> md5Cache = new HashMap<>();
 
     /**
@@ -38,13 +49,36 @@ public class ExtractionManager {
         this(new JarExtractor(fileIgnoreFilter));
     }
 
+    /**
+     * Constructor with default JarExtractor and concurrent extraction
+     *
+     * @param fileIgnoreFilter filter to apply to extracted contents
+     * @param parallelism      maximum number of archives hashed and extracted
+     *                         at the same time
+     */
+    public ExtractionManager(FileIgnoreFilter fileIgnoreFilter, int parallelism) {
+        this(new JarExtractor(fileIgnoreFilter), parallelism);
+    }
+
     /**
      * Constructor with custom JarExtractor
      * 
      * @param jarExtractor the extractor to use for archive processing
      */
     public ExtractionManager(JarExtractor jarExtractor) {
+        this(jarExtractor, 1);
+    }
+
+    /**
+     * Constructor with custom JarExtractor and concurrent extraction
+     *
+     * @param jarExtractor the extractor to use for archive processing
+     * @param parallelism  maximum number of archives hashed and extracted at
+     *                     the same time
+     */
+    public ExtractionManager(JarExtractor jarExtractor, int parallelism) {
         this.jarExtractor = jarExtractor;
+        this.parallelism = Math.max(1, parallelism);
     }
 
     /**
@@ -63,6 +97,12 @@ public class ExtractionManager {
             // Load existing MD5 cache
             loadMD5Cache(extractionRoot);
 
+            // Drop what an interrupted run left half-extracted
+            Path stagingRoot = getStagingRoot(extractionRoot);
+            if (Files.exists(stagingRoot)) {
+                JarExtractor.deleteDirectory(stagingRoot);
+            }
+
             // Clean extraction directory (preserve MD5 cache)
             //cleanExtractionDirectory(extractionRoot);
 
@@ -85,48 +125,41 @@ public class ExtractionManager {
         int extractedArchives = 0;
         int skippedArchives = 0;
         int errorArchives = 0;
-        Set<String> usedNames = new HashSet<>();
         List<Path> extractedPaths = new ArrayList<>();
 
         Map<String, String> newMD5Cache = new HashMap<>();
 
+        // Reserve directory names up front and in archive order, so names do not
+        // depend on which archives changed or on which extraction finishes first
+        Set<String> usedNames = new HashSet<>();
+        List<Callable<ArchiveOutcome>> tasks = new ArrayList<>(totalArchives);
         for (ProjectFile archive : archives) {
-            try {
-                String archivePath = archive.getFilePath().toString();
-                String currentMD5 = calculateMD5(archive.getFilePath());
-                String cachedMD5 = md5Cache.get(archivePath);
-
-                if (needsExtraction(currentMD5, cachedMD5)) {
-                    logger.info("Extracting changed archive: {}", archive.getRelativePath());
-
-                    JarExtractor.ExtractionResult result = jarExtractor.extractArchive(archive, extractionRoot,
-                            usedNames);
-
-                    if (result.isSuccessful()) {
-                        extractedArchives++;
-                        extractedPaths.add(result.getExtractedPath());
-                        newMD5Cache.put(archivePath, currentMD5);
-
-                        logger.debug("Extraction completed: {} -> {}",
-                                archive.getRelativePath(), result.getExtractedPath());
-                    } else {
-                        logger.warn("Extraction failed for {}: {}",
-                                archive.getRelativePath(), result.getErrorMessage());
-                        errorArchives++;
-                        // Keep old MD5 to retry next time
-                        if (cachedMD5 != null) {
-                            newMD5Cache.put(archivePath, cachedMD5);
-                        }
-                    }
-                } else {
-                    logger.debug("Archive unchanged, skipping: {}", archive.getRelativePath());
+            Path targetDirectory = extractionRoot.resolve(JarExtractor.reserveDirectoryName(archive, usedNames));
+            tasks.add(() -> processArchive(archive, targetDirectory, getStagingRoot(extractionRoot)));
+        }
+
+        List<ArchiveOutcome> outcomes = runAll(tasks);
+        for (int i = 0; i < totalArchives; i++) {
+            String archivePath = archives.get(i).getFilePath().toString();
+            ArchiveOutcome outcome = outcomes.get(i);
+            switch (outcome.status()) {
+                case EXTRACTED -> {
+                    extractedArchives++;
+                    extractedPaths.add(outcome.extractedPath());
+                    newMD5Cache.put(archivePath, outcome.md5());
+                }
+                case SKIPPED -> {
                     skippedArchives++;
-                    newMD5Cache.put(archivePath, currentMD5);
+                    newMD5Cache.put(archivePath, outcome.md5());
+                }
+                case FAILED -> {
+                    errorArchives++;
+                    // Keep old MD5 to retry next time
+                    String cachedMD5 = md5Cache.get(archivePath);
+                    if (cachedMD5 != null) {
+                        newMD5Cache.put(archivePath, cachedMD5);
+                    }
                 }
-
-            } catch (Exception e) {
-                logger.error("Error processing archive {}: {}", archive.getRelativePath(), e.getMessage());
-                errorArchives++;
             }
         }
 
@@ -140,6 +173,69 @@ public class ExtractionManager {
                 errorArchives, extractedPaths);
     }
 
+    /**
+     * Hashes an archive and extracts it if it changed since the last run.
+     */
+    private ArchiveOutcome processArchive(ProjectFile archive, Path targetDirectory, Path stagingRoot) {
+        try {
+            String currentMD5 = calculateMD5(archive.getFilePath());
+            String cachedMD5 = md5Cache.get(archive.getFilePath().toString());
+
+            if (!needsExtraction(currentMD5, cachedMD5)) {
+                logger.debug("Archive unchanged, skipping: {}", archive.getRelativePath());
+                return new ArchiveOutcome(ArchiveStatus.SKIPPED, currentMD5, null);
+            }
+
+            logger.info("Extracting changed archive: {}", archive.getRelativePath());
+            JarExtractor.ExtractionResult result = jarExtractor.extractArchive(archive, targetDirectory, stagingRoot);
+
+            if (!result.isSuccessful()) {
+                logger.warn("Extraction failed for {}: {}", archive.getRelativePath(), result.getErrorMessage());
+                return new ArchiveOutcome(ArchiveStatus.FAILED, null, null);
+            }
+            logger.debug("Extraction completed: {} -> {}", archive.getRelativePath(), result.getExtractedPath());
+            return new ArchiveOutcome(ArchiveStatus.EXTRACTED, currentMD5, result.getExtractedPath());
+
+        } catch (Exception e) {
+            logger.error("Error processing archive {}: {}", archive.getRelativePath(), e.getMessage());
+            return new ArchiveOutcome(ArchiveStatus.FAILED, null, null);
+        }
+    }
+
+    /**
+     * Runs the archive tasks on up to {@code parallelism} threads and returns
+     * their outcomes in task order.
+     */
+    private List<ArchiveOutcome> runAll(List<Callable<ArchiveOutcome>> tasks) throws IOException {
+        List<ArchiveOutcome> outcomes = new ArrayList<>(tasks.size());
+        int threads = Math.min(parallelism, tasks.size());
+        if (threads <= 1) {
+            for (Callable<ArchiveOutcome> task : tasks) {
+                try {
+                    outcomes.add(task.call());
+                } catch (Exception e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+            return outcomes;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (Future<ArchiveOutcome> future : pool.invokeAll(tasks)) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while extracting archives", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     /**
      * Determines if an archive needs extraction based on MD5 comparison.
      */
@@ -152,19 +248,20 @@ public class ExtractionManager {
     }
 
     /**
-     * Calculates MD5 hash of a file.
+     * Calculates MD5 hash of a file, streaming it through a reused direct
+     * buffer rather than loading it onto the heap.
      */
-    private String calculateMD5(Path filePath) throws IOException {
-        try {
+    static String calculateMD5(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
             MessageDigest md5 = MessageDigest.getInstance("MD5");
-            byte[] fileBytes = Files.readAllBytes(filePath);
-            byte[] hashBytes = md5.digest(fileBytes);
-
-            StringBuilder sb = new StringBuilder();
-            for (byte b : hashBytes) {
-                sb.append(String.format("%02x", b));
+            ByteBuffer buffer = DIGEST_BUFFER.get();
+            buffer.clear();
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                md5.update(buffer);
+                buffer.clear();
             }
-            return sb.toString();
+            return HexFormat.of().formatHex(md5.digest());
 
         } catch (NoSuchAlgorithmException e) {
             throw new IOException("MD5 algorithm not available", e);
@@ -178,6 +275,14 @@ public class ExtractionManager {
         return projectRoot.resolve(AnalysisConstants.ANALYSIS_DIR).resolve(AnalysisConstants.BINARIES_DIR);
     }
 
+    /**
+     * Gets the directory where archives are extracted before being moved into
+     * place (.analysis/extracting/). It is hidden from file discovery.
+     */
+    private Path getStagingRoot(Path extractionRoot) {
+        return extractionRoot.resolveSibling(AnalysisConstants.EXTRACTION_STAGING_DIR);
+    }
+
     /**
      * Gets the MD5 cache file path.
      */
@@ -277,6 +382,16 @@ public class ExtractionManager {
         }
     }
 
+    private enum ArchiveStatus {
+        EXTRACTED, SKIPPED, FAILED
+    }
+
+    /**
+     * Outcome of processing one archive.
+     */
+    private record ArchiveOutcome(ArchiveStatus status, String md5, Path extractedPath) {
+    }
+
     /**
      * Result of extraction management operation.
      */
@@ -0,0 +1,94 @@
+package com.analyzer.core.engine;
+
+import com.analyzer.api.detector.FileDetector;
+import com.analyzer.core.model.ProjectFile;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dispatch index of the file detectors of Phase 1, by file extension and file
+ * name.
+ * <p>
+ * Detectors declaring extensions or file names (see
+ * {@link FileDetector#getDetectedExtensions()}) are only offered the files
+ * matching one of them; the other detectors are offered every file. The
+ * candidates of a file keep the order of the detector list, so detection runs
+ * in the same order as a scan of all detectors. Candidate lists are built
+ * once per extension (and per indexed file name) and shared by all worker
+ * threads.
+ */
+public final class FileDetectorIndex {
+
+    private final List<FileDetector> detectors;
+    private final Map<String, BitSet> detectorsByExtension = new HashMap<>();
+    private final Map<String, BitSet> detectorsByFileName = new HashMap<>();
+    private final BitSet residual = new BitSet();
+    private final Map<String, List<FileDetector>> candidates = new ConcurrentHashMap<>();
+
+    /**
+     * Builds the index of the detectors of a phase.
+     *
+     * @param detectors all file detectors, in execution order
+     */
+    public FileDetectorIndex(List<FileDetector> detectors) {
+        this.detectors = List.copyOf(detectors);
+        for (int i = 0; i < this.detectors.size(); i++) {
+            FileDetector detector = this.detectors.get(i);
+            Set<String> extensions = detector.getDetectedExtensions();
+            Set<String> fileNames = detector.getDetectedFileNames();
+            if (extensions.isEmpty() && fileNames.isEmpty()) {
+                residual.set(i);
+                continue;
+            }
+            for (String extension : extensions) {
+                detectorsByExtension.computeIfAbsent(normalize(extension), key -> new BitSet()).set(i);
+            }
+            for (String fileName : fileNames) {
+                detectorsByFileName.computeIfAbsent(normalize(fileName), key -> new BitSet()).set(i);
+            }
+        }
+    }
+
+    /**
+     * Gets the detectors that may support a file, in execution order.
+     *
+     * @param projectFile the file
+     * @return the candidate detectors; {@link FileDetector#supports} decides
+     */
+    public List<FileDetector> candidatesFor(ProjectFile projectFile) {
+        String extension = normalize(projectFile.getFileExtension());
+        String fileName = normalize(projectFile.getFileName());
+        // '/' cannot occur in a file name or extension
+        String key = detectorsByFileName.containsKey(fileName) ? extension + '/' + fileName : extension;
+        return candidates.computeIfAbsent(key, k -> collect(extension, fileName));
+    }
+
+    /**
+     * Gets the number of detectors offered every file.
+     */
+    public int getResidualCount() {
+        return residual.cardinality();
+    }
+
+    private List<FileDetector> collect(String extension, String fileName) {
+        BitSet selected = (BitSet) residual.clone();
+        BitSet byExtension = detectorsByExtension.get(extension);
+        if (byExtension != null) {
+            selected.or(byExtension);
+        }
+        BitSet byFileName = detectorsByFileName.get(fileName);
+        if (byFileName != null) {
+            selected.or(byFileName);
+        }
+        List<FileDetector> result = new ArrayList<>(selected.cardinality());
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            result.add(detectors.get(i));
+        }
+        return List.copyOf(result);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,283 @@
+package com.analyzer.core.engine;
+
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.inspector.Inspector;
+import com.analyzer.core.inspector.InspectorDependencyResolver;
+
+import java.util.*;
+
+/**
+ * Execution plan of the inspectors of one phase, compiled from their
+ * {@code @InspectorDependencies} declarations.
+ * <p>
+ * An inspector that requires a tag depends on every inspector of the phase
+ * that produces it. The dependency graph is condensed into strongly connected
+ * components and ordered into waves: an inspector only runs after every
+ * inspector producing one of its required tags, so that a single pass over
+ * the items, running the inspectors in wave order, reaches the fixpoint
+ * whenever the dependencies are acyclic.
+ * <p>
+ * Further passes are only needed for inspectors that may see a required tag
+ * appear after they ran: members of a dependency cycle, inspectors without a
+ * dependency declaration, and everything downstream of them. These form the
+ * convergence set; all other inspectors run in the first pass only.
+ *
+ * @param <T> the type of GraphNode being analyzed
+ */
+public final class InspectorWavePlan<T extends GraphNode> {
+
+    /**
+     * One wave of the plan.
+     *
+     * @param index          the position of the wave, starting at 1
+     * @param inspectorNames the inspectors of the wave, in registration order
+     * @param cyclic         true if the wave contains a dependency cycle
+     * @param declared       false for the trailing wave of inspectors without a
+     *                       dependency declaration
+     */
+    public record Wave(int index, List<String> inspectorNames, boolean cyclic, boolean declared) {
+    }
+
+    private final List<Inspector<T>> orderedInspectors;
+    private final List<Wave> waves;
+    private final Set<String> convergenceInspectors;
+
+    private InspectorWavePlan(List<Inspector<T>> orderedInspectors, List<Wave> waves,
+            Set<String> convergenceInspectors) {
+        this.orderedInspectors = orderedInspectors;
+        this.waves = waves;
+        this.convergenceInspectors = convergenceInspectors;
+    }
+
+    /**
+     * Compiles the plan for the inspectors of a phase.
+     *
+     * @param inspectors the inspectors in registration order
+     * @return the plan
+     */
+    public static <T extends GraphNode> InspectorWavePlan<T> plan(List<Inspector<T>> inspectors) {
+        int n = inspectors.size();
+        boolean[] declared = new boolean[n];
+        List<Set<String>> required = new ArrayList<>(n);
+        Map<String, List<Integer>> producersByTag = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Inspector<T> inspector = inspectors.get(i);
+            declared[i] = InspectorDependencyResolver.hasDependencyDeclaration(inspector.getClass());
+            required.add(declared[i]
+                    ? new LinkedHashSet<>(Arrays.asList(inspector.getDependencies().toArray()))
+                    : Set.of());
+            if (declared[i]) {
+                for (String tag : InspectorDependencyResolver.getProducedTags(inspector.getClass())) {
+                    producersByTag.computeIfAbsent(tag, t -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        // Edges producer -> consumer; a required tag without producer in this
+        // phase comes from an earlier phase, unless an undeclared inspector sets it
+        boolean hasUndeclared = false;
+        for (boolean d : declared) {
+            hasUndeclared |= !d;
+        }
+        List<Set<Integer>> successors = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            successors.add(new TreeSet<>());
+        }
+        boolean[] selfLoop = new boolean[n];
+        boolean[] unresolved = new boolean[n];
+        for (int consumer = 0; consumer < n; consumer++) {
+            for (String tag : required.get(consumer)) {
+                List<Integer> producers = producersByTag.get(tag);
+                if (producers == null) {
+                    unresolved[consumer] |= hasUndeclared;
+                    continue;
+                }
+                for (int producer : producers) {
+                    if (producer == consumer) {
+                        selfLoop[consumer] = true;
+                    } else {
+                        successors.get(producer).add(consumer);
+                    }
+                }
+            }
+        }
+
+        int[] component = new int[n];
+        int componentCount = stronglyConnectedComponents(successors, component);
+        int[] componentSize = new int[componentCount];
+        boolean[] componentCyclic = new boolean[componentCount];
+        for (int i = 0; i < n; i++) {
+            componentSize[component[i]]++;
+            componentCyclic[component[i]] |= selfLoop[i];
+        }
+        for (int c = 0; c < componentCount; c++) {
+            componentCyclic[c] |= componentSize[c] > 1;
+        }
+
+        // Longest-path levels over the condensation (Kahn)
+        List<Set<Integer>> componentSuccessors = new ArrayList<>(componentCount);
+        for (int c = 0; c < componentCount; c++) {
+            componentSuccessors.add(new HashSet<>());
+        }
+        int[] inDegree = new int[componentCount];
+        for (int i = 0; i < n; i++) {
+            for (int j : successors.get(i)) {
+                if (component[i] != component[j] && componentSuccessors.get(component[i]).add(component[j])) {
+                    inDegree[component[j]]++;
+                }
+            }
+        }
+        int[] level = new int[componentCount];
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int c = 0; c < componentCount; c++) {
+            if (inDegree[c] == 0) {
+                ready.add(c);
+            }
+        }
+        while (!ready.isEmpty()) {
+            int c = ready.poll();
+            for (int next : componentSuccessors.get(c)) {
+                level[next] = Math.max(level[next], level[c] + 1);
+                if (--inDegree[next] == 0) {
+                    ready.add(next);
+                }
+            }
+        }
+
+        // Convergence set: cycles, undeclared and unresolved inspectors, and
+        // everything downstream of them
+        boolean[] convergent = new boolean[n];
+        Deque<Integer> pending = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            if (componentCyclic[component[i]] || !declared[i] || unresolved[i]) {
+                convergent[i] = true;
+                pending.add(i);
+            }
+        }
+        while (!pending.isEmpty()) {
+            for (int next : successors.get(pending.poll())) {
+                if (!convergent[next]) {
+                    convergent[next] = true;
+                    pending.add(next);
+                }
+            }
+        }
+
+        // Group declared inspectors by level; undeclared ones keep their
+        // registration order in a trailing wave
+        TreeMap<Integer, List<Integer>> byLevel = new TreeMap<>();
+        List<Integer> undeclared = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (declared[i]) {
+                byLevel.computeIfAbsent(level[component[i]], l -> new ArrayList<>()).add(i);
+            } else {
+                undeclared.add(i);
+            }
+        }
+
+        List<Integer> order = new ArrayList<>(n);
+        List<Wave> waves = new ArrayList<>();
+        for (List<Integer> members : byLevel.values()) {
+            boolean cyclic = members.stream().anyMatch(i -> componentCyclic[component[i]]);
+            waves.add(new Wave(waves.size() + 1, names(inspectors, members), cyclic, true));
+            order.addAll(members);
+        }
+        if (!undeclared.isEmpty()) {
+            waves.add(new Wave(waves.size() + 1, names(inspectors, undeclared), false, false));
+            order.addAll(undeclared);
+        }
+
+        List<Inspector<T>> ordered = new ArrayList<>(n);
+        Set<String> convergenceInspectors = new LinkedHashSet<>();
+        for (int i : order) {
+            ordered.add(inspectors.get(i));
+            if (convergent[i]) {
+                convergenceInspectors.add(inspectors.get(i).getName());
+            }
+        }
+
+        return new InspectorWavePlan<>(List.copyOf(ordered), List.copyOf(waves),
+                Collections.unmodifiableSet(convergenceInspectors));
+    }
+
+    /**
+     * Gets the inspectors in wave order.
+     */
+    public List<Inspector<T>> getOrderedInspectors() {
+        return orderedInspectors;
+    }
+
+    /**
+     * Gets the planned waves.
+     */
+    public List<Wave> getWaves() {
+        return waves;
+    }
+
+    /**
+     * Gets the names of the inspectors that may need another pass.
+     */
+    public Set<String> getConvergenceInspectors() {
+        return convergenceInspectors;
+    }
+
+    /**
+     * Checks whether an inspector may need another pass after the first one.
+     *
+     * @param inspector the inspector
+     * @return true if the inspector belongs to the convergence set
+     */
+    public boolean needsConvergence(Inspector<T> inspector) {
+        return convergenceInspectors.contains(inspector.getName());
+    }
+
+    private static <T extends GraphNode> List<String> names(List<Inspector<T>> inspectors, List<Integer> indices) {
+        return indices.stream().map(i -> inspectors.get(i).getName()).toList();
+    }
+
+    /**
+     * Tarjan's algorithm; the graph of a phase has at most a few hundred
+     * inspectors, so the recursion depth is bounded.
+     *
+     * @return the number of components
+     */
+    private static int stronglyConnectedComponents(List<Set<Integer>> successors, int[] component) {
+        int n = successors.size();
+        int[] index = new int[n];
+        int[] lowLink = new int[n];
+        boolean[] onStack = new boolean[n];
+        Arrays.fill(index, -1);
+        Deque<Integer> stack = new ArrayDeque<>();
+        int[] counters = new int[2]; // next index, next component
+        for (int v = 0; v < n; v++) {
+            if (index[v] < 0) {
+                strongConnect(v, successors, index, lowLink, onStack, stack, component, counters);
+            }
+        }
+        return counters[1];
+    }
+
+    private static void strongConnect(int v, List<Set<Integer>> successors, int[] index, int[] lowLink,
+            boolean[] onStack, Deque<Integer> stack, int[] component, int[] counters) {
+        index[v] = lowLink[v] = counters[0]++;
+        stack.push(v);
+        onStack[v] = true;
+        for (int w : successors.get(v)) {
+            if (index[w] < 0) {
+                strongConnect(w, successors, index, lowLink, onStack, stack, component, counters);
+                lowLink[v] = Math.min(lowLink[v], lowLink[w]);
+            } else if (onStack[w]) {
+                lowLink[v] = Math.min(lowLink[v], index[w]);
+            }
+        }
+        if (lowLink[v] == index[v]) {
+            int w;
+            do {
+                w = stack.pop();
+                onStack[w] = false;
+                component[w] = counters[1];
+            } while (w != v);
+            counters[1]++;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.analyzer.core.engine;
+
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.graph.TagMask;
+import com.analyzer.api.inspector.Inspector;
+import com.analyzer.core.export.NodeChangeListener;
+import com.analyzer.core.inspector.InspectorDependencyResolver;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Event-driven scheduling of the inspectors of one phase on a single node.
+ * <p>
+ * Every inspector is evaluated once per node, in the order of the given
+ * inspector list. An inspector that cannot process the node yet is parked and
+ * only evaluated again when one of its required tags is enabled on that node,
+ * as published by the {@link NodeChangeListener} of the node's decorator.
+ * Inspectors without a dependency declaration are woken up by any tag or
+ * property change, since their eligibility is unknown. A parked inspector
+ * whose required tags are all present was held back by something else its
+ * {@code canProcess} checks, such as a property, and is woken up by property
+ * changes as well. The node has converged when its queue is empty.
+ * <p>
+ * Inspectors that can share their work on a node (such as the ASM inspectors,
+ * which can all be fed by a single traversal of the class file) are run as a
+ * batch: when the first of them is due, every later pending batchable
+ * inspector joins it, unless one of its required tags may still be produced
+ * by an inspector that has not run on the node yet. The batch then runs in
+ * one step and, like a single inspector, wakes consumers of the tags it
+ * enables.
+ * <p>
+ * The consumer index is built once per phase and shared by all worker threads;
+ * the queue of a node lives only for the duration of {@link #run}.
+ *
+ * @param <T> the type of GraphNode being analyzed
+ */
+public final class InspectorWorklist<T extends GraphNode> {
+
+    /**
+     * Runs one inspector on a node, if it can process it.
+     *
+     * @param <T> the type of GraphNode being analyzed
+     */
+    @FunctionalInterface
+    public interface InspectorStep<T extends GraphNode> {
+        /**
+         * Evaluates and, if eligible, runs an inspector on the node.
+         *
+         * @param inspector      the inspector
+         * @param changeListener the listener to pass to the node decorator
+         * @return true if the inspector ran (or failed) and must not run again
+         */
+        boolean run(Inspector<T> inspector, NodeChangeListener changeListener);
+    }
+
+    /**
+     * Runs a batch of inspectors on a node in one step.
+     *
+     * @param <T> the type of GraphNode being analyzed
+     */
+    @FunctionalInterface
+    public interface BatchStep<T extends GraphNode> {
+        /**
+         * Evaluates the inspectors of the batch and runs the eligible ones
+         * together.
+         *
+         * @param batch          the inspectors, in execution order
+         * @param changeListener the listener to pass to the node decorators
+         * @return the inspectors that ran (or failed) and must not run again
+         */
+        Collection<Inspector<T>> run(List<Inspector<T>> batch, NodeChangeListener changeListener);
+    }
+
+    private static final int[] NO_CONSUMERS = new int[0];
+
+    private final Map<Inspector<T>, Integer> idByInspector = new IdentityHashMap<>();
+    private final Map<String, int[]> consumersByTag = new HashMap<>();
+    private final int[] undeclared;
+    private final List<String[]> requiredTagsById = new ArrayList<>();
+    private final List<TagMask> requiredMaskById = new ArrayList<>();
+    private final List<Set<String>> producedTagsById = new ArrayList<>();
+
+    /**
+     * Builds the consumer index for the inspectors of a phase.
+     *
+     * @param inspectors all inspectors that may be scheduled in the phase
+     */
+    public InspectorWorklist(List<Inspector<T>> inspectors) {
+        Map<String, List<Integer>> consumers = new HashMap<>();
+        List<Integer> undeclaredIds = new ArrayList<>();
+        for (Inspector<T> inspector : inspectors) {
+            if (idByInspector.containsKey(inspector)) {
+                continue;
+            }
+            int id = idByInspector.size();
+            idByInspector.put(inspector, id);
+            if (!InspectorDependencyResolver.hasDependencyDeclaration(inspector.getClass())) {
+                undeclaredIds.add(id);
+                requiredTagsById.add(null);
+                requiredMaskById.add(null);
+                producedTagsById.add(null);
+                continue;
+            }
+            String[] requiredTags = inspector.getDependencies().toArray();
+            for (String tag : requiredTags) {
+                consumers.computeIfAbsent(tag, t -> new ArrayList<>()).add(id);
+            }
+            requiredTagsById.add(requiredTags);
+            requiredMaskById.add(inspector.getDependencies().toMask());
+            producedTagsById.add(Set.of(InspectorDependencyResolver.getProducedTags(inspector.getClass())));
+        }
+        consumers.forEach((tag, ids) -> consumersByTag.put(tag, toArray(ids)));
+        this.undeclared = toArray(undeclaredIds);
+    }
+
+    /**
+     * Runs the inspectors on a node until its queue is empty.
+     *
+     * @param item       the node, used for log messages only
+     * @param inspectors the inspectors to schedule, in execution order; a subset
+     *                   of the inspectors of the phase
+     * @param step       evaluates and runs a single inspector
+     * @return names of the inspectors that ran (or failed) on the node
+     */
+    public Set<String> run(T item, List<Inspector<T>> inspectors, InspectorStep<T> step) {
+        return run(item, inspectors, step, inspector -> false, null);
+    }
+
+    /**
+     * Runs the inspectors on a node until its queue is empty, running the
+     * batchable inspectors that are due together.
+     *
+     * @param item       the node, used for log messages only
+     * @param inspectors the inspectors to schedule, in execution order; a subset
+     *                   of the inspectors of the phase
+     * @param step       evaluates and runs a single inspector
+     * @param batchable  selects the inspectors that can run in a batch
+     * @param batchStep  evaluates and runs a batch of at least two inspectors
+     * @return names of the inspectors that ran (or failed) on the node
+     */
+    public Set<String> run(T item, List<Inspector<T>> inspectors, InspectorStep<T> step,
+            Predicate<Inspector<T>> batchable, BatchStep<T> batchStep) {
+        int size = inspectors.size();
+        // Position of each inspector of the phase in the given list, or -1
+        int[] positions = new int[idByInspector.size()];
+        int[] ids = new int[size];
+        Arrays.fill(positions, -1);
+        for (int position = 0; position < size; position++) {
+            Integer id = idByInspector.get(inspectors.get(position));
+            if (id == null) {
+                throw new IllegalArgumentException("Inspector '" + inspectors.get(position).getName()
+                        + "' is not part of this worklist (node " + item.getId() + ")");
+            }
+            positions[id] = position;
+            ids[position] = id;
+        }
+
+        BitSet pending = new BitSet(size);
+        pending.set(0, size);
+        BitSet done = new BitSet(size);
+        // Inspectors that declined the node and wait to be woken up
+        BitSet parked = new BitSet(size);
+
+        NodeChangeListener listener = new NodeChangeListener() {
+            @Override
+            public void tagEnabled(String tagName) {
+                wake(consumersByTag.getOrDefault(tagName, NO_CONSUMERS));
+                wake(undeclared);
+            }
+
+            @Override
+            public void propertyChanged(String propertyName) {
+                wake(undeclared);
+                // A declared inspector with all its required tags was held back
+                // by another check, which the property may now satisfy
+                for (int position = parked.nextSetBit(0); position >= 0;
+                        position = parked.nextSetBit(position + 1)) {
+                    TagMask requiredMask = requiredMaskById.get(ids[position]);
+                    if (requiredMask != null && item.hasAllTags(requiredMask)) {
+                        parked.clear(position);
+                        pending.set(position);
+                    }
+                }
+            }
+
+            private void wake(int[] ids) {
+                for (int id : ids) {
+                    int position = positions[id];
+                    if (position >= 0 && !done.get(position)) {
+                        pending.set(position);
+                        parked.clear(position);
+                    }
+                }
+            }
+        };
+
+        Set<String> triggered = new HashSet<>();
+        // Lowest position first, so that woken inspectors keep the planned order
+        for (int position = pending.nextSetBit(0); position >= 0; position = pending.nextSetBit(0)) {
+            pending.clear(position);
+            Inspector<T> inspector = inspectors.get(position);
+            List<Integer> batch = batchable.test(inspector)
+                    ? collectBatch(position, inspectors, ids, pending, done, batchable)
+                    : List.of(position);
+            if (batch.size() == 1) {
+                if (step.run(inspector, listener)) {
+                    done.set(position);
+                    // An inspector enabling one of its own required tags woke itself up
+                    pending.clear(position);
+                    triggered.add(inspector.getName());
+                } else {
+                    parked.set(position);
+                }
+                continue;
+            }
+            List<Inspector<T>> batchInspectors = new ArrayList<>(batch.size());
+            for (int member : batch) {
+                pending.clear(member);
+                batchInspectors.add(inspectors.get(member));
+            }
+            Set<Inspector<T>> ran = Collections.newSetFromMap(new IdentityHashMap<>());
+            ran.addAll(batchStep.run(batchInspectors, listener));
+            for (int member : batch) {
+                if (ran.contains(inspectors.get(member))) {
+                    done.set(member);
+                    pending.clear(member);
+                    triggered.add(inspectors.get(member).getName());
+                } else {
+                    parked.set(member);
+                }
+            }
+        }
+        return triggered;
+    }
+
+    /**
+     * Collects the batch led by the inspector at the given position: the
+     * later pending batchable inspectors whose required tags no inspector
+     * still to run on the node may produce.
+     */
+    private List<Integer> collectBatch(int leader, List<Inspector<T>> inspectors, int[] ids, BitSet pending,
+            BitSet done, Predicate<Inspector<T>> batchable) {
+        List<Integer> batch = new ArrayList<>();
+        batch.add(leader);
+        for (int position = pending.nextSetBit(leader + 1); position >= 0;
+                position = pending.nextSetBit(position + 1)) {
+            if (batchable.test(inspectors.get(position))
+                    && !mayBeProducedByOthers(position, inspectors.size(), ids, done)) {
+                batch.add(position);
+            }
+        }
+        return batch;
+    }
+
+    private boolean mayBeProducedByOthers(int position, int size, int[] ids, BitSet done) {
+        String[] requiredTags = requiredTagsById.get(ids[position]);
+        if (requiredTags == null) {
+            // Eligibility of an undeclared inspector is unknown
+            return true;
+        }
+        if (requiredTags.length == 0) {
+            return false;
+        }
+        for (int other = done.nextClearBit(0); other < size; other = done.nextClearBit(other + 1)) {
+            if (other == position) {
+                continue;
+            }
+            Set<String> producedTags = producedTagsById.get(ids[other]);
+            if (producedTags == null) {
+                return true;
+            }
+            for (String tag : requiredTags) {
+                if (producedTags.contains(tag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -1,13 +1,21 @@
 package com.analyzer.core.engine;
 
 import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.graph.TagMask;
 import com.analyzer.api.inspector.Inspector;
+import com.analyzer.core.cache.SharedParseCache;
+import com.analyzer.core.cache.SourceModelProvider;
 import me.tongfei.progressbar.ProgressBar;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -15,6 +23,20 @@ import java.util.function.Supplier;
  * detection.
  * This class encapsulates the common multi-pass analysis pattern used across
  * different phases.
+ * <p>
+ * The inspectors are ordered by an {@link InspectorWavePlan} compiled from
+ * their declared dependencies, so the first pass runs producers before
+ * consumers on every item. Later passes only revisit the inspectors of the
+ * plan's convergence set (dependency cycles and undeclared dependencies)
+ * that have not triggered yet, along with the inspectors that declined an
+ * item carrying all their required tags, since a property they check may
+ * still be set by another item's inspectors. The phase converges as soon as
+ * none are left.
+ * <p>
+ * By default each pass walks the items sequentially. When created with a
+ * parallelism greater than one, every pass shards the items across a
+ * work-stealing {@link ForkJoinPool}; the convergence rules are the same in
+ * both modes.
  *
  * @param <T> the type of GraphNode being analyzed
  */
@@ -22,6 +44,72 @@ public class MultiPassExecutor<T extends GraphNode> {
 
     private static final Logger logger = LoggerFactory.getLogger(MultiPassExecutor.class);
 
+    // Number of shards per worker, so that work stealing can balance uneven items
+    private static final int SHARDS_PER_WORKER = 8;
+
+    private final int parallelism;
+    private final SharedParseCache parseCache;
+    private final SourceModelProvider sourceModels;
+
+    /**
+     * Creates a sequential executor.
+     */
+    public MultiPassExecutor() {
+        this(1);
+    }
+
+    /**
+     * Creates an executor using the given number of worker threads.
+     *
+     * @param parallelism number of worker threads (values below 1 select the
+     *                    number of available processors)
+     */
+    public MultiPassExecutor(int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * Creates an executor using the given number of worker threads and
+     * reporting the activity of a shared parse cache in its execution profile.
+     *
+     * @param parallelism number of worker threads (values below 1 select the
+     *                    number of available processors)
+     * @param parseCache  the shared parse cache used by the inspectors, or null
+     */
+    public MultiPassExecutor(int parallelism, SharedParseCache parseCache) {
+        this(parallelism, parseCache, null);
+    }
+
+    /**
+     * Creates an executor using the given number of worker threads and
+     * reporting the activity of a shared parse cache and of the source front
+     * ends in its execution profile.
+     *
+     * @param parallelism  number of worker threads (values below 1 select the
+     *                     number of available processors)
+     * @param parseCache   the shared parse cache used by the inspectors, or null
+     * @param sourceModels the source model provider used by the inspectors, or
+     *                     null
+     */
+    public MultiPassExecutor(int parallelism, SharedParseCache parseCache, SourceModelProvider sourceModels) {
+        this.parallelism = parallelism < 1 ? defaultParallelism() : parallelism;
+        this.parseCache = parseCache;
+        this.sourceModels = sourceModels;
+    }
+
+    /**
+     * Gets the default worker count, i.e. the number of available processors.
+     *
+     * @return the default parallelism
+     */
+    public static int defaultParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
     /**
      * Configuration for multi-pass execution.
      *
@@ -143,7 +231,8 @@ public class MultiPassExecutor<T extends GraphNode> {
      */
     public ExecutionResult execute(ExecutionConfig<T> config) {
         Collection<T> items = config.getItems();
-        List<Inspector<T>> inspectors = config.getInspectors();
+        InspectorWavePlan<T> plan = InspectorWavePlan.plan(config.getInspectors());
+        List<Inspector<T>> inspectors = plan.getOrderedInspectors();
 
         if (inspectors.isEmpty()) {
             logger.info("{}: No inspectors found, skipping", config.getPhaseName());
@@ -155,66 +244,70 @@ public class MultiPassExecutor<T extends GraphNode> {
             return new ExecutionResult(0, true, 0, null);
         }
 
-        logger.info("{}: Executing {} inspectors on {} items (max passes: {})",
-                config.getPhaseName(), inspectors.size(), items.size(), config.getMaxPasses());
+        logger.info("{}: Executing {} inspectors in {} waves on {} items (max passes: {}, threads: {})",
+                config.getPhaseName(), inspectors.size(), plan.getWaves().size(), items.size(),
+                config.getMaxPasses(), parallelism);
 
         // Initialize execution profile - track all inspectors
         List<String> inspectorNames = inspectors.stream()
                 .map(Inspector::getName)
                 .toList();
         ExecutionProfile executionProfile = new ExecutionProfile(inspectorNames);
+        executionProfile.setParallelism(parallelism);
+        executionProfile.setExecutionPlan(plan.getWaves(), plan.getConvergenceInspectors());
+        SharedParseCache.Statistics cacheStatisticsBefore = parseCache != null ? parseCache.getStatistics() : null;
+        Map<SourceModelProvider.Frontend, SourceModelProvider.Statistics> sourceModelStatisticsBefore =
+                sourceModels != null ? sourceModels.getStatistics() : null;
 
         int pass = 1;
         boolean hasChanges = true;
         int totalProcessed = 0;
 
-        while (hasChanges && pass <= config.getMaxPasses()) {
-            logger.info("=== {} Pass {} of {} ===", config.getPhaseName(), pass, config.getMaxPasses());
-
-            LocalDateTime passStartTime = LocalDateTime.now();
-            int itemsProcessed = 0;
-            int itemsSkipped = 0;
-            Set<String> triggeredInspectors = new HashSet<>();
-
-            try (ProgressBar pb = new ProgressBar(config.getPhaseName() + " Pass " + pass, items.size())) {
-                for (T item : items) {
-                    Set<String> itemInspectors = config.getItemAnalyzer().analyze(
-                            item, inspectors, passStartTime, executionProfile, pass);
-
-                    if (!itemInspectors.isEmpty()) {
-                        itemsProcessed++;
-                        triggeredInspectors.addAll(itemInspectors);
-                    } else {
-                        itemsSkipped++;
-                    }
-                    pb.step();
+        ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        try {
+            while (hasChanges && pass <= config.getMaxPasses()) {
+                logger.info("=== {} Pass {} of {} ===", config.getPhaseName(), pass, config.getMaxPasses());
+
+                PassOutcome outcome = pool != null
+                        ? executeParallelPass(pool, config, items, inspectors, executionProfile, pass)
+                        : executeSequentialPass(config, items, inspectors, executionProfile, pass);
+                Set<String> triggeredInspectors = outcome.triggeredInspectors();
+
+                logger.info("{} Pass {} completed: {} items processed, {} items skipped (up-to-date)",
+                        config.getPhaseName(), pass, outcome.itemsProcessed(), outcome.itemsSkipped());
+
+                // Print triggered inspectors for this pass
+                if (!triggeredInspectors.isEmpty()) {
+                    logger.info("{} Pass {} triggered inspectors: [{}]", config.getPhaseName(), pass,
+                            String.join(", ", triggeredInspectors.stream().sorted().toList()));
+                } else {
+                    logger.info("{} Pass {} triggered inspectors: [none]", config.getPhaseName(), pass);
+                }
+                // Only inspectors that may still see new tags, or that wait for
+                // more than their tags, are worth another pass
+                inspectors = inspectors.stream()
+                        .filter(i -> !triggeredInspectors.contains(i.getName())
+                                && (plan.needsConvergence(i) || isHeldBeyondTags(i, items)))
+                        .toList();
+
+                totalProcessed += outcome.itemsProcessed();
+
+                // Check for convergence - if no items were processed or no inspector
+                // can make progress any more, we've converged
+                hasChanges = outcome.itemsProcessed() > 0 && !inspectors.isEmpty();
+
+                if (!hasChanges) {
+                    logger.info("{} convergence achieved after {} passes - no more items need processing",
+                            config.getPhaseName(), pass);
+                    break;
                 }
-            }
-
-            logger.info("{} Pass {} completed: {} items processed, {} items skipped (up-to-date)",
-                    config.getPhaseName(), pass, itemsProcessed, itemsSkipped);
 
-            // Print triggered inspectors for this pass
-            if (!triggeredInspectors.isEmpty()) {
-                logger.info("{} Pass {} triggered inspectors: [{}]", config.getPhaseName(), pass,
-                        String.join(", ", triggeredInspectors.stream().sorted().toList()));
-                inspectors = inspectors.stream().filter(i -> !triggeredInspectors.contains(i.getName())).toList();
-            } else {
-                logger.info("{} Pass {} triggered inspectors: [none]", config.getPhaseName(), pass);
+                pass++;
             }
-
-            totalProcessed += itemsProcessed;
-
-            // Check for convergence - if no items were processed, we've converged
-            hasChanges = itemsProcessed > 0;
-
-            if (!hasChanges) {
-                logger.info("{} convergence achieved after {} passes - no more items need processing",
-                        config.getPhaseName(), pass);
-                break;
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
             }
-
-            pass++;
         }
 
         boolean converged = !hasChanges;
@@ -230,6 +323,16 @@ public class MultiPassExecutor<T extends GraphNode> {
 
         // Generate and log execution profile report
         executionProfile.setAnalysisMetrics(actualPasses, items.size());
+        if (parseCache != null) {
+            executionProfile.setParseCacheStatistics(parseCache.getStatistics().since(cacheStatisticsBefore));
+        }
+        if (sourceModels != null) {
+            Map<SourceModelProvider.Frontend, SourceModelProvider.Statistics> sourceModelStatistics =
+                    new EnumMap<>(SourceModelProvider.Frontend.class);
+            sourceModels.getStatistics().forEach((frontend, statistics) -> sourceModelStatistics.put(frontend,
+                    statistics.since(sourceModelStatisticsBefore.get(frontend))));
+            executionProfile.setSourceModelStatistics(sourceModelStatistics);
+        }
         executionProfile.markAnalysisComplete();
         logger.info("=== {} Execution Summary ===", config.getPhaseName());
         executionProfile.logReport();
@@ -237,4 +340,123 @@ public class MultiPassExecutor<T extends GraphNode> {
 
         return new ExecutionResult(actualPasses, converged, totalProcessed, executionProfile);
     }
+
+    /**
+     * Checks whether a declared inspector that did not trigger has an item
+     * carrying all its required tags, i.e. an item it declined for another
+     * reason, such as a property it checks in {@code canProcess}.
+     */
+    private static <T extends GraphNode> boolean isHeldBeyondTags(Inspector<T> inspector, Collection<T> items) {
+        TagMask requiredMask = inspector.getDependencies().toMask();
+        for (T item : items) {
+            if (item.hasAllTags(requiredMask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Outcome of a single pass over all items.
+     */
+    private record PassOutcome(int itemsProcessed, int itemsSkipped, Set<String> triggeredInspectors) {
+    }
+
+    /**
+     * Runs one pass over the items on the calling thread.
+     */
+    private PassOutcome executeSequentialPass(ExecutionConfig<T> config, Collection<T> items,
+            List<Inspector<T>> inspectors, ExecutionProfile executionProfile, int pass) {
+        LocalDateTime passStartTime = LocalDateTime.now();
+        int itemsProcessed = 0;
+        int itemsSkipped = 0;
+        Set<String> triggeredInspectors = new HashSet<>();
+
+        try (ProgressBar pb = new ProgressBar(config.getPhaseName() + " Pass " + pass, items.size())) {
+            for (T item : items) {
+                Set<String> itemInspectors = config.getItemAnalyzer().analyze(
+                        item, inspectors, passStartTime, executionProfile, pass);
+
+                if (!itemInspectors.isEmpty()) {
+                    itemsProcessed++;
+                    triggeredInspectors.addAll(itemInspectors);
+                } else {
+                    itemsSkipped++;
+                }
+                pb.step();
+            }
+        }
+
+        return new PassOutcome(itemsProcessed, itemsSkipped, triggeredInspectors);
+    }
+
+    /**
+     * Runs one pass over the items on the given work-stealing pool. Per-item
+     * results are merged into concurrent accumulators, so workers never block
+     * on each other.
+     */
+    private PassOutcome executeParallelPass(ForkJoinPool pool, ExecutionConfig<T> config, Collection<T> items,
+            List<Inspector<T>> inspectors, ExecutionProfile executionProfile, int pass) {
+        LocalDateTime passStartTime = LocalDateTime.now();
+        LongAdder itemsProcessed = new LongAdder();
+        LongAdder itemsSkipped = new LongAdder();
+        Set<String> triggeredInspectors = ConcurrentHashMap.newKeySet();
+
+        // Snapshot the items so that shards can be addressed by index
+        List<T> snapshot = new ArrayList<>(items);
+        int shardSize = Math.max(1, snapshot.size() / (parallelism * SHARDS_PER_WORKER));
+
+        try (ProgressBar pb = new ProgressBar(config.getPhaseName() + " Pass " + pass, snapshot.size())) {
+            Consumer<T> analyzeItem = item -> {
+                Set<String> itemInspectors = config.getItemAnalyzer().analyze(
+                        item, inspectors, passStartTime, executionProfile, pass);
+
+                if (!itemInspectors.isEmpty()) {
+                    itemsProcessed.increment();
+                    triggeredInspectors.addAll(itemInspectors);
+                } else {
+                    itemsSkipped.increment();
+                }
+                pb.step();
+            };
+            pool.invoke(new ShardTask<>(snapshot, 0, snapshot.size(), shardSize, analyzeItem));
+        }
+
+        return new PassOutcome(itemsProcessed.intValue(), itemsSkipped.intValue(), triggeredInspectors);
+    }
+
+    /**
+     * Fork/join task that splits a range of items until it is small enough to be
+     * processed directly.
+     *
+     * @param <E> the item type
+     */
+    private static final class ShardTask<E> extends RecursiveAction {
+        private final List<E> items;
+        private final int from;
+        private final int to;
+        private final int shardSize;
+        private final Consumer<E> action;
+
+        ShardTask(List<E> items, int from, int to, int shardSize, Consumer<E> action) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.shardSize = shardSize;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= shardSize) {
+                for (int i = from; i < to; i++) {
+                    action.accept(items.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ShardTask<>(items, from, mid, shardSize, action),
+                    new ShardTask<>(items, mid, to, shardSize, action));
+        }
+    }
 }
@@ -0,0 +1,555 @@
+package com.analyzer.core.engine;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.ModuleVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.RecordComponentVisitor;
+import org.objectweb.asm.TypePath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ClassVisitor that forwards every event of a single class file traversal to
+ * several visitors, in the order they were given.
+ * <p>
+ * The nested visitors (methods, fields, annotations, record components and
+ * module) are multiplexed the same way, over the visitors that returned one;
+ * when none does, null is returned so that the ClassReader skips the element,
+ * exactly as it would for each visitor on its own.
+ * <p>
+ * A visitor that throws is isolated: the failure is reported once to the
+ * {@link FailureHandler} and the visitor, with all its nested visitors,
+ * receives no further events, while the traversal goes on for the others.
+ */
+public final class MultiplexClassVisitor extends ClassVisitor {
+
+    /**
+     * Receives the failure of one of the multiplexed visitors.
+     */
+    @FunctionalInterface
+    public interface FailureHandler {
+        /**
+         * Called once, when the visitor first throws.
+         *
+         * @param visitorIndex the position of the visitor in the multiplexed list
+         * @param exception    the exception it threw
+         */
+        void failed(int visitorIndex, RuntimeException exception);
+    }
+
+    private final Fan<ClassVisitor> fan;
+
+    /**
+     * Creates a multiplexer over the given visitors.
+     *
+     * @param visitors       the visitors, in the order events are forwarded
+     * @param failureHandler notified of the visitors that throw
+     */
+    public MultiplexClassVisitor(List<? extends ClassVisitor> visitors, FailureHandler failureHandler) {
+        super(Opcodes.ASM9);
+        int[] indexes = new int[visitors.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        this.fan = new Fan<>(new ArrayList<>(visitors), indexes, new boolean[indexes.length], failureHandler);
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName,
+            String[] interfaces) {
+        fan.each(visitor -> visitor.visit(version, access, name, signature, superName, interfaces));
+    }
+
+    @Override
+    public void visitSource(String source, String debug) {
+        fan.each(visitor -> visitor.visitSource(source, debug));
+    }
+
+    @Override
+    public ModuleVisitor visitModule(String name, int access, String version) {
+        Fan<ModuleVisitor> modules = fan.map(visitor -> visitor.visitModule(name, access, version));
+        return modules != null ? new MultiplexModuleVisitor(modules) : null;
+    }
+
+    @Override
+    public void visitNestHost(String nestHost) {
+        fan.each(visitor -> visitor.visitNestHost(nestHost));
+    }
+
+    @Override
+    public void visitOuterClass(String owner, String name, String descriptor) {
+        fan.each(visitor -> visitor.visitOuterClass(owner, name, descriptor));
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+        return annotations(fan.map(visitor -> visitor.visitAnnotation(descriptor, visible)));
+    }
+
+    @Override
+    public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+            boolean visible) {
+        return annotations(fan.map(visitor -> visitor.visitTypeAnnotation(typeRef, typePath, descriptor, visible)));
+    }
+
+    @Override
+    public void visitAttribute(Attribute attribute) {
+        fan.each(visitor -> visitor.visitAttribute(attribute));
+    }
+
+    @Override
+    public void visitNestMember(String nestMember) {
+        fan.each(visitor -> visitor.visitNestMember(nestMember));
+    }
+
+    @Override
+    public void visitPermittedSubclass(String permittedSubclass) {
+        fan.each(visitor -> visitor.visitPermittedSubclass(permittedSubclass));
+    }
+
+    @Override
+    public void visitInnerClass(String name, String outerName, String innerName, int access) {
+        fan.each(visitor -> visitor.visitInnerClass(name, outerName, innerName, access));
+    }
+
+    @Override
+    public RecordComponentVisitor visitRecordComponent(String name, String descriptor, String signature) {
+        Fan<RecordComponentVisitor> components = fan
+                .map(visitor -> visitor.visitRecordComponent(name, descriptor, signature));
+        return components != null ? new MultiplexRecordComponentVisitor(components) : null;
+    }
+
+    @Override
+    public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+        Fan<FieldVisitor> fields = fan.map(visitor -> visitor.visitField(access, name, descriptor, signature, value));
+        return fields != null ? new MultiplexFieldVisitor(fields) : null;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+            String[] exceptions) {
+        Fan<MethodVisitor> methods = fan
+                .map(visitor -> visitor.visitMethod(access, name, descriptor, signature, exceptions));
+        return methods != null ? new MultiplexMethodVisitor(methods) : null;
+    }
+
+    @Override
+    public void visitEnd() {
+        fan.each(ClassVisitor::visitEnd);
+    }
+
+    private static AnnotationVisitor annotations(Fan<AnnotationVisitor> annotations) {
+        return annotations != null ? new MultiplexAnnotationVisitor(annotations) : null;
+    }
+
+    /**
+     * The visitors of one element, each with the position of the top-level
+     * visitor it belongs to. The failure flags are shared by all the fans of a
+     * traversal.
+     */
+    private static final class Fan<V> {
+
+        private final List<V> visitors;
+        private final int[] indexes;
+        private final boolean[] failed;
+        private final FailureHandler failureHandler;
+
+        Fan(List<V> visitors, int[] indexes, boolean[] failed, FailureHandler failureHandler) {
+            this.visitors = visitors;
+            this.indexes = indexes;
+            this.failed = failed;
+            this.failureHandler = failureHandler;
+        }
+
+        void each(Consumer<V> event) {
+            for (int i = 0; i < indexes.length; i++) {
+                int index = indexes[i];
+                if (failed[index]) {
+                    continue;
+                }
+                try {
+                    event.accept(visitors.get(i));
+                } catch (RuntimeException e) {
+                    fail(index, e);
+                }
+            }
+        }
+
+        /**
+         * Collects the nested visitors returned by the event, or null if no
+         * visitor returned one.
+         */
+        <W> Fan<W> map(Function<V, W> event) {
+            List<W> nested = null;
+            int[] nestedIndexes = null;
+            for (int i = 0; i < indexes.length; i++) {
+                int index = indexes[i];
+                if (failed[index]) {
+                    continue;
+                }
+                W visitor;
+                try {
+                    visitor = event.apply(visitors.get(i));
+                } catch (RuntimeException e) {
+                    fail(index, e);
+                    continue;
+                }
+                if (visitor != null) {
+                    if (nested == null) {
+                        nested = new ArrayList<>(indexes.length - i);
+                        nestedIndexes = new int[indexes.length - i];
+                    }
+                    nestedIndexes[nested.size()] = index;
+                    nested.add(visitor);
+                }
+            }
+            if (nested == null) {
+                return null;
+            }
+            int[] trimmed = nested.size() == nestedIndexes.length ? nestedIndexes
+                    : Arrays.copyOf(nestedIndexes, nested.size());
+            return new Fan<>(nested, trimmed, failed, failureHandler);
+        }
+
+        private void fail(int index, RuntimeException e) {
+            failed[index] = true;
+            failureHandler.failed(index, e);
+        }
+    }
+
+    private static final class MultiplexAnnotationVisitor extends AnnotationVisitor {
+
+        private final Fan<AnnotationVisitor> fan;
+
+        MultiplexAnnotationVisitor(Fan<AnnotationVisitor> fan) {
+            super(Opcodes.ASM9);
+            this.fan = fan;
+        }
+
+        @Override
+        public void visit(String name, Object value) {
+            fan.each(visitor -> visitor.visit(name, value));
+        }
+
+        @Override
+        public void visitEnum(String name, String descriptor, String value) {
+            fan.each(visitor -> visitor.visitEnum(name, descriptor, value));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+            return annotations(fan.map(visitor -> visitor.visitAnnotation(name, descriptor)));
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(String name) {
+            return annotations(fan.map(visitor -> visitor.visitArray(name)));
+        }
+
+        @Override
+        public void visitEnd() {
+            fan.each(AnnotationVisitor::visitEnd);
+        }
+    }
+
+    private static final class MultiplexFieldVisitor extends FieldVisitor {
+
+        private final Fan<FieldVisitor> fan;
+
+        MultiplexFieldVisitor(Fan<FieldVisitor> fan) {
+            super(Opcodes.ASM9);
+            this.fan = fan;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return annotations(fan.map(visitor -> visitor.visitAnnotation(descriptor, visible)));
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                boolean visible) {
+            return annotations(
+                    fan.map(visitor -> visitor.visitTypeAnnotation(typeRef, typePath, descriptor, visible)));
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+            fan.each(visitor -> visitor.visitAttribute(attribute));
+        }
+
+        @Override
+        public void visitEnd() {
+            fan.each(FieldVisitor::visitEnd);
+        }
+    }
+
+    private static final class MultiplexRecordComponentVisitor extends RecordComponentVisitor {
+
+        private final Fan<RecordComponentVisitor> fan;
+
+        MultiplexRecordComponentVisitor(Fan<RecordComponentVisitor> fan) {
+            super(Opcodes.ASM9);
+            this.fan = fan;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return annotations(fan.map(visitor -> visitor.visitAnnotation(descriptor, visible)));
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                boolean visible) {
+            return annotations(
+                    fan.map(visitor -> visitor.visitTypeAnnotation(typeRef, typePath, descriptor, visible)));
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+            fan.each(visitor -> visitor.visitAttribute(attribute));
+        }
+
+        @Override
+        public void visitEnd() {
+            fan.each(RecordComponentVisitor::visitEnd);
+        }
+    }
+
+    private static final class MultiplexModuleVisitor extends ModuleVisitor {
+
+        private final Fan<ModuleVisitor> fan;
+
+        MultiplexModuleVisitor(Fan<ModuleVisitor> fan) {
+            super(Opcodes.ASM9);
+            this.fan = fan;
+        }
+
+        @Override
+        public void visitMainClass(String mainClass) {
+            fan.each(visitor -> visitor.visitMainClass(mainClass));
+        }
+
+        @Override
+        public void visitPackage(String packaze) {
+            fan.each(visitor -> visitor.visitPackage(packaze));
+        }
+
+        @Override
+        public void visitRequire(String module, int access, String version) {
+            fan.each(visitor -> visitor.visitRequire(module, access, version));
+        }
+
+        @Override
+        public void visitExport(String packaze, int access, String... modules) {
+            fan.each(visitor -> visitor.visitExport(packaze, access, modules));
+        }
+
+        @Override
+        public void visitOpen(String packaze, int access, String... modules) {
+            fan.each(visitor -> visitor.visitOpen(packaze, access, modules));
+        }
+
+        @Override
+        public void visitUse(String service) {
+            fan.each(visitor -> visitor.visitUse(service));
+        }
+
+        @Override
+        public void visitProvide(String service, String... providers) {
+            fan.each(visitor -> visitor.visitProvide(service, providers));
+        }
+
+        @Override
+        public void visitEnd() {
+            fan.each(ModuleVisitor::visitEnd);
+        }
+    }
+
+    private static final class MultiplexMethodVisitor extends MethodVisitor {
+
+        private final Fan<MethodVisitor> fan;
+
+        MultiplexMethodVisitor(Fan<MethodVisitor> fan) {
+            super(Opcodes.ASM9);
+            this.fan = fan;
+        }
+
+        @Override
+        public void visitParameter(String name, int access) {
+            fan.each(visitor -> visitor.visitParameter(name, access));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+            return annotations(fan.map(MethodVisitor::visitAnnotationDefault));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return annotations(fan.map(visitor -> visitor.visitAnnotation(descriptor, visible)));
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                boolean visible) {
+            return annotations(
+                    fan.map(visitor -> visitor.visitTypeAnnotation(typeRef, typePath, descriptor, visible)));
+        }
+
+        @Override
+        public void visitAnnotableParameterCount(int parameterCount, boolean visible) {
+            fan.each(visitor -> visitor.visitAnnotableParameterCount(parameterCount, visible));
+        }
+
+        @Override
+        public AnnotationVisitor visitParameterAnnotation(int parameter, String descriptor, boolean visible) {
+            return annotations(fan.map(visitor -> visitor.visitParameterAnnotation(parameter, descriptor, visible)));
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+            fan.each(visitor -> visitor.visitAttribute(attribute));
+        }
+
+        @Override
+        public void visitCode() {
+            fan.each(MethodVisitor::visitCode);
+        }
+
+        @Override
+        public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+            fan.each(visitor -> visitor.visitFrame(type, numLocal, local, numStack, stack));
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            fan.each(visitor -> visitor.visitInsn(opcode));
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            fan.each(visitor -> visitor.visitIntInsn(opcode, operand));
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+            fan.each(visitor -> visitor.visitVarInsn(opcode, varIndex));
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            fan.each(visitor -> visitor.visitTypeInsn(opcode, type));
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            fan.each(visitor -> visitor.visitFieldInsn(opcode, owner, name, descriptor));
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor,
+                boolean isInterface) {
+            fan.each(visitor -> visitor.visitMethodInsn(opcode, owner, name, descriptor, isInterface));
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle,
+                Object... bootstrapMethodArguments) {
+            fan.each(visitor -> visitor.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle,
+                    bootstrapMethodArguments));
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            fan.each(visitor -> visitor.visitJumpInsn(opcode, label));
+        }
+
+        @Override
+        public void visitLabel(Label label) {
+            fan.each(visitor -> visitor.visitLabel(label));
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            fan.each(visitor -> visitor.visitLdcInsn(value));
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+            fan.each(visitor -> visitor.visitIincInsn(varIndex, increment));
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+            fan.each(visitor -> visitor.visitTableSwitchInsn(min, max, dflt, labels));
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+            fan.each(visitor -> visitor.visitLookupSwitchInsn(dflt, keys, labels));
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+            fan.each(visitor -> visitor.visitMultiANewArrayInsn(descriptor, numDimensions));
+        }
+
+        @Override
+        public AnnotationVisitor visitInsnAnnotation(int typeRef, TypePath typePath, String descriptor,
+                boolean visible) {
+            return annotations(
+                    fan.map(visitor -> visitor.visitInsnAnnotation(typeRef, typePath, descriptor, visible)));
+        }
+
+        @Override
+        public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+            fan.each(visitor -> visitor.visitTryCatchBlock(start, end, handler, type));
+        }
+
+        @Override
+        public AnnotationVisitor visitTryCatchAnnotation(int typeRef, TypePath typePath, String descriptor,
+                boolean visible) {
+            return annotations(
+                    fan.map(visitor -> visitor.visitTryCatchAnnotation(typeRef, typePath, descriptor, visible)));
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end,
+                int index) {
+            fan.each(visitor -> visitor.visitLocalVariable(name, descriptor, signature, start, end, index));
+        }
+
+        @Override
+        public AnnotationVisitor visitLocalVariableAnnotation(int typeRef, TypePath typePath, Label[] start,
+                Label[] end, int[] index, String descriptor, boolean visible) {
+            return annotations(fan.map(visitor -> visitor.visitLocalVariableAnnotation(typeRef, typePath, start,
+                    end, index, descriptor, visible)));
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            fan.each(visitor -> visitor.visitLineNumber(line, start));
+        }
+
+        @Override
+        public void visitMaxs(int maxStack, int maxLocals) {
+            fan.each(visitor -> visitor.visitMaxs(maxStack, maxLocals));
+        }
+
+        @Override
+        public void visitEnd() {
+            fan.each(MethodVisitor::visitEnd);
+        }
+    }
+}
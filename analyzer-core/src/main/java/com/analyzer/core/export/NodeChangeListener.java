@@ -0,0 +1,39 @@
+package com.analyzer.core.export;
+
+/**
+ * Receives the changes an inspector makes to a node through its
+ * {@link NodeDecorator}.
+ * <p>
+ * The analysis engine uses these events to wake up only the inspectors that
+ * consume a tag once it appears on the node, instead of re-evaluating every
+ * inspector on every pass.
+ */
+public interface NodeChangeListener {
+
+    /**
+     * Listener that ignores all changes.
+     */
+    NodeChangeListener NONE = new NodeChangeListener() {
+        @Override
+        public void tagEnabled(String tagName) {
+        }
+
+        @Override
+        public void propertyChanged(String propertyName) {
+        }
+    };
+
+    /**
+     * Called when a tag that was not present is enabled on the node.
+     *
+     * @param tagName the enabled tag
+     */
+    void tagEnabled(String tagName);
+
+    /**
+     * Called when a property of the node is set.
+     *
+     * @param propertyName the property name
+     */
+    void propertyChanged(String propertyName);
+}
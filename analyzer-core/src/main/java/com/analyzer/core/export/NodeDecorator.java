@@ -33,9 +33,22 @@ public class NodeDecorator<T extends GraphNode> {
             "NONE", "LOW", "MEDIUM", "HIGH", "CRITICAL");
 
     private final T node;
+    private final NodeChangeListener changeListener;
 
     public NodeDecorator(T node) {
+        this(node, NodeChangeListener.NONE);
+    }
+
+    /**
+     * Creates a decorator that publishes tag and property changes.
+     *
+     * @param node           the node to decorate
+     * @param changeListener the listener notified of changes made through this
+     *                       decorator
+     */
+    public NodeDecorator(T node, NodeChangeListener changeListener) {
         this.node = Objects.requireNonNull(node, "Node cannot be null");
+        this.changeListener = Objects.requireNonNull(changeListener, "Change listener cannot be null");
     }
 
     /**
@@ -57,6 +70,7 @@ public class NodeDecorator<T extends GraphNode> {
      */
     public void setProperty(String propertyName, Object value) {
         ((BaseGraphNode) node).setProperty(propertyName, value);
+        changeListener.propertyChanged(propertyName);
     }
 
     /**
@@ -161,7 +175,11 @@ public class NodeDecorator<T extends GraphNode> {
      * @param tagName the tag to enable
      */
     public void enableTag(String tagName) {
+        if (node.hasTag(tagName)) {
+            return;
+        }
         node.enableTag(tagName);
+        changeListener.tagEnabled(tagName);
     }
 
     /**
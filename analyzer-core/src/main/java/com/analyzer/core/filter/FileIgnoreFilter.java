@@ -5,16 +5,31 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
 /**
  * Filter for ignoring files during analysis based on gitignore-style patterns.
  * Reads ignore patterns from application.properties and provides filtering
  * functionality.
+ * <p>
+ * Patterns made of literal path segments, such as {@code target/**} or
+ * {@code **}{@code /node_modules/**}, are compiled into segment tries and
+ * matched against the path relative to the project root, one segment at a
+ * time; only the remaining patterns, such as {@code **}{@code /*.tmp}, are
+ * evaluated as globs. {@link #walkFiles(Path, Path, Consumer)} uses the tries
+ * to skip ignored directories without listing their contents.
  */
 public class FileIgnoreFilter {
 
@@ -22,9 +37,16 @@ public class FileIgnoreFilter {
 
     private static final String IGNORE_PATTERNS_PROPERTY = "analyzer.ignore.patterns";
 
+    private static final String ANALYSIS_BINARIES = ".analysis/binaries";
+
+    // Globs of the patterns that are not made of literal segments
     private final List<PathMatcher> ignoreMatchers;
     private final Set<String> ignorePatterns;
 
+    // Literal patterns anchored at the project root, and those starting with **
+    private final PatternNode anchoredPatterns = new PatternNode();
+    private final PatternNode floatingPatterns = new PatternNode();
+
     /**
      * Create a FileIgnoreFilter with specified patterns.
      *
@@ -119,6 +141,10 @@ public class FileIgnoreFilter {
         try {
             // Convert gitignore-style pattern to glob pattern
             String globPattern = convertToGlobPattern(cleanPattern);
+            if (compileLiteralPattern(globPattern)) {
+                logger.debug("Added ignore pattern: '{}' -> literal segments: '{}'", cleanPattern, globPattern);
+                return;
+            }
             PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + globPattern);
             ignoreMatchers.add(matcher);
 
@@ -156,6 +182,107 @@ public class FileIgnoreFilter {
         return pattern;
     }
 
+    /**
+     * Compiles a glob pattern of literal segments, optionally preceded by
+     * {@code **} (at any depth) and followed by {@code **} (everything below),
+     * into the pattern tries.
+     *
+     * @param globPattern the glob pattern
+     * @return false if the pattern has other glob syntax and must be matched as
+     *         a glob
+     */
+    private boolean compileLiteralPattern(String globPattern) {
+        String[] segments = globPattern.split("/", -1);
+        int from = 0;
+        int to = segments.length;
+        while (from < to && segments[from].equals("**")) {
+            from++;
+        }
+        while (to > from && segments[to - 1].equals("**")) {
+            to--;
+        }
+        if (from == to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (segments[i].isEmpty() || hasGlobSyntax(segments[i])) {
+                return false;
+            }
+        }
+
+        PatternNode node = from > 0 ? floatingPatterns : anchoredPatterns;
+        for (int i = from; i < to; i++) {
+            node = node.children.computeIfAbsent(segments[i], segment -> new PatternNode());
+        }
+        if (to < segments.length) {
+            node.matchesDescendants = true;
+        } else {
+            node.matchesSelf = true;
+        }
+        return true;
+    }
+
+    private static boolean hasGlobSyntax(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if ("*?[]{}\\".indexOf(segment.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Walks a directory tree and passes the files that should not be ignored
+     * to a consumer, in the same way as {@link #shouldIgnore(Path, Path)}
+     * filters them. Ignored and hidden directories are skipped in
+     * {@code preVisitDirectory} instead of being listed, except for the
+     * directories leading to {@code .analysis/binaries/}. Symbolic links are
+     * not followed.
+     *
+     * @param directory    the directory to walk, the project root or a
+     *                     directory below it
+     * @param projectRoot  the project root path (for relative path calculation)
+     * @param fileConsumer receives the files that are not ignored
+     * @throws IOException if the directory cannot be walked
+     */
+    public void walkFiles(Path directory, Path projectRoot, Consumer<Path> fileConsumer) throws IOException {
+        Files.walkFileTree(directory, new PruningVisitor(new Walk(directory, projectRoot, fileConsumer)));
+    }
+
+    /**
+     * Walks a directory tree like {@link #walkFiles(Path, Path, Consumer)},
+     * listing the subdirectories in parallel in a fork-join pool. The consumer
+     * is called from the worker threads, in no particular order, and must be
+     * thread-safe.
+     *
+     * @param directory    the directory to walk
+     * @param projectRoot  the project root path
+     * @param fileConsumer receives the files that are not ignored
+     * @param pool         the pool running the walk
+     * @throws IOException if the directories leading to the start of the walk
+     *                     cannot be checked
+     */
+    public void walkFilesInParallel(Path directory, Path projectRoot, Consumer<Path> fileConsumer,
+            ForkJoinPool pool) throws IOException {
+        Walk walk = new Walk(directory, projectRoot, fileConsumer);
+        pool.invoke(new DirectoryTask(walk, directory, startState(walk)));
+    }
+
+    /**
+     * Lists the files under a directory that should not be ignored.
+     *
+     * @param directory   the directory to walk
+     * @param projectRoot the project root path
+     * @return the files, in walk order
+     * @throws IOException if the directory cannot be walked
+     * @see #walkFiles(Path, Path, Consumer)
+     */
+    public List<Path> findFiles(Path directory, Path projectRoot) throws IOException {
+        List<Path> files = new ArrayList<>();
+        walkFiles(directory, projectRoot, files::add);
+        return files;
+    }
+
     /**
      * Check if a file should be ignored based on the configured patterns.
      * 
@@ -240,7 +367,8 @@ public class FileIgnoreFilter {
 
     /**
      * Checks if a file matches any of the configured ignore patterns.
-     * Tests both relative and absolute paths against all matchers.
+     * Literal patterns are matched against the relative path; glob patterns
+     * against both the relative and the absolute path.
      *
      * @param filePath    the absolute file path
      * @param projectRoot the project root path
@@ -252,10 +380,44 @@ public class FileIgnoreFilter {
             Path relativePath = projectRoot.relativize(filePath);
             String relativePathString = relativePath.toString().replace('\\', '/');
 
+            if (matchesLiteralPattern(relativePath)) {
+                logger.debug("File ignored by pattern (relative): {}", relativePathString);
+                return true;
+            }
+
+            return matchesGlobPattern(filePath, relativePath);
+        } catch (Exception e) {
+            logger.debug("Error checking patterns for {}: {}", filePath, e.getMessage());
+            return false; // Don't ignore on error
+        }
+    }
+
+    /**
+     * Checks a relative file path against the literal patterns: its parent
+     * directories against the patterns matching everything below, and the file
+     * itself against the patterns matching it exactly.
+     */
+    private boolean matchesLiteralPattern(Path relativePath) {
+        PatternNode[] matched = {anchoredPatterns};
+        int nameCount = relativePath.getNameCount();
+        for (int i = 0; i < nameCount; i++) {
+            matched = advance(matched, relativePath.getName(i).toString());
+            if (i < nameCount - 1 ? matchesDescendants(matched) : matchesSelf(matched)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks a file against the patterns that are matched as globs.
+     */
+    private boolean matchesGlobPattern(Path filePath, Path relativePath) {
+        try {
             // Check against all matchers using relative path
             for (PathMatcher matcher : ignoreMatchers) {
                 if (matcher.matches(relativePath)) {
-                    logger.debug("File ignored by pattern (relative): {}", relativePathString);
+                    logger.debug("File ignored by pattern (relative): {}", relativePath);
                     return true;
                 }
             }
@@ -275,6 +437,44 @@ public class FileIgnoreFilter {
         }
     }
 
+    /**
+     * Gets the trie nodes reached by appending a path segment to the paths
+     * that reached the given nodes. Floating patterns may start at any
+     * segment.
+     */
+    private PatternNode[] advance(PatternNode[] matched, String segment) {
+        List<PatternNode> next = new ArrayList<>(matched.length + 1);
+        for (PatternNode node : matched) {
+            PatternNode child = node.children.get(segment);
+            if (child != null) {
+                next.add(child);
+            }
+        }
+        PatternNode floating = floatingPatterns.children.get(segment);
+        if (floating != null) {
+            next.add(floating);
+        }
+        return next.toArray(new PatternNode[0]);
+    }
+
+    private static boolean matchesSelf(PatternNode[] matched) {
+        for (PatternNode node : matched) {
+            if (node.matchesSelf) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesDescendants(PatternNode[] matched) {
+        for (PatternNode node : matched) {
+            if (node.matchesDescendants) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Get all configured ignore patterns.
      *
@@ -302,6 +502,179 @@ public class FileIgnoreFilter {
         return !ignorePatterns.isEmpty();
     }
 
+    /**
+     * Node of a pattern trie, reached by the path segments leading to it.
+     */
+    private static final class PatternNode {
+        private final Map<String, PatternNode> children = new HashMap<>();
+        // A pattern ends here, matching the path itself or everything below it
+        private boolean matchesSelf;
+        private boolean matchesDescendants;
+    }
+
+    /**
+     * The trie nodes matched by a directory, and whether it is in a hidden
+     * directory.
+     */
+    private record DirectoryState(PatternNode[] matched, boolean hidden) {
+    }
+
+    /**
+     * The walk-wide settings shared by the directories of one walk.
+     */
+    private record Walk(Path start, Path projectRoot, Path analysisBinaries, Consumer<Path> fileConsumer) {
+
+        private Walk(Path start, Path projectRoot, Consumer<Path> fileConsumer) {
+            this(start, projectRoot, projectRoot.resolve(ANALYSIS_BINARIES), fileConsumer);
+        }
+    }
+
+    /**
+     * Matches the directories from the project root to the start of a walk.
+     */
+    private DirectoryState startState(Walk walk) throws IOException {
+        PatternNode[] matched = {anchoredPatterns};
+        boolean hidden = false;
+        Path start = walk.start();
+        Path projectRoot = walk.projectRoot();
+        if (start.startsWith(projectRoot) && !start.equals(projectRoot)) {
+            Path current = projectRoot;
+            for (Path segment : projectRoot.relativize(start)) {
+                current = current.resolve(segment);
+                matched = advance(matched, segment.toString());
+                hidden = !current.startsWith(walk.analysisBinaries()) && (hidden || Files.isHidden(current));
+            }
+        }
+        return new DirectoryState(matched, hidden);
+    }
+
+    /**
+     * Enters a subdirectory during a walk.
+     *
+     * @return the state of the directory, or null if it is skipped
+     */
+    private DirectoryState enterDirectory(Walk walk, DirectoryState parent, Path dir) throws IOException {
+        PatternNode[] matched = advance(parent.matched(), dir.getFileName().toString());
+        if (matchesDescendants(matched)) {
+            logger.debug("Skipping ignored directory: {}", dir);
+            return null;
+        }
+        Path analysisBinaries = walk.analysisBinaries();
+        boolean hidden = !dir.startsWith(analysisBinaries) && (parent.hidden() || Files.isHidden(dir));
+        // .analysis is hidden, but holds the exploded archives
+        if (hidden && !analysisBinaries.startsWith(dir)) {
+            logger.debug("Skipping hidden directory: {}", dir);
+            return null;
+        }
+        return new DirectoryState(matched, hidden);
+    }
+
+    /**
+     * Checks a file found during a walk.
+     *
+     * @return true if the file is not ignored
+     */
+    private boolean acceptFile(Walk walk, DirectoryState directory, Path file, BasicFileAttributes attrs)
+            throws IOException {
+        // Symbolic links are reported with their own attributes
+        if (!attrs.isRegularFile()) {
+            return false;
+        }
+        if (!file.startsWith(walk.analysisBinaries()) && (directory.hidden() || Files.isHidden(file))) {
+            logger.debug("Skipping hidden file: {}", file);
+            return false;
+        }
+        PatternNode[] matched = advance(directory.matched(), file.getFileName().toString());
+        if (matchesSelf(matched) || matchesGlobPattern(file, walk.projectRoot().relativize(file))) {
+            logger.debug("File ignored by pattern: {}", file);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * File visitor that keeps the state of each open directory and skips the
+     * directories that are ignored as a whole.
+     */
+    private final class PruningVisitor extends SimpleFileVisitor<Path> {
+        private final Walk walk;
+        private final Deque<DirectoryState> directories = new ArrayDeque<>();
+
+        private PruningVisitor(Walk walk) {
+            this.walk = walk;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+            DirectoryState state = dir.equals(walk.start())
+                    ? startState(walk)
+                    : enterDirectory(walk, directories.peek(), dir);
+            if (state == null) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            directories.push(state);
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+            if (acceptFile(walk, directories.peek(), file, attrs)) {
+                walk.fileConsumer().accept(file);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+            logger.debug("Error visiting {}: {}", file, exc.getMessage());
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+            directories.pop();
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    /**
+     * Fork-join task listing one directory: its files are passed to the
+     * consumer and its subdirectories are walked by subtasks.
+     */
+    private final class DirectoryTask extends RecursiveAction {
+        private final Walk walk;
+        private final Path directory;
+        private final DirectoryState state;
+
+        private DirectoryTask(Walk walk, Path directory, DirectoryState state) {
+            this.walk = walk;
+            this.directory = directory;
+            this.state = state;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryTask> subtasks = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    BasicFileAttributes attrs = Files.readAttributes(entry, BasicFileAttributes.class,
+                            LinkOption.NOFOLLOW_LINKS);
+                    if (attrs.isDirectory()) {
+                        DirectoryState child = enterDirectory(walk, state, entry);
+                        if (child != null) {
+                            subtasks.add(new DirectoryTask(walk, entry, child));
+                        }
+                    } else if (acceptFile(walk, state, entry, attrs)) {
+                        walk.fileConsumer().accept(entry);
+                    }
+                }
+            } catch (IOException e) {
+                logger.debug("Error visiting {}: {}", directory, e.getMessage());
+            }
+            invokeAll(subtasks);
+        }
+    }
+
     @Override
     public String toString() {
         return "FileIgnoreFilter{" +
@@ -0,0 +1,409 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+
+import java.util.*;
+
+/**
+ * Columnar storage of the edges of an {@link InMemoryGraphRepository}.
+ * <p>
+ * An edge is a position in parallel columns holding the ordinals of its source
+ * and target nodes and the id of its edge type; its property map is only
+ * allocated when a property is set. Edges are numbered in creation order,
+ * which makes their IDs deterministic, and are de-duplicated through an
+ * open-addressing hash table of positions keyed by (source, target, type),
+ * without building string keys. Adjacency lists and per-type lists hold
+ * positions too. Callers see the edges through {@link StoredEdge} flyweights.
+ * <p>
+ * Edges are never removed. Appends are serialized on the store; the columns
+ * are paged, so growing them copies no values, and the columns of an edge can
+ * be read without locking once its position is known. Properties are guarded
+ * by a lock of their own.
+ */
+final class EdgeStore {
+
+    static final String ID_PREFIX = "edge_";
+
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int EMPTY = -1;
+
+    // Edge columns, by page
+    private volatile int[][] sourcePages = new int[0][];
+    private volatile int[][] targetPages = new int[0][];
+    private volatile short[][] typePages = new short[0][];
+    private volatile int size;
+
+    // Edge types, numbered in order of appearance
+    private final Map<String, Short> typeIds = new HashMap<>();
+    private volatile String[] typeNames = new String[8];
+    private IntList[] edgesByType = new IntList[8];
+
+    // Nodes, numbered in order of registration; a replaced node keeps its ordinal
+    private final Map<String, Integer> nodeOrdinals = new HashMap<>();
+    private volatile GraphNode[] nodes = new GraphNode[64];
+    private IntList[] outgoing = new IntList[64];
+    private IntList[] incoming = new IntList[64];
+
+    // Open-addressing table of edge positions, at most half full
+    private int[] slots = emptySlots(1024);
+
+    // Lazily allocated property maps, by page
+    private final Object propertyLock = new Object();
+    private Map<String, Object>[][] propertyPages = newPropertyDirectory(0);
+
+    /**
+     * Registers a node, or replaces the node registered with the same ID.
+     *
+     * @param node the node
+     * @return the ordinal of the node
+     */
+    synchronized int registerNode(final GraphNode node) {
+        Integer ordinal = nodeOrdinals.get(node.getId());
+        if (null == ordinal) {
+            ordinal = nodeOrdinals.size();
+            if (ordinal == nodes.length) {
+                final int capacity = ordinal * 2;
+                outgoing = Arrays.copyOf(outgoing, capacity);
+                incoming = Arrays.copyOf(incoming, capacity);
+                nodes = Arrays.copyOf(nodes, capacity);
+            }
+            nodeOrdinals.put(node.getId(), ordinal);
+        }
+        nodes[ordinal] = node;
+        return ordinal;
+    }
+
+    /**
+     * Gets the edge with the given endpoints and type, adding it if it does
+     * not exist. Both nodes must be registered.
+     *
+     * @return the position of the edge if it was added, or
+     *         {@code -(position + 1)} if it already existed
+     */
+    synchronized int getOrAdd(final GraphNode source, final GraphNode target, final String edgeType) {
+        final int sourceOrdinal = requireOrdinal(source);
+        final int targetOrdinal = requireOrdinal(target);
+        final short type = typeId(edgeType);
+
+        final int mask = slots.length - 1;
+        int slot = hash(sourceOrdinal, targetOrdinal, type) & mask;
+        for (int edge; EMPTY != (edge = slots[slot]); slot = (slot + 1) & mask) {
+            if (sourceOrdinal(edge) == sourceOrdinal && targetOrdinal(edge) == targetOrdinal
+                    && typeId(edge) == type) {
+                return -(edge + 1);
+            }
+        }
+
+        final int edge = size;
+        final int page = edge >>> PAGE_BITS;
+        if (page == sourcePages.length) {
+            sourcePages = append(sourcePages, new int[PAGE_SIZE]);
+            targetPages = append(targetPages, new int[PAGE_SIZE]);
+            typePages = append(typePages, new short[PAGE_SIZE]);
+        }
+        sourcePages[page][edge & PAGE_MASK] = sourceOrdinal;
+        targetPages[page][edge & PAGE_MASK] = targetOrdinal;
+        typePages[page][edge & PAGE_MASK] = type;
+        slots[slot] = edge;
+        listOf(outgoing, sourceOrdinal).add(edge);
+        listOf(incoming, targetOrdinal).add(edge);
+        listOf(edgesByType, type).add(edge);
+        // Publishes the columns of the edge
+        size = edge + 1;
+
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return edge;
+    }
+
+    /**
+     * Gets the number of edges.
+     */
+    int size() {
+        return size;
+    }
+
+    GraphNode source(final int edge) {
+        return nodes[sourceOrdinal(edge)];
+    }
+
+    GraphNode target(final int edge) {
+        return nodes[targetOrdinal(edge)];
+    }
+
+    String edgeType(final int edge) {
+        return typeNames[typeId(edge)];
+    }
+
+    /**
+     * Finds an edge by the ID of one of its flyweights.
+     *
+     * @param id the edge ID
+     * @return the edge, or null if the ID does not belong to this store
+     */
+    GraphEdge edge(final String id) {
+        if (null == id || !id.startsWith(ID_PREFIX)) {
+            return null;
+        }
+        try {
+            final long edge = Long.parseLong(id, ID_PREFIX.length(), id.length(), 10);
+            return edge >= 0 && edge < size ? new StoredEdge(this, (int) edge) : null;
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the edges at positions [from, to).
+     */
+    List<GraphEdge> edges(final int from, final int to) {
+        return new EdgeList(null, from, to - from);
+    }
+
+    /**
+     * Gets the edges at the given positions.
+     */
+    List<GraphEdge> edges(final int[] positions) {
+        return new EdgeList(positions, 0, positions.length);
+    }
+
+    /**
+     * Gets the ordinals of the given nodes.
+     *
+     * @param nodeArray the nodes
+     * @return the ordinal of each node, or -1 for a node that is not registered
+     */
+    synchronized int[] ordinalsOf(final GraphNode[] nodeArray) {
+        final int[] ordinals = new int[nodeArray.length];
+        for (int i = 0; i < nodeArray.length; i++) {
+            final Integer ordinal = nodeOrdinals.get(nodeArray[i].getId());
+            ordinals[i] = null != ordinal ? ordinal : -1;
+        }
+        return ordinals;
+    }
+
+    synchronized int[] outgoingEdges(final GraphNode node) {
+        return toArray(outgoing, nodeOrdinals.get(node.getId()));
+    }
+
+    synchronized int[] incomingEdges(final GraphNode node) {
+        return toArray(incoming, nodeOrdinals.get(node.getId()));
+    }
+
+    /**
+     * Gets the positions of the edges of the given types, type by type.
+     */
+    synchronized int[] edgesOfTypes(final Set<String> edgeTypes) {
+        final IntList result = new IntList();
+        for (final String edgeType : edgeTypes) {
+            final Short type = typeIds.get(edgeType);
+            if (null != type && null != edgesByType[type]) {
+                result.addAll(edgesByType[type]);
+            }
+        }
+        return result.toArray();
+    }
+
+    /**
+     * Counts the edges of each type.
+     */
+    synchronized Map<String, Integer> countByType() {
+        final Map<String, Integer> counts = new HashMap<>();
+        typeIds.forEach((name, type) -> counts.put(name, edgesByType[type].size));
+        return counts;
+    }
+
+    Map<String, Object> getProperties(final int edge) {
+        synchronized (propertyLock) {
+            final Map<String, Object> properties = propertiesOf(edge, false);
+            return null != properties ? new HashMap<>(properties) : new HashMap<>();
+        }
+    }
+
+    void setProperty(final int edge, final String key, final Object value) {
+        synchronized (propertyLock) {
+            propertiesOf(edge, true).put(key, value);
+        }
+    }
+
+    Object getProperty(final int edge, final String key) {
+        synchronized (propertyLock) {
+            final Map<String, Object> properties = propertiesOf(edge, false);
+            return null != properties ? properties.get(key) : null;
+        }
+    }
+
+    boolean hasProperty(final int edge, final String key) {
+        synchronized (propertyLock) {
+            final Map<String, Object> properties = propertiesOf(edge, false);
+            return null != properties && properties.containsKey(key);
+        }
+    }
+
+    int sourceOrdinal(final int edge) {
+        return sourcePages[edge >>> PAGE_BITS][edge & PAGE_MASK];
+    }
+
+    int targetOrdinal(final int edge) {
+        return targetPages[edge >>> PAGE_BITS][edge & PAGE_MASK];
+    }
+
+    private short typeId(final int edge) {
+        return typePages[edge >>> PAGE_BITS][edge & PAGE_MASK];
+    }
+
+    private int requireOrdinal(final GraphNode node) {
+        final Integer ordinal = nodeOrdinals.get(node.getId());
+        if (null == ordinal) {
+            throw new IllegalStateException("Node is not registered with the edge store: " + node.getId());
+        }
+        return ordinal;
+    }
+
+    private short typeId(final String edgeType) {
+        final Short existing = typeIds.get(edgeType);
+        if (null != existing) {
+            return existing;
+        }
+        final int type = typeIds.size();
+        if (type > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many edge types: " + type);
+        }
+        if (type == typeNames.length) {
+            edgesByType = Arrays.copyOf(edgesByType, type * 2);
+            typeNames = Arrays.copyOf(typeNames, type * 2);
+        }
+        typeNames[type] = edgeType;
+        typeIds.put(edgeType, (short) type);
+        return (short) type;
+    }
+
+    private void rehash(final int capacity) {
+        slots = emptySlots(capacity);
+        final int mask = capacity - 1;
+        for (int edge = 0; edge < size; edge++) {
+            int slot = hash(sourceOrdinal(edge), targetOrdinal(edge), typeId(edge)) & mask;
+            while (EMPTY != slots[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = edge;
+        }
+    }
+
+    private Map<String, Object> propertiesOf(final int edge, final boolean create) {
+        if (edge < 0 || edge >= size) {
+            throw new IndexOutOfBoundsException("No such edge: " + edge);
+        }
+        final int page = edge >>> PAGE_BITS;
+        if (page >= propertyPages.length || null == propertyPages[page]) {
+            if (!create) {
+                return null;
+            }
+            if (page >= propertyPages.length) {
+                propertyPages = Arrays.copyOf(propertyPages, Math.max(page + 1, propertyPages.length * 2));
+            }
+            propertyPages[page] = newPropertyPage();
+        }
+        Map<String, Object> properties = propertyPages[page][edge & PAGE_MASK];
+        if (null == properties && create) {
+            properties = new HashMap<>(4);
+            propertyPages[page][edge & PAGE_MASK] = properties;
+        }
+        return properties;
+    }
+
+    private static int hash(final int source, final int target, final short type) {
+        long h = (((long) source << 32) | (target & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L;
+        h ^= type * 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static IntList listOf(final IntList[] lists, final int index) {
+        IntList list = lists[index];
+        if (null == list) {
+            list = new IntList();
+            lists[index] = list;
+        }
+        return list;
+    }
+
+    private static int[] toArray(final IntList[] lists, final Integer index) {
+        return null == index || null == lists[index] ? new int[0] : lists[index].toArray();
+    }
+
+    private static <T> T[] append(final T[] pages, final T page) {
+        final T[] result = Arrays.copyOf(pages, pages.length + 1);
+        result[pages.length] = page;
+        return result;
+    }
+
+    private static int[] emptySlots(final int capacity) {
+        final int[] result = new int[capacity];
+        Arrays.fill(result, EMPTY);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object>[][] newPropertyDirectory(final int pages) {
+        return (Map<String, Object>[][]) new Map<?, ?>[pages][];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object>[] newPropertyPage() {
+        return (Map<String, Object>[]) new Map<?, ?>[PAGE_SIZE];
+    }
+
+    /**
+     * Flyweights of a range of positions, or of a slice of a position array.
+     */
+    private final class EdgeList extends AbstractList<GraphEdge> implements RandomAccess {
+        private final int[] positions;
+        private final int offset;
+        private final int length;
+
+        EdgeList(final int[] positions, final int offset, final int length) {
+            this.positions = positions;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public GraphEdge get(final int index) {
+            Objects.checkIndex(index, length);
+            return new StoredEdge(EdgeStore.this, null != positions ? positions[offset + index] : offset + index);
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void addAll(final IntList other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+import org.jgrapht.Graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable, primitive-indexed snapshot of a subgraph of the repository,
+ * served by {@link GraphViewService}.
+ * <p>
+ * Nodes are numbered by ordinal, and the adjacency is stored in compressed
+ * sparse row (CSR) form: the successors of node {@code v} are
+ * {@code successors()[successorOffsets()[v] .. successorOffsets()[v + 1])},
+ * and the edge at each position is {@link #outgoingEdge(int)}; predecessors are
+ * stored the same way. Graph algorithms should work on the int arrays; code
+ * written against JGraphT can use the read-only adapter of {@link #asGraph()},
+ * which is backed by the same arrays.
+ * <p>
+ * A view of an {@link InMemoryGraphRepository} is built from the node
+ * ordinals of its {@link EdgeStore} and keeps the store positions of its
+ * edges, creating edge flyweights only when asked for one. Ordinals are
+ * looked up by node ID in an open-addressing table of ints.
+ * <p>
+ * The arrays returned by the accessors are shared by all users of the view
+ * and must not be modified.
+ */
+public final class GraphView {
+
+    private static final int EMPTY = -1;
+
+    private final long modificationCount;
+    private final GraphNode[] nodes;
+    // Open-addressing table of node ordinals keyed by node ID, at most half full
+    private final int[] ordinalSlots;
+    private final int[] successorOffsets;
+    private final int[] successors;
+    private final int[] outgoingEdges;
+    private final int[] predecessorOffsets;
+    private final int[] predecessors;
+    private final int[] incomingEdges;
+    // Resolves the edge IDs of the rows: store positions, or indexes of edgeArray
+    private final EdgeStore store;
+    private final GraphEdge[] edgeArray;
+    private volatile Graph<GraphNode, GraphEdge> graph;
+
+    private GraphView(long modificationCount, GraphNode[] nodes, int[] ordinalSlots, Rows rows, EdgeStore store,
+            GraphEdge[] edgeArray) {
+        this.modificationCount = modificationCount;
+        this.nodes = nodes;
+        this.ordinalSlots = ordinalSlots;
+        this.successorOffsets = rows.successorOffsets;
+        this.successors = rows.successors;
+        this.outgoingEdges = rows.outgoingEdges;
+        this.predecessorOffsets = rows.predecessorOffsets;
+        this.predecessors = rows.predecessors;
+        this.incomingEdges = rows.incomingEdges;
+        this.store = store;
+        this.edgeArray = edgeArray;
+    }
+
+    /**
+     * Builds a view of the given nodes and of the given edges between them.
+     * Edges with an endpoint outside the nodes are left out, as in
+     * {@link com.analyzer.api.graph.GraphRepository#buildGraph(java.util.Set, java.util.Set)}.
+     *
+     * @param nodeCollection    the nodes, in ordinal order
+     * @param edgeCollection    the candidate edges
+     * @param modificationCount the repository modification count the nodes and
+     *                          edges were read at
+     * @return the view
+     */
+    static GraphView build(Collection<GraphNode> nodeCollection, Collection<GraphEdge> edgeCollection,
+            long modificationCount) {
+        GraphNode[] nodes = nodeCollection.toArray(new GraphNode[0]);
+        int[] ordinalSlots = indexOrdinals(nodes);
+
+        GraphEdge[] edges = edgeCollection.toArray(new GraphEdge[0]);
+        int[] sources = new int[edges.length];
+        int[] targets = new int[edges.length];
+        int[] edgeIds = new int[edges.length];
+        int edgeCount = 0;
+        for (GraphEdge edge : edges) {
+            int source = lookup(ordinalSlots, nodes, edge.getSource().getId());
+            int target = lookup(ordinalSlots, nodes, edge.getTarget().getId());
+            if (source >= 0 && target >= 0) {
+                edges[edgeCount] = edge;
+                sources[edgeCount] = source;
+                targets[edgeCount] = target;
+                edgeIds[edgeCount] = edgeCount;
+                edgeCount++;
+            }
+        }
+
+        return new GraphView(modificationCount, nodes, ordinalSlots,
+                Rows.of(nodes.length, sources, targets, edgeIds, edgeCount), null,
+                Arrays.copyOf(edges, edgeCount));
+    }
+
+    /**
+     * Builds a view of the given nodes and of the edges of an edge store
+     * between them, reading the node ordinals of the edges from the store.
+     *
+     * @param nodeCollection    the nodes, in ordinal order
+     * @param store             the edge store of the repository
+     * @param positions         the positions of the candidate edges, or null
+     *                          for all edges of the store
+     * @param modificationCount the repository modification count the nodes and
+     *                          edges were read at
+     * @return the view
+     */
+    static GraphView build(Collection<GraphNode> nodeCollection, EdgeStore store, int[] positions,
+            long modificationCount) {
+        GraphNode[] nodes = nodeCollection.toArray(new GraphNode[0]);
+        int[] ordinalSlots = indexOrdinals(nodes);
+
+        // View ordinal of each store ordinal, or -1 outside the view
+        int[] storeOrdinals = store.ordinalsOf(nodes);
+        int[] viewOrdinals = new int[Arrays.stream(storeOrdinals).max().orElse(-1) + 1];
+        Arrays.fill(viewOrdinals, -1);
+        for (int i = 0; i < nodes.length; i++) {
+            if (storeOrdinals[i] >= 0) {
+                viewOrdinals[storeOrdinals[i]] = i;
+            }
+        }
+
+        int candidates = positions != null ? positions.length : store.size();
+        int[] sources = new int[candidates];
+        int[] targets = new int[candidates];
+        int[] edgeIds = new int[candidates];
+        int edgeCount = 0;
+        for (int i = 0; i < candidates; i++) {
+            int position = positions != null ? positions[i] : i;
+            int source = viewOrdinal(viewOrdinals, store.sourceOrdinal(position));
+            int target = viewOrdinal(viewOrdinals, store.targetOrdinal(position));
+            if (source >= 0 && target >= 0) {
+                sources[edgeCount] = source;
+                targets[edgeCount] = target;
+                edgeIds[edgeCount] = position;
+                edgeCount++;
+            }
+        }
+
+        return new GraphView(modificationCount, nodes, ordinalSlots,
+                Rows.of(nodes.length, sources, targets, edgeIds, edgeCount), store, null);
+    }
+
+    /**
+     * Gets the repository modification count this view was built at.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Gets the number of nodes.
+     */
+    public int nodeCount() {
+        return nodes.length;
+    }
+
+    /**
+     * Gets the number of edges.
+     */
+    public int edgeCount() {
+        return successors.length;
+    }
+
+    /**
+     * Gets a node by ordinal.
+     *
+     * @param ordinal the node ordinal
+     * @return the node
+     */
+    public GraphNode node(int ordinal) {
+        return nodes[ordinal];
+    }
+
+    /**
+     * Gets the ordinal of a node, matched by ID.
+     *
+     * @param node the node
+     * @return the ordinal, or -1 if the node is not part of the view
+     */
+    public int ordinalOf(GraphNode node) {
+        return lookup(ordinalSlots, nodes, node.getId());
+    }
+
+    /**
+     * Gets the number of edges leaving a node.
+     *
+     * @param ordinal the node ordinal
+     * @return the out-degree
+     */
+    public int outDegree(int ordinal) {
+        return successorOffsets[ordinal + 1] - successorOffsets[ordinal];
+    }
+
+    /**
+     * Gets the number of edges entering a node.
+     *
+     * @param ordinal the node ordinal
+     * @return the in-degree
+     */
+    public int inDegree(int ordinal) {
+        return predecessorOffsets[ordinal + 1] - predecessorOffsets[ordinal];
+    }
+
+    /**
+     * Gets the start of the successors of each node, {@code nodeCount() + 1}
+     * entries.
+     */
+    public int[] successorOffsets() {
+        return successorOffsets;
+    }
+
+    /**
+     * Gets the successor ordinals of all nodes, by row.
+     */
+    public int[] successors() {
+        return successors;
+    }
+
+    /**
+     * Gets the start of the predecessors of each node, {@code nodeCount() + 1}
+     * entries.
+     */
+    public int[] predecessorOffsets() {
+        return predecessorOffsets;
+    }
+
+    /**
+     * Gets the predecessor ordinals of all nodes, by row.
+     */
+    public int[] predecessors() {
+        return predecessors;
+    }
+
+    /**
+     * Gets the edge at a position of {@link #successors()}.
+     *
+     * @param position the position
+     * @return the edge
+     */
+    public GraphEdge outgoingEdge(int position) {
+        return edge(outgoingEdges[position]);
+    }
+
+    /**
+     * Gets the edge at a position of {@link #predecessors()}.
+     *
+     * @param position the position
+     * @return the edge
+     */
+    public GraphEdge incomingEdge(int position) {
+        return edge(incomingEdges[position]);
+    }
+
+    /**
+     * Gets a read-only JGraphT graph backed by this view, for existing
+     * algorithm code. Nothing is copied.
+     *
+     * @return the graph
+     */
+    public Graph<GraphNode, GraphEdge> asGraph() {
+        Graph<GraphNode, GraphEdge> result = graph;
+        if (result == null) {
+            result = new GraphViewGraph(this);
+            graph = result;
+        }
+        return result;
+    }
+
+    private GraphEdge edge(int edgeId) {
+        return store != null ? new StoredEdge(store, edgeId) : edgeArray[edgeId];
+    }
+
+    private static int viewOrdinal(int[] viewOrdinals, int storeOrdinal) {
+        return storeOrdinal < viewOrdinals.length ? viewOrdinals[storeOrdinal] : -1;
+    }
+
+    private static int[] indexOrdinals(GraphNode[] nodes) {
+        int capacity = 16;
+        while (capacity < nodes.length * 2) {
+            capacity <<= 1;
+        }
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        int mask = capacity - 1;
+        for (int ordinal = 0; ordinal < nodes.length; ordinal++) {
+            int slot = hash(nodes[ordinal].getId()) & mask;
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = ordinal;
+        }
+        return slots;
+    }
+
+    private static int lookup(int[] slots, GraphNode[] nodes, String id) {
+        if (id == null) {
+            return -1;
+        }
+        int mask = slots.length - 1;
+        for (int slot = hash(id) & mask, ordinal; (ordinal = slots[slot]) != EMPTY; slot = (slot + 1) & mask) {
+            if (id.equals(nodes[ordinal].getId())) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    private static int hash(String id) {
+        int h = id.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * The CSR arrays of a view, with the ID of the edge at each position.
+     */
+    private record Rows(int[] successorOffsets, int[] successors, int[] outgoingEdges,
+            int[] predecessorOffsets, int[] predecessors, int[] incomingEdges) {
+
+        static Rows of(int nodeCount, int[] sources, int[] targets, int[] edgeIds, int edgeCount) {
+            int[] successorOffsets = new int[nodeCount + 1];
+            int[] predecessorOffsets = new int[nodeCount + 1];
+            for (int e = 0; e < edgeCount; e++) {
+                successorOffsets[sources[e] + 1]++;
+                predecessorOffsets[targets[e] + 1]++;
+            }
+            for (int v = 0; v < nodeCount; v++) {
+                successorOffsets[v + 1] += successorOffsets[v];
+                predecessorOffsets[v + 1] += predecessorOffsets[v];
+            }
+
+            // Edges keep their relative order within each row
+            int[] successors = new int[edgeCount];
+            int[] predecessors = new int[edgeCount];
+            int[] outgoingEdges = new int[edgeCount];
+            int[] incomingEdges = new int[edgeCount];
+            int[] nextOut = new int[nodeCount];
+            int[] nextIn = new int[nodeCount];
+            for (int e = 0; e < edgeCount; e++) {
+                int out = successorOffsets[sources[e]] + nextOut[sources[e]]++;
+                successors[out] = targets[e];
+                outgoingEdges[out] = edgeIds[e];
+                int in = predecessorOffsets[targets[e]] + nextIn[targets[e]]++;
+                predecessors[in] = sources[e];
+                incomingEdges[in] = edgeIds[e];
+            }
+            return new Rows(successorOffsets, successors, outgoingEdges, predecessorOffsets, predecessors,
+                    incomingEdges);
+        }
+    }
+}
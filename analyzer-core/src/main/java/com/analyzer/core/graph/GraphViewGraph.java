@@ -0,0 +1,336 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.DefaultGraphType;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Read-only JGraphT adapter over a {@link GraphView}. Vertex and edge sets are
+ * views of the CSR arrays; all mutators throw
+ * {@link UnsupportedOperationException}.
+ */
+final class GraphViewGraph implements Graph<GraphNode, GraphEdge> {
+
+    private static final GraphType TYPE = DefaultGraphType.directedPseudograph().asUnmodifiable();
+
+    private final GraphView view;
+    private final Set<GraphNode> vertexSet;
+    private final Set<GraphEdge> edgeSet;
+
+    GraphViewGraph(GraphView view) {
+        this.view = view;
+        this.vertexSet = new AbstractSet<>() {
+            @Override
+            public Iterator<GraphNode> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < view.nodeCount();
+                    }
+
+                    @Override
+                    public GraphNode next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return view.node(next++);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return view.nodeCount();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof GraphNode node && containsVertex(node);
+            }
+        };
+        this.edgeSet = new AbstractSet<>() {
+            @Override
+            public Iterator<GraphEdge> iterator() {
+                return new EdgeRange(true, 0, view.edgeCount()).iterator();
+            }
+
+            @Override
+            public int size() {
+                return view.edgeCount();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof GraphEdge edge && containsEdge(edge);
+            }
+        };
+    }
+
+    @Override
+    public Set<GraphEdge> getAllEdges(GraphNode sourceVertex, GraphNode targetVertex) {
+        int source = view.ordinalOf(sourceVertex);
+        int target = view.ordinalOf(targetVertex);
+        if (source < 0 || target < 0) {
+            return null;
+        }
+        Set<GraphEdge> result = new LinkedHashSet<>();
+        int[] offsets = view.successorOffsets();
+        for (int e = offsets[source]; e < offsets[source + 1]; e++) {
+            if (view.successors()[e] == target) {
+                result.add(view.outgoingEdge(e));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public GraphEdge getEdge(GraphNode sourceVertex, GraphNode targetVertex) {
+        int source = view.ordinalOf(sourceVertex);
+        int target = view.ordinalOf(targetVertex);
+        if (source < 0 || target < 0) {
+            return null;
+        }
+        int[] offsets = view.successorOffsets();
+        for (int e = offsets[source]; e < offsets[source + 1]; e++) {
+            if (view.successors()[e] == target) {
+                return view.outgoingEdge(e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Supplier<GraphNode> getVertexSupplier() {
+        return null;
+    }
+
+    @Override
+    public Supplier<GraphEdge> getEdgeSupplier() {
+        return null;
+    }
+
+    @Override
+    public GraphEdge addEdge(GraphNode sourceVertex, GraphNode targetVertex) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addEdge(GraphNode sourceVertex, GraphNode targetVertex, GraphEdge e) {
+        throw readOnly();
+    }
+
+    @Override
+    public GraphNode addVertex() {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addVertex(GraphNode v) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean containsEdge(GraphNode sourceVertex, GraphNode targetVertex) {
+        return getEdge(sourceVertex, targetVertex) != null;
+    }
+
+    @Override
+    public boolean containsEdge(GraphEdge e) {
+        return positionOf(e) >= 0;
+    }
+
+    @Override
+    public boolean containsVertex(GraphNode v) {
+        return v != null && view.ordinalOf(v) >= 0;
+    }
+
+    @Override
+    public Set<GraphEdge> edgeSet() {
+        return edgeSet;
+    }
+
+    @Override
+    public int degreeOf(GraphNode vertex) {
+        int ordinal = ordinalOf(vertex);
+        return view.inDegree(ordinal) + view.outDegree(ordinal);
+    }
+
+    @Override
+    public Set<GraphEdge> edgesOf(GraphNode vertex) {
+        Set<GraphEdge> result = new LinkedHashSet<>(outgoingEdgesOf(vertex));
+        result.addAll(incomingEdgesOf(vertex));
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public int inDegreeOf(GraphNode vertex) {
+        return view.inDegree(ordinalOf(vertex));
+    }
+
+    @Override
+    public Set<GraphEdge> incomingEdgesOf(GraphNode vertex) {
+        int ordinal = ordinalOf(vertex);
+        return new EdgeRange(false, view.predecessorOffsets()[ordinal], view.predecessorOffsets()[ordinal + 1]);
+    }
+
+    @Override
+    public int outDegreeOf(GraphNode vertex) {
+        return view.outDegree(ordinalOf(vertex));
+    }
+
+    @Override
+    public Set<GraphEdge> outgoingEdgesOf(GraphNode vertex) {
+        int ordinal = ordinalOf(vertex);
+        return new EdgeRange(true, view.successorOffsets()[ordinal], view.successorOffsets()[ordinal + 1]);
+    }
+
+    @Override
+    public boolean removeAllEdges(Collection<? extends GraphEdge> edges) {
+        throw readOnly();
+    }
+
+    @Override
+    public Set<GraphEdge> removeAllEdges(GraphNode sourceVertex, GraphNode targetVertex) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeAllVertices(Collection<? extends GraphNode> vertices) {
+        throw readOnly();
+    }
+
+    @Override
+    public GraphEdge removeEdge(GraphNode sourceVertex, GraphNode targetVertex) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeEdge(GraphEdge e) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeVertex(GraphNode v) {
+        throw readOnly();
+    }
+
+    @Override
+    public Set<GraphNode> vertexSet() {
+        return vertexSet;
+    }
+
+    @Override
+    public GraphNode getEdgeSource(GraphEdge e) {
+        requirePosition(e);
+        // Found in the row of its source
+        return view.node(view.ordinalOf(e.getSource()));
+    }
+
+    @Override
+    public GraphNode getEdgeTarget(GraphEdge e) {
+        return view.node(view.successors()[requirePosition(e)]);
+    }
+
+    @Override
+    public GraphType getType() {
+        return TYPE;
+    }
+
+    @Override
+    public double getEdgeWeight(GraphEdge e) {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(GraphEdge e, double weight) {
+        throw readOnly();
+    }
+
+    private int ordinalOf(GraphNode vertex) {
+        int ordinal = vertex != null ? view.ordinalOf(vertex) : -1;
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("no such vertex in graph: " + vertex);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Finds the position of an edge in the successor rows, or -1.
+     */
+    private int positionOf(GraphEdge e) {
+        if (e == null) {
+            return -1;
+        }
+        int source = view.ordinalOf(e.getSource());
+        if (source < 0) {
+            return -1;
+        }
+        int[] offsets = view.successorOffsets();
+        for (int position = offsets[source]; position < offsets[source + 1]; position++) {
+            if (view.outgoingEdge(position).equals(e)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private int requirePosition(GraphEdge e) {
+        int position = positionOf(e);
+        if (position < 0) {
+            throw new IllegalArgumentException("no such edge in graph: " + e);
+        }
+        return position;
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Graph views are read-only");
+    }
+
+    /**
+     * The edges at positions [from, to) of the successor or predecessor rows.
+     */
+    private final class EdgeRange extends AbstractSet<GraphEdge> {
+        private final boolean outgoing;
+        private final int from;
+        private final int to;
+
+        EdgeRange(boolean outgoing, int from, int to) {
+            this.outgoing = outgoing;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<GraphEdge> iterator() {
+            return new Iterator<>() {
+                private int next = from;
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                public GraphEdge next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int position = next++;
+                    return outgoing ? view.outgoingEdge(position) : view.incomingEdge(position);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
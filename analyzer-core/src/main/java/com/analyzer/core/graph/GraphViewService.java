@@ -0,0 +1,100 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.graph.GraphRepository;
+import org.jgrapht.Graph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves shared, read-only {@link GraphView}s of the graph repository, keyed by
+ * node and edge types.
+ * <p>
+ * Views are built on first use and shared by all callers, typically the
+ * global inspectors of phase 5 that analyze the same coupling graph. A view is
+ * rebuilt when the repository's modification count changed since it was
+ * built, so callers always see the current nodes and edges without keeping a
+ * private copy of the graph. Tag, property and metric changes do not
+ * invalidate views.
+ */
+public class GraphViewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GraphViewService.class);
+
+    private record ViewKey(Set<String> nodeTypes, Set<String> edgeTypes) {
+    }
+
+    private final GraphRepository graphRepository;
+    private final Map<ViewKey, GraphView> views = new ConcurrentHashMap<>();
+
+    @Inject
+    public GraphViewService(GraphRepository graphRepository) {
+        this.graphRepository = graphRepository;
+    }
+
+    /**
+     * Gets the view of the nodes of the given types and of the edges of the
+     * given types between them.
+     *
+     * @param nodeTypes the node types to include (null or empty means all types)
+     * @param edgeTypes the edge types to include (null or empty means all types)
+     * @return the current view
+     */
+    public GraphView getView(Set<String> nodeTypes, Set<String> edgeTypes) {
+        ViewKey key = new ViewKey(copyOf(nodeTypes), copyOf(edgeTypes));
+        GraphView view = views.get(key);
+        if (view != null && view.getModificationCount() == graphRepository.getModificationCount()) {
+            return view;
+        }
+        // Built once per key, even if several inspectors ask at the same time
+        return views.compute(key, (k, current) -> isCurrent(current) ? current : build(k));
+    }
+
+    /**
+     * Gets a read-only JGraphT graph backed by the current view, for code
+     * written against JGraphT.
+     *
+     * @param nodeTypes the node types to include (null or empty means all types)
+     * @param edgeTypes the edge types to include (null or empty means all types)
+     * @return the graph
+     * @see GraphView#asGraph()
+     */
+    public Graph<GraphNode, GraphEdge> getGraph(Set<String> nodeTypes, Set<String> edgeTypes) {
+        return getView(nodeTypes, edgeTypes).asGraph();
+    }
+
+    /**
+     * Drops all views, releasing their memory.
+     */
+    public void clear() {
+        views.clear();
+    }
+
+    private boolean isCurrent(GraphView view) {
+        return view != null && view.getModificationCount() == graphRepository.getModificationCount();
+    }
+
+    private GraphView build(ViewKey key) {
+        // Read the count first: a change made while building makes the view stale
+        long modificationCount = graphRepository.getModificationCount();
+        long start = System.nanoTime();
+        GraphView view = graphRepository instanceof final InMemoryGraphRepository memoryRepository
+                ? memoryRepository.buildView(key.nodeTypes(), key.edgeTypes(), modificationCount)
+                : GraphView.build(graphRepository.getNodesByType(key.nodeTypes()),
+                        graphRepository.getEdgesByType(key.edgeTypes()), modificationCount);
+        logger.info("Built graph view of {} nodes and {} edges (node types {}, edge types {}) in {} ms",
+                view.nodeCount(), view.edgeCount(), key.nodeTypes(), key.edgeTypes(),
+                (System.nanoTime() - start) / 1_000_000);
+        return view;
+    }
+
+    private static Set<String> copyOf(Set<String> types) {
+        return types == null ? Set.of() : Set.copyOf(types);
+    }
+}
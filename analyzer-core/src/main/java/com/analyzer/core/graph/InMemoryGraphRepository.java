@@ -1,9 +1,11 @@
 package com.analyzer.core.graph;
 
+import com.analyzer.api.graph.BaseGraphNode;
 import com.analyzer.api.graph.GraphEdge;
 import com.analyzer.api.graph.GraphNode;
 import com.analyzer.api.graph.GraphRepository;
 import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.graph.TagChangeListener;
 import org.jgrapht.Graph;
 import org.jgrapht.graph.DirectedMultigraph;
 import org.slf4j.Logger;
@@ -11,11 +13,24 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * In-memory implementation of GraphRepository.
  * Thread-safe implementation using concurrent data structures.
+ * <p>
+ * Besides the primary maps, the repository maintains secondary indexes of the
+ * nodes by type, by class and by tag, of the edges by type, and the outgoing
+ * and incoming edges of every node, so that lookups cost the size of their
+ * result instead of a scan of the whole graph. The type and class indexes are
+ * updated when a node is added or replaced; the tag index follows the tag
+ * changes of the nodes through a {@link TagChangeListener}, whoever makes
+ * them. Nodes that do not extend {@link BaseGraphNode} cannot publish their
+ * tag changes and are checked one by one on tag lookups instead.
+ * <p>
+ * Edges live in a columnar {@link EdgeStore} that keeps node ordinals and an
+ * edge type id per edge instead of edge objects, and are returned as
+ * flyweights. Edge IDs are the creation order of the edges.
  */
 public class InMemoryGraphRepository implements GraphRepository {
 
@@ -23,30 +38,41 @@ public class InMemoryGraphRepository implements GraphRepository {
 
     // Primary storage
     private final Map<String, GraphNode> nodes = new ConcurrentHashMap<>(100);
-    private final Map<String, GraphEdge> edges = new ConcurrentHashMap<>(100);
-
-    // Index for efficient edge lookups by source-target-type combination
-    private final Map<String, GraphEdge> edgeIndex = new ConcurrentHashMap<>(100);
+    // Replaced on clear(), so that edges returned before stay readable
+    private volatile EdgeStore edgeStore = new EdgeStore();
 
     // Index for efficient class lookups by FQN
     private final Map<String, JavaClassNode> classFqnIndex = new ConcurrentHashMap<>(100);
 
+    // Edges created since the last markClean() are the positions from here on
+    private volatile int cleanEdgeCount;
+
+    // Secondary node indexes
+    private final Map<String, Set<GraphNode>> nodesByType = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<GraphNode>> nodesByClass = new ConcurrentHashMap<>();
+    private final Map<String, Set<GraphNode>> nodesByTag = new ConcurrentHashMap<>();
+    // Nodes whose tag changes cannot be observed
+    private final Set<GraphNode> untrackedTagNodes = ConcurrentHashMap.newKeySet();
+    private final TagChangeListener tagIndexer = this::tagChanged;
+
+    // Incremented after every structural change is visible in the indexes
+    private final AtomicLong modificationCount = new AtomicLong();
+
     @Override
     public final GraphNode getOrCreateNode(final GraphNode node) {
         Objects.requireNonNull(node, "Node cannot be null");
         final String nodeId = node.getId();
         Objects.requireNonNull(nodeId, "Node ID cannot be null");
 
-        final GraphNode existingNode = nodes.get(nodeId);
-        if (null != existingNode) {
+        final GraphNode storedNode = nodes.computeIfAbsent(nodeId, id -> {
+            index(node);
+            return node;
+        });
+        if (storedNode != node) {
             logger.debug("Returning existing node with ID: {}", nodeId);
-            return existingNode;
+            return storedNode;
         }
 
-        nodes.put(nodeId, node);
-        if (node instanceof final JavaClassNode classNode) {
-            classFqnIndex.put(classNode.getFullyQualifiedName(), classNode);
-        }
         logger.debug("Added new node with ID: {} and type: {}", nodeId, node.getNodeType());
         return node;
     }
@@ -57,22 +83,18 @@ public class InMemoryGraphRepository implements GraphRepository {
         Objects.requireNonNull(target, "Target node cannot be null");
         Objects.requireNonNull(edgeType, "Edge type cannot be null");
 
-        final String edgeKey = createEdgeKey(source.getId(), target.getId(), edgeType);
-        final GraphEdge existingEdge = edgeIndex.get(edgeKey);
-
-        if (null != existingEdge) {
-            logger.debug("Returning existing edge: {} -> {} ({})", source.getId(), target.getId(), edgeType);
-            return existingEdge;
-        }
-
-        // Ensure both nodes are in the repository
+        // Ensure both nodes are in the repository, which gives them ordinals
         getOrCreateNode(source);
         getOrCreateNode(target);
 
-        // Create new edge with auto-generated ID
-        final GraphEdge newEdge = new GraphEdge(source, target, edgeType);
-        edges.put(newEdge.getId(), newEdge);
-        edgeIndex.put(edgeKey, newEdge);
+        final EdgeStore store = edgeStore;
+        final int position = store.getOrAdd(source, target, edgeType);
+        if (position < 0) {
+            logger.debug("Returning existing edge: {} -> {} ({})", source.getId(), target.getId(), edgeType);
+            return new StoredEdge(store, -(position + 1));
+        }
+        final GraphEdge newEdge = new StoredEdge(store, position);
+        modificationCount.incrementAndGet();
 
         logger.debug("Added new edge: {} -> {} ({}) with ID: {}",
                 source.getId(), target.getId(), edgeType, newEdge.getId());
@@ -83,10 +105,16 @@ public class InMemoryGraphRepository implements GraphRepository {
     public final void addNode(final GraphNode node) {
         Objects.requireNonNull(node, "Node cannot be null");
         Objects.requireNonNull(node.getId(), "Node ID cannot be null");
-        nodes.put(node.getId(), node);
-        if (node instanceof final JavaClassNode classNode) {
-            classFqnIndex.put(classNode.getFullyQualifiedName(), classNode);
-        }
+        // Re-index atomically with the replacement of a node with the same ID
+        nodes.compute(node.getId(), (id, previous) -> {
+            if (previous != node) {
+                if (null != previous) {
+                    unindex(previous);
+                }
+                index(node);
+            }
+            return node;
+        });
     }
 
     @Override
@@ -96,7 +124,7 @@ public class InMemoryGraphRepository implements GraphRepository {
 
     @Override
     public final Optional<GraphEdge> getEdge(final String edgeId) {
-        return Optional.ofNullable(edges.get(edgeId));
+        return Optional.ofNullable(edgeStore.edge(edgeId));
     }
 
     @Override
@@ -105,10 +133,7 @@ public class InMemoryGraphRepository implements GraphRepository {
             return getNodes();
         }
 
-        final Collection<GraphNode> values = nodes.values();
-        return values.stream()
-                     .filter(node -> nodeTypes.contains(node.getNodeType()))
-                     .toList();
+        return union(nodesByType, nodeTypes);
     }
 
     @Override
@@ -117,10 +142,27 @@ public class InMemoryGraphRepository implements GraphRepository {
             return getAllEdges();
         }
 
-        final Collection<GraphEdge> graphEdges = edges.values();
-        return graphEdges.stream()
-                         .filter(edge -> edgeTypes.contains(edge.getEdgeType()))
-                         .toList();
+        final EdgeStore store = edgeStore;
+        return store.edges(store.edgesOfTypes(edgeTypes));
+    }
+
+    /**
+     * Builds a view of the nodes of the given types and of the edges of the
+     * given types between them, straight from the node ordinals of the edge
+     * store.
+     *
+     * @param nodeTypes         the node types to include (null or empty means all
+     *                          types)
+     * @param edgeTypes         the edge types to include (null or empty means all
+     *                          types)
+     * @param modificationCount the modification count read before the call
+     * @return the view
+     */
+    final GraphView buildView(final Set<String> nodeTypes, final Set<String> edgeTypes,
+            final long modificationCount) {
+        final EdgeStore store = edgeStore;
+        final int[] positions = null == edgeTypes || edgeTypes.isEmpty() ? null : store.edgesOfTypes(edgeTypes);
+        return GraphView.build(getNodesByType(nodeTypes), store, positions, modificationCount);
     }
 
     @Override
@@ -130,7 +172,8 @@ public class InMemoryGraphRepository implements GraphRepository {
 
     @Override
     public final Collection<GraphEdge> getAllEdges() {
-        return Collections.unmodifiableCollection(edges.values());
+        final EdgeStore store = edgeStore;
+        return store.edges(0, store.size());
     }
 
     @Override
@@ -168,9 +211,20 @@ public class InMemoryGraphRepository implements GraphRepository {
     @Override
     public final void clear() {
         logger.info("Clearing graph repository");
+        for (final GraphNode node : nodes.values()) {
+            if (node instanceof final BaseGraphNode baseNode) {
+                baseNode.removeTagChangeListener(tagIndexer);
+            }
+        }
         nodes.clear();
-        edges.clear();
-        edgeIndex.clear();
+        edgeStore = new EdgeStore();
+        cleanEdgeCount = 0;
+        classFqnIndex.clear();
+        nodesByType.clear();
+        nodesByClass.clear();
+        nodesByTag.clear();
+        untrackedTagNodes.clear();
+        modificationCount.incrementAndGet();
     }
 
     @Override
@@ -180,7 +234,7 @@ public class InMemoryGraphRepository implements GraphRepository {
 
     @Override
     public final int getEdgeCount() {
-        return edges.size();
+        return edgeStore.size();
     }
 
     @Override
@@ -191,10 +245,14 @@ public class InMemoryGraphRepository implements GraphRepository {
     @Override
     @SuppressWarnings("unchecked")
     public final <T extends GraphNode> Collection<T> getNodesByClass(final Class<T> nodeClass) {
-        final Collection<GraphNode> values = nodes.values();
-        return (Collection<T>) values.stream()
-                                     .filter(nodeClass::isInstance)
-                                     .toList();
+        // Few concrete node classes, each indexed with its nodes
+        final List<T> result = new ArrayList<>();
+        nodesByClass.forEach((concreteClass, classNodes) -> {
+            if (nodeClass.isAssignableFrom(concreteClass)) {
+                result.addAll((Set<T>) classNodes);
+            }
+        });
+        return result;
     }
 
     @Override
@@ -208,9 +266,7 @@ public class InMemoryGraphRepository implements GraphRepository {
             return List.of();
         }
 
-        return nodes.values().stream()
-                    .filter(node -> processedType.equals(node.getNodeType()))
-                    .toList();
+        return List.copyOf(nodesByType.getOrDefault(processedType, Set.of()));
     }
 
     @Override
@@ -219,9 +275,7 @@ public class InMemoryGraphRepository implements GraphRepository {
             return List.of();
         }
 
-        return nodes.values().stream()
-                    .filter(node -> node.hasTag(tag))
-                    .toList();
+        return findNodesByAnyTags(List.of(tag));
     }
 
     @Override
@@ -230,9 +284,7 @@ public class InMemoryGraphRepository implements GraphRepository {
             return List.of();
         }
 
-        return nodes.values().stream()
-                    .filter(node -> processedTags.stream().anyMatch(node::hasTag))
-                    .toList();
+        return new ArrayList<>(collectTagged(processedTags, null));
     }
 
     @Override
@@ -241,30 +293,137 @@ public class InMemoryGraphRepository implements GraphRepository {
             return List.of();
         }
 
+        return new ArrayList<>(collectTagged(processedTags, processedType));
+    }
+
+    @Override
+    public final Collection<GraphEdge> getOutgoingEdges(final GraphNode node) {
+        final EdgeStore store = edgeStore;
+        return store.edges(store.outgoingEdges(node));
+    }
+
+    @Override
+    public final Collection<GraphEdge> getIncomingEdges(final GraphNode node) {
+        final EdgeStore store = edgeStore;
+        return store.edges(store.incomingEdges(node));
+    }
+
+    @Override
+    public final long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    @Override
+    public final Collection<GraphNode> getDirtyNodes() {
         return nodes.values().stream()
-                    .filter(node -> processedType.equals(node.getNodeType()))
-                    .filter(node -> processedTags.stream().anyMatch(node::hasTag))
+                    .filter(GraphNode::isDirty)
                     .toList();
     }
 
+    @Override
+    public final Collection<GraphEdge> getNewEdges() {
+        final EdgeStore store = edgeStore;
+        return store.edges(Math.min(cleanEdgeCount, store.size()), store.size());
+    }
+
+    @Override
+    public final void markClean() {
+        cleanEdgeCount = edgeStore.size();
+        nodes.values().forEach(GraphNode::markClean);
+    }
+
+    /**
+     * Adds a node to the secondary indexes and starts following its tags.
+     * Called while the node's entry in the primary map is locked.
+     */
+    private void index(final GraphNode node) {
+        if (node instanceof final JavaClassNode classNode) {
+            classFqnIndex.put(classNode.getFullyQualifiedName(), classNode);
+        }
+        nodesByType.computeIfAbsent(node.getNodeType(), type -> ConcurrentHashMap.newKeySet()).add(node);
+        nodesByClass.computeIfAbsent(node.getClass(), type -> ConcurrentHashMap.newKeySet()).add(node);
+        if (node instanceof final BaseGraphNode baseNode) {
+            // Replays the current tags into the tag index
+            baseNode.addTagChangeListener(tagIndexer);
+        } else {
+            untrackedTagNodes.add(node);
+        }
+        // A replacing node takes over the edges of the node it replaces
+        edgeStore.registerNode(node);
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Removes a replaced node from the secondary indexes. Its edges are
+     * re-registered with the replacing node by {@link #index(GraphNode)}.
+     */
+    private void unindex(final GraphNode node) {
+        if (node instanceof final JavaClassNode classNode) {
+            classFqnIndex.remove(classNode.getFullyQualifiedName(), classNode);
+        }
+        removeFrom(nodesByType, node.getNodeType(), node);
+        removeFrom(nodesByClass, node.getClass(), node);
+        if (node instanceof final BaseGraphNode baseNode) {
+            baseNode.removeTagChangeListener(tagIndexer);
+            for (final String tag : baseNode.getTags()) {
+                removeFrom(nodesByTag, tag, node);
+            }
+        } else {
+            untrackedTagNodes.remove(node);
+        }
+    }
+
+    private void tagChanged(final GraphNode node, final String tag, final boolean enabled) {
+        if (enabled) {
+            nodesByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(node);
+        } else {
+            removeFrom(nodesByTag, tag, node);
+        }
+    }
+
     /**
-     * Creates a unique key for edge indexing based on source ID, target ID, and
-     * edge type.
-     * This allows efficient lookup of existing edges.
+     * Collects the nodes having any of the tags, optionally of a single type.
      */
-    private String createEdgeKey(final String sourceId, final String targetId, final String edgeType) {
-        return sourceId + "|" + targetId + "|" + edgeType;
+    private Set<GraphNode> collectTagged(final List<String> tags, final String nodeType) {
+        final Set<GraphNode> result = new LinkedHashSet<>();
+        for (final String tag : tags) {
+            for (final GraphNode node : nodesByTag.getOrDefault(tag, Set.of())) {
+                if (null == nodeType || nodeType.equals(node.getNodeType())) {
+                    result.add(node);
+                }
+            }
+        }
+        for (final GraphNode node : untrackedTagNodes) {
+            if ((null == nodeType || nodeType.equals(node.getNodeType())) && tags.stream().anyMatch(node::hasTag)) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    private static <K, V> List<V> union(final Map<K, Set<V>> index, final Set<K> keys) {
+        final List<V> result = new ArrayList<>();
+        for (final K key : keys) {
+            result.addAll(index.getOrDefault(key, Set.of()));
+        }
+        return result;
+    }
+
+    private static <K, V> void removeFrom(final Map<K, Set<V>> index, final K key, final V value) {
+        final Set<V> values = index.get(key);
+        if (null != values) {
+            values.remove(value);
+        }
     }
 
     /**
      * Gets repository statistics for debugging purposes.
      */
     public final String getStats() {
-        final Map<String, Long> nodeTypeCounts = nodes.values().stream()
-                                                      .collect(Collectors.groupingBy(GraphNode::getNodeType, Collectors.counting()));
+        final Map<String, Integer> nodeTypeCounts = new TreeMap<>();
+        nodesByType.forEach((type, typeNodes) -> nodeTypeCounts.put(type, typeNodes.size()));
 
-        final Map<String, Long> edgeTypeCounts = edges.values().stream()
-                                                      .collect(Collectors.groupingBy(GraphEdge::getEdgeType, Collectors.counting()));
+        final Map<String, Integer> edgeTypeCounts = new TreeMap<>(edgeStore.countByType());
 
         return String.format("GraphRepository Stats - Nodes: %d (types: %s), Edges: %d (types: %s)",
                 getNodeCount(), nodeTypeCounts, getEdgeCount(), edgeTypeCounts);
@@ -1,5 +1,6 @@
 package com.analyzer.core.graph;
 
+import com.analyzer.api.graph.GraphNode;
 import com.analyzer.api.graph.GraphRepository;
 import com.analyzer.api.graph.ProjectFileRepository;
 import com.analyzer.core.model.ProjectFile;
@@ -8,7 +9,6 @@ import javax.inject.Inject;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of ProjectFileRepository that delegates to GraphRepository.
@@ -53,8 +53,9 @@ public class InMemoryProjectFileRepository implements ProjectFileRepository {
 
     @Override
     public List<ProjectFile> findByTag(String tag) {
-        return graphRepository.getNodesByClass(ProjectFile.class).stream()
-                .filter(file -> file.hasTag(tag))
+        return graphRepository.findNodesByTag(tag).stream()
+                .filter(ProjectFile.class::isInstance)
+                .map(ProjectFile.class::cast)
                 .toList();
     }
 
@@ -74,4 +75,24 @@ public class InMemoryProjectFileRepository implements ProjectFileRepository {
     public Optional<ProjectFile> findByPath(Path path) {
         return findById(path.toString());
     }
+
+    @Override
+    public ProjectFile getOrCreateByPath(Path path, Path projectRoot) {
+        return findByPath(path).orElseGet(() -> store(new ProjectFile(path, projectRoot)));
+    }
+
+    @Override
+    public ProjectFile getOrCreateArchiveEntry(Path path, Path projectRoot, String sourceJarPath,
+            String jarEntryPath) {
+        return findByPath(path).orElseGet(() -> store(new ProjectFile(path, projectRoot, sourceJarPath, jarEntryPath)));
+    }
+
+    private ProjectFile store(ProjectFile candidate) {
+        // Another thread may have stored the file in the meantime
+        GraphNode node = graphRepository.getOrCreateNode(candidate);
+        if (!(node instanceof ProjectFile projectFile)) {
+            throw new IllegalStateException("Node " + candidate.getId() + " exists but is not a project file");
+        }
+        return projectFile;
+    }
 }
@@ -0,0 +1,88 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+
+import java.util.Map;
+
+/**
+ * Flyweight view of an edge held by an {@link EdgeStore}. Flyweights are
+ * created on demand and carry only the position of the edge, which also makes
+ * up its ID; two flyweights of the same edge are equal.
+ */
+final class StoredEdge extends GraphEdge {
+
+    private final EdgeStore store;
+    private final int position;
+
+    StoredEdge(final EdgeStore store, final int position) {
+        this.store = store;
+        this.position = position;
+    }
+
+    /**
+     * Gets the position of the edge in its store, in creation order.
+     */
+    long getPosition() {
+        return position;
+    }
+
+    @Override
+    public String getId() {
+        return EdgeStore.ID_PREFIX + position;
+    }
+
+    @Override
+    public GraphNode getSource() {
+        return store.source(position);
+    }
+
+    @Override
+    public GraphNode getTarget() {
+        return store.target(position);
+    }
+
+    @Override
+    public String getEdgeType() {
+        return store.edgeType(position);
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return store.getProperties(position);
+    }
+
+    @Override
+    public void setProperty(final String key, final Object value) {
+        store.setProperty(position, key, value);
+    }
+
+    @Override
+    public Object getProperty(final String key) {
+        return store.getProperty(position, key);
+    }
+
+    @Override
+    public boolean hasProperty(final String key) {
+        return store.hasProperty(position, key);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof final StoredEdge other && store == other.store && position == other.position;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(store) + position;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GraphEdge{id='%s', source='%s', target='%s', type='%s', properties=%d}",
+                getId(), getSource().getId(), getTarget().getId(), getEdgeType(), getProperties().size());
+    }
+}
@@ -218,7 +218,7 @@ public class InspectorDependencyResolver {
      * @param inspectorClass the inspector class to examine
      * @return array of tags produced by this inspector
      */
-    private static String[] getProducedTags(Class<? extends Inspector> inspectorClass) {
+    public static String[] getProducedTags(Class<? extends Inspector> inspectorClass) {
         if (inspectorClass == null) {
             return new String[0];
         }
@@ -241,6 +241,26 @@ public class InspectorDependencyResolver {
         return allProducedTags.toArray(new String[0]);
     }
 
+    /**
+     * Checks whether an inspector class or one of its superclasses declares its
+     * dependencies with @InspectorDependencies. Inspectors without a declaration
+     * may still check tags in canProcess, so their dependencies are unknown.
+     *
+     * @param inspectorClass the inspector class to examine
+     * @return true if the inheritance chain carries the annotation
+     */
+    public static boolean hasDependencyDeclaration(Class<?> inspectorClass) {
+        if (inspectorClass == null) {
+            return false;
+        }
+        for (Class<?> currentClass : buildInheritanceChain(inspectorClass)) {
+            if (currentClass.isAnnotationPresent(InspectorDependencies.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Validates that a dependency string is a valid InspectorTags constant.
      * This uses reflection to check if the dependency exists as a public static
@@ -4,14 +4,20 @@ import com.analyzer.api.graph.GraphRepository;
 import com.analyzer.api.graph.ClassNodeRepository;
 import com.analyzer.api.graph.PackageNodeRepository;
 import com.analyzer.core.cache.LocalCache;
+import com.analyzer.core.cache.SharedParseCache;
 import com.analyzer.core.graph.DelegatingClassNodeRepository;
 import com.analyzer.core.graph.DelegatingPackageNodeRepository;
+import com.analyzer.core.graph.GraphViewService;
 import com.analyzer.core.graph.InMemoryProjectFileRepository;
 import com.analyzer.api.graph.ProjectFileRepository;
 import com.analyzer.core.engine.AnalysisEngine;
 import com.analyzer.core.graph.InMemoryGraphRepository;
 import com.analyzer.core.model.ProjectHolder;
+import com.analyzer.core.resource.ArchiveMounts;
+import com.analyzer.core.resource.CompositeResourceResolver;
+import com.analyzer.core.resource.FileResourceResolver;
 import com.analyzer.core.resource.JARClassLoaderService;
+import com.analyzer.core.typemodel.TypeModelIndex;
 import com.analyzer.api.resource.ResourceResolver;
 import com.analyzer.api.inspector.Inspector;
 import org.picocontainer.DefaultPicoContainer;
@@ -94,6 +100,7 @@ public class PicoContainerConfig {
 
         // Register long-lived application services
         container.addComponent(ResourceResolver.class, resourceResolver);
+        container.addComponent(ArchiveMounts.class, getArchiveMounts(resourceResolver));
         container.addComponent(JARClassLoaderService.class);
 
         // Register InspectorRegistry itself so AnalysisEngine can depend on it
@@ -109,8 +116,10 @@ public class PicoContainerConfig {
      * This container inherits from the parent and adds:
      * - Fresh GraphRepository
      * - Fresh ProjectFileRepository
+     * - Fresh GraphViewService
      * - Fresh ClassNodeRepository
      * - Fresh InspectorProgressTracker
+     * - Fresh TypeModelIndex
      * - Fresh AnalysisEngine (with auto-injected dependencies)
      *
      * @param parent the application container to inherit from
@@ -129,16 +138,24 @@ public class PicoContainerConfig {
         container.addComponent(ClassNodeRepository.class, DelegatingClassNodeRepository.class);
         container.addComponent(PackageNodeRepository.class, DelegatingPackageNodeRepository.class);
         container.addComponent(ProjectFileRepository.class, InMemoryProjectFileRepository.class);
+        container.addComponent(GraphViewService.class);
 
         // Register per-analysis services
         container.addComponent(InspectorProgressTracker.class);
         container.addComponent(ProjectHolder.class);
+        container.addComponent(TypeModelIndex.class);
 
         // Register LocalCache with configuration
         boolean cacheEnabled = Boolean.parseBoolean(
                 System.getProperty("analyzer.cache.enabled", "true"));
-        container.addComponent(LocalCache.class, new LocalCache(cacheEnabled));
-        logger.info("LocalCache registered (enabled: {})", cacheEnabled);
+        long sharedCacheBytes = Long.getLong("analyzer.cache.sharedMaxBytes",
+                SharedParseCache.defaultMaxWeightBytes());
+        SharedParseCache sharedCache = cacheEnabled && sharedCacheBytes > 0
+                ? new SharedParseCache(sharedCacheBytes)
+                : null;
+        container.addComponent(LocalCache.class, new LocalCache(cacheEnabled, sharedCache));
+        logger.info("LocalCache registered (enabled: {}, shared parse cache: {} bytes)", cacheEnabled,
+                sharedCache != null ? sharedCacheBytes : 0);
 
         // Register AnalysisEngine - PicoContainer will auto-inject all dependencies
         // from parent + child
@@ -149,6 +166,21 @@ public class PicoContainerConfig {
         return container;
     }
 
+    /**
+     * Gets the archive mounts served by the resolver, so that archives mounted
+     * by the AnalysisEngine are readable by inspectors. Other resolvers get
+     * mounts of their own, which they do not serve.
+     */
+    private static ArchiveMounts getArchiveMounts(ResourceResolver resourceResolver) {
+        if (resourceResolver instanceof CompositeResourceResolver composite) {
+            return composite.getArchiveMounts();
+        }
+        if (resourceResolver instanceof FileResourceResolver fileResolver) {
+            return fileResolver.getArchiveMounts();
+        }
+        return new ArchiveMounts();
+    }
+
     /**
      * Gets statistics about the container configuration.
      */
@@ -1,5 +1,7 @@
 package com.analyzer.core.inspector;
 
+import com.analyzer.api.graph.TagMask;
+
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -27,6 +29,8 @@ import java.util.Set;
 public class RequiredTags {
 
     private final Set<String> tags = new LinkedHashSet<>();
+    // Compiled on first use, reset whenever a tag is added
+    private volatile TagMask mask;
 
     /**
      * Adds a required tag dependency.
@@ -36,8 +40,8 @@ public class RequiredTags {
      * @return this instance for method chaining
      */
     public RequiredTags requires(String tag) {
-        if (tag != null && !tag.trim().isEmpty()) {
-            tags.add(tag.trim());
+        if (tag != null && !tag.trim().isEmpty() && tags.add(tag.trim())) {
+            mask = null;
         }
         return this;
     }
@@ -66,8 +70,8 @@ public class RequiredTags {
      * @return this instance for method chaining
      */
     public RequiredTags requiresAll(RequiredTags other) {
-        if (other != null) {
-            this.tags.addAll(other.tags);
+        if (other != null && this.tags.addAll(other.tags)) {
+            mask = null;
         }
         return this;
     }
@@ -82,6 +86,21 @@ public class RequiredTags {
         return tags.toArray(new String[0]);
     }
 
+    /**
+     * Gets the dependencies compiled into a tag bitmask, so that checking a node
+     * is a bitwise comparison. The mask is cached until a tag is added.
+     *
+     * @return mask of the required tags
+     */
+    public TagMask toMask() {
+        TagMask compiled = mask;
+        if (compiled == null) {
+            compiled = TagMask.of(toArray());
+            mask = compiled;
+        }
+        return compiled;
+    }
+
     /**
      * Checks if no dependencies are required.
      * 
@@ -58,6 +58,7 @@ public class Project {
     /**
      * Get or create a project file with the given absolute path.
      * Delegates to ProjectFileRepository for all file management.
+     * Thread-safe: concurrent calls for the same path return the same instance.
      * 
      * @param relativePath not used, kept for backward compatibility
      * @param absolutePath the absolute path of the file
@@ -68,11 +69,26 @@ public class Project {
             throw new IllegalStateException("ProjectFileRepository is required but not configured");
         }
 
-        return projectFileRepository.findByPath(absolutePath).orElseGet(() -> {
-            ProjectFile projectFile = new ProjectFile(absolutePath, this.projectPath);
-            projectFileRepository.save(projectFile);
-            return projectFile;
-        });
+        return projectFileRepository.getOrCreateByPath(absolutePath, this.projectPath);
+    }
+
+    /**
+     * Get or create a project file for an entry of an archive that is read
+     * in place rather than extracted.
+     * Thread-safe: concurrent calls for the same path return the same instance.
+     *
+     * @param absolutePath  the absolute path the entry is known by
+     * @param sourceJarPath the archive file holding the entry
+     * @param jarEntryPath  the path of the entry inside the archive
+     * @return the ProjectFile instance from the repository
+     */
+    public ProjectFile getOrCreateArchiveEntryFile(Path absolutePath, String sourceJarPath, String jarEntryPath) {
+        if (projectFileRepository == null) {
+            throw new IllegalStateException("ProjectFileRepository is required but not configured");
+        }
+
+        return projectFileRepository.getOrCreateArchiveEntry(absolutePath, this.projectPath, sourceJarPath,
+                jarEntryPath);
     }
 
     /**
@@ -359,7 +359,10 @@ public class ProjectFile extends BaseGraphNode {
     public LocalDateTime getFileModificationTime() {
         if (null == cachedFileModificationTime) {
             try {
-                final Path path = getFilePath();
+                // Archive entries read in place are as recent as their archive
+                final Path path = isVirtual() && null != getSourceJarPath()
+                        ? Path.of(getSourceJarPath())
+                        : getFilePath();
                 if (null != path) {
                     cachedFileModificationTime = Files.getLastModifiedTime(path)
                                                       .toInstant()
@@ -0,0 +1,262 @@
+package com.analyzer.core.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Read-only index of the central directory of a ZIP archive (JAR/WAR/EAR),
+ * serving entry contents straight from the archive bytes.
+ * <p>
+ * Archives on disk are memory-mapped; nested archives are indexed over the
+ * bytes of their entry in the enclosing archive, without temporary files.
+ * Stored nested archives (the usual layout of WEB-INF/lib and EAR libraries)
+ * are served from a slice of the enclosing archive, without copying.
+ * <p>
+ * Instances are immutable once built and safe for concurrent reads. ZIP64
+ * archives and archives larger than 2 GB are not supported and fail to open
+ * with an {@link IOException}.
+ */
+public final class ArchiveIndex {
+
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int LOC_HEADER_SIZE = 30;
+    private static final int CEN_HEADER_SIZE = 46;
+    private static final int END_HEADER_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private final String name;
+    private final ByteBuffer data;
+    private final List<String> entryNames;
+    private final Map<String, Integer> entries;
+    private final int[] methods;
+    private final int[] compressedSizes;
+    private final int[] sizes;
+    private final int[] localHeaderOffsets;
+
+    private ArchiveIndex(String name, ByteBuffer data) throws IOException {
+        this.name = name;
+        this.data = data.order(ByteOrder.LITTLE_ENDIAN);
+
+        int end = findEndRecord();
+        int count = data.getShort(end + 10) & 0xFFFF;
+        long directorySize = data.getInt(end + 12) & 0xFFFFFFFFL;
+        long directoryOffset = data.getInt(end + 16) & 0xFFFFFFFFL;
+        if (count == 0xFFFF || directoryOffset == 0xFFFFFFFFL) {
+            throw new IOException("ZIP64 archives are not supported: " + name);
+        }
+        if (directoryOffset + directorySize > end) {
+            throw new IOException("Invalid central directory in " + name);
+        }
+
+        List<String> names = new ArrayList<>(count);
+        this.entries = new HashMap<>(count * 2);
+        this.methods = new int[count];
+        this.compressedSizes = new int[count];
+        this.sizes = new int[count];
+        this.localHeaderOffsets = new int[count];
+
+        int position = (int) directoryOffset;
+        for (int i = 0; i < count; i++) {
+            if (position + CEN_HEADER_SIZE > end || data.getInt(position) != CEN_SIGNATURE) {
+                throw new IOException("Invalid central directory entry " + i + " in " + name);
+            }
+            int flags = data.getShort(position + 8) & 0xFFFF;
+            int nameLength = data.getShort(position + 28) & 0xFFFF;
+            int extraLength = data.getShort(position + 30) & 0xFFFF;
+            int commentLength = data.getShort(position + 32) & 0xFFFF;
+
+            byte[] nameBytes = new byte[nameLength];
+            data.get(position + CEN_HEADER_SIZE, nameBytes);
+            String entryName = new String(nameBytes, StandardCharsets.UTF_8);
+
+            methods[i] = (flags & 1) != 0 ? -1 : data.getShort(position + 10) & 0xFFFF;
+            compressedSizes[i] = toInt(data.getInt(position + 20), entryName);
+            sizes[i] = toInt(data.getInt(position + 24), entryName);
+            localHeaderOffsets[i] = toInt(data.getInt(position + 42), entryName);
+
+            names.add(entryName);
+            // Like extraction, a later duplicate entry wins
+            entries.put(entryName, i);
+            position += CEN_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        this.entryNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Indexes an archive file, memory-mapping it.
+     *
+     * @param archiveFile the archive on disk
+     * @return the index of the archive
+     * @throws IOException if the archive cannot be read or is not supported
+     */
+    public static ArchiveIndex open(Path archiveFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(archiveFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Archives larger than 2 GB are not supported: " + archiveFile);
+            }
+            return new ArchiveIndex(archiveFile.toString(),
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Indexes an archive nested in this one, in memory.
+     *
+     * @param entryName the name of the nested archive entry
+     * @return the index of the nested archive
+     * @throws IOException if the entry cannot be read or is not an archive
+     */
+    public ArchiveIndex openNested(String entryName) throws IOException {
+        return new ArchiveIndex(name + "!/" + entryName, contents(entryName));
+    }
+
+    /**
+     * Gets the names of all entries, directories included, in archive order.
+     */
+    public List<String> getEntryNames() {
+        return entryNames;
+    }
+
+    /**
+     * Checks whether the archive has a file entry with the given name.
+     */
+    public boolean containsFile(String entryName) {
+        return entries.containsKey(entryName) && !isDirectory(entryName);
+    }
+
+    /**
+     * Checks whether an entry name denotes a directory.
+     */
+    public static boolean isDirectory(String entryName) {
+        return entryName.endsWith("/");
+    }
+
+    /**
+     * Gets the uncompressed size of a file entry.
+     *
+     * @throws IOException if the entry does not exist
+     */
+    public long getSize(String entryName) throws IOException {
+        return sizes[indexOf(entryName)];
+    }
+
+    /**
+     * Reads the contents of a file entry.
+     *
+     * @throws IOException if the entry does not exist or cannot be decoded
+     */
+    public byte[] read(String entryName) throws IOException {
+        ByteBuffer contents = contents(entryName);
+        byte[] bytes = new byte[contents.remaining()];
+        contents.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Opens a stream over the contents of a file entry.
+     *
+     * @throws IOException if the entry does not exist or cannot be decoded
+     */
+    public InputStream openStream(String entryName) throws IOException {
+        return new ByteArrayInputStream(read(entryName));
+    }
+
+    /**
+     * Gets the contents of an entry: a slice of the archive for stored
+     * entries, a new buffer for deflated ones.
+     */
+    private ByteBuffer contents(String entryName) throws IOException {
+        int index = indexOf(entryName);
+        int header = localHeaderOffsets[index];
+        if (header + LOC_HEADER_SIZE > data.limit() || data.getInt(header) != LOC_SIGNATURE) {
+            throw new IOException("Invalid local header for " + entryName + " in " + name);
+        }
+        int start = header + LOC_HEADER_SIZE + (data.getShort(header + 26) & 0xFFFF)
+                + (data.getShort(header + 28) & 0xFFFF);
+        if (start + (long) compressedSizes[index] > data.limit()) {
+            throw new IOException("Truncated entry " + entryName + " in " + name);
+        }
+        ByteBuffer compressed = data.slice(start, compressedSizes[index]);
+
+        switch (methods[index]) {
+            case STORED:
+                return compressed;
+            case DEFLATED:
+                return ByteBuffer.wrap(inflate(compressed, sizes[index], entryName));
+            default:
+                throw new IOException("Unsupported compression method for " + entryName + " in " + name);
+        }
+    }
+
+    private byte[] inflate(ByteBuffer compressed, int size, String entryName) throws IOException {
+        byte[] bytes = new byte[size];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            int length = 0;
+            while (length < size && !inflater.finished()) {
+                int inflated = inflater.inflate(bytes, length, size - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != size) {
+                throw new IOException("Corrupt entry " + entryName + " in " + name);
+            }
+            return bytes;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt entry " + entryName + " in " + name, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private int indexOf(String entryName) throws IOException {
+        Integer index = entries.get(entryName);
+        if (index == null || isDirectory(entryName)) {
+            throw new IOException("Entry not found in " + name + ": " + entryName);
+        }
+        return index;
+    }
+
+    private int findEndRecord() throws IOException {
+        int lowest = Math.max(0, data.limit() - END_HEADER_SIZE - MAX_COMMENT_SIZE);
+        for (int position = data.limit() - END_HEADER_SIZE; position >= lowest; position--) {
+            if (data.getInt(position) == END_SIGNATURE) {
+                return position;
+            }
+        }
+        throw new IOException("Not a ZIP archive: " + name);
+    }
+
+    private int toInt(int unsigned, String entryName) throws IOException {
+        if (unsigned < 0) {
+            throw new IOException("ZIP64 entries are not supported: " + entryName + " in " + name);
+        }
+        return unsigned;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchiveIndex{" + name + ", entries=" + entryNames.size() + '}';
+    }
+}
@@ -0,0 +1,192 @@
+package com.analyzer.core.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Virtual extraction of archives: mounts the entries of JAR/WAR/EAR files,
+ * nested archives included, at the paths {@link JarExtractor} would extract
+ * them to, without writing anything to disk.
+ * <p>
+ * Mounted paths are served by {@link FileResourceResolver}, so readers going
+ * through a {@code file:} {@link ResourceLocation} read archive entries
+ * unchanged. Entry bytes come from the {@link ArchiveIndex} of the archive,
+ * which is memory-mapped for archives on disk and held in memory for nested
+ * archives.
+ * <p>
+ * Mounting happens during file discovery; lookups are thread-safe.
+ */
+public class ArchiveMounts {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveMounts.class);
+
+    private final Map<Path, Mount> mounts = new ConcurrentHashMap<>();
+
+    /**
+     * A mounted archive.
+     *
+     * @param archive       the index of the archive
+     * @param sourceJarPath the archive file on disk holding the archive
+     * @param entryPrefix   the path of the archive inside that file, empty for
+     *                      the archive file itself
+     */
+    private record Mount(ArchiveIndex archive, String sourceJarPath, String entryPrefix) {
+    }
+
+    /**
+     * A file entry made visible by mounting an archive.
+     *
+     * @param path          the virtual path of the entry
+     * @param sourceJarPath the archive file on disk holding the entry
+     * @param jarEntryPath  the path of the entry inside that file, with
+     *                      {@code !/} separating nested archives
+     */
+    public record MountedEntry(Path path, String sourceJarPath, String jarEntryPath) {
+    }
+
+    /**
+     * Mounts an archive and, recursively, the archives it contains.
+     *
+     * @param archiveFile    the archive on disk
+     * @param mountDirectory the directory the archive would be extracted to
+     * @return the mounted file entries, in archive order
+     * @throws IOException if the archive cannot be indexed
+     */
+    public List<MountedEntry> mount(Path archiveFile, Path mountDirectory) throws IOException {
+        List<MountedEntry> mounted = new ArrayList<>();
+        mount(new Mount(ArchiveIndex.open(archiveFile), archiveFile.toString(), ""), mountDirectory, 0, mounted);
+        return mounted;
+    }
+
+    /**
+     * Mounts an archive the way {@link JarExtractor} extracts it: nested
+     * archives are kept as files and also mounted next to them, in a
+     * directory named after them.
+     */
+    private void mount(Mount mount, Path mountDirectory, int depth, List<MountedEntry> mounted) {
+        mounts.put(mountDirectory, mount);
+        Set<String> nestedUsedNames = new HashSet<>();
+
+        for (String entryName : mount.archive().getEntryNames()) {
+            if (ArchiveIndex.isDirectory(entryName)) {
+                continue;
+            }
+            String jarEntryPath = mount.entryPrefix() + entryName;
+            mounted.add(new MountedEntry(mountDirectory.resolve(entryName), mount.sourceJarPath(), jarEntryPath));
+
+            if (JarExtractor.isArchiveFileName(entryName)) {
+                logger.debug("Found nested archive at depth {}: {}", depth, entryName);
+
+                String nestedBaseName = JarExtractor.getArchiveBaseName(Path.of(entryName).getFileName().toString());
+                String nestedUniqueName = JarExtractor.generateUniqueDirectoryName(nestedBaseName, nestedUsedNames);
+                try {
+                    ArchiveIndex nested = mount.archive().openNested(entryName);
+                    mount(new Mount(nested, mount.sourceJarPath(), jarEntryPath + "!/"),
+                            mountDirectory.resolve(nestedUniqueName), depth + 1, mounted);
+                    nestedUsedNames.add(nestedUniqueName);
+                } catch (IOException e) {
+                    logger.warn("Failed to mount nested archive {}: {}", entryName, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether no archive is mounted.
+     */
+    public boolean isEmpty() {
+        return mounts.isEmpty();
+    }
+
+    /**
+     * Checks whether a path is a mounted file entry.
+     *
+     * @param path the absolute path
+     */
+    public boolean contains(Path path) {
+        return find(path) != null;
+    }
+
+    /**
+     * Gets the size of a mounted file entry.
+     *
+     * @param path the absolute path
+     * @throws IOException if the path is not a mounted file entry
+     */
+    public long size(Path path) throws IOException {
+        Located located = locate(path);
+        return located.mount().archive().getSize(located.entryName());
+    }
+
+    /**
+     * Opens a stream over a mounted file entry.
+     *
+     * @param path the absolute path
+     * @throws IOException if the path is not a mounted file entry
+     */
+    public InputStream openStream(Path path) throws IOException {
+        Located located = locate(path);
+        return located.mount().archive().openStream(located.entryName());
+    }
+
+    /**
+     * Gets the archive file on disk holding a mounted file entry.
+     *
+     * @param path the absolute path
+     * @throws IOException if the path is not a mounted file entry
+     */
+    public Path getSourceArchive(Path path) throws IOException {
+        return Path.of(locate(path).mount().sourceJarPath());
+    }
+
+    /**
+     * Unmounts all archives.
+     */
+    public void clear() {
+        mounts.clear();
+    }
+
+    private record Located(Mount mount, String entryName) {
+    }
+
+    private Located locate(Path path) throws IOException {
+        Located located = find(path);
+        if (located == null) {
+            throw new NoSuchFileException(path.toString());
+        }
+        return located;
+    }
+
+    /**
+     * Finds the innermost mounted archive holding a path. Outer archives are
+     * tried too, since a directory of an archive may share its name with the
+     * mount of a nested archive.
+     */
+    private Located find(Path path) {
+        if (mounts.isEmpty()) {
+            return null;
+        }
+        for (Path directory = path.getParent(); directory != null; directory = directory.getParent()) {
+            Mount mount = mounts.get(directory);
+            if (mount != null) {
+                String entryName = directory.relativize(path).toString().replace(File.separatorChar, '/');
+                if (mount.archive().containsFile(entryName)) {
+                    return new Located(mount, entryName);
+                }
+            }
+        }
+        return null;
+    }
+}
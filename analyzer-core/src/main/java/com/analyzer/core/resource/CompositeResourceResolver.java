@@ -14,6 +14,14 @@ import java.util.concurrent.ConcurrentHashMap;
 public class CompositeResourceResolver implements ResourceResolver {
 
     private final Map<String, ResourceResolver> resolvers = new ConcurrentHashMap<>();
+    private final ArchiveMounts archiveMounts = new ArchiveMounts();
+
+    /**
+     * Get the mounted archives served by the default file resolver.
+     */
+    public ArchiveMounts getArchiveMounts() {
+        return archiveMounts;
+    }
 
     /**
      * Register a resolver for a specific URI scheme.
@@ -126,7 +134,7 @@ public class CompositeResourceResolver implements ResourceResolver {
         CompositeResourceResolver composite = new CompositeResourceResolver();
 
         // Register default resolvers
-        composite.registerResolver("file", new FileResourceResolver());
+        composite.registerResolver("file", new FileResourceResolver(composite.getArchiveMounts()));
         composite.registerResolver("jar", new JarResourceResolver());
 
         return composite;
@@ -16,12 +16,39 @@ import java.util.stream.Stream;
 
 /**
  * ResourceResolver implementation for file:// scheme URIs.
- * Handles local file system access using NIO.2 APIs.
+ * Handles local file system access using NIO.2 APIs, and the entries of
+ * archives mounted in its {@link ArchiveMounts}.
  */
 public class FileResourceResolver implements ResourceResolver {
 
     private static final String FILE_SCHEME = "file";
 
+    private final ArchiveMounts archiveMounts;
+
+    /**
+     * Constructor for plain file system access
+     */
+    public FileResourceResolver() {
+        this(new ArchiveMounts());
+    }
+
+    /**
+     * Constructor serving mounted archive entries as files
+     *
+     * @param archiveMounts the mounted archives, consulted before the file
+     *                      system
+     */
+    public FileResourceResolver(ArchiveMounts archiveMounts) {
+        this.archiveMounts = archiveMounts;
+    }
+
+    /**
+     * Gets the mounted archives served by this resolver.
+     */
+    public ArchiveMounts getArchiveMounts() {
+        return archiveMounts;
+    }
+
     @Override
     public boolean supports(ResourceLocation location) {
         return FILE_SCHEME.equals(location.getScheme());
@@ -32,6 +59,10 @@ public class FileResourceResolver implements ResourceResolver {
         validateLocation(location);
         Path path = getPath(location);
 
+        if (archiveMounts.contains(path)) {
+            return archiveMounts.openStream(path);
+        }
+
         if (!Files.exists(path)) {
             throw new IOException("File not found: " + path);
         }
@@ -51,7 +82,7 @@ public class FileResourceResolver implements ResourceResolver {
 
         try {
             Path path = getPath(location);
-            return Files.exists(path);
+            return archiveMounts.contains(path) || Files.exists(path);
         } catch (Exception e) {
             return false;
         }
@@ -82,6 +113,11 @@ public class FileResourceResolver implements ResourceResolver {
         validateLocation(location);
         Path path = getPath(location);
 
+        if (archiveMounts.contains(path)) {
+            Instant lastModified = Files.getLastModifiedTime(archiveMounts.getSourceArchive(path)).toInstant();
+            return ResourceMetadata.file(archiveMounts.size(path), lastModified, determineContentType(path, false));
+        }
+
         if (!Files.exists(path)) {
             throw new IOException("File not found: " + path);
         }
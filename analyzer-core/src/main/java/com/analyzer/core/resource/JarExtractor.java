@@ -1,5 +1,6 @@
 package com.analyzer.core.resource;
 
+import com.analyzer.core.AnalysisConstants;
 import com.analyzer.core.filter.FileIgnoreFilter;
 import com.analyzer.core.model.ProjectFile;
 import org.slf4j.Logger;
@@ -8,14 +9,19 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Stream;
 
 /**
  * Core component for physically extracting JAR/WAR/EAR files to the filesystem.
@@ -58,22 +64,60 @@ public class JarExtractor {
             return ExtractionResult.notArchive();
         }
 
-        Path archivePath = archive.getFilePath();
+        Path targetDirectory = extractionRoot.resolve(reserveDirectoryName(archive, usedNames));
+        return extractArchive(archive, targetDirectory,
+                extractionRoot.resolveSibling(AnalysisConstants.EXTRACTION_STAGING_DIR));
+    }
+
+    /**
+     * Reserves the directory name an archive is extracted to, handling
+     * duplicates with hash suffixes. Reservation is atomic, so archives may be
+     * extracted concurrently once their names are reserved.
+     *
+     * @param archive   the archive to extract
+     * @param usedNames set of already used directory names
+     * @return the reserved directory name
+     */
+    public static String reserveDirectoryName(ProjectFile archive, Set<String> usedNames) {
         String baseName = getArchiveBaseName(archive.getFileName());
-        String uniqueName = generateUniqueDirectoryName(baseName, usedNames);
-        Path targetDirectory = extractionRoot.resolve(uniqueName);
+        synchronized (usedNames) {
+            String uniqueName = generateUniqueDirectoryName(baseName, usedNames);
+            usedNames.add(uniqueName);
+            return uniqueName;
+        }
+    }
+
+    /**
+     * Extracts a JAR/WAR/EAR archive to a target directory.
+     * <p>
+     * The archive is extracted into a temporary directory under
+     * {@code stagingRoot}, which must be on the same file store as the target,
+     * and then moved into place, replacing any previous extraction. A failed or
+     * interrupted extraction never leaves a partial tree at the target.
+     *
+     * @param archive         the ProjectFile representing the archive to extract
+     * @param targetDirectory the directory to extract to
+     * @param stagingRoot     the directory for in-progress extractions
+     * @return extraction result with statistics and extracted path
+     */
+    public ExtractionResult extractArchive(ProjectFile archive, Path targetDirectory, Path stagingRoot) {
+        if (!isArchiveFile(archive)) {
+            return ExtractionResult.notArchive();
+        }
 
         logger.debug("Extracting archive {} to {}", archive.getRelativePath(), targetDirectory);
 
+        Path stagingDirectory = null;
         try {
-            // Create target directory
-            Files.createDirectories(targetDirectory);
+            Files.createDirectories(stagingRoot);
+            stagingDirectory = Files.createTempDirectory(stagingRoot, targetDirectory.getFileName().toString());
 
             // Extract archive contents
-            ExtractionStats stats = extractArchiveContents(archivePath, targetDirectory, 0);
+            ExtractionStats stats = extractArchiveContents(archive.getFilePath(), stagingDirectory, 0);
 
-            // Track used name
-            usedNames.add(uniqueName);
+            // Move into place
+            replaceDirectory(stagingDirectory, targetDirectory, stagingRoot);
+            stagingDirectory = null;
 
             logger.info("Successfully extracted {}: {} files, {} directories, {} nested archives",
                     archive.getRelativePath(), stats.filesExtracted, stats.directoriesCreated, stats.nestedArchives);
@@ -83,6 +127,54 @@ public class JarExtractor {
         } catch (IOException e) {
             logger.error("Failed to extract archive {}: {}", archive.getRelativePath(), e.getMessage());
             return ExtractionResult.error(e.getMessage());
+        } finally {
+            if (stagingDirectory != null) {
+                deleteDirectory(stagingDirectory);
+            }
+        }
+    }
+
+    /**
+     * Moves a staged extraction to its target, first moving any previous
+     * extraction out of the way so the target is never partially written.
+     */
+    private void replaceDirectory(Path stagingDirectory, Path targetDirectory, Path stagingRoot) throws IOException {
+        Files.createDirectories(targetDirectory.getParent());
+        Path previous = null;
+        if (Files.exists(targetDirectory, LinkOption.NOFOLLOW_LINKS)) {
+            previous = Files.createTempDirectory(stagingRoot, "replaced");
+            previous = move(targetDirectory, previous.resolve(targetDirectory.getFileName()));
+        }
+        move(stagingDirectory, targetDirectory);
+        if (previous != null) {
+            deleteDirectory(previous.getParent());
+        }
+    }
+
+    private static Path move(Path source, Path target) throws IOException {
+        try {
+            return Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            return Files.move(source, target);
+        }
+    }
+
+    /**
+     * Deletes a directory tree, logging what cannot be deleted.
+     *
+     * @param directory the directory to delete
+     */
+    public static void deleteDirectory(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    logger.warn("Failed to delete {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to delete {}: {}", directory, e.getMessage());
         }
     }
 
@@ -175,13 +267,13 @@ public class JarExtractor {
      * Generates a unique directory name for extraction, handling duplicates with
      * hash suffixes.
      */
-    private String generateUniqueDirectoryName(String baseName, Set<String> usedNames) {
+    static String generateUniqueDirectoryName(String baseName, Set<String> usedNames) {
         if (!usedNames.contains(baseName)) {
             return baseName;
         }
 
         // Generate hash suffix for duplicates
-        String hash = Integer.toHexString(baseName.hashCode() + usedNames.size()).substring(0, 6);
+        String hash = String.format("%08x", baseName.hashCode() + usedNames.size()).substring(0, 6);
         String uniqueName = baseName + "_" + hash;
 
         // Ensure uniqueness (very unlikely collision, but handle it)
@@ -197,7 +289,7 @@ public class JarExtractor {
     /**
      * Gets the base name for an archive (without extension).
      */
-    private String getArchiveBaseName(String fileName) {
+    static String getArchiveBaseName(String fileName) {
         if (fileName == null) {
             return "unknown";
         }
@@ -220,7 +312,7 @@ public class JarExtractor {
     /**
      * Checks if a file name represents an archive.
      */
-    private boolean isArchiveFileName(String fileName) {
+    static boolean isArchiveFileName(String fileName) {
         if (fileName == null) {
             return false;
         }
@@ -0,0 +1,500 @@
+package com.analyzer.core.typemodel;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable model of a class read from its bytecode: the reflection-like view
+ * of a type that {@link TypeModelIndex} serves without loading the class.
+ * <p>
+ * Names are binary names with dots ({@code java.util.Map$Entry}), as returned
+ * by {@link Class#getName()}; array and primitive types are named like
+ * {@link Type#getClassName()} ({@code int}, {@code java.lang.String[]}).
+ * Descriptors and generic signatures are kept in their compact JVM form and
+ * decoded on read; all strings are interned by the index that built the
+ * model.
+ */
+public final class TypeModel {
+
+    private static final AnnotationModel[] NO_ANNOTATIONS = new AnnotationModel[0];
+    private static final Set<String> PRIMITIVE_TYPE_NAMES = Set.of(
+            "boolean", "byte", "char", "short", "int", "long", "float", "double", "void");
+
+    private final String name;
+    private final int access;
+    private final String superclassName;
+    private final String[] interfaceNames;
+    private final String signature;
+    private final AnnotationModel[] annotations;
+    private final FieldModel[] fields;
+    private final MethodModel[] methods;
+
+    TypeModel(String name, int access, String superclassName, String[] interfaceNames, String signature,
+            AnnotationModel[] annotations, FieldModel[] fields, MethodModel[] methods) {
+        this.name = name;
+        this.access = access;
+        this.superclassName = superclassName;
+        this.interfaceNames = interfaceNames;
+        this.signature = signature;
+        this.annotations = annotations;
+        this.fields = fields;
+        this.methods = methods;
+    }
+
+    /**
+     * Gets the binary name of the type, like {@link Class#getName()}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the simple name of the type, like {@link Class#getSimpleName()} for
+     * top-level and member classes.
+     */
+    public String getSimpleName() {
+        return simpleNameOf(name);
+    }
+
+    /**
+     * Gets the access flags of the type, as {@link Opcodes} {@code ACC_*}
+     * flags.
+     */
+    public int getAccess() {
+        return access;
+    }
+
+    public boolean isInterface() {
+        return (access & Opcodes.ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (access & Opcodes.ACC_ANNOTATION) != 0;
+    }
+
+    public boolean isEnum() {
+        return (access & Opcodes.ACC_ENUM) != 0;
+    }
+
+    public boolean isAbstract() {
+        return (access & Opcodes.ACC_ABSTRACT) != 0;
+    }
+
+    public boolean isPublic() {
+        return (access & Opcodes.ACC_PUBLIC) != 0;
+    }
+
+    /**
+     * Gets the name of the direct superclass, or {@code null} for
+     * {@code java.lang.Object}. Interfaces report {@code java.lang.Object}
+     * here, as in their bytecode.
+     */
+    public String getSuperclassName() {
+        return superclassName;
+    }
+
+    /**
+     * Gets the names of the directly implemented (or, for interfaces,
+     * extended) interfaces, in declaration order.
+     */
+    public List<String> getInterfaceNames() {
+        return List.of(interfaceNames);
+    }
+
+    /**
+     * Gets the generic signature of the type, or {@code null} if it declares
+     * no type parameters and extends no parameterized type.
+     *
+     * @see TypeSignatures
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * Gets the runtime-visible annotations declared on the type, like
+     * {@link Class#getDeclaredAnnotations()}.
+     */
+    public List<AnnotationModel> getAnnotations() {
+        return runtimeVisible(annotations);
+    }
+
+    /**
+     * Gets all annotations declared on the type, including those retained
+     * only in the class file.
+     */
+    public List<AnnotationModel> getAllAnnotations() {
+        return List.of(annotations);
+    }
+
+    /**
+     * Gets the runtime-visible annotation of the given type declared on the
+     * type, or {@code null}.
+     */
+    public AnnotationModel getAnnotation(String annotationTypeName) {
+        for (AnnotationModel annotation : annotations) {
+            if (annotation.isRuntimeVisible() && annotation.getTypeName().equals(annotationTypeName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the fields declared by the type, like
+     * {@link Class#getDeclaredFields()}.
+     */
+    public List<FieldModel> getDeclaredFields() {
+        return List.of(fields);
+    }
+
+    /**
+     * Gets the methods declared by the type, constructors and static
+     * initializers excluded, like {@link Class#getDeclaredMethods()}.
+     */
+    public List<MethodModel> getDeclaredMethods() {
+        List<MethodModel> declared = new ArrayList<>(methods.length);
+        for (MethodModel method : methods) {
+            if (!method.isConstructor() && !method.isStaticInitializer()) {
+                declared.add(method);
+            }
+        }
+        return declared;
+    }
+
+    /**
+     * Gets the constructors declared by the type, like
+     * {@link Class#getDeclaredConstructors()}.
+     */
+    public List<MethodModel> getDeclaredConstructors() {
+        List<MethodModel> constructors = new ArrayList<>();
+        for (MethodModel method : methods) {
+            if (method.isConstructor()) {
+                constructors.add(method);
+            }
+        }
+        return constructors;
+    }
+
+    @Override
+    public String toString() {
+        return "TypeModel{" + name + '}';
+    }
+
+    /**
+     * Gets the simple name of a type name: the part after the last package or
+     * enclosing class separator.
+     */
+    public static String simpleNameOf(String typeName) {
+        int separator = Math.max(typeName.lastIndexOf('.'), typeName.lastIndexOf('$'));
+        return typeName.substring(separator + 1);
+    }
+
+    private static List<AnnotationModel> runtimeVisible(AnnotationModel[] annotations) {
+        if (annotations.length == 0) {
+            return List.of();
+        }
+        List<AnnotationModel> visible = new ArrayList<>(annotations.length);
+        for (AnnotationModel annotation : annotations) {
+            if (annotation.isRuntimeVisible()) {
+                visible.add(annotation);
+            }
+        }
+        return visible;
+    }
+
+    /**
+     * A field declared by a type.
+     */
+    public static final class FieldModel {
+
+        private final String name;
+        private final int access;
+        private final String descriptor;
+        private final String signature;
+        private final AnnotationModel[] annotations;
+
+        FieldModel(String name, int access, String descriptor, String signature, AnnotationModel[] annotations) {
+            this.name = name;
+            this.access = access;
+            this.descriptor = descriptor;
+            this.signature = signature;
+            this.annotations = annotations;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the access flags of the field, as {@link Opcodes} {@code ACC_*}
+         * flags.
+         */
+        public int getAccess() {
+            return access;
+        }
+
+        public boolean isStatic() {
+            return (access & Opcodes.ACC_STATIC) != 0;
+        }
+
+        public boolean isFinal() {
+            return (access & Opcodes.ACC_FINAL) != 0;
+        }
+
+        public boolean isPrivate() {
+            return (access & Opcodes.ACC_PRIVATE) != 0;
+        }
+
+        public String getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * Gets the name of the erased type of the field, like
+         * {@link java.lang.reflect.Field#getType()}.
+         */
+        public String getTypeName() {
+            return Type.getType(descriptor).getClassName();
+        }
+
+        /**
+         * Checks whether the field has a primitive type.
+         */
+        public boolean isPrimitive() {
+            return descriptor.length() == 1;
+        }
+
+        /**
+         * Gets the generic signature of the field, or {@code null} if its type
+         * is neither parameterized nor a type variable.
+         */
+        public String getSignature() {
+            return signature;
+        }
+
+        /**
+         * Gets the runtime-visible annotations declared on the field.
+         */
+        public List<AnnotationModel> getAnnotations() {
+            return runtimeVisible(annotations);
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + descriptor;
+        }
+    }
+
+    /**
+     * A method, constructor or static initializer declared by a type.
+     */
+    public static final class MethodModel {
+
+        private final String name;
+        private final int access;
+        private final String descriptor;
+        private final String signature;
+        private final String[] exceptionNames;
+        private final AnnotationModel[] annotations;
+        private final AnnotationModel[][] parameterAnnotations;
+
+        MethodModel(String name, int access, String descriptor, String signature, String[] exceptionNames,
+                AnnotationModel[] annotations, AnnotationModel[][] parameterAnnotations) {
+            this.name = name;
+            this.access = access;
+            this.descriptor = descriptor;
+            this.signature = signature;
+            this.exceptionNames = exceptionNames;
+            this.annotations = annotations;
+            this.parameterAnnotations = parameterAnnotations;
+        }
+
+        /**
+         * Gets the name of the method; {@code <init>} for constructors.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the access flags of the method, as {@link Opcodes}
+         * {@code ACC_*} flags.
+         */
+        public int getAccess() {
+            return access;
+        }
+
+        public boolean isPublic() {
+            return (access & Opcodes.ACC_PUBLIC) != 0;
+        }
+
+        public boolean isStatic() {
+            return (access & Opcodes.ACC_STATIC) != 0;
+        }
+
+        public boolean isAbstract() {
+            return (access & Opcodes.ACC_ABSTRACT) != 0;
+        }
+
+        public boolean isConstructor() {
+            return "<init>".equals(name);
+        }
+
+        public boolean isStaticInitializer() {
+            return "<clinit>".equals(name);
+        }
+
+        public String getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * Gets the name of the erased return type; {@code void} for
+         * constructors and methods returning nothing.
+         */
+        public String getReturnTypeName() {
+            return Type.getReturnType(descriptor).getClassName();
+        }
+
+        /**
+         * Gets the names of the erased parameter types, synthetic parameters
+         * included, like {@link java.lang.reflect.Method#getParameterTypes()}.
+         */
+        public List<String> getParameterTypeNames() {
+            Type[] argumentTypes = Type.getArgumentTypes(descriptor);
+            List<String> names = new ArrayList<>(argumentTypes.length);
+            for (Type argumentType : argumentTypes) {
+                names.add(argumentType.getClassName());
+            }
+            return names;
+        }
+
+        public int getParameterCount() {
+            return Type.getArgumentCount(descriptor);
+        }
+
+        /**
+         * Gets the names of the declared exception types.
+         */
+        public List<String> getExceptionTypeNames() {
+            return List.of(exceptionNames);
+        }
+
+        /**
+         * Gets the generic signature of the method, or {@code null} if it
+         * uses no type variable or parameterized type.
+         */
+        public String getSignature() {
+            return signature;
+        }
+
+        /**
+         * Gets the runtime-visible annotations declared on the method.
+         */
+        public List<AnnotationModel> getAnnotations() {
+            return runtimeVisible(annotations);
+        }
+
+        /**
+         * Gets the runtime-visible annotations of each parameter, like
+         * {@link java.lang.reflect.Method#getParameterAnnotations()}. The list is
+         * empty when no parameter is annotated.
+         */
+        public List<List<AnnotationModel>> getParameterAnnotations() {
+            if (parameterAnnotations.length == 0) {
+                return List.of();
+            }
+            int parameterCount = Math.max(getParameterCount(), parameterAnnotations.length);
+            List<List<AnnotationModel>> result = new ArrayList<>(parameterCount);
+            for (int i = 0; i < parameterCount; i++) {
+                AnnotationModel[] annotationsOfParameter = i < parameterAnnotations.length
+                        ? parameterAnnotations[i]
+                        : null;
+                result.add(runtimeVisible(annotationsOfParameter != null ? annotationsOfParameter : NO_ANNOTATIONS));
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return name + descriptor;
+        }
+    }
+
+    /**
+     * An annotation declared on a type or a member, with the element values
+     * present in the class file. Default values of the annotation type are not
+     * included.
+     * <p>
+     * Values are boxed primitives or strings; class literals are type names,
+     * enum constants are constant names, arrays are lists and nested
+     * annotations are {@link AnnotationModel}s.
+     */
+    public static final class AnnotationModel {
+
+        private final String typeName;
+        private final boolean runtimeVisible;
+        private final Map<String, Object> values;
+
+        AnnotationModel(String typeName, boolean runtimeVisible, Map<String, Object> values) {
+            this.typeName = typeName;
+            this.runtimeVisible = runtimeVisible;
+            this.values = values;
+        }
+
+        /**
+         * Gets the name of the annotation type.
+         */
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public String getSimpleName() {
+            return simpleNameOf(typeName);
+        }
+
+        /**
+         * Checks whether the annotation is retained at runtime, and thus
+         * visible to reflection.
+         */
+        public boolean isRuntimeVisible() {
+            return runtimeVisible;
+        }
+
+        /**
+         * Gets the element values present in the class file, in declaration
+         * order.
+         */
+        public Map<String, Object> getValues() {
+            return Collections.unmodifiableMap(values);
+        }
+
+        /**
+         * Gets an element value, or the given default when the class file
+         * does not set it.
+         */
+        public Object getValue(String elementName, Object defaultValue) {
+            return values.getOrDefault(elementName, defaultValue);
+        }
+
+        @Override
+        public String toString() {
+            return "@" + typeName + (values.isEmpty() ? "" : values.toString());
+        }
+    }
+
+    /**
+     * Checks whether a type name names a primitive type, {@code void}
+     * included.
+     */
+    public static boolean isPrimitiveTypeName(String typeName) {
+        return PRIMITIVE_TYPE_NAMES.contains(typeName);
+    }
+}
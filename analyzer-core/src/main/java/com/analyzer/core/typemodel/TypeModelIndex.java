@@ -0,0 +1,562 @@
+package com.analyzer.core.typemodel;
+
+import com.analyzer.api.graph.ProjectFileRepository;
+import com.analyzer.api.resource.ResourceResolver;
+import com.analyzer.core.model.ProjectFile;
+import com.analyzer.core.resource.JARClassLoaderService;
+import com.analyzer.core.resource.ResourceLocation;
+import com.analyzer.core.typemodel.TypeModel.AnnotationModel;
+import com.analyzer.core.typemodel.TypeModel.FieldModel;
+import com.analyzer.core.typemodel.TypeModel.MethodModel;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Inherited;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Reflection-like index of the types of a project, read from class bytes with
+ * ASM instead of loaded by a ClassLoader.
+ * <p>
+ * On first use, every {@code .class} file of the project is parsed once,
+ * skipping method bodies, into a {@link TypeModel}. Types outside the project
+ * (libraries and the JDK) are parsed on demand from the class file resources
+ * of the shared ClassLoader, which reads bytes without defining classes. No
+ * class is ever loaded, linked or initialized: metaspace use does not grow
+ * with the project, and a partial classpath only leaves the missing types out
+ * instead of failing the types that reference them.
+ * <p>
+ * Names, descriptors and signatures are interned across all types. The index
+ * is thread-safe; when two class files define the same type, the first in
+ * repository order wins, as on a classpath.
+ */
+public class TypeModelIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TypeModelIndex.class);
+
+    private static final int PARSING_OPTIONS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG
+            | ClassReader.SKIP_FRAMES;
+    private static final String[] NO_NAMES = new String[0];
+    private static final AnnotationModel[] NO_ANNOTATIONS = new AnnotationModel[0];
+    private static final AnnotationModel[][] NO_PARAMETER_ANNOTATIONS = new AnnotationModel[0][];
+
+    private final ProjectFileRepository projectFileRepository;
+    private final ResourceResolver resourceResolver;
+    private final JARClassLoaderService classLoaderService;
+    private final ClassLoader libraryClassLoader;
+
+    private final Map<String, String> internedStrings = new ConcurrentHashMap<>();
+    private final Map<String, Optional<TypeModel>> types = new ConcurrentHashMap<>();
+    private final AtomicReference<CompletableFuture<Void>> projectIndexing = new AtomicReference<>();
+    private volatile boolean projectIndexed;
+
+    /**
+     * Creates the index of the analyzed project.
+     *
+     * @param projectFileRepository the repository holding the class files of the
+     *                              project
+     * @param resourceResolver      the resolver reading class files
+     * @param classLoaderService    the service providing the shared ClassLoader,
+     *                              used to find library class files
+     */
+    @Inject
+    public TypeModelIndex(ProjectFileRepository projectFileRepository, ResourceResolver resourceResolver,
+            JARClassLoaderService classLoaderService) {
+        this.projectFileRepository = projectFileRepository;
+        this.resourceResolver = resourceResolver;
+        this.classLoaderService = classLoaderService;
+        this.libraryClassLoader = null;
+    }
+
+    /**
+     * Creates an index of the types added with {@link #index(byte[])}, finding
+     * other types in the class file resources of the given ClassLoader.
+     *
+     * @param libraryClassLoader the ClassLoader to read library class files from
+     */
+    public TypeModelIndex(ClassLoader libraryClassLoader) {
+        this.projectFileRepository = null;
+        this.resourceResolver = null;
+        this.classLoaderService = null;
+        this.libraryClassLoader = libraryClassLoader;
+        this.projectIndexed = true;
+    }
+
+    /**
+     * Finds a type by its binary name, like {@link Class#forName(String)}
+     * without loading it.
+     *
+     * @param typeName the binary name, e.g. {@code java.util.Map$Entry}
+     * @return the type, or empty if no class file defines it
+     */
+    public Optional<TypeModel> find(String typeName) {
+        if (typeName == null || typeName.endsWith("]") || TypeModel.isPrimitiveTypeName(typeName)) {
+            return Optional.empty();
+        }
+        indexProject();
+        Optional<TypeModel> type = types.get(typeName);
+        if (type == null) {
+            type = Optional.ofNullable(readLibraryType(typeName));
+            Optional<TypeModel> existing = types.putIfAbsent(typeName, type);
+            type = existing != null ? existing : type;
+        }
+        return type;
+    }
+
+    /**
+     * Parses class bytes and adds the type they define, unless a type with the
+     * same name was added before.
+     *
+     * @param classBytes the contents of a class file
+     * @return the indexed type with the name defined by the class file
+     * @throws IllegalArgumentException if the bytes are not a class file
+     */
+    public TypeModel index(byte[] classBytes) {
+        TypeModel type = parse(classBytes);
+        Optional<TypeModel> existing = types.putIfAbsent(type.getName(), Optional.of(type));
+        return existing != null && existing.isPresent() ? existing.get() : type;
+    }
+
+    /**
+     * Gets the number of types parsed so far.
+     */
+    public int size() {
+        return (int) types.values().stream().filter(Optional::isPresent).count();
+    }
+
+    /**
+     * Gets the names of the superclasses of a type, nearest first and
+     * {@code java.lang.Object} last, like walking
+     * {@link Class#getSuperclass()}. The walk stops at the first superclass
+     * without a class file, which is still listed.
+     */
+    public List<String> getSuperclassNames(String typeName) {
+        List<String> superclasses = new ArrayList<>();
+        Optional<TypeModel> current = find(typeName);
+        while (current.isPresent() && current.get().getSuperclassName() != null
+                && !current.get().isInterface()) {
+            String superclassName = current.get().getSuperclassName();
+            if (superclasses.contains(superclassName)) {
+                break;
+            }
+            superclasses.add(superclassName);
+            current = find(superclassName);
+        }
+        return superclasses;
+    }
+
+    /**
+     * Gets the runtime-visible annotations present on a type, like
+     * {@link Class#getAnnotations()}: the annotations it declares, plus the
+     * annotations of its superclasses whose type is annotated
+     * {@link java.lang.annotation.Inherited}, unless a nearer class declares
+     * an annotation of the same type. Annotation types without a class file
+     * are not inherited.
+     */
+    public List<AnnotationModel> getAnnotations(TypeModel type) {
+        List<AnnotationModel> declared = type.getAnnotations();
+        List<AnnotationModel> annotations = null;
+        Set<String> annotationTypes = null;
+        for (String superclassName : getSuperclassNames(type.getName())) {
+            Optional<TypeModel> superclass = find(superclassName);
+            if (superclass.isEmpty()) {
+                break;
+            }
+            for (AnnotationModel annotation : superclass.get().getAnnotations()) {
+                if (!isInheritedAnnotation(annotation.getTypeName())) {
+                    continue;
+                }
+                if (annotations == null) {
+                    annotations = new ArrayList<>(declared);
+                    annotationTypes = new LinkedHashSet<>();
+                    for (AnnotationModel declaredAnnotation : declared) {
+                        annotationTypes.add(declaredAnnotation.getTypeName());
+                    }
+                }
+                if (annotationTypes.add(annotation.getTypeName())) {
+                    annotations.add(annotation);
+                }
+            }
+        }
+        return annotations != null ? Collections.unmodifiableList(annotations) : declared;
+    }
+
+    private boolean isInheritedAnnotation(String annotationTypeName) {
+        return find(annotationTypeName)
+                .map(annotationType -> annotationType.getAnnotation(Inherited.class.getName()) != null)
+                .orElse(false);
+    }
+
+    /**
+     * Gets the names of all interfaces a type implements: its direct
+     * interfaces, the interfaces they extend and those of its superclasses.
+     * Interfaces without a class file are listed but not walked.
+     */
+    public Set<String> getAllInterfaceNames(String typeName) {
+        Set<String> interfaces = new LinkedHashSet<>();
+        Set<String> visited = new LinkedHashSet<>();
+        collectInterfaces(typeName, interfaces, visited);
+        return interfaces;
+    }
+
+    private void collectInterfaces(String typeName, Set<String> interfaces, Set<String> visited) {
+        if (!visited.add(typeName)) {
+            return;
+        }
+        Optional<TypeModel> type = find(typeName);
+        if (type.isEmpty()) {
+            return;
+        }
+        for (String interfaceName : type.get().getInterfaceNames()) {
+            interfaces.add(interfaceName);
+            collectInterfaces(interfaceName, interfaces, visited);
+        }
+        if (type.get().getSuperclassName() != null && !type.get().isInterface()) {
+            collectInterfaces(type.get().getSuperclassName(), interfaces, visited);
+        }
+    }
+
+    /**
+     * Checks whether a type is the target type or one of its subtypes, like
+     * {@link Class#isAssignableFrom(Class)} with the arguments swapped.
+     * Primitive and array types are only assignable to themselves.
+     */
+    public boolean isAssignableTo(String typeName, String targetTypeName) {
+        if (typeName.equals(targetTypeName)) {
+            return true;
+        }
+        if (typeName.endsWith("]") || TypeModel.isPrimitiveTypeName(typeName)) {
+            return false;
+        }
+        return "java.lang.Object".equals(targetTypeName)
+                || getSuperclassNames(typeName).contains(targetTypeName)
+                || getAllInterfaceNames(typeName).contains(targetTypeName);
+    }
+
+    /**
+     * Parses the class files of the project, once, before the first lookup.
+     * One caller parses them, without holding a lock, while concurrent callers
+     * wait for its types to be published.
+     */
+    private void indexProject() {
+        if (projectIndexed) {
+            return;
+        }
+        CompletableFuture<Void> indexing = new CompletableFuture<>();
+        CompletableFuture<Void> running = projectIndexing.compareAndExchange(null, indexing);
+        if (running != null) {
+            running.join();
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            List<ProjectFile> classFiles = projectFileRepository.findByExtension("class");
+            List<TypeModel> parsed = classFiles.parallelStream()
+                    .map(this::parseProjectFile)
+                    .toList();
+            int failed = publishProjectTypes(parsed);
+            logger.info("Indexed {} project types from {} class files in {} ms ({} unreadable)",
+                    size(), classFiles.size(), System.currentTimeMillis() - start, failed);
+            indexing.complete(null);
+        } catch (RuntimeException e) {
+            // Let a later lookup try again
+            projectIndexing.set(null);
+            indexing.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Registers the parsed project types in repository order, so that the
+     * first definition of a type wins deterministically.
+     *
+     * @return the number of class files that could not be parsed
+     */
+    private synchronized int publishProjectTypes(List<TypeModel> parsed) {
+        int failed = 0;
+        for (TypeModel type : parsed) {
+            if (type == null) {
+                failed++;
+            } else {
+                types.putIfAbsent(type.getName(), Optional.of(type));
+            }
+        }
+        projectIndexed = true;
+        return failed;
+    }
+
+    private TypeModel parseProjectFile(ProjectFile classFile) {
+        ResourceLocation location = new ResourceLocation(classFile.getFilePath().toUri());
+        try (InputStream in = resourceResolver.openStream(location)) {
+            if (in == null) {
+                throw new IOException("Could not open class file");
+            }
+            return parse(in.readAllBytes());
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not index class file {}: {}", classFile.getFilePath(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads a type from the class file resources of the library ClassLoader.
+     * Resources are read without defining the class.
+     */
+    private TypeModel readLibraryType(String typeName) {
+        ClassLoader classLoader = getLibraryClassLoader();
+        try (InputStream in = classLoader != null
+                ? classLoader.getResourceAsStream(typeName.replace('.', '/') + ".class")
+                : null) {
+            if (in == null) {
+                logger.debug("No class file found for type {}", typeName);
+                return null;
+            }
+            return parse(in.readAllBytes());
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not index library type {}: {}", typeName, e.getMessage());
+            return null;
+        }
+    }
+
+    private ClassLoader getLibraryClassLoader() {
+        if (libraryClassLoader != null) {
+            return libraryClassLoader;
+        }
+        try {
+            return classLoaderService.getSharedClassLoader();
+        } catch (IllegalStateException e) {
+            // Project JARs not scanned: library types come from the analyzer classpath
+            return Thread.currentThread().getContextClassLoader();
+        }
+    }
+
+    private TypeModel parse(byte[] classBytes) {
+        TypeModelReader reader = new TypeModelReader();
+        new ClassReader(classBytes).accept(reader, PARSING_OPTIONS);
+        return reader.build();
+    }
+
+    private String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = internedStrings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    private String internTypeName(String internalName) {
+        return internalName != null ? intern(internalName.replace('/', '.')) : null;
+    }
+
+    private String[] internTypeNames(String[] internalNames) {
+        if (internalNames == null || internalNames.length == 0) {
+            return NO_NAMES;
+        }
+        String[] names = new String[internalNames.length];
+        for (int i = 0; i < internalNames.length; i++) {
+            names[i] = internTypeName(internalNames[i]);
+        }
+        return names;
+    }
+
+    private AnnotationVisitor annotationReader(String descriptor, boolean visible,
+            List<AnnotationModel> annotations) {
+        return new AnnotationReader(descriptor, visible, value -> annotations.add((AnnotationModel) value));
+    }
+
+    private static AnnotationModel[] toArray(List<AnnotationModel> annotations) {
+        return annotations.isEmpty() ? NO_ANNOTATIONS : annotations.toArray(NO_ANNOTATIONS);
+    }
+
+    /**
+     * Builds a {@link TypeModel} from the declarations of a class file.
+     */
+    private final class TypeModelReader extends ClassVisitor {
+
+        private String name;
+        private int access;
+        private String superclassName;
+        private String[] interfaceNames;
+        private String signature;
+        private final List<AnnotationModel> annotations = new ArrayList<>();
+        private final List<FieldModel> fields = new ArrayList<>();
+        private final List<MethodModel> methods = new ArrayList<>();
+
+        TypeModelReader() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName,
+                String[] interfaces) {
+            this.name = internTypeName(name);
+            this.access = access;
+            this.superclassName = internTypeName(superName);
+            this.interfaceNames = internTypeNames(interfaces);
+            this.signature = intern(signature);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return annotationReader(descriptor, visible, annotations);
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature,
+                Object value) {
+            List<AnnotationModel> fieldAnnotations = new ArrayList<>();
+            return new FieldVisitor(Opcodes.ASM9) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+                    return annotationReader(annotationDescriptor, visible, fieldAnnotations);
+                }
+
+                @Override
+                public void visitEnd() {
+                    fields.add(new FieldModel(intern(name), access, intern(descriptor), intern(signature),
+                            toArray(fieldAnnotations)));
+                }
+            };
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                String[] exceptions) {
+            List<AnnotationModel> methodAnnotations = new ArrayList<>();
+            List<List<AnnotationModel>> parameterAnnotations = new ArrayList<>();
+            return new MethodVisitor(Opcodes.ASM9) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+                    return annotationReader(annotationDescriptor, visible, methodAnnotations);
+                }
+
+                @Override
+                public AnnotationVisitor visitParameterAnnotation(int parameter, String annotationDescriptor,
+                        boolean visible) {
+                    while (parameterAnnotations.size() <= parameter) {
+                        parameterAnnotations.add(new ArrayList<>());
+                    }
+                    return annotationReader(annotationDescriptor, visible, parameterAnnotations.get(parameter));
+                }
+
+                @Override
+                public void visitEnd() {
+                    AnnotationModel[][] annotationsOfParameters = NO_PARAMETER_ANNOTATIONS;
+                    if (!parameterAnnotations.isEmpty()) {
+                        annotationsOfParameters = new AnnotationModel[parameterAnnotations.size()][];
+                        for (int i = 0; i < annotationsOfParameters.length; i++) {
+                            annotationsOfParameters[i] = toArray(parameterAnnotations.get(i));
+                        }
+                    }
+                    methods.add(new MethodModel(intern(name), access, intern(descriptor), intern(signature),
+                            internTypeNames(exceptions), toArray(methodAnnotations), annotationsOfParameters));
+                }
+            };
+        }
+
+        TypeModel build() {
+            Objects.requireNonNull(name, "Not a class file");
+            return new TypeModel(name, access, superclassName, interfaceNames, signature, toArray(annotations),
+                    fields.toArray(new FieldModel[0]), methods.toArray(new MethodModel[0]));
+        }
+    }
+
+    /**
+     * Reads the element values of an annotation, or the elements of an array
+     * value when built without an annotation descriptor.
+     */
+    private final class AnnotationReader extends AnnotationVisitor {
+
+        private final String descriptor;
+        private final boolean visible;
+        private final Consumer<Object> onEnd;
+        private final Map<String, Object> values = new LinkedHashMap<>();
+        private final List<Object> elements = new ArrayList<>();
+
+        AnnotationReader(String descriptor, boolean visible, Consumer<Object> onEnd) {
+            super(Opcodes.ASM9);
+            this.descriptor = descriptor;
+            this.visible = visible;
+            this.onEnd = onEnd;
+        }
+
+        private void put(String elementName, Object value) {
+            if (descriptor != null) {
+                values.put(intern(elementName), value);
+            } else {
+                elements.add(value);
+            }
+        }
+
+        @Override
+        public void visit(String elementName, Object value) {
+            if (value instanceof Type type) {
+                put(elementName, intern(type.getClassName()));
+            } else if (value instanceof String string) {
+                put(elementName, intern(string));
+            } else if (value != null && value.getClass().isArray()) {
+                // Primitive arrays are reported in one call
+                List<Object> array = new ArrayList<>(Array.getLength(value));
+                for (int i = 0; i < Array.getLength(value); i++) {
+                    array.add(Array.get(value, i));
+                }
+                put(elementName, Collections.unmodifiableList(array));
+            } else {
+                put(elementName, value);
+            }
+        }
+
+        @Override
+        public void visitEnum(String elementName, String enumDescriptor, String value) {
+            put(elementName, intern(value));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String elementName, String annotationDescriptor) {
+            return new AnnotationReader(annotationDescriptor, visible, value -> put(elementName, value));
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(String elementName) {
+            return new AnnotationReader(null, visible, value -> put(elementName, value));
+        }
+
+        @Override
+        public void visitEnd() {
+            if (descriptor != null) {
+                onEnd.accept(new AnnotationModel(intern(Type.getType(descriptor).getClassName()), visible,
+                        values.isEmpty() ? Map.of() : values));
+            } else {
+                onEnd.accept(Collections.unmodifiableList(elements));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TypeModelIndex{types=" + size() + ", interned=" + internedStrings.size() + '}';
+    }
+}
@@ -0,0 +1,313 @@
+package com.analyzer.core.typemodel;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.signature.SignatureReader;
+import org.objectweb.asm.signature.SignatureVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Decodes the generic signatures kept by {@link TypeModel} into trees of
+ * {@link GenericType}s, the bytecode counterpart of
+ * {@link java.lang.reflect.Type}.
+ */
+public final class TypeSignatures {
+
+    private TypeSignatures() {
+        // Utility class
+    }
+
+    /**
+     * The kind of a {@link GenericType}, mirroring the subtypes of
+     * {@link java.lang.reflect.Type}.
+     */
+    public enum Kind {
+        /** A class or interface type, possibly parameterized. */
+        CLASS,
+        /** A primitive type. */
+        PRIMITIVE,
+        /** A type variable, such as {@code T}. */
+        TYPE_VARIABLE,
+        /** An array type; the component is the element type. */
+        ARRAY,
+        /** The unbounded wildcard {@code ?}. */
+        WILDCARD,
+        /** A wildcard with an upper bound; the component is the bound. */
+        WILDCARD_EXTENDS,
+        /** A wildcard with a lower bound; the component is the bound. */
+        WILDCARD_SUPER
+    }
+
+    /**
+     * A type as written in a generic signature.
+     *
+     * @param kind          the kind of type
+     * @param name          the class name, primitive name or type variable name;
+     *                      {@code null} for arrays and wildcards
+     * @param typeArguments the type arguments of a class type
+     * @param component     the element type of an array, or the bound of a
+     *                      bounded wildcard
+     */
+    public record GenericType(Kind kind, String name, List<GenericType> typeArguments, GenericType component) {
+
+        /**
+         * Checks whether this is a class type with type arguments.
+         */
+        public boolean isParameterized() {
+            return kind == Kind.CLASS && !typeArguments.isEmpty();
+        }
+
+        /**
+         * Renders the type like {@link java.lang.reflect.Type#getTypeName()},
+         * e.g. {@code java.util.Map<java.lang.String, ? extends T>}.
+         */
+        public String getTypeName() {
+            return switch (kind) {
+                case CLASS -> {
+                    if (typeArguments.isEmpty()) {
+                        yield name;
+                    }
+                    StringJoiner arguments = new StringJoiner(", ", name + "<", ">");
+                    typeArguments.forEach(argument -> arguments.add(argument.getTypeName()));
+                    yield arguments.toString();
+                }
+                case PRIMITIVE, TYPE_VARIABLE -> name;
+                case ARRAY -> component.getTypeName() + "[]";
+                case WILDCARD -> "?";
+                case WILDCARD_EXTENDS -> "? extends " + component.getTypeName();
+                case WILDCARD_SUPER -> "? super " + component.getTypeName();
+            };
+        }
+
+        @Override
+        public String toString() {
+            return getTypeName();
+        }
+    }
+
+    /**
+     * A type parameter declared by a class or a method.
+     *
+     * @param name   the name of the type variable
+     * @param bounds the declared bounds, class bound first
+     */
+    public record TypeParameter(String name, List<GenericType> bounds) {
+    }
+
+    /**
+     * The decoded generic signature of a class.
+     */
+    public record ClassSignature(List<TypeParameter> typeParameters, GenericType superclass,
+            List<GenericType> interfaces) {
+    }
+
+    /**
+     * The decoded generic signature of a method or constructor. Parameters the
+     * compiler considers synthetic may be missing from the parameter types.
+     */
+    public record MethodSignature(List<TypeParameter> typeParameters, List<GenericType> parameterTypes,
+            GenericType returnType, List<GenericType> exceptionTypes) {
+    }
+
+    /**
+     * Decodes the signature of a field, or of a type in another signature.
+     *
+     * @param typeSignature the signature, e.g.
+     *                      {@code Ljava/util/List<Ljava/lang/String;>;}
+     */
+    public static GenericType parseType(String typeSignature) {
+        TypeBuilder builder = new TypeBuilder();
+        new SignatureReader(typeSignature).acceptType(builder);
+        return builder.build();
+    }
+
+    /**
+     * Decodes the generic signature of a class.
+     */
+    public static ClassSignature parseClass(String classSignature) {
+        DeclarationBuilder builder = new DeclarationBuilder();
+        new SignatureReader(classSignature).accept(builder);
+        return new ClassSignature(builder.typeParameters(), builder.superclass.build(),
+                build(builder.interfaces));
+    }
+
+    /**
+     * Decodes the generic signature of a method or constructor.
+     */
+    public static MethodSignature parseMethod(String methodSignature) {
+        DeclarationBuilder builder = new DeclarationBuilder();
+        new SignatureReader(methodSignature).accept(builder);
+        return new MethodSignature(builder.typeParameters(), build(builder.parameterTypes),
+                builder.returnType.build(), build(builder.exceptionTypes));
+    }
+
+    private static List<GenericType> build(List<TypeBuilder> builders) {
+        List<GenericType> types = new ArrayList<>(builders.size());
+        for (TypeBuilder builder : builders) {
+            types.add(builder.build());
+        }
+        return List.copyOf(types);
+    }
+
+    /**
+     * Collects the type parameters and the top-level types of a class or
+     * method signature.
+     */
+    private static final class DeclarationBuilder extends SignatureVisitor {
+
+        private final List<String> typeParameterNames = new ArrayList<>();
+        private final List<List<TypeBuilder>> typeParameterBounds = new ArrayList<>();
+        private final List<TypeBuilder> interfaces = new ArrayList<>();
+        private final List<TypeBuilder> parameterTypes = new ArrayList<>();
+        private final List<TypeBuilder> exceptionTypes = new ArrayList<>();
+        private final TypeBuilder superclass = new TypeBuilder();
+        private final TypeBuilder returnType = new TypeBuilder();
+
+        DeclarationBuilder() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public void visitFormalTypeParameter(String name) {
+            typeParameterNames.add(name);
+            typeParameterBounds.add(new ArrayList<>());
+        }
+
+        @Override
+        public SignatureVisitor visitClassBound() {
+            return addBound();
+        }
+
+        @Override
+        public SignatureVisitor visitInterfaceBound() {
+            return addBound();
+        }
+
+        private SignatureVisitor addBound() {
+            TypeBuilder bound = new TypeBuilder();
+            typeParameterBounds.get(typeParameterBounds.size() - 1).add(bound);
+            return bound;
+        }
+
+        @Override
+        public SignatureVisitor visitSuperclass() {
+            return superclass;
+        }
+
+        @Override
+        public SignatureVisitor visitInterface() {
+            return add(interfaces);
+        }
+
+        @Override
+        public SignatureVisitor visitParameterType() {
+            return add(parameterTypes);
+        }
+
+        @Override
+        public SignatureVisitor visitReturnType() {
+            return returnType;
+        }
+
+        @Override
+        public SignatureVisitor visitExceptionType() {
+            return add(exceptionTypes);
+        }
+
+        private static SignatureVisitor add(List<TypeBuilder> types) {
+            TypeBuilder type = new TypeBuilder();
+            types.add(type);
+            return type;
+        }
+
+        List<TypeParameter> typeParameters() {
+            List<TypeParameter> typeParameters = new ArrayList<>(typeParameterNames.size());
+            for (int i = 0; i < typeParameterNames.size(); i++) {
+                typeParameters.add(new TypeParameter(typeParameterNames.get(i), build(typeParameterBounds.get(i))));
+            }
+            return List.copyOf(typeParameters);
+        }
+    }
+
+    /**
+     * Builds one {@link GenericType} from the events of a type signature.
+     */
+    private static final class TypeBuilder extends SignatureVisitor {
+
+        private Kind kind;
+        private String name;
+        private final List<TypeBuilder> typeArguments = new ArrayList<>();
+        private TypeBuilder component;
+
+        TypeBuilder() {
+            super(Opcodes.ASM9);
+        }
+
+        private TypeBuilder(Kind kind) {
+            this();
+            this.kind = kind;
+        }
+
+        @Override
+        public void visitBaseType(char descriptor) {
+            kind = Kind.PRIMITIVE;
+            name = Type.getType(String.valueOf(descriptor)).getClassName();
+        }
+
+        @Override
+        public void visitTypeVariable(String name) {
+            kind = Kind.TYPE_VARIABLE;
+            this.name = name;
+        }
+
+        @Override
+        public SignatureVisitor visitArrayType() {
+            kind = Kind.ARRAY;
+            component = new TypeBuilder();
+            return component;
+        }
+
+        @Override
+        public void visitClassType(String name) {
+            kind = Kind.CLASS;
+            this.name = name.replace('/', '.');
+        }
+
+        @Override
+        public void visitInnerClassType(String name) {
+            // Arguments of the outer class are not part of the erased name
+            this.name = this.name + '$' + name;
+            typeArguments.clear();
+        }
+
+        @Override
+        public void visitTypeArgument() {
+            typeArguments.add(new TypeBuilder(Kind.WILDCARD));
+        }
+
+        @Override
+        public SignatureVisitor visitTypeArgument(char wildcard) {
+            if (wildcard == SignatureVisitor.INSTANCEOF) {
+                TypeBuilder argument = new TypeBuilder();
+                typeArguments.add(argument);
+                return argument;
+            }
+            TypeBuilder argument = new TypeBuilder(
+                    wildcard == SignatureVisitor.EXTENDS ? Kind.WILDCARD_EXTENDS : Kind.WILDCARD_SUPER);
+            argument.component = new TypeBuilder();
+            typeArguments.add(argument);
+            return argument.component;
+        }
+
+        GenericType build() {
+            if (kind == null) {
+                throw new IllegalArgumentException("Incomplete type signature");
+            }
+            return new GenericType(kind, name, TypeSignatures.build(typeArguments),
+                    component != null ? component.build() : null);
+        }
+    }
+}
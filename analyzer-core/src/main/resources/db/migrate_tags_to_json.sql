@@ -29,7 +29,5 @@ WHERE tags IS NULL;
 -- SELECT COUNT(DISTINCT node_id) as old_nodes_with_tags FROM node_tags;
 -- SELECT id, tags FROM nodes WHERE tags IS NOT NULL AND tags != '[]' LIMIT 10;
 
--- After verifying data migration is successful, you can:
--- 1. Drop the node_tags table: DROP TABLE IF EXISTS node_tags;
--- 2. Remove TagMapper.xml and TagMapper.java
--- 3. Update application code to use the new tags column
+-- Note: node_tags is used again as an index for tag queries and is kept in sync
+-- with nodes.tags by H2GraphStorageRepository; do not drop it.
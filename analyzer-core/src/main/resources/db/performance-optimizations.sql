@@ -1,13 +1,8 @@
 -- Performance Optimizations for Graph Database
 -- Additional indexes to improve query performance
 
--- Index for tags column to speed up LIKE queries
--- Note: H2 doesn't support functional indexes on JSON, but we can create indexes on the CLOB column
-CREATE INDEX IF NOT EXISTS idx_nodes_tags ON nodes(tags);
-
--- Index for commonly queried node types (if we know them in advance)
--- This is in addition to the existing idx_nodes_type
-CREATE INDEX IF NOT EXISTS idx_nodes_type_tags ON nodes(node_type, tags);
+-- Tag lookups use the node_tags table and its idx_node_tags_tag index (see schema.sql).
+-- An index on the tags CLOB cannot serve a leading-wildcard LIKE, so none is created here.
 
 -- Index for properties column to speed up JSON queries
 CREATE INDEX IF NOT EXISTS idx_nodes_properties ON nodes(properties);
@@ -15,10 +15,11 @@ CREATE TABLE IF NOT EXISTS nodes (
 
 CREATE INDEX IF NOT EXISTS idx_nodes_type ON nodes(node_type);
 CREATE INDEX IF NOT EXISTS idx_nodes_created ON nodes(created_at);
+CREATE INDEX IF NOT EXISTS idx_nodes_updated ON nodes(updated_at);  -- Graph version, see GraphSnapshotFile
 
 -- Note: H2 doesn't support function-based indexes on JSON paths
 -- JSON queries will use full table scans, but remain functional
--- For better performance on specific properties, consider adding computed columns
+-- Hot properties and metrics are promoted to the indexed promoted_values table below
 
 -- Edges table: represents relationships between nodes
 CREATE TABLE IF NOT EXISTS edges (
@@ -37,6 +38,40 @@ CREATE INDEX IF NOT EXISTS idx_edges_source ON edges(source_id);
 CREATE INDEX IF NOT EXISTS idx_edges_target ON edges(target_id);
 CREATE INDEX IF NOT EXISTS idx_edges_type ON edges(edge_type);
 
+-- Tags table: one row per node tag, kept in sync with nodes.tags for indexed tag lookups
+-- (a LIKE '%"tag"%' on the tags CLOB cannot use an index)
+CREATE TABLE IF NOT EXISTS node_tags (
+    node_id VARCHAR(1024) NOT NULL,
+    tag VARCHAR(512) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (node_id, tag),
+    FOREIGN KEY (node_id) REFERENCES nodes(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_node_tags_tag ON node_tags(tag, node_id);
+
+-- Promoted values: typed copies of selected properties and metrics (see PromotedKeys),
+-- kept in sync with nodes.properties and nodes.metrics for indexed filtering
+CREATE TABLE IF NOT EXISTS promoted_values (
+    node_id VARCHAR(1024) NOT NULL,
+    kind VARCHAR(16) NOT NULL,                 -- property or metric
+    name VARCHAR(255) NOT NULL,
+    string_value VARCHAR,                      -- Scalar value as text, as JSON_VALUE would return it
+    number_value DOUBLE PRECISION,             -- Numeric value, null for non-numeric values
+    PRIMARY KEY (node_id, kind, name),
+    FOREIGN KEY (node_id) REFERENCES nodes(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_promoted_values_string ON promoted_values(kind, name, string_value);
+CREATE INDEX IF NOT EXISTS idx_promoted_values_number ON promoted_values(kind, name, number_value);
+
+-- Promoted keys whose values are complete for every node
+CREATE TABLE IF NOT EXISTS promoted_keys (
+    kind VARCHAR(16) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (kind, name)
+);
+
 -- Project metadata table
 CREATE TABLE IF NOT EXISTS projects (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -0,0 +1,130 @@
+package com.analyzer.api.inspector;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.Name;
+import com.github.javaparser.ast.expr.SimpleName;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AstEventBus: a single walk of a JavaParser AST feeding the
+ * callbacks of several subscribers.
+ */
+@DisplayName("AstEventBus - Single-Walk AST Fan-Out Tests")
+class AstEventBusTest {
+
+    private static final Consumer<RuntimeException> NO_FAILURE = e -> fail("Unexpected failure", e);
+
+    private static final String SOURCE = """
+            package com.example;
+
+            public class Outer {
+                int check(int value) {
+                    if (value > 0) {
+                        return 1;
+                    }
+                    return 0;
+                }
+
+                static class Inner {
+                    void run() {
+                        if (true) {
+                            return;
+                        }
+                    }
+                }
+            }
+            """;
+
+    @Test
+    @DisplayName("Should deliver the nodes of each subscribed type in pre-order, like findAll")
+    void testDispatchInPreOrder() {
+        CompilationUnit cu = StaticJavaParser.parse(SOURCE);
+        AstEventBus bus = new AstEventBus();
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        bus.subscriber(NO_FAILURE)
+                .on(ClassOrInterfaceDeclaration.class, type -> first.add(type.getNameAsString()))
+                .on(MethodDeclaration.class, method -> first.add(method.getNameAsString() + "()"));
+        bus.subscriber(NO_FAILURE)
+                .on(IfStmt.class, stmt -> second.add("if"))
+                .onEnd(() -> second.add("end"));
+
+        bus.publish(cu);
+
+        assertEquals(List.of("Outer", "check()", "Inner", "run()"), first);
+        assertEquals(cu.findAll(IfStmt.class).size() + 1, second.size());
+        assertEquals("end", second.get(second.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Should not walk subtrees where no subscribed type can occur")
+    void testSubtreePruning() {
+        CompilationUnit cu = StaticJavaParser.parse(SOURCE);
+        AstEventBus bus = new AstEventBus();
+        List<MethodDeclaration> methods = new ArrayList<>();
+        bus.subscriber(NO_FAILURE).on(MethodDeclaration.class, methods::add);
+
+        bus.publish(cu);
+
+        assertEquals(cu.findAll(MethodDeclaration.class), methods);
+        assertTrue(bus.shouldDescend(ClassOrInterfaceDeclaration.class));
+        // A statement may hold an anonymous class declaring methods
+        assertTrue(bus.shouldDescend(ReturnStmt.class));
+        assertFalse(bus.shouldDescend(SimpleName.class));
+        assertFalse(bus.shouldDescend(Name.class));
+
+        AstEventBus nodes = new AstEventBus();
+        nodes.subscriber(NO_FAILURE).on(Node.class, node -> {
+        });
+        assertTrue(nodes.shouldDescend(SimpleName.class), "Any node may hold a comment");
+
+        AstEventBus endOnly = new AstEventBus();
+        endOnly.subscriber(NO_FAILURE).onEnd(() -> {
+        });
+        assertFalse(endOnly.shouldDescend(CompilationUnit.class));
+    }
+
+    @Test
+    @DisplayName("Should isolate a failing subscriber and let it skip subtrees")
+    void testFailureIsolationAndSkippedSubtrees() {
+        CompilationUnit cu = StaticJavaParser.parse(SOURCE);
+        AstEventBus bus = new AstEventBus();
+        List<RuntimeException> failures = new ArrayList<>();
+        List<String> failingEvents = new ArrayList<>();
+        bus.subscriber(failures::add)
+                .on(MethodDeclaration.class, method -> {
+                    failingEvents.add(method.getNameAsString());
+                    throw new IllegalStateException("broken callback");
+                })
+                .onEnd(() -> failingEvents.add("end"));
+        List<String> topLevel = new ArrayList<>();
+        AstEventBus.Subscriber skipping = bus.subscriber(NO_FAILURE);
+        skipping.on(ClassOrInterfaceDeclaration.class, type -> {
+            topLevel.add(type.getNameAsString());
+            skipping.skipSubtree(type);
+        });
+        List<String> methods = new ArrayList<>();
+        bus.subscriber(NO_FAILURE).on(MethodDeclaration.class, method -> methods.add(method.getNameAsString()));
+
+        bus.publish(cu);
+
+        assertEquals(1, failures.size(), "The failure is reported once");
+        assertEquals("broken callback", failures.get(0).getMessage());
+        assertEquals(List.of("check"), failingEvents);
+        assertEquals(List.of("Outer"), topLevel);
+        assertEquals(List.of("check", "run"), methods);
+    }
+}
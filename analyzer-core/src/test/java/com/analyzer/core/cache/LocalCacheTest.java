@@ -0,0 +1,126 @@
+package com.analyzer.core.cache;
+
+import com.github.javaparser.ast.CompilationUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LocalCache scoping, including a stress test that processes
+ * items concurrently.
+ */
+@DisplayName("LocalCache - Item Scope Tests")
+class LocalCacheTest {
+
+    private static final int ITERATIONS = 2_000;
+
+    @Test
+    @DisplayName("Concurrently processed items should never see each other's cached resources")
+    void testConcurrentScopes_AreIsolated() throws Exception {
+        LocalCache localCache = new LocalCache(true);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int worker = 0; worker < 2; worker++) {
+                final int workerId = worker;
+                results.add(executor.submit(() -> processItems(localCache, barrier, workerId)));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(ITERATIONS, result.get(60, TimeUnit.SECONDS).intValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Closing a scope should release its values and restore the enclosing scope")
+    void testNestedScopes_RestorePreviousScope() {
+        LocalCache localCache = new LocalCache(true);
+        CompilationUnit outerUnit = new CompilationUnit("com.example.outer");
+        CompilationUnit innerUnit = new CompilationUnit("com.example.inner");
+
+        try (LocalCache.Scope outer = localCache.openScope("outer")) {
+            localCache.getOrParseCompilationUnit(() -> outerUnit);
+
+            try (LocalCache.Scope inner = localCache.openScope("inner")) {
+                assertSame(inner, localCache.currentScope());
+                assertSame(innerUnit, localCache.getOrParseCompilationUnit(() -> innerUnit));
+            }
+
+            assertSame(outer, localCache.currentScope());
+            assertSame(outerUnit, localCache.getOrParseCompilationUnit(() -> innerUnit));
+        }
+
+        assertNull(localCache.currentScope().getItem(), "Default scope should be active after closing all scopes");
+        assertSame(innerUnit, localCache.getOrParseCompilationUnit(() -> innerUnit));
+    }
+
+    @Test
+    @DisplayName("Reset without an open scope should clear the thread's default scope")
+    void testReset_WithoutScope() {
+        LocalCache localCache = new LocalCache(true);
+        byte[] first = { 1 };
+        byte[] second = { 2 };
+
+        assertSame(first, localCache.getOrLoadClassBytes(() -> first));
+        assertSame(first, localCache.getOrLoadClassBytes(() -> second));
+
+        localCache.reset();
+
+        assertSame(second, localCache.getOrLoadClassBytes(() -> second));
+    }
+
+    /**
+     * Processes items in lock step with the other worker: both workers cache
+     * their own resources, wait for each other, then verify that they still read
+     * back exactly what they stored.
+     */
+    private int processItems(LocalCache localCache, CyclicBarrier barrier, int workerId) throws Exception {
+        int verified = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            String item = "worker" + workerId + ".Item" + i;
+            CompilationUnit unit = new CompilationUnit("com.example." + item);
+            byte[] classBytes = createClassBytes("com/example/worker" + workerId + "/Item" + i);
+
+            try (LocalCache.Scope scope = localCache.openScope(item)) {
+                localCache.getOrParseCompilationUnit(() -> unit);
+                localCache.getOrLoadClassBytes(() -> classBytes);
+                localCache.getOrCreateClassReader(() -> new ClassReader(classBytes));
+
+                barrier.await(10, TimeUnit.SECONDS);
+
+                assertSame(item, scope.getItem());
+                assertSame(unit, localCache.getOrParseCompilationUnit(() -> fail("CompilationUnit was evicted")));
+                assertSame(classBytes, localCache.getOrLoadClassBytes(() -> fail("Class bytes were evicted")));
+                assertEquals("com/example/worker" + workerId + "/Item" + i,
+                        localCache.getOrCreateClassReader(() -> fail("ClassReader was evicted")).getClassName());
+
+                barrier.await(10, TimeUnit.SECONDS);
+            }
+            verified++;
+        }
+        return verified;
+    }
+
+    private byte[] createClassBytes(String internalName) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, internalName, null, "java/lang/Object", null);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+package com.analyzer.core.cache;
+
+import com.github.javaparser.ast.CompilationUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SharedParseCache and the keyed LocalCache lookups backed by
+ * it.
+ */
+@DisplayName("SharedParseCache - Project-wide Cache Tests")
+class SharedParseCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should count hits and misses")
+    void testHitsAndMisses() throws Exception {
+        SharedParseCache cache = new SharedParseCache(1024 * 1024);
+        SharedParseCache.FileKey key = SharedParseCache.FileKey.of(createFile("A.class", 100));
+        byte[] bytes = new byte[100];
+
+        assertNull(cache.get(key, SharedParseCache.Kind.CLASS_BYTES, byte[].class));
+        cache.put(key, SharedParseCache.Kind.CLASS_BYTES, bytes);
+        assertSame(bytes, cache.get(key, SharedParseCache.Kind.CLASS_BYTES, byte[].class));
+        assertNull(cache.get(key, SharedParseCache.Kind.CLASS_READER, Object.class),
+                "Kinds of the same file should be cached separately");
+
+        SharedParseCache.Statistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.hits());
+        assertEquals(2, statistics.misses());
+        assertEquals(1, statistics.entries());
+        assertEquals(SharedParseCache.MIN_ENTRY_WEIGHT, statistics.weightBytes(),
+                "Small values should be weighed at least the entry overhead");
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries when the size limit is exceeded")
+    void testLeastRecentlyUsedEviction() throws Exception {
+        SharedParseCache cache = new SharedParseCache(3000);
+        SharedParseCache.FileKey first = SharedParseCache.FileKey.of(createFile("A.class", 1));
+        SharedParseCache.FileKey second = SharedParseCache.FileKey.of(createFile("B.class", 1));
+        SharedParseCache.FileKey third = SharedParseCache.FileKey.of(createFile("C.class", 1));
+
+        cache.put(first, SharedParseCache.Kind.CLASS_BYTES, new byte[1000]);
+        cache.put(second, SharedParseCache.Kind.CLASS_BYTES, new byte[1000]);
+        // Touch the first entry so that the second one becomes the eldest
+        assertNotNull(cache.get(first, SharedParseCache.Kind.CLASS_BYTES, byte[].class));
+        cache.put(third, SharedParseCache.Kind.CLASS_BYTES, new byte[1500]);
+
+        assertNotNull(cache.get(first, SharedParseCache.Kind.CLASS_BYTES, byte[].class));
+        assertNull(cache.get(second, SharedParseCache.Kind.CLASS_BYTES, byte[].class));
+        assertNotNull(cache.get(third, SharedParseCache.Kind.CLASS_BYTES, byte[].class));
+
+        SharedParseCache.Statistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.evictions());
+        assertEquals(2500, statistics.weightBytes());
+    }
+
+    @Test
+    @DisplayName("Should not cache values heavier than the whole cache")
+    void testOversizedValue() throws Exception {
+        SharedParseCache cache = new SharedParseCache(1000);
+        SharedParseCache.FileKey key = SharedParseCache.FileKey.of(createFile("Big.class", 1));
+
+        cache.put(key, SharedParseCache.Kind.CLASS_BYTES, new byte[2000]);
+
+        assertNull(cache.get(key, SharedParseCache.Kind.CLASS_BYTES, byte[].class));
+        assertEquals(0, cache.getStatistics().entries());
+    }
+
+    @Test
+    @DisplayName("Modified files should not be served from stale entries")
+    void testModifiedFile() throws Exception {
+        Path file = createFile("A.class", 10);
+        SharedParseCache.FileKey original = SharedParseCache.FileKey.of(file);
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(original.lastModified() + 60_000));
+        SharedParseCache.FileKey modified = SharedParseCache.FileKey.of(file);
+
+        assertNotEquals(original, modified);
+        assertNull(SharedParseCache.FileKey.of(tempDir.resolve("missing.class")));
+    }
+
+    @Test
+    @DisplayName("LocalCache should share keyed values across item scopes")
+    void testLocalCache_SharesAcrossScopes() throws Exception {
+        Path source = createFile("A.java", 20);
+        SharedParseCache sharedCache = new SharedParseCache(1024 * 1024);
+        LocalCache localCache = new LocalCache(true, sharedCache);
+        AtomicInteger parses = new AtomicInteger();
+
+        CompilationUnit first;
+        try (LocalCache.Scope ignored = localCache.openScope("phase3")) {
+            first = localCache.getOrParseCompilationUnit(source, () -> {
+                parses.incrementAndGet();
+                return new CompilationUnit("com.example");
+            });
+        }
+        CompilationUnit second;
+        try (LocalCache.Scope ignored = localCache.openScope("phase4")) {
+            second = localCache.getOrParseCompilationUnit(source, () -> {
+                parses.incrementAndGet();
+                return new CompilationUnit("com.example");
+            });
+        }
+
+        assertSame(first, second);
+        assertEquals(1, parses.get(), "Source file should be parsed only once");
+        assertEquals(1, sharedCache.getStatistics().hits());
+    }
+
+    @Test
+    @DisplayName("LocalCache should not share values when caching is disabled")
+    void testLocalCache_Disabled() throws Exception {
+        Path classFile = createFile("A.class", 20);
+        SharedParseCache sharedCache = new SharedParseCache(1024 * 1024);
+        LocalCache localCache = new LocalCache(false, sharedCache);
+
+        byte[] first = localCache.getOrLoadClassBytes(classFile, () -> new byte[20]);
+        byte[] second = localCache.getOrLoadClassBytes(classFile, () -> new byte[20]);
+
+        assertNotSame(first, second);
+        assertEquals(0, sharedCache.getStatistics().entries());
+    }
+
+    private Path createFile(String name, int size) throws Exception {
+        return Files.write(tempDir.resolve(name), new byte[size]);
+    }
+}
@@ -0,0 +1,121 @@
+package com.analyzer.core.cache;
+
+import com.github.javaparser.ast.CompilationUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SourceModelProvider: reading each source file once and
+ * creating each front end model at most once per file version.
+ */
+@DisplayName("SourceModelProvider - Shared Source Model Tests")
+class SourceModelProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should read the text once and create each front end model once")
+    void testSharedTextAndModels() throws Exception {
+        Path source = createSource("A.java", "package com.example;\nclass A {}\n");
+        SourceModelProvider provider = new SourceModelProvider(new SharedParseCache(1024 * 1024));
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger parses = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            CompilationUnit cu = provider.getModel(source, SourceModelProvider.Frontend.JAVAPARSER,
+                    CompilationUnit.class, () -> {
+                        parses.incrementAndGet();
+                        return new CompilationUnit(read(provider, source, reads).substring(8, 19));
+                    });
+            assertEquals("com.example", cu.getPackageDeclaration().orElseThrow().getNameAsString());
+            String model = provider.getModel(source, SourceModelProvider.Frontend.ROASTER, String.class,
+                    () -> "roaster:" + read(provider, source, reads));
+            assertTrue(model.startsWith("roaster:package"));
+        }
+
+        assertEquals(1, reads.get(), "The text should be read once for all front ends");
+        assertEquals(1, parses.get());
+        SourceModelProvider.Statistics javaParser = provider.getStatistics()
+                .get(SourceModelProvider.Frontend.JAVAPARSER);
+        assertEquals(1, javaParser.loads());
+        assertEquals(2, javaParser.reuses());
+        assertTrue(javaParser.loadNanos() > 0);
+        SourceModelProvider.Statistics text = provider.getStatistics().get(SourceModelProvider.Frontend.TEXT);
+        assertEquals(1, text.loads());
+        assertEquals(1, text.reuses());
+    }
+
+    @Test
+    @DisplayName("Should reload a modified file and load every time without a shared cache")
+    void testModifiedFileAndNoRetention() throws Exception {
+        Path source = createSource("A.java", "class A {}");
+        SourceModelProvider provider = new SourceModelProvider(new SharedParseCache(1024 * 1024));
+        AtomicInteger reads = new AtomicInteger();
+
+        read(provider, source, reads);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 60_000));
+        read(provider, source, reads);
+        assertEquals(2, reads.get(), "A new version of the file should be read again");
+
+        SourceModelProvider uncached = new SourceModelProvider(null);
+        reads.set(0);
+        read(uncached, source, reads);
+        read(uncached, source, reads);
+        assertEquals(2, reads.get());
+        assertEquals(2, uncached.getStatistics().get(SourceModelProvider.Frontend.TEXT).loads());
+    }
+
+    @Test
+    @DisplayName("LocalCache should serve front end models from the item scope, then from the shared cache")
+    void testLocalCacheSourceModels() throws Exception {
+        Path source = createSource("A.java", "class A {}");
+        LocalCache localCache = new LocalCache(true, new SharedParseCache(1024 * 1024));
+        AtomicInteger parses = new AtomicInteger();
+
+        Object first;
+        try (LocalCache.Scope ignored = localCache.openScope("phase3")) {
+            first = localCache.getOrParseSourceModel(source, SourceModelProvider.Frontend.ROASTER, Object.class,
+                    () -> {
+                        parses.incrementAndGet();
+                        return new Object();
+                    });
+            assertSame(first, localCache.getOrParseSourceModel(source, SourceModelProvider.Frontend.ROASTER,
+                    Object.class, Object::new));
+            assertEquals("class A {}", localCache.getOrLoadSourceContent(source, () -> "class A {}"));
+        }
+        try (LocalCache.Scope ignored = localCache.openScope("phase4")) {
+            assertSame(first, localCache.getOrParseSourceModel(source, SourceModelProvider.Frontend.ROASTER,
+                    Object.class, Object::new));
+        }
+
+        assertEquals(1, parses.get());
+        SourceModelProvider.Statistics roaster = localCache.getSourceModels().getStatistics()
+                .get(SourceModelProvider.Frontend.ROASTER);
+        assertEquals(1, roaster.loads());
+        assertEquals(1, roaster.reuses(), "The item scope should answer before the shared cache");
+    }
+
+    private static String read(SourceModelProvider provider, Path source, AtomicInteger reads) {
+        return provider.getSource(source, () -> {
+            reads.incrementAndGet();
+            try {
+                return Files.readString(source);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private Path createSource(String name, String content) throws Exception {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+}
@@ -0,0 +1,186 @@
+package com.analyzer.core.collector;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JavaSourceHeaderScanner. Every scannable source is checked
+ * against the package and top-level types reported by JavaParser.
+ */
+@DisplayName("JavaSourceHeaderScanner - Source Header Tests")
+class JavaSourceHeaderScannerTest {
+
+    private final JavaParser javaParser = new JavaParser(
+            new ParserConfiguration().setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17));
+
+    @Test
+    @DisplayName("Should read package and class name")
+    void testSimpleClass() throws Exception {
+        String source = """
+                package com.example.service;
+
+                import java.util.List;
+                import static java.util.Objects.requireNonNull;
+
+                public class OrderService {
+                    private List<String> orders;
+                }
+                """;
+
+        assertMatchesJavaParser(source, "com.example.service", List.of("OrderService"));
+    }
+
+    @Test
+    @DisplayName("Should ignore declarations inside comments and literals")
+    void testCommentsAndLiterals() throws Exception {
+        String source = """
+                /* class NotAType { */
+                // package com.wrong;
+                package com.example;
+
+                /**
+                 * Javadoc mentioning class Fake {}
+                 */
+                @SuppressWarnings(value = { "unchecked", "class Fake {" })
+                public final class RealType {
+                    private static final String BRACE = "}";
+                    private static final char QUOTE = '"';
+                    private static final char CLOSE = '}';
+                    private static final String BLOCK = \"""
+                            } class Hidden { \\\"""
+                            \""";
+                }
+
+                class Second {
+                }
+                """;
+
+        assertMatchesJavaParser(source, "com.example", List.of("RealType", "Second"));
+    }
+
+    @Test
+    @DisplayName("Should handle records, enums, interfaces and annotation types")
+    void testTypeKinds() throws Exception {
+        String source = """
+                package com.example.model;
+
+                @Deprecated
+                public record Point(@Range(min = 0, max = 10) int x, int y) implements Shape {
+                    public Point {
+                        if (x < 0) { throw new IllegalArgumentException(); }
+                    }
+                }
+
+                enum Color { RED, GREEN { @Override public String toString() { return "g"; } } }
+
+                interface Shape<T extends Comparable<T>> {
+                }
+
+                @interface Range {
+                    int min() default 0;
+                    int max();
+                }
+                """;
+
+        assertMatchesJavaParser(source, "com.example.model", List.of("Point", "Color", "Shape", "Range"));
+    }
+
+    @Test
+    @DisplayName("Should handle sealed and non-sealed types")
+    void testSealedTypes() throws Exception {
+        String source = """
+                package com.example.shapes;
+
+                public sealed interface Shape permits Circle, Square {
+                }
+
+                final class Circle implements Shape {
+                }
+
+                non-sealed class Square implements Shape {
+                }
+                """;
+
+        assertMatchesJavaParser(source, "com.example.shapes", List.of("Shape", "Circle", "Square"));
+    }
+
+    @Test
+    @DisplayName("Should handle the default package")
+    void testDefaultPackage() throws Exception {
+        assertMatchesJavaParser("public class Main { public static void main(String[] args) { } }",
+                "", List.of("Main"));
+    }
+
+    @Test
+    @DisplayName("Should recognize module and package declarations without types")
+    void testModuleAndPackageInfo() throws Exception {
+        JavaSourceHeaderScanner.JavaSourceHeader module = scan("""
+                import java.sql.Driver;
+
+                @Deprecated
+                open module com.example.app {
+                    requires java.sql;
+                    uses Driver;
+                }
+                """).orElseThrow();
+        assertTrue(module.moduleDeclaration());
+        assertTrue(module.primaryTypeFqn().isEmpty());
+
+        JavaSourceHeaderScanner.JavaSourceHeader packageInfo = scan("""
+                /** Package documentation. */
+                @javax.annotation.ParametersAreNonnullByDefault
+                package com.example.api;
+                """).orElseThrow();
+        assertFalse(packageInfo.moduleDeclaration());
+        assertEquals("com.example.api", packageInfo.packageName());
+        assertTrue(packageInfo.primaryTypeFqn().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stop after the requested number of types")
+    void testStopsAtFirstType() throws Exception {
+        // The unterminated body would make a full scan inconclusive
+        String source = "package com.example; public class First { void broken() {";
+
+        Optional<JavaSourceHeaderScanner.JavaSourceHeader> header =
+                JavaSourceHeaderScanner.scan(new StringReader(source), 1);
+
+        assertTrue(header.isPresent());
+        assertEquals(Optional.of("com.example.First"), header.get().primaryTypeFqn());
+        assertTrue(scan(source).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report sources it cannot scan reliably")
+    void testInconclusiveSources() throws Exception {
+        assertTrue(scan("package com.example; public class \\u0041 { }").isEmpty(), "Unicode escapes");
+        assertTrue(scan("void main() { System.out.println(\"hi\"); }").isEmpty(), "Implicitly declared class");
+        assertTrue(scan("package com.example; /* unterminated").isEmpty(), "Unterminated comment");
+        assertTrue(scan("package com.example; class A { String s = \"open; }").isEmpty(), "Unterminated string");
+    }
+
+    private Optional<JavaSourceHeaderScanner.JavaSourceHeader> scan(String source) throws Exception {
+        return JavaSourceHeaderScanner.scan(new StringReader(source));
+    }
+
+    private void assertMatchesJavaParser(String source, String expectedPackage, List<String> expectedTypes)
+            throws Exception {
+        JavaSourceHeaderScanner.JavaSourceHeader header = scan(source).orElseThrow();
+        assertEquals(expectedPackage, header.packageName());
+        assertEquals(expectedTypes, header.typeNames());
+
+        CompilationUnit cu = javaParser.parse(source).getResult().orElseThrow();
+        assertEquals(cu.getPackageDeclaration().map(pd -> pd.getNameAsString()).orElse(""), header.packageName());
+        assertEquals(cu.getTypes().stream().map(TypeDeclaration::getNameAsString).toList(), header.typeNames());
+    }
+}
@@ -0,0 +1,146 @@
+package com.analyzer.core.db;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.graph.GraphRepository;
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.graph.PackageNode;
+import com.analyzer.core.db.loader.LoadOptions;
+import com.analyzer.core.graph.InMemoryGraphRepository;
+import com.analyzer.core.serialization.JsonSerializationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GraphSnapshotFile: writing a repository and reading it back.
+ */
+@DisplayName("GraphSnapshotFile - Binary Graph Snapshot Tests")
+class GraphSnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GraphSnapshotFile snapshotFile;
+    private InMemoryGraphRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = new GraphSnapshotFile(tempDir.resolve("graph" + GraphSnapshotFile.EXTENSION),
+                new JsonSerializationService());
+        repository = new InMemoryGraphRepository();
+
+        JavaClassNode service = new JavaClassNode("com.example.OrderService");
+        service.setClassType("class");
+        service.setProperty("deprecated", true);
+        service.setProperty("lineCount", 120L);
+        service.setProperty("ratio", 0.25f);
+        service.setProperty("interfaces", List.of("com.example.Service", "java.io.Serializable"));
+        service.setProperty("annotations", Map.of("Stateless", Map.of("name", "orders")));
+        service.enableTag("ejb.session");
+        service.enableTag("ejb.stateless");
+        service.getMetrics().setMetric(JavaClassNode.METRIC_CYCLOMATIC_COMPLEXITY, 12);
+
+        JavaClassNode dao = new JavaClassNode("com.example.OrderDao");
+        dao.getMetrics().setMetric(JavaClassNode.METRIC_METHOD_COUNT, 4);
+        PackageNode pkg = new PackageNode("com.example");
+
+        repository.addNode(service);
+        repository.addNode(dao);
+        repository.addNode(pkg);
+        repository.getOrCreateEdge(service, dao, "uses");
+        repository.getOrCreateEdge(pkg, service, "contains");
+        repository.getOrCreateEdge(pkg, dao, "contains");
+    }
+
+    @Test
+    @DisplayName("Should restore nodes, properties as read from JSON, tags, metrics and edges")
+    void testRoundTrip() throws IOException {
+        snapshotFile.write(repository, "3/2026-01-01/3/3");
+
+        GraphRepository loaded = new InMemoryGraphRepository();
+        assertTrue(snapshotFile.readInto(loaded, "3/2026-01-01/3/3", LoadOptions.allTypes(tempDir)));
+
+        assertEquals(3, loaded.getNodeCount());
+        assertEquals(3, loaded.getEdgeCount());
+
+        GraphNode service = loaded.getNodeById("com.example.OrderService").orElseThrow();
+        assertTrue(service instanceof JavaClassNode);
+        assertEquals("class", service.getProperty(JavaClassNode.PROP_CLASS_TYPE));
+        assertEquals("com.example", service.getProperty(JavaClassNode.PROP_PACKAGE_NAME));
+        assertEquals(true, service.getProperty("deprecated"));
+        assertEquals(Integer.valueOf(120), service.getProperty("lineCount"), "Small longs read back as Integer");
+        assertEquals(Double.valueOf(0.25), service.getProperty("ratio"), "Floats read back as Double");
+        assertEquals(List.of("com.example.Service", "java.io.Serializable"), service.getProperty("interfaces"));
+        assertEquals(Map.of("Stateless", Map.of("name", "orders")), service.getProperty("annotations"));
+        assertEquals(repository.getNodeById("com.example.OrderService").orElseThrow().getTags(), service.getTags());
+        assertEquals(12.0,
+                service.getMetrics().getAllMetrics().get(JavaClassNode.METRIC_CYCLOMATIC_COMPLEXITY).doubleValue());
+
+        assertTrue(loaded.getNodeById("com.example").orElseThrow() instanceof PackageNode);
+        assertEquals(Set.of("uses"), edgeTypesFrom(loaded, "com.example.OrderService"));
+        assertEquals(Set.of("contains"), edgeTypesFrom(loaded, "com.example"));
+    }
+
+    @Test
+    @DisplayName("Should ignore a snapshot of another graph version")
+    void testStaleSnapshot() throws IOException {
+        snapshotFile.write(repository, "3/2026-01-01/3/3");
+
+        GraphRepository loaded = new InMemoryGraphRepository();
+        assertFalse(snapshotFile.readInto(loaded, "4/2026-01-02/3/3", LoadOptions.allTypes(tempDir)));
+        assertEquals(0, loaded.getNodeCount());
+    }
+
+    @Test
+    @DisplayName("Should apply the node and edge type filters of the load options")
+    void testFilteredLoad() throws IOException {
+        snapshotFile.write(repository, "v");
+        LoadOptions options = LoadOptions.builder()
+                                         .withProjectRoot(tempDir)
+                                         .withNodeTypeFilters(List.of("java_class"))
+                                         .withEdgeTypeFilters(List.of("uses"))
+                                         .build();
+
+        GraphRepository loaded = new InMemoryGraphRepository();
+        assertTrue(snapshotFile.readInto(loaded, "v", options));
+
+        assertEquals(2, loaded.getNodeCount());
+        assertTrue(loaded.getNodeById("com.example").isEmpty());
+        assertEquals(1, loaded.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("Should report a corrupt snapshot and leave the repository empty")
+    void testCorruptSnapshot() throws IOException {
+        snapshotFile.write(repository, "v");
+        byte[] bytes = Files.readAllBytes(snapshotFile.getFile());
+        Files.write(snapshotFile.getFile(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        GraphRepository loaded = new InMemoryGraphRepository();
+        assertThrows(IOException.class, () -> snapshotFile.readInto(loaded, "v", LoadOptions.allTypes(tempDir)));
+        assertEquals(0, loaded.getNodeCount());
+
+        snapshotFile.delete();
+        assertFalse(snapshotFile.readInto(loaded, "v", LoadOptions.allTypes(tempDir)), "Missing snapshot");
+    }
+
+    private static Set<String> edgeTypesFrom(GraphRepository repository, String sourceId) {
+        return repository.getAllEdges().stream()
+                         .filter(edge -> edge.getSource().getId().equals(sourceId))
+                         .map(GraphEdge::getEdgeType)
+                         .collect(Collectors.toSet());
+    }
+}
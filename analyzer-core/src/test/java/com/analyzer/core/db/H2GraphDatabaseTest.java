@@ -0,0 +1,195 @@
+package com.analyzer.core.db;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.graph.GraphRepository;
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.graph.PackageNode;
+import com.analyzer.core.db.entity.GraphNodeEntity;
+import com.analyzer.core.db.loader.LoadOptions;
+import com.analyzer.core.graph.InMemoryGraphRepository;
+import com.analyzer.core.serialization.JsonSerializationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the delta persistence of H2GraphDatabase against an H2
+ * database in a temporary directory.
+ */
+@DisplayName("H2GraphDatabase - Delta Persistence Tests")
+class H2GraphDatabaseTest {
+
+    private static final String ORDER_SERVICE = "com.example.OrderService";
+    private static final String ORDER_DAO = "com.example.OrderDao";
+    private static final String PACKAGE = "com.example";
+
+    @TempDir
+    Path tempDir;
+
+    private H2GraphDatabase database;
+    private String jdbcUrl;
+
+    @BeforeEach
+    void setUp() {
+        Path databasePath = tempDir.resolve("graph");
+        database = new H2GraphDatabase(LoadOptions.builder()
+                                                  .withProjectRoot(tempDir)
+                                                  .withDatabasePath(databasePath)
+                                                  .loadAllNodes()
+                                                  .loadAllEdges()
+                                                  .build(), new JsonSerializationService());
+        database.load();
+        // The URL the session manager opened the database with
+        jdbcUrl = "jdbc:h2:" + databasePath + ";AUTO_SERVER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Should write only the nodes changed since the last persist, in-place collection changes included")
+    void testPersistChangedNodesOnly() throws SQLException {
+        InMemoryGraphRepository repository = new InMemoryGraphRepository();
+        JavaClassNode service = new JavaClassNode(ORDER_SERVICE);
+        service.setProperty("layers", new ArrayList<>(List.of("service")));
+        JavaClassNode dao = new JavaClassNode(ORDER_DAO);
+        repository.getOrCreateEdge(service, dao, "uses");
+        database.persist(repository);
+
+        assertEquals(2, count("SELECT COUNT(*) FROM nodes"));
+        assertEquals(1, count("SELECT COUNT(*) FROM edges"));
+        assertTrue(repository.getDirtyNodes().isEmpty());
+
+        // Marks the stored rows, so that rewritten rows can be told apart
+        execute("UPDATE nodes SET display_label = 'stored'");
+
+        List<String> layers = service.getProperty("layers");
+        layers.add("web");
+        service.setProperty("layers", layers);
+        repository.getOrCreateEdge(dao, service, "calls");
+        database.persist(repository);
+
+        assertNotEquals("stored", displayLabel(ORDER_SERVICE), "The changed node should be written");
+        assertEquals("stored", displayLabel(ORDER_DAO), "The unchanged node should not be written");
+        assertEquals(List.of("service", "web"),
+                database.getRepository().getNodeProperties(ORDER_SERVICE).get("layers"));
+        assertEquals(2, count("SELECT COUNT(*) FROM edges"));
+
+        // Nothing changed since the last persist
+        database.persist(repository);
+        assertEquals("stored", displayLabel(ORDER_DAO));
+        assertEquals(2, count("SELECT COUNT(*) FROM edges"));
+    }
+
+    @Test
+    @DisplayName("Should delete vanished nodes with their rows, and merge a moved class back")
+    void testDeleteVanishedNodes() throws SQLException {
+        InMemoryGraphRepository repository = new InMemoryGraphRepository();
+        JavaClassNode service = new JavaClassNode(ORDER_SERVICE);
+        service.setProjectFileId("src/main/java/com/example/OrderService.java");
+        service.enableTag("ejb.session");
+        service.getMetrics().setMetric(JavaClassNode.METRIC_METHOD_COUNT, 3);
+        JavaClassNode dao = new JavaClassNode(ORDER_DAO);
+        PackageNode pkg = new PackageNode(PACKAGE);
+        repository.getOrCreateEdge(service, dao, "uses");
+        repository.getOrCreateEdge(dao, service, "calls");
+        repository.getOrCreateEdge(pkg, service, "contains");
+        repository.getOrCreateEdge(pkg, dao, "contains");
+        database.persist(repository);
+
+        assertEquals(4, count("SELECT COUNT(*) FROM edges"));
+        assertTrue(count("SELECT COUNT(*) FROM node_tags WHERE node_id = ?", ORDER_SERVICE) > 0);
+        assertTrue(count("SELECT COUNT(*) FROM promoted_values WHERE node_id = ?", ORDER_SERVICE) > 0);
+
+        // The next run: the file of the service is gone, the class now lives in another file
+        Set<String> vanishedNodeIds = Set.of(ORDER_SERVICE);
+        GraphRepository analysisRepository = new InMemoryGraphRepository();
+        GraphRepository stored = database.snapshot();
+        for (GraphNode node : stored.getNodes()) {
+            if (!vanishedNodeIds.contains(node.getId())) {
+                analysisRepository.addNode(node);
+            }
+        }
+        for (GraphEdge edge : stored.getAllEdges()) {
+            if (!vanishedNodeIds.contains(edge.getSource().getId())
+                    && !vanishedNodeIds.contains(edge.getTarget().getId())) {
+                analysisRepository.getOrCreateEdge(edge.getSource(), edge.getTarget(), edge.getEdgeType());
+            }
+        }
+        analysisRepository.markClean();
+
+        assertEquals(1, database.deleteNodes(vanishedNodeIds));
+
+        assertEquals(2, count("SELECT COUNT(*) FROM nodes"));
+        assertEquals(0, count("SELECT COUNT(*) FROM edges WHERE source_id = ? OR target_id = ?",
+                ORDER_SERVICE, ORDER_SERVICE));
+        assertEquals(1, count("SELECT COUNT(*) FROM edges"));
+        assertEquals(0, count("SELECT COUNT(*) FROM node_tags WHERE node_id = ?", ORDER_SERVICE));
+        assertEquals(0, count("SELECT COUNT(*) FROM promoted_values WHERE node_id = ?", ORDER_SERVICE));
+
+        // The analysis finds the class again in its new file
+        JavaClassNode movedService = new JavaClassNode(ORDER_SERVICE);
+        movedService.setProjectFileId("src/main/java/com/example/service/OrderService.java");
+        movedService.enableTag("spring.service");
+        GraphNode storedDao = analysisRepository.getNodeById(ORDER_DAO).orElseThrow();
+        analysisRepository.getOrCreateEdge(movedService, storedDao, "uses");
+        database.persist(analysisRepository);
+
+        assertEquals(3, count("SELECT COUNT(*) FROM nodes"));
+        assertEquals("src/main/java/com/example/service/OrderService.java",
+                database.getRepository().getNodeProperties(ORDER_SERVICE).get(JavaClassNode.PROP_PROJECT_FILE_ID));
+        assertEquals(1, count("SELECT COUNT(*) FROM node_tags WHERE node_id = ? AND tag = 'spring.service'",
+                ORDER_SERVICE));
+        assertEquals(0, count("SELECT COUNT(*) FROM node_tags WHERE node_id = ? AND tag = 'ejb.session'",
+                ORDER_SERVICE));
+        assertEquals(0, count("SELECT COUNT(*) FROM promoted_values WHERE node_id = ? AND kind = ?",
+                ORDER_SERVICE, PromotedKeys.KIND_METRIC));
+        assertEquals(List.of(ORDER_SERVICE), database.getRepository().findNodesByPropertyValue(
+                "$.simpleName", "OrderService").stream().map(GraphNodeEntity::getId).toList());
+        assertEquals(2, count("SELECT COUNT(*) FROM edges"));
+        assertEquals(1, count("SELECT COUNT(*) FROM edges WHERE source_id = ? AND target_id = ?",
+                ORDER_SERVICE, ORDER_DAO));
+    }
+
+    private String displayLabel(final String nodeId) {
+        return database.getRepository().findNodeById(nodeId).getDisplayLabel();
+    }
+
+    private int count(final String sql, final String... parameters) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "");
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setString(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+    private void execute(final String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
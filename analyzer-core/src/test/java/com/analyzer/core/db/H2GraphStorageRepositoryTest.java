@@ -0,0 +1,399 @@
+package com.analyzer.core.db;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.graph.PackageNode;
+import com.analyzer.core.db.entity.GraphNodeEntity;
+import com.analyzer.core.db.entity.NodeTagEntity;
+import com.analyzer.core.db.loader.LoadOptions;
+import com.analyzer.core.db.mapper.NodeMapper;
+import com.analyzer.core.db.mapper.TagMapper;
+import com.analyzer.core.graph.InMemoryGraphRepository;
+import com.analyzer.core.inspector.InspectorTags;
+import com.analyzer.core.serialization.JsonSerializationService;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for H2GraphStorageRepository against an H2 database in a
+ * temporary directory.
+ */
+@DisplayName("H2GraphStorageRepository - H2 Storage Tests")
+class H2GraphStorageRepositoryTest {
+
+    private static final String ORDER_SERVICE = "com.example.OrderService";
+    private static final String ORDER_DAO = "com.example.OrderDao";
+    private static final String ORDER = "com.example.Order";
+    private static final String CUSTOMER = "com.example.Customer";
+
+    @TempDir
+    Path tempDir;
+
+    private final JsonSerializationService jsonSerializer = new JsonSerializationService();
+    private GraphDatabaseSessionManager config;
+    private H2GraphStorageRepository repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = new GraphDatabaseSessionManager();
+        config.initialize(tempDir.resolve("graph"));
+        repository = new H2GraphStorageRepository(config, jsonSerializer,
+                new PromotedKeys(Set.of(JavaClassNode.PROP_PACKAGE_NAME), Set.of(JavaClassNode.METRIC_METHOD_COUNT)));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        execute("SHUTDOWN");
+        config.close();
+    }
+
+    @Test
+    @DisplayName("Should round-trip nodes and edges with one node per batch")
+    void testBatchSizeOne() {
+        assertRoundTrip(1);
+    }
+
+    @Test
+    @DisplayName("Should round-trip nodes and edges in a single batch")
+    void testBatchSizeOfAllNodes() {
+        assertRoundTrip(5);
+    }
+
+    @Test
+    @DisplayName("Should round-trip nodes and edges with a batch larger than the nodes")
+    void testBatchSizeLargerThanNodes() {
+        assertRoundTrip(6);
+    }
+
+    /**
+     * Saves five nodes, the service twice, and edges to nodes of later
+     * batches, a duplicate included, with the given batch size.
+     */
+    private void assertRoundTrip(final int batchSize) {
+        JavaClassNode service = new JavaClassNode(ORDER_SERVICE);
+        service.setProperty("layer", "service");
+        service.enableTag("ejb.session");
+        service.getMetrics().setMetric(JavaClassNode.METRIC_METHOD_COUNT, 3);
+        JavaClassNode dao = new JavaClassNode(ORDER_DAO);
+        dao.enableTag("dao");
+        JavaClassNode order = new JavaClassNode(ORDER);
+        // The service as found by a later pass: the last state of a node is the one saved
+        JavaClassNode updatedService = new JavaClassNode(ORDER_SERVICE);
+        updatedService.setProperty("layer", "business");
+        updatedService.enableTag("spring.service");
+        JavaClassNode customer = new JavaClassNode(CUSTOMER);
+        customer.getMetrics().setMetric(JavaClassNode.METRIC_METHOD_COUNT, 7);
+
+        InMemoryGraphRepository graph = new InMemoryGraphRepository();
+        List<GraphEdge> edges = List.of(
+                graph.getOrCreateEdge(service, customer, "uses"),
+                graph.getOrCreateEdge(customer, order, "uses"),
+                graph.getOrCreateEdge(service, dao, "uses"),
+                // Same key as the first edge, created by another repository
+                new InMemoryGraphRepository().getOrCreateEdge(service, customer, "uses"));
+
+        assertEquals(5, repository.saveNodes(List.of(service, dao, order, updatedService, customer), batchSize));
+        assertEquals(3, repository.saveEdges(edges, batchSize));
+        assertEquals(0, repository.saveEdges(edges, batchSize), "Stored edges should not be inserted again");
+
+        assertEquals(4, count("SELECT COUNT(*) FROM nodes"));
+        assertEquals(3, count("SELECT COUNT(*) FROM edges"));
+        assertEquals(1, count("SELECT COUNT(*) FROM edges WHERE source_id = ? AND target_id = ?",
+                ORDER_SERVICE, CUSTOMER));
+
+        assertEquals("business", repository.getNodeProperties(ORDER_SERVICE).get("layer"));
+        assertEquals("com.example", repository.getNodeProperties(ORDER).get(JavaClassNode.PROP_PACKAGE_NAME));
+        assertEquals(Set.of(InspectorTags.TAG_JAVA_DETECTED, "spring.service"), storedTags(ORDER_SERVICE));
+        assertEquals(Set.of(InspectorTags.TAG_JAVA_DETECTED, "dao"), storedTags(ORDER_DAO));
+        assertEquals(storedTags(ORDER_SERVICE),
+                jsonSerializer.deserializeTags(repository.findNodeById(ORDER_SERVICE).getTags()),
+                "node_tags should match the JSON tags column");
+        assertEquals(6, count("SELECT COUNT(*) FROM node_tags"));
+
+        // The promoted method count of the first state of the service is gone
+        assertEquals(0, count("SELECT COUNT(*) FROM promoted_values WHERE node_id = ? AND kind = ?",
+                ORDER_SERVICE, PromotedKeys.KIND_METRIC));
+        assertEquals(List.of(CUSTOMER), ids(repository.findNodesByMetricRange(
+                JavaClassNode.METRIC_METHOD_COUNT, 1.0, null)));
+    }
+
+    @Test
+    @DisplayName("Should find nodes by one, any or all tags, duplicate tags counted once")
+    void testTagQueries() {
+        JavaClassNode service = new JavaClassNode(ORDER_SERVICE);
+        service.enableTag("ejb.session");
+        service.enableTag("ejb.stateless");
+        JavaClassNode dao = new JavaClassNode(ORDER_DAO);
+        dao.enableTag("ejb.session");
+        PackageNode pkg = new PackageNode("com.example");
+        pkg.enableTag("ejb.session");
+        pkg.enableTag("ejb.stateless");
+        repository.saveNodes(List.of(service, dao, pkg, new JavaClassNode(ORDER)), 2);
+
+        assertEquals(List.of("com.example", ORDER_DAO, ORDER_SERVICE),
+                ids(repository.findNodesByTag("ejb.session")));
+        assertEquals(List.of("com.example", ORDER_SERVICE),
+                ids(repository.findNodesByAnyTags(List.of("ejb.stateless", "unknown"))));
+        assertEquals(List.of("com.example", ORDER_SERVICE),
+                ids(repository.findNodesByAllTags(List.of("ejb.session", "ejb.stateless", "ejb.stateless"))));
+        assertEquals(List.of("com.example", ORDER_DAO, ORDER_SERVICE),
+                ids(repository.findNodesByAllTags(List.of("ejb.session", "ejb.session"))),
+                "A repeated tag should not require two rows");
+        assertTrue(repository.findNodesByAllTags(List.of("ejb.session", "unknown")).isEmpty());
+        assertEquals(List.of("com.example", ORDER, ORDER_DAO, ORDER_SERVICE),
+                ids(repository.findNodesByAllTags(List.of())), "No tags should match every tagged node");
+        assertTrue(repository.findNodesByAnyTags(List.of()).isEmpty());
+
+        assertEquals(List.of(ORDER_SERVICE), ids(repository.findNodesByTypeAndAllTags(service.getNodeType(),
+                List.of("ejb.stateless", "ejb.session", "ejb.session"))));
+        assertEquals(List.of(ORDER_DAO, ORDER_SERVICE), ids(repository.findNodesByTypeAndAnyTags(
+                service.getNodeType(), List.of("ejb.session"))));
+        assertEquals(List.of("com.example"), ids(repository.findNodesByTypeAndAllTags(pkg.getNodeType(),
+                List.of("ejb.session", "ejb.stateless"))));
+    }
+
+    @Test
+    @DisplayName("Should remove the tag rows of tags a node lost when it is saved again")
+    void testResaveWithFewerTags() {
+        JavaClassNode service = new JavaClassNode(ORDER_SERVICE);
+        service.enableTag("ejb.session");
+        service.enableTag("ejb.stateless");
+        repository.saveNodes(List.of(service), 10);
+
+        service.removeTag("ejb.stateless");
+        repository.saveNodes(List.of(service), 10);
+
+        assertEquals(Set.of(InspectorTags.TAG_JAVA_DETECTED, "ejb.session"), storedTags(ORDER_SERVICE));
+        assertTrue(repository.findNodesByTag("ejb.stateless").isEmpty());
+
+        service.removeTag("ejb.session");
+        repository.saveNode(service);
+
+        assertEquals(Set.of(InspectorTags.TAG_JAVA_DETECTED), storedTags(ORDER_SERVICE));
+        assertTrue(repository.findNodesByAnyTags(List.of("ejb.session", "ejb.stateless")).isEmpty());
+        assertEquals(1, count("SELECT COUNT(*) FROM node_tags"));
+    }
+
+    @Test
+    @DisplayName("Should count the nodes having a tag")
+    void testCountByTag() {
+        JavaClassNode service = new JavaClassNode(ORDER_SERVICE);
+        service.enableTag("ejb.session");
+        JavaClassNode dao = new JavaClassNode(ORDER_DAO);
+        dao.enableTag("ejb.session");
+        dao.enableTag("dao");
+        repository.saveNodes(List.of(service, dao, new PackageNode("com.example")), 10);
+
+        try (SqlSession session = config.openSession()) {
+            NodeMapper mapper = session.getMapper(NodeMapper.class);
+            assertEquals(2, mapper.countByTag("ejb.session"));
+            assertEquals(1, mapper.countByTag("dao"));
+            assertEquals(0, mapper.countByTag("unknown"));
+        }
+        assertEquals(2, repository.getStatistics().tagCount(), "Tagged nodes, the package has no tag");
+    }
+
+    @Test
+    @DisplayName("Should migrate the JSON tags of an older database once")
+    void testMigrateTagsFromJson() throws Exception {
+        // A database created before node_tags existed, with its tags in the JSON column only
+        Path legacyPath = tempDir.resolve("legacy");
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:" + legacyPath, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE nodes (id VARCHAR(1024) PRIMARY KEY, node_type VARCHAR(50) NOT NULL,"
+                    + " display_label VARCHAR(512), properties CLOB, metrics CLOB, tags CLOB,"
+                    + " created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,"
+                    + " updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+            statement.execute("INSERT INTO nodes (id, node_type, properties, tags) VALUES"
+                    + " ('" + ORDER_SERVICE + "', 'java_class', '{}', '[\"ejb.session\",\"ejb.stateless\",\"ejb.session\"]'),"
+                    + " ('" + ORDER_DAO + "', 'java_class', '{}', '[\"dao\"]'),"
+                    + " ('" + ORDER + "', 'java_class', '{}', '[]'),"
+                    + " ('" + CUSTOMER + "', 'java_class', '{}', NULL)");
+        }
+
+        LoadOptions options = LoadOptions.builder().withDatabasePath(legacyPath).build();
+        H2GraphDatabase firstStart = new H2GraphDatabase(options, jsonSerializer);
+        firstStart.load();
+        H2GraphStorageRepository legacyRepository = firstStart.getRepository();
+        // The URL the session manager opened the database with
+        String legacyUrl = "jdbc:h2:" + legacyPath + ";AUTO_SERVER=TRUE;DB_CLOSE_DELAY=-1";
+        try {
+            assertEquals(List.of(ORDER_SERVICE), ids(legacyRepository.findNodesByTag("ejb.stateless")));
+            assertEquals(List.of(ORDER_DAO, ORDER_SERVICE),
+                    ids(legacyRepository.findNodesByAnyTags(List.of("ejb.session", "dao"))));
+            assertEquals(3, countIn(legacyUrl, "SELECT COUNT(*) FROM node_tags"));
+
+            // A tag removed after the migration is not brought back by the next start
+            executeIn(legacyUrl, "DELETE FROM node_tags WHERE tag = 'dao'");
+            new H2GraphDatabase(options, jsonSerializer).load();
+
+            assertEquals(0, legacyRepository.migrateTagsFromJson(10));
+            assertTrue(legacyRepository.findNodesByTag("dao").isEmpty());
+            assertEquals(2, countIn(legacyUrl, "SELECT COUNT(*) FROM node_tags"));
+        } finally {
+            executeIn(legacyUrl, "SHUTDOWN");
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer queries on a promoted property from promoted_values")
+    void testPromotedPropertyQuery() throws SQLException {
+        repository.saveNodes(List.of(new JavaClassNode(ORDER_SERVICE), new JavaClassNode(ORDER_DAO),
+                new JavaClassNode("com.other.Customer")), 10);
+
+        assertEquals(List.of(ORDER_DAO, ORDER_SERVICE),
+                ids(repository.findNodesByPropertyValue("$.packageName", "com.example")));
+
+        // Only the index knows this value, the JSON column still holds com.example
+        execute("UPDATE promoted_values SET string_value = 'com.renamed'"
+                + " WHERE node_id = '" + ORDER_DAO + "' AND name = 'packageName'");
+        assertEquals(List.of(ORDER_DAO), ids(repository.findNodesByPropertyValue("$.packageName", "com.renamed")));
+        assertEquals(List.of(ORDER_SERVICE), ids(repository.findNodesByPropertyValue("$.packageName", "com.example")));
+    }
+
+    @Test
+    @DisplayName("Should evaluate paths of properties that are not promoted on the JSON column")
+    void testNotPromotedPropertyQuery() {
+        JavaClassNode service = new JavaClassNode(ORDER_SERVICE);
+        service.setProperty("layer", "service");
+        service.setProperty("lineCount", 120);
+        service.setProperty("ejb", Map.of("type", "stateless"));
+        JavaClassNode dao = new JavaClassNode(ORDER_DAO);
+        dao.setProperty("layer", "persistence");
+        repository.saveNodes(List.of(service, dao), 10);
+
+        assertEquals(0, count("SELECT COUNT(*) FROM promoted_values WHERE name IN ('simpleName', 'layer')"));
+        assertEquals(List.of(ORDER_DAO), ids(repository.findNodesByPropertyValue("$.simpleName", "OrderDao")));
+        assertEquals(List.of(ORDER_SERVICE), ids(repository.findNodesByPropertyValue("$.layer", "service")));
+        assertEquals(List.of(ORDER_SERVICE), ids(repository.findNodesByPropertyValue("$.lineCount", "120")));
+        assertEquals(List.of(ORDER_SERVICE), ids(repository.findNodesByPropertyValue("$.ejb.type", "stateless")));
+        assertTrue(repository.findNodesByPropertyValue("$.packageName.name", "com.example").isEmpty(),
+                "A nested path below a string selects nothing");
+        assertTrue(repository.findNodesByPropertyValue("$.ejb", "stateless").isEmpty(), "Objects are not scalars");
+    }
+
+    @Test
+    @DisplayName("Should backfill newly promoted keys and drop keys that are no longer promoted")
+    void testSyncPromotedKeys() {
+        // A new database marks the promoted keys as complete before any node is saved
+        assertEquals(0, repository.syncPromotedKeys(10));
+
+        JavaClassNode service = new JavaClassNode(ORDER_SERVICE);
+        service.setProperty("layer", "service");
+        service.getMetrics().setMetric(JavaClassNode.METRIC_METHOD_COUNT, 3);
+        service.getMetrics().setMetric(JavaClassNode.METRIC_CYCLOMATIC_COMPLEXITY, 5);
+        repository.saveNodes(List.of(service, new JavaClassNode(ORDER_DAO), new JavaClassNode(ORDER)), 10);
+        assertEquals(0, repository.syncPromotedKeys(10), "Saved nodes already have their promoted values");
+
+        H2GraphStorageRepository changedKeys = new H2GraphStorageRepository(config, jsonSerializer,
+                new PromotedKeys(Set.of(JavaClassNode.PROP_SIMPLE_NAME, "layer"),
+                        Set.of(JavaClassNode.METRIC_METHOD_COUNT, JavaClassNode.METRIC_CYCLOMATIC_COMPLEXITY)));
+
+        // Three simple names, one layer and one complexity, in batches of two
+        assertEquals(5, changedKeys.syncPromotedKeys(2));
+        assertEquals(0, changedKeys.syncPromotedKeys(2));
+
+        assertEquals(0, count("SELECT COUNT(*) FROM promoted_values WHERE name = ?",
+                JavaClassNode.PROP_PACKAGE_NAME));
+        assertEquals(0, count("SELECT COUNT(*) FROM promoted_keys WHERE name = ?",
+                JavaClassNode.PROP_PACKAGE_NAME));
+        assertEquals(3, count("SELECT COUNT(*) FROM promoted_values WHERE kind = ? AND name = ?",
+                PromotedKeys.KIND_PROPERTY, JavaClassNode.PROP_SIMPLE_NAME));
+        assertEquals(4, count("SELECT COUNT(*) FROM promoted_keys"));
+
+        assertEquals(List.of(ORDER_DAO), ids(changedKeys.findNodesByPropertyValue("$.simpleName", "OrderDao")));
+        assertEquals(List.of(ORDER_SERVICE), ids(changedKeys.findNodesByPropertyValue("$.layer", "service")));
+        assertEquals(List.of(ORDER_SERVICE), ids(changedKeys.findNodesByMetricRange(
+                JavaClassNode.METRIC_CYCLOMATIC_COMPLEXITY, 5.0, 5.0)));
+        assertEquals(List.of(ORDER, ORDER_DAO, ORDER_SERVICE),
+                ids(changedKeys.findNodesByPropertyValue("$.packageName", "com.example")),
+                "A key that is no longer promoted is read from the JSON column");
+    }
+
+    @Test
+    @DisplayName("Should replace the promoted values of a node when it is saved again")
+    void testReplacePromotedValues() {
+        JavaClassNode service = new JavaClassNode(ORDER_SERVICE);
+        service.getMetrics().setMetric(JavaClassNode.METRIC_METHOD_COUNT, 3);
+        repository.saveNode(service);
+        assertEquals(2, count("SELECT COUNT(*) FROM promoted_values WHERE node_id = ?", ORDER_SERVICE));
+
+        service.setProperty(JavaClassNode.PROP_PACKAGE_NAME, "com.moved");
+        service.setMetricsMap(null);
+        repository.saveNode(service);
+
+        assertEquals(1, count("SELECT COUNT(*) FROM promoted_values WHERE node_id = ?", ORDER_SERVICE));
+        assertTrue(repository.findNodesByPropertyValue("$.packageName", "com.example").isEmpty());
+        assertEquals(List.of(ORDER_SERVICE), ids(repository.findNodesByPropertyValue("$.packageName", "com.moved")));
+        assertTrue(repository.findNodesByMetricRange(JavaClassNode.METRIC_METHOD_COUNT, null, null).isEmpty());
+
+        service.setProperty(JavaClassNode.PROP_PACKAGE_NAME, "com.example");
+        service.getMetrics().setMetric(JavaClassNode.METRIC_METHOD_COUNT, 4);
+        repository.saveNodes(List.of(service), 10);
+
+        assertTrue(repository.findNodesByPropertyValue("$.packageName", "com.moved").isEmpty());
+        assertEquals(List.of(ORDER_SERVICE), ids(repository.findNodesByMetricRange(
+                JavaClassNode.METRIC_METHOD_COUNT, 4.0, 4.0)));
+        assertEquals(2, count("SELECT COUNT(*) FROM promoted_values WHERE node_id = ?", ORDER_SERVICE));
+    }
+
+    private Set<String> storedTags(final String nodeId) {
+        try (SqlSession session = config.openSession()) {
+            return session.getMapper(TagMapper.class).findByNodeId(nodeId).stream()
+                          .map(NodeTagEntity::getTag)
+                          .collect(Collectors.toSet());
+        }
+    }
+
+    private static List<String> ids(final List<GraphNodeEntity> nodes) {
+        return nodes.stream().map(GraphNodeEntity::getId).sorted().toList();
+    }
+
+    private int count(final String sql, final String... parameters) {
+        return countIn(config.getJdbcUrl(), sql, parameters);
+    }
+
+    private static int countIn(final String jdbcUrl, final String sql, final String... parameters) {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "");
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setString(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getInt(1);
+            }
+        } catch (SQLException e) {
+            throw new AssertionError("Query failed: " + sql, e);
+        }
+    }
+
+    private void execute(final String sql) throws SQLException {
+        executeIn(config.getJdbcUrl(), sql);
+    }
+
+    private static void executeIn(final String jdbcUrl, final String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.analyzer.core.db;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.core.db.entity.PromotedValueEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PromotedKeys: query routing and extraction of promoted
+ * values.
+ */
+@DisplayName("PromotedKeys - Promoted Property and Metric Tests")
+class PromotedKeysTest {
+
+    private final PromotedKeys promotedKeys = new PromotedKeys(
+            Set.of(JavaClassNode.PROP_PACKAGE_NAME, JavaClassNode.PROP_CLASS_TYPE, "deprecated"),
+            Set.of(JavaClassNode.METRIC_CYCLOMATIC_COMPLEXITY));
+
+    @Test
+    @DisplayName("Should route only top-level paths of promoted properties to the index")
+    void testPromotedPropertyOf() {
+        assertEquals(Optional.of("packageName"), promotedKeys.promotedPropertyOf("$.packageName"));
+        assertEquals(Optional.of("classType"), promotedKeys.promotedPropertyOf(" $.classType "));
+        assertTrue(promotedKeys.promotedPropertyOf("$.simpleName").isEmpty(), "Not promoted");
+        assertTrue(promotedKeys.promotedPropertyOf("$.packageName.name").isEmpty(), "Nested path");
+        assertTrue(promotedKeys.promotedPropertyOf("$['packageName']").isEmpty(), "Bracket notation");
+        assertTrue(promotedKeys.promotedPropertyOf(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should extract scalar values of promoted keys only")
+    void testExtract() {
+        JavaClassNode node = new JavaClassNode("com.example.OrderService");
+        node.setClassType("interface");
+        node.setProperty("deprecated", true);
+        node.getMetrics().setMetric(JavaClassNode.METRIC_CYCLOMATIC_COMPLEXITY, 12);
+        node.getMetrics().setMetric(JavaClassNode.METRIC_METHOD_COUNT, 4);
+
+        Map<String, PromotedValueEntity> values = byName(promotedKeys.extract(node));
+
+        assertEquals(Set.of("packageName", "classType", "deprecated", "cyclomaticComplexity"), values.keySet());
+        assertEquals("com.example", values.get("packageName").getStringValue());
+        assertEquals(PromotedKeys.KIND_PROPERTY, values.get("packageName").getKind());
+        assertNull(values.get("packageName").getNumberValue());
+        assertEquals("true", values.get("deprecated").getStringValue());
+
+        PromotedValueEntity complexity = values.get("cyclomaticComplexity");
+        assertEquals(PromotedKeys.KIND_METRIC, complexity.getKind());
+        assertEquals(12.0, complexity.getNumberValue().doubleValue());
+        assertEquals("com.example.OrderService", complexity.getNodeId());
+    }
+
+    @Test
+    @DisplayName("Should skip values that are not scalars")
+    void testExtract_SkipsNonScalars() {
+        JavaClassNode node = new JavaClassNode("Standalone");
+        node.setProperty("deprecated", List.of("since 1.0"));
+
+        Map<String, PromotedValueEntity> values = byName(promotedKeys.extract(node));
+
+        assertFalse(values.containsKey("deprecated"));
+        assertEquals("", values.get("packageName").getStringValue(), "Default package");
+    }
+
+    @Test
+    @DisplayName("Should parse configured keys and fall back to the defaults")
+    void testParse() {
+        assertEquals(Set.of("a", "b"), PromotedKeys.parse(" a, ,b ", Set.of("c")));
+        assertEquals(Set.of("c"), PromotedKeys.parse(null, Set.of("c")));
+        assertTrue(PromotedKeys.parse("", Set.of("c")).isEmpty(), "An empty list disables promotion");
+    }
+
+    private static Map<String, PromotedValueEntity> byName(List<PromotedValueEntity> values) {
+        return values.stream().collect(Collectors.toMap(PromotedValueEntity::getName, v -> v));
+    }
+}
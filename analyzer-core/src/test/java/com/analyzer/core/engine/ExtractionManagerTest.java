@@ -0,0 +1,132 @@
+package com.analyzer.core.engine;
+
+import com.analyzer.core.AnalysisConstants;
+import com.analyzer.core.filter.FileIgnoreFilter;
+import com.analyzer.core.model.ProjectFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExtractionManager: streaming MD5 change detection and
+ * concurrent, staged extraction.
+ */
+@DisplayName("ExtractionManager - Concurrent Extraction Tests")
+class ExtractionManagerTest {
+
+    @TempDir
+    Path projectRoot;
+
+    @Test
+    @DisplayName("Should compute the MD5 of files larger than the read buffer")
+    void testCalculateMD5() throws Exception {
+        byte[] content = new byte[1_000_003];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        Path file = Files.write(projectRoot.resolve("large.bin"), content);
+
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        assertEquals(expected, ExtractionManager.calculateMD5(file));
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(new byte[0])),
+                ExtractionManager.calculateMD5(Files.write(projectRoot.resolve("empty.bin"), new byte[0])));
+    }
+
+    @Test
+    @DisplayName("Should extract archives concurrently into stable, distinct directories")
+    void testConcurrentExtraction() throws IOException {
+        List<ProjectFile> archives = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            archives.add(createJar("lib" + i + ".jar", Map.of("com/example/C" + i + ".class", "class " + i)));
+        }
+        archives.add(createJar("a/common.jar", Map.of("a.txt", "a")));
+        archives.add(createJar("b/common.jar", Map.of("b.txt", "b")));
+        byte[] nested = jarBytes(Map.of("com/example/Nested.class", "nested"));
+        archives.add(createJar("app.ear", Map.of("lib/inner.jar", nested)));
+
+        ExtractionManager.ExtractionManagerResult result = newManager().cleanAndExtractAll(archives, projectRoot);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(15, result.getExtractedArchives());
+        assertEquals(0, result.getErrorArchives());
+        Path binaries = projectRoot.resolve(AnalysisConstants.ANALYSIS_DIR).resolve(AnalysisConstants.BINARIES_DIR);
+        assertEquals(binaries.resolve("lib7"), result.getExtractedPaths().get(7), "Paths keep archive order");
+        assertEquals("class 7", Files.readString(binaries.resolve("lib7/com/example/C7.class")));
+        assertEquals("a", Files.readString(binaries.resolve("common/a.txt")));
+        Path second = result.getExtractedPaths().get(13);
+        assertNotEquals(binaries.resolve("common"), second);
+        assertEquals("b", Files.readString(second.resolve("b.txt")));
+        assertEquals("nested", Files.readString(binaries.resolve("app/inner/com/example/Nested.class")));
+
+        Path staging = projectRoot.resolve(AnalysisConstants.ANALYSIS_DIR)
+                .resolve(AnalysisConstants.EXTRACTION_STAGING_DIR);
+        try (var leftovers = Files.list(staging)) {
+            assertEquals(0, leftovers.count(), "Staging directories are moved or deleted");
+        }
+
+        ExtractionManager.ExtractionManagerResult again = newManager().cleanAndExtractAll(archives, projectRoot);
+        assertEquals(15, again.getSkippedArchives());
+        assertEquals(0, again.getExtractedArchives());
+    }
+
+    @Test
+    @DisplayName("Should replace the extraction of a changed archive and keep it on failure")
+    void testReplaceAndFailure() throws IOException {
+        ProjectFile archive = createJar("lib.jar", Map.of("old.txt", "old"));
+        newManager().cleanAndExtractAll(List.of(archive), projectRoot);
+        Path extracted = projectRoot.resolve(".analysis/binaries/lib");
+
+        createJar("lib.jar", Map.of("new.txt", "new"));
+        assertEquals(1, newManager().cleanAndExtractAll(List.of(archive), projectRoot).getExtractedArchives());
+        assertTrue(Files.exists(extracted.resolve("new.txt")));
+        assertFalse(Files.exists(extracted.resolve("old.txt")), "No stale files survive a re-extraction");
+
+        Files.writeString(archive.getFilePath(), "not a zip");
+        ExtractionManager.ExtractionManagerResult failed = newManager().cleanAndExtractAll(List.of(archive),
+                projectRoot);
+        assertEquals(1, failed.getErrorArchives());
+        assertEquals("new", Files.readString(extracted.resolve("new.txt")),
+                "A failed extraction leaves the previous tree in place");
+    }
+
+    private ExtractionManager newManager() {
+        return new ExtractionManager(new FileIgnoreFilter(List.of()), 4);
+    }
+
+    private ProjectFile createJar(String relativePath, Map<String, ?> entries) throws IOException {
+        Path file = projectRoot.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, jarBytes(entries));
+        return new ProjectFile(file, projectRoot);
+    }
+
+    private static byte[] jarBytes(Map<String, ?> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JarOutputStream jar = new JarOutputStream(bytes)) {
+            for (Map.Entry<String, ?> entry : new LinkedHashMap<>(entries).entrySet()) {
+                jar.putNextEntry(new JarEntry(entry.getKey()));
+                Object content = entry.getValue();
+                jar.write(content instanceof byte[] data ? data
+                        : content.toString().getBytes(StandardCharsets.UTF_8));
+                jar.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,79 @@
+package com.analyzer.core.engine;
+
+import com.analyzer.api.detector.FileDetector;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.model.ProjectFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FileDetectorIndex: dispatch of the Phase 1 file detectors by
+ * extension and file name.
+ */
+@DisplayName("FileDetectorIndex - Detector Dispatch Tests")
+class FileDetectorIndexTest {
+
+    private static final Path ROOT = Path.of("/project");
+
+    private final FileDetector java = new TestDetector("java", Set.of("java"), Set.of());
+    private final FileDetector generic = new TestDetector("generic", Set.of(), Set.of());
+    private final FileDetector build = new TestDetector("build", Set.of(), Set.of("pom.xml", "dockerfile"));
+    private final FileDetector xml = new TestDetector("xml", Set.of("xml", "XSD"), Set.of());
+    private final FileDetectorIndex index = new FileDetectorIndex(List.of(java, generic, build, xml));
+
+    @Test
+    @DisplayName("Should offer detectors the files of their extensions and names, in detector order")
+    void testCandidates() {
+        assertEquals(List.of(java, generic), index.candidatesFor(file("src/App.java")));
+        assertEquals(List.of(generic, build, xml), index.candidatesFor(file("pom.xml")));
+        assertEquals(List.of(generic, xml), index.candidatesFor(file("src/web.xml")));
+        assertEquals(List.of(generic, xml), index.candidatesFor(file("schema/Order.XSD")));
+        assertEquals(List.of(generic, build), index.candidatesFor(file("Dockerfile")));
+        assertEquals(List.of(generic), index.candidatesFor(file("notes.txt")));
+        assertEquals(1, index.getResidualCount());
+    }
+
+    @Test
+    @DisplayName("Should share candidate lists between files of the same kind")
+    void testSharedCandidates() {
+        assertSame(index.candidatesFor(file("src/A.java")), index.candidatesFor(file("src/b/B.java")));
+        assertNotSame(index.candidatesFor(file("src/web.xml")), index.candidatesFor(file("pom.xml")));
+    }
+
+    private static ProjectFile file(String relativePath) {
+        return new ProjectFile(ROOT.resolve(relativePath), ROOT);
+    }
+
+    private record TestDetector(String name, Set<String> extensions, Set<String> fileNames) implements FileDetector {
+
+        @Override
+        public boolean supports(ProjectFile projectFile) {
+            return true;
+        }
+
+        @Override
+        public void detect(NodeDecorator<ProjectFile> decorator) {
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Set<String> getDetectedExtensions() {
+            return extensions;
+        }
+
+        @Override
+        public Set<String> getDetectedFileNames() {
+            return fileNames;
+        }
+    }
+}
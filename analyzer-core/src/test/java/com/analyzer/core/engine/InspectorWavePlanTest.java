@@ -0,0 +1,140 @@
+package com.analyzer.core.engine;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.inspector.Inspector;
+import com.analyzer.api.inspector.InspectorDependencies;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.inspector.InspectorTargetType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InspectorWavePlan: wave ordering from declared dependencies
+ * and the convergence set.
+ */
+@DisplayName("InspectorWavePlan - Dependency Wave Planning Tests")
+class InspectorWavePlanTest {
+
+    @Test
+    @DisplayName("Should order a dependency chain into one wave per level")
+    void testChain() {
+        InspectorWavePlan<JavaClassNode> plan = InspectorWavePlan.plan(List.of(new C(), new B(), new A()));
+
+        assertEquals(List.of("A", "B", "C"), names(plan.getOrderedInspectors()));
+        assertEquals(List.of(List.of("A"), List.of("B"), List.of("C")), waveNames(plan));
+        assertTrue(plan.getWaves().stream().noneMatch(InspectorWavePlan.Wave::cyclic));
+        assertTrue(plan.getConvergenceInspectors().isEmpty(), "Acyclic plans need a single pass");
+    }
+
+    @Test
+    @DisplayName("Should keep registration order within a wave")
+    void testIndependentInspectors() {
+        InspectorWavePlan<JavaClassNode> plan = InspectorWavePlan.plan(List.of(new B(), new External(), new A()));
+
+        assertEquals(List.of(List.of("External", "A"), List.of("B")), waveNames(plan));
+        assertTrue(plan.getConvergenceInspectors().isEmpty(), "Tags from earlier phases are assumed present");
+    }
+
+    @Test
+    @DisplayName("Should mark cycles and everything downstream of them for convergence")
+    void testCycle() {
+        InspectorWavePlan<JavaClassNode> plan = InspectorWavePlan.plan(
+                List.of(new AfterCycle(), new CycleY(), new CycleX(), new A()));
+
+        assertEquals(List.of(List.of("A"), List.of("CycleY", "CycleX"), List.of("AfterCycle")), waveNames(plan));
+        assertFalse(plan.getWaves().get(0).cyclic());
+        assertTrue(plan.getWaves().get(1).cyclic());
+        assertFalse(plan.getWaves().get(2).cyclic());
+        assertEquals(Set.of("CycleX", "CycleY", "AfterCycle"), plan.getConvergenceInspectors());
+    }
+
+    @Test
+    @DisplayName("Should treat a self dependency as a cycle")
+    void testSelfLoop() {
+        InspectorWavePlan<JavaClassNode> plan = InspectorWavePlan.plan(List.of(new SelfLoop(), new A()));
+
+        assertTrue(plan.getWaves().get(0).cyclic());
+        assertEquals(Set.of("SelfLoop"), plan.getConvergenceInspectors());
+    }
+
+    @Test
+    @DisplayName("Should run undeclared inspectors last and keep them converging")
+    void testUndeclared() {
+        InspectorWavePlan<JavaClassNode> plan = InspectorWavePlan.plan(
+                List.of(new Undeclared(), new External(), new A(), new B()));
+
+        assertEquals(List.of(List.of("External", "A"), List.of("B"), List.of("Undeclared")), waveNames(plan));
+        assertFalse(plan.getWaves().get(2).declared());
+        // External requires a tag no declared inspector produces, Undeclared might
+        assertEquals(Set.of("External", "Undeclared"), plan.getConvergenceInspectors());
+    }
+
+    // Helper methods
+
+    private static List<String> names(List<Inspector<JavaClassNode>> inspectors) {
+        return inspectors.stream().map(Inspector::getName).toList();
+    }
+
+    private static List<List<String>> waveNames(InspectorWavePlan<JavaClassNode> plan) {
+        return plan.getWaves().stream().map(InspectorWavePlan.Wave::inspectorNames).toList();
+    }
+
+    /**
+     * Inspector named after its class; only its annotation matters here.
+     */
+    private abstract static class PlannedInspector implements Inspector<JavaClassNode> {
+        @Override
+        public void inspect(JavaClassNode node, NodeDecorator<JavaClassNode> decorator) {
+        }
+
+        @Override
+        public String getName() {
+            return getClass().getSimpleName();
+        }
+
+        @Override
+        public InspectorTargetType getTargetType() {
+            return InspectorTargetType.JAVA_CLASS_NODE;
+        }
+    }
+
+    @InspectorDependencies(produces = "test.a")
+    private static final class A extends PlannedInspector {
+    }
+
+    @InspectorDependencies(requires = "test.a", produces = "test.b")
+    private static final class B extends PlannedInspector {
+    }
+
+    @InspectorDependencies(requires = "test.b", produces = "test.c")
+    private static final class C extends PlannedInspector {
+    }
+
+    @InspectorDependencies(requires = "test.from.earlier.phase", produces = "test.external")
+    private static final class External extends PlannedInspector {
+    }
+
+    @InspectorDependencies(requires = { "test.a", "test.y" }, produces = "test.x")
+    private static final class CycleX extends PlannedInspector {
+    }
+
+    @InspectorDependencies(requires = "test.x", produces = "test.y")
+    private static final class CycleY extends PlannedInspector {
+    }
+
+    @InspectorDependencies(requires = "test.y", produces = "test.after")
+    private static final class AfterCycle extends PlannedInspector {
+    }
+
+    @InspectorDependencies(requires = "test.self", produces = "test.self")
+    private static final class SelfLoop extends PlannedInspector {
+    }
+
+    private static final class Undeclared extends PlannedInspector {
+    }
+}
@@ -0,0 +1,221 @@
+package com.analyzer.core.engine;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.inspector.Inspector;
+import com.analyzer.api.inspector.InspectorDependencies;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.inspector.InspectorTargetType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InspectorWorklist: per-node scheduling driven by the tag and
+ * property changes published through the node decorator.
+ */
+@DisplayName("InspectorWorklist - Event-Driven Node Scheduling Tests")
+class InspectorWorklistTest {
+
+    private final List<String> evaluations = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should wake a parked consumer when its required tag appears")
+    void testConsumerWokenByTag() {
+        List<Inspector<JavaClassNode>> inspectors = List.of(new Consumer(), new Unrelated(), new Producer());
+        JavaClassNode node = new JavaClassNode("com.example.Order");
+
+        Set<String> triggered = run(inspectors, inspectors, node);
+
+        assertEquals(Set.of("Consumer", "Unrelated", "Producer"), triggered);
+        assertTrue(node.hasTag("test.consumed"));
+        // Unrelated is not re-evaluated when the produced tag appears
+        assertEquals(List.of("Consumer", "Unrelated", "Producer", "Consumer"), evaluations);
+    }
+
+    @Test
+    @DisplayName("Should evaluate each inspector once when producers come first")
+    void testPlannedOrder() {
+        List<Inspector<JavaClassNode>> inspectors = List.of(new Producer(), new Consumer(), new SelfProducer());
+        JavaClassNode node = new JavaClassNode("com.example.Order");
+
+        Set<String> triggered = run(inspectors, inspectors, node);
+
+        assertEquals(Set.of("Producer", "Consumer"), triggered);
+        assertEquals(List.of("Producer", "Consumer", "SelfProducer"), evaluations);
+    }
+
+    @Test
+    @DisplayName("Should wake undeclared inspectors on any change")
+    void testUndeclaredWokenByProperty() {
+        List<Inspector<JavaClassNode>> inspectors = List.of(new Undeclared(), new PropertyWriter());
+        JavaClassNode node = new JavaClassNode("com.example.Order");
+
+        Set<String> triggered = run(inspectors, inspectors, node);
+
+        assertEquals(Set.of("Undeclared", "PropertyWriter"), triggered);
+        assertEquals(List.of("Undeclared", "PropertyWriter", "Undeclared"), evaluations);
+    }
+
+    @Test
+    @DisplayName("Should wake a declared inspector on a property change once its required tags are present")
+    void testDeclaredWokenByPropertyAfterTag() {
+        List<Inspector<JavaClassNode>> inspectors = List.of(
+                new Producer(), new PropertyGated(), new SelfProducer(), new PropertyWriter());
+        JavaClassNode node = new JavaClassNode("com.example.Order");
+
+        Set<String> triggered = run(inspectors, inspectors, node);
+
+        assertEquals(Set.of("Producer", "PropertyGated", "PropertyWriter"), triggered);
+        assertTrue(node.hasTag("test.gated"));
+        // SelfProducer still lacks its required tag and is not re-evaluated
+        assertEquals(List.of("Producer", "PropertyGated", "SelfProducer", "PropertyWriter", "PropertyGated"),
+                evaluations);
+    }
+
+    @Test
+    @DisplayName("Should schedule only the given subset of the phase inspectors")
+    void testSubset() {
+        Producer producer = new Producer();
+        Consumer consumer = new Consumer();
+        InspectorWorklist<JavaClassNode> worklist = new InspectorWorklist<>(List.of(consumer, producer));
+        JavaClassNode node = new JavaClassNode("com.example.Order");
+
+        Set<String> triggered = worklist.run(node, List.of(producer), step(node));
+
+        assertEquals(Set.of("Producer"), triggered);
+        assertEquals(List.of("Producer"), evaluations, "Consumer is not part of this pass");
+        assertThrows(IllegalArgumentException.class,
+                () -> worklist.run(node, List.of(new Unrelated()), step(node)));
+    }
+
+    @Test
+    @DisplayName("Should batch due inspectors unless a pending inspector produces their required tags")
+    void testBatch() {
+        Producer producer = new Producer();
+        Unrelated unrelated = new Unrelated();
+        Consumer consumer = new Consumer();
+        List<Inspector<JavaClassNode>> inspectors = List.of(producer, unrelated, consumer);
+        JavaClassNode node = new JavaClassNode("com.example.Order");
+        List<List<String>> batches = new ArrayList<>();
+
+        Set<String> triggered = new InspectorWorklist<>(inspectors).run(node, inspectors, step(node),
+                inspector -> true,
+                (batch, changeListener) -> {
+                    batches.add(batch.stream().map(Inspector::getName).toList());
+                    List<Inspector<JavaClassNode>> ran = new ArrayList<>();
+                    for (Inspector<JavaClassNode> inspector : batch) {
+                        if (inspector.canProcess(node)) {
+                            inspector.inspect(node, new NodeDecorator<>(node, changeListener));
+                            ran.add(inspector);
+                        }
+                    }
+                    return ran;
+                });
+
+        assertEquals(Set.of("Producer", "Unrelated", "Consumer"), triggered);
+        // Consumer waits for Producer, then runs on its own
+        assertEquals(List.of(List.of("Producer", "Unrelated")), batches);
+        assertEquals(List.of("Producer", "Unrelated", "Consumer"), evaluations);
+        assertTrue(node.hasTag("test.consumed"));
+    }
+
+    // Helper methods
+
+    private Set<String> run(List<Inspector<JavaClassNode>> phaseInspectors,
+            List<Inspector<JavaClassNode>> inspectors, JavaClassNode node) {
+        return new InspectorWorklist<>(phaseInspectors).run(node, inspectors, step(node));
+    }
+
+    private static InspectorWorklist.InspectorStep<JavaClassNode> step(JavaClassNode node) {
+        return (inspector, changeListener) -> {
+            if (!inspector.canProcess(node)) {
+                return false;
+            }
+            inspector.inspect(node, new NodeDecorator<>(node, changeListener));
+            return true;
+        };
+    }
+
+    /**
+     * Inspector named after its class that records its evaluations.
+     */
+    private abstract class RecordingInspector implements Inspector<JavaClassNode> {
+        @Override
+        public boolean canProcess(JavaClassNode node) {
+            evaluations.add(getName());
+            return Inspector.super.canProcess(node);
+        }
+
+        @Override
+        public void inspect(JavaClassNode node, NodeDecorator<JavaClassNode> decorator) {
+        }
+
+        @Override
+        public String getName() {
+            return getClass().getSimpleName();
+        }
+
+        @Override
+        public InspectorTargetType getTargetType() {
+            return InspectorTargetType.JAVA_CLASS_NODE;
+        }
+    }
+
+    @InspectorDependencies(produces = "test.produced")
+    private final class Producer extends RecordingInspector {
+        @Override
+        public void inspect(JavaClassNode node, NodeDecorator<JavaClassNode> decorator) {
+            decorator.enableTag("test.produced");
+        }
+    }
+
+    @InspectorDependencies(requires = "test.produced", produces = "test.consumed")
+    private final class Consumer extends RecordingInspector {
+        @Override
+        public void inspect(JavaClassNode node, NodeDecorator<JavaClassNode> decorator) {
+            decorator.enableTag("test.consumed");
+        }
+    }
+
+    @InspectorDependencies(requires = "test.self", produces = "test.self")
+    private final class SelfProducer extends RecordingInspector {
+    }
+
+    @InspectorDependencies(produces = "test.unrelated")
+    private final class Unrelated extends RecordingInspector {
+    }
+
+    @InspectorDependencies(produces = "test.written")
+    private final class PropertyWriter extends RecordingInspector {
+        @Override
+        public void inspect(JavaClassNode node, NodeDecorator<JavaClassNode> decorator) {
+            decorator.setProperty("written", true);
+        }
+    }
+
+    @InspectorDependencies(requires = "test.produced", produces = "test.gated")
+    private final class PropertyGated extends RecordingInspector {
+        @Override
+        public boolean canProcess(JavaClassNode node) {
+            return super.canProcess(node) && node.getProperty("written") != null;
+        }
+
+        @Override
+        public void inspect(JavaClassNode node, NodeDecorator<JavaClassNode> decorator) {
+            decorator.enableTag("test.gated");
+        }
+    }
+
+    private final class Undeclared extends RecordingInspector {
+        @Override
+        public boolean canProcess(JavaClassNode node) {
+            evaluations.add(getName());
+            return node.getProperty("written") != null;
+        }
+    }
+}
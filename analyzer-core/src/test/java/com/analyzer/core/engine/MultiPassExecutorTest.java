@@ -0,0 +1,236 @@
+package com.analyzer.core.engine;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.inspector.Inspector;
+import com.analyzer.api.inspector.InspectorDependencies;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.inspector.InspectorTargetType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MultiPassExecutor, comparing sequential and parallel
+ * execution.
+ */
+@DisplayName("MultiPassExecutor - Sequential and Parallel Execution Tests")
+class MultiPassExecutorTest {
+
+    private static final String TAG_PRODUCED = "test.produced";
+    private static final String TAG_CONSUMED = "test.consumed";
+    private static final String PROP_READY = "test.ready";
+    private static final int ITEM_COUNT = 500;
+
+    @Test
+    @DisplayName("Parallel execution should converge like sequential execution")
+    void testParallelExecution_MatchesSequential() {
+        List<JavaClassNode> sequentialItems = createItems();
+        List<JavaClassNode> parallelItems = createItems();
+        AtomicInteger sequentialInvocations = new AtomicInteger();
+        AtomicInteger parallelInvocations = new AtomicInteger();
+
+        MultiPassExecutor.ExecutionResult sequential = new MultiPassExecutor<JavaClassNode>(1)
+                .execute(createConfig(sequentialItems, sequentialInvocations));
+        MultiPassExecutor.ExecutionResult parallel = new MultiPassExecutor<JavaClassNode>(4)
+                .execute(createConfig(parallelItems, parallelInvocations));
+
+        // Undeclared dependencies: Consumer only becomes eligible in pass 2,
+        // after which no inspector is left to retry
+        assertEquals(2, sequential.getPassesExecuted());
+        assertEquals(sequential.getPassesExecuted(), parallel.getPassesExecuted());
+        assertTrue(parallel.isConverged(), "Parallel execution should converge");
+        assertEquals(sequential.getTotalItemsProcessed(), parallel.getTotalItemsProcessed());
+        assertEquals(sequentialInvocations.get(), parallelInvocations.get());
+        assertEquals(2 * ITEM_COUNT, parallelInvocations.get(), "Each inspector should run once per item");
+        assertEquals(4, parallel.getExecutionProfile().getParallelism());
+
+        for (JavaClassNode item : parallelItems) {
+            assertTrue(item.hasTag(TAG_PRODUCED), "Producer should have run on " + item.getId());
+            assertTrue(item.hasTag(TAG_CONSUMED), "Consumer should have run on " + item.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Declared dependencies should converge in a single pass")
+    void testDeclaredDependencies_SinglePass() {
+        List<JavaClassNode> items = createItems();
+        AtomicInteger invocations = new AtomicInteger();
+        // Consumer is listed first, the wave plan runs Producer before it
+        List<Inspector<JavaClassNode>> inspectors = List.of(
+                new DeclaredConsumer(invocations), new DeclaredProducer(invocations));
+
+        MultiPassExecutor.ExecutionResult result = new MultiPassExecutor<JavaClassNode>(1)
+                .execute(createConfig(items, inspectors));
+
+        assertEquals(1, result.getPassesExecuted());
+        assertTrue(result.isConverged());
+        assertEquals(2 * ITEM_COUNT, invocations.get(), "Each inspector should run once per item");
+        assertEquals(2, result.getExecutionProfile().getExecutionWaves().size());
+        assertTrue(result.getExecutionProfile().getConvergenceInspectors().isEmpty());
+        for (JavaClassNode item : items) {
+            assertTrue(item.hasTag(TAG_CONSUMED), "Consumer should have run on " + item.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Declared inspectors declining for a missing property should be retried in the next pass")
+    void testDeclaredDependencies_PropertyAfterTag() {
+        List<JavaClassNode> items = createItems();
+        AtomicInteger invocations = new AtomicInteger();
+        // The required tag is there in pass 1, the property only arrives after the item was analyzed
+        List<Inspector<JavaClassNode>> inspectors = List.of(new DeclaredProducer(invocations),
+                new PropertyGatedConsumer(invocations), new PreviousItemWriter(items, invocations));
+
+        MultiPassExecutor.ExecutionResult result = new MultiPassExecutor<JavaClassNode>(1)
+                .execute(createConfig(items, inspectors));
+
+        assertEquals(2, result.getPassesExecuted());
+        assertTrue(result.isConverged());
+        assertTrue(result.getExecutionProfile().getConvergenceInspectors().isEmpty());
+        for (JavaClassNode item : items.subList(0, ITEM_COUNT - 1)) {
+            assertTrue(item.hasTag(TAG_CONSUMED), "Consumer should have run on " + item.getId());
+        }
+        assertFalse(items.get(ITEM_COUNT - 1).hasTag(TAG_CONSUMED), "The last item never gets the property");
+    }
+
+    @Test
+    @DisplayName("Parallelism below one should select the available processors")
+    void testDefaultParallelism() {
+        assertEquals(MultiPassExecutor.defaultParallelism(), new MultiPassExecutor<JavaClassNode>(0).getParallelism());
+        assertEquals(1, new MultiPassExecutor<JavaClassNode>().getParallelism());
+    }
+
+    private List<JavaClassNode> createItems() {
+        List<JavaClassNode> items = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            items.add(new JavaClassNode("com.example.Class" + i));
+        }
+        return items;
+    }
+
+    private MultiPassExecutor.ExecutionConfig<JavaClassNode> createConfig(List<JavaClassNode> items,
+            AtomicInteger invocations) {
+        // Consumer is listed first so that it only becomes eligible in the next pass
+        return createConfig(items, List.of(
+                new TagInspector("Consumer", TAG_PRODUCED, TAG_CONSUMED, invocations),
+                new TagInspector("Producer", null, TAG_PRODUCED, invocations)));
+    }
+
+    private MultiPassExecutor.ExecutionConfig<JavaClassNode> createConfig(List<JavaClassNode> items,
+            List<Inspector<JavaClassNode>> inspectors) {
+        return new MultiPassExecutor.ExecutionConfig<>(
+                "Test Phase",
+                5,
+                ExecutionProfile.ExecutionPhase.PHASE_4_CLASSNODE_ANALYSIS,
+                () -> items,
+                inspectors,
+                (item, itemInspectors, passStartTime, executionProfile, pass) -> {
+                    Set<String> triggered = new HashSet<>();
+                    for (Inspector<JavaClassNode> inspector : itemInspectors) {
+                        if (inspector.canProcess(item)) {
+                            inspector.inspect(item, new NodeDecorator<>(item));
+                            executionProfile.recordInspectorExecution(inspector.getName(),
+                                    ExecutionProfile.ExecutionPhase.PHASE_4_CLASSNODE_ANALYSIS, pass, 0);
+                            triggered.add(inspector.getName());
+                        }
+                    }
+                    return triggered;
+                });
+    }
+
+    /**
+     * Inspector that enables a tag, optionally requiring another tag first.
+     */
+    private static class TagInspector implements Inspector<JavaClassNode> {
+        private final String name;
+        private final String requiredTag;
+        private final String producedTag;
+        private final AtomicInteger invocations;
+
+        TagInspector(String name, String requiredTag, String producedTag, AtomicInteger invocations) {
+            this.name = name;
+            this.requiredTag = requiredTag;
+            this.producedTag = producedTag;
+            this.invocations = invocations;
+        }
+
+        @Override
+        public void inspect(JavaClassNode node, NodeDecorator<JavaClassNode> decorator) {
+            invocations.incrementAndGet();
+            decorator.enableTag(producedTag);
+        }
+
+        @Override
+        public boolean canProcess(JavaClassNode node) {
+            return requiredTag == null || node.hasTag(requiredTag);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public InspectorTargetType getTargetType() {
+            return InspectorTargetType.JAVA_CLASS_NODE;
+        }
+    }
+
+    @InspectorDependencies(produces = TAG_PRODUCED)
+    private static final class DeclaredProducer extends TagInspector {
+        DeclaredProducer(AtomicInteger invocations) {
+            super("DeclaredProducer", null, TAG_PRODUCED, invocations);
+        }
+    }
+
+    @InspectorDependencies(requires = TAG_PRODUCED, produces = TAG_CONSUMED)
+    private static final class DeclaredConsumer extends TagInspector {
+        DeclaredConsumer(AtomicInteger invocations) {
+            super("DeclaredConsumer", TAG_PRODUCED, TAG_CONSUMED, invocations);
+        }
+    }
+
+    /**
+     * Consumer that also needs the property set by {@link PreviousItemWriter}.
+     */
+    @InspectorDependencies(requires = TAG_PRODUCED, produces = TAG_CONSUMED)
+    private static final class PropertyGatedConsumer extends TagInspector {
+        PropertyGatedConsumer(AtomicInteger invocations) {
+            super("PropertyGatedConsumer", TAG_PRODUCED, TAG_CONSUMED, invocations);
+        }
+
+        @Override
+        public boolean canProcess(JavaClassNode node) {
+            return super.canProcess(node) && node.getProperty(PROP_READY) != null;
+        }
+    }
+
+    /**
+     * Sets a property on the item analyzed before the current one.
+     */
+    @InspectorDependencies(produces = "test.written")
+    private static final class PreviousItemWriter extends TagInspector {
+        private final List<JavaClassNode> items;
+
+        PreviousItemWriter(List<JavaClassNode> items, AtomicInteger invocations) {
+            super("PreviousItemWriter", null, "test.written", invocations);
+            this.items = items;
+        }
+
+        @Override
+        public void inspect(JavaClassNode node, NodeDecorator<JavaClassNode> decorator) {
+            super.inspect(node, decorator);
+            int index = items.indexOf(node);
+            if (index > 0) {
+                items.get(index - 1).setProperty(PROP_READY, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.analyzer.core.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MultiplexClassVisitor: a single class file traversal feeding
+ * several visitors.
+ */
+@DisplayName("MultiplexClassVisitor - Single-Pass Visitor Fan-Out Tests")
+class MultiplexClassVisitorTest {
+
+    private static final MultiplexClassVisitor.FailureHandler NO_FAILURE = (index, e) -> fail(
+            "Unexpected failure of visitor " + index, e);
+
+    @Test
+    @DisplayName("Should deliver the same events as separate traversals")
+    void testSameEventsAsSeparateTraversals() throws IOException {
+        ClassReader classReader = classReader(Fixture.class);
+        RecordingVisitor alone = new RecordingVisitor(true);
+        classReader.accept(alone, 0);
+
+        RecordingVisitor first = new RecordingVisitor(true);
+        RecordingVisitor second = new RecordingVisitor(true);
+        classReader.accept(new MultiplexClassVisitor(List.of(first, second), NO_FAILURE), 0);
+
+        assertFalse(alone.events.isEmpty());
+        assertEquals(alone.events, first.events);
+        assertEquals(alone.events, second.events);
+        assertTrue(alone.events.contains("annotation Ljava/lang/Deprecated;"));
+        assertTrue(alone.events.contains("field names"));
+        assertTrue(alone.events.contains("method count"));
+        assertTrue(alone.events.contains("end"));
+    }
+
+    @Test
+    @DisplayName("Should only decode members for the visitors that ask for them")
+    void testNestedVisitorsOnlyForInterestedVisitors() throws IOException {
+        ClassReader classReader = classReader(Fixture.class);
+        RecordingVisitor declarations = new RecordingVisitor(false);
+        RecordingVisitor code = new RecordingVisitor(true);
+
+        classReader.accept(new MultiplexClassVisitor(List.of(declarations, code), NO_FAILURE), 0);
+
+        assertTrue(declarations.events.stream().noneMatch(event -> event.startsWith("insn")));
+        assertTrue(code.events.stream().anyMatch(event -> event.startsWith("insn")));
+
+        // Without any nested visitor, the multiplexer lets the reader skip the members
+        MultiplexClassVisitor multiplexer = new MultiplexClassVisitor(List.of(new RecordingVisitor(false)), NO_FAILURE);
+        assertNull(multiplexer.visitMethod(Opcodes.ACC_PUBLIC, "count", "()I", null, null));
+    }
+
+    @Test
+    @DisplayName("Should isolate a failing visitor from the others")
+    void testFailureIsolation() throws IOException {
+        ClassReader classReader = classReader(Fixture.class);
+        RecordingVisitor healthy = new RecordingVisitor(true);
+        RecordingVisitor failing = new RecordingVisitor(true) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                    String[] exceptions) {
+                MethodVisitor visitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+                return new MethodVisitor(Opcodes.ASM9, visitor) {
+                    @Override
+                    public void visitInsn(int opcode) {
+                        throw new IllegalStateException("broken visitor");
+                    }
+                };
+            }
+        };
+        List<Integer> failures = new ArrayList<>();
+
+        classReader.accept(new MultiplexClassVisitor(List.of(failing, healthy), (index, e) -> {
+            assertEquals("broken visitor", e.getMessage());
+            failures.add(index);
+        }), 0);
+
+        assertEquals(List.of(0), failures, "The failure is reported once");
+        assertFalse(failing.events.contains("end"));
+        RecordingVisitor alone = new RecordingVisitor(true);
+        classReader.accept(alone, 0);
+        assertEquals(alone.events, healthy.events);
+    }
+
+    private static ClassReader classReader(Class<?> type) throws IOException {
+        String resource = type.getName().substring(type.getPackageName().length() + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            assertNotNull(in);
+            return new ClassReader(in.readAllBytes());
+        }
+    }
+
+    /**
+     * Records the events it receives, optionally including method bodies.
+     */
+    private static class RecordingVisitor extends ClassVisitor {
+
+        final List<String> events = new ArrayList<>();
+        private final boolean visitCode;
+
+        RecordingVisitor(boolean visitCode) {
+            super(Opcodes.ASM9);
+            this.visitCode = visitCode;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName,
+                String[] interfaces) {
+            events.add("class " + name);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            events.add("annotation " + descriptor);
+            return null;
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            events.add("field " + name);
+            return null;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                String[] exceptions) {
+            events.add("method " + name);
+            if (!visitCode) {
+                return null;
+            }
+            return new MethodVisitor(Opcodes.ASM9) {
+                @Override
+                public void visitInsn(int opcode) {
+                    events.add("insn " + opcode);
+                }
+
+                @Override
+                public void visitMethodInsn(int opcode, String owner, String name, String descriptor,
+                        boolean isInterface) {
+                    events.add("call " + owner + "." + name);
+                }
+
+                @Override
+                public void visitEnd() {
+                    events.add("method end");
+                }
+            };
+        }
+
+        @Override
+        public void visitEnd() {
+            events.add("end");
+        }
+    }
+
+    @Deprecated
+    static class Fixture {
+        private final Map<String, Integer> names = Map.of("a", 1);
+
+        int count() {
+            return names.size() + 1;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.analyzer.core.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FileIgnoreFilter: compiled literal patterns, glob patterns,
+ * and the directory-pruning walk.
+ */
+@DisplayName("FileIgnoreFilter - Pattern Matching and Pruning Walk Tests")
+class FileIgnoreFilterTest {
+
+    private static final List<String> PATTERNS = List.of("target/**", "build/**", "**/.git/**",
+            "**/node_modules/**", "**/bin/**", "**/*.tmp", "**/.analysis", "**/project-analysis.json");
+
+    @TempDir
+    Path projectRoot;
+
+    @Test
+    @DisplayName("Should match literal patterns by segment and others as globs")
+    void testShouldIgnore() throws IOException {
+        FileIgnoreFilter filter = new FileIgnoreFilter(PATTERNS);
+
+        assertTrue(filter.shouldIgnore(createFile("target/classes/A.class"), projectRoot));
+        assertFalse(filter.shouldIgnore(createFile("module/target/B.class"), projectRoot),
+                "Patterns with a slash are anchored at the project root");
+        assertTrue(filter.shouldIgnore(createFile("web/node_modules/lib/index.js"), projectRoot));
+        assertTrue(filter.shouldIgnore(createFile("bin/run.sh"), projectRoot), "** also matches no directory");
+        assertFalse(filter.shouldIgnore(createFile("src/binaries/Tool.java"), projectRoot));
+        assertTrue(filter.shouldIgnore(createFile("src/Scratch.tmp"), projectRoot));
+        assertTrue(filter.shouldIgnore(createFile("out/project-analysis.json"), projectRoot));
+        assertFalse(filter.shouldIgnore(createFile("src/project-analysis.json.bak"), projectRoot));
+        assertFalse(filter.shouldIgnore(createFile("target"), projectRoot),
+                "A file named like an ignored directory is kept");
+        assertEquals(PATTERNS.size(), filter.getPatternCount());
+    }
+
+    @Test
+    @DisplayName("Should walk, sequentially or in parallel, the same files as a full walk filtered by shouldIgnore")
+    void testWalkMatchesFilteredWalk() throws IOException {
+        createFile("pom.xml");
+        createFile("src/main/java/com/example/App.java");
+        createFile("src/main/java/com/example/App.tmp");
+        createFile("target/classes/com/example/App.class");
+        createFile("module/target/keep.txt");
+        createFile("web/node_modules/lib/index.js");
+        createFile(".git/config");
+        createFile(".idea/workspace.xml");
+        createFile("src/.hidden");
+        createFile(".analysis/cache.db");
+        createFile(".analysis/binaries/app.jar/com/example/Lib.class");
+        createFile(".analysis/binaries/app.jar/bin/tool");
+        FileIgnoreFilter filter = new FileIgnoreFilter(PATTERNS);
+
+        Set<Path> expected;
+        try (Stream<Path> paths = Files.walk(projectRoot)) {
+            expected = paths.filter(Files::isRegularFile)
+                    .filter(path -> !filter.shouldIgnore(path, projectRoot))
+                    .collect(Collectors.toSet());
+        }
+
+        assertEquals(Set.of(projectRoot.resolve("pom.xml"),
+                projectRoot.resolve("src/main/java/com/example/App.java"),
+                projectRoot.resolve("module/target/keep.txt"),
+                projectRoot.resolve(".analysis/binaries/app.jar/com/example/Lib.class")), expected);
+        assertEquals(expected, Set.copyOf(filter.findFiles(projectRoot, projectRoot)));
+        assertEquals(Set.of(projectRoot.resolve(".analysis/binaries/app.jar/com/example/Lib.class")),
+                Set.copyOf(filter.findFiles(projectRoot.resolve(".analysis/binaries"), projectRoot)),
+                "Walks below the project root keep matching from the root");
+
+        Set<Path> walkedInParallel = ConcurrentHashMap.newKeySet();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            filter.walkFilesInParallel(projectRoot, projectRoot, walkedInParallel::add, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expected, walkedInParallel);
+    }
+
+    private Path createFile(String relativePath) throws IOException {
+        Path file = projectRoot.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        if (!Files.exists(file)) {
+            Files.writeString(file, relativePath);
+        }
+        return file;
+    }
+}
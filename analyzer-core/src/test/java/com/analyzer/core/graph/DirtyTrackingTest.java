@@ -0,0 +1,134 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.JavaClassNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the change tracking used by delta persistence: dirty nodes in
+ * BaseGraphNode and new edges in InMemoryGraphRepository.
+ */
+@DisplayName("Dirty Tracking - Delta Persistence Tests")
+class DirtyTrackingTest {
+
+    @Test
+    @DisplayName("New nodes should be dirty until marked clean")
+    void testNewNodeIsDirty() {
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+
+        assertTrue(node.isDirty());
+        node.markClean();
+        assertFalse(node.isDirty());
+    }
+
+    @Test
+    @DisplayName("Property changes should mark the node dirty, identical values should not")
+    void testPropertyChanges() {
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        node.setProperty("layer", "service");
+        node.markClean();
+
+        node.setProperty("layer", "service");
+        node.setProperty("missing", null);
+        assertFalse(node.isDirty(), "Setting the current value is not a change");
+
+        node.setProperty("layer", "web");
+        assertTrue(node.isDirty());
+
+        node.markClean();
+        node.setProperty("layer", null);
+        assertTrue(node.isDirty(), "Removing a property is a change");
+    }
+
+    @Test
+    @DisplayName("Adding a source alias or re-setting a collection modified in place should mark the node dirty")
+    void testCollectionPropertyChanges() {
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        node.setProperty(JavaClassNode.PROP_SOURCE_ALIAS_PATHS, new ArrayList<>(List.of("src/Service.java")));
+        node.markClean();
+
+        node.addSourceAliasPath("src/Service.java");
+        assertFalse(node.isDirty(), "A known alias is not a change");
+
+        node.addSourceAliasPath("gen/Service.java");
+        assertTrue(node.isDirty());
+        assertEquals(Set.of("src/Service.java", "gen/Service.java"), Set.copyOf(node.getSourceAliasPaths()));
+
+        node.setProperty("layers", new ArrayList<>(List.of("service")));
+        node.markClean();
+        List<String> layers = node.getProperty("layers");
+        layers.add("web");
+        node.setProperty("layers", layers);
+        assertTrue(node.isDirty(), "The same instance may have been modified in place");
+    }
+
+    @Test
+    @DisplayName("Tag changes should mark the node dirty")
+    void testTagChanges() {
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        node.enableTag("ejb.session");
+        node.markClean();
+
+        node.enableTag("ejb.session");
+        node.removeTag("unknown");
+        assertFalse(node.isDirty());
+
+        node.removeTag("ejb.session");
+        assertTrue(node.isDirty());
+    }
+
+    @Test
+    @DisplayName("Metric changes should mark the node dirty")
+    void testMetricChanges() {
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        node.getMetrics().setMetric("complexity", 5);
+        node.markClean();
+
+        node.getMetrics().setMetric("complexity", 5.0);
+        node.getMetrics().setMaxMetric("complexity", 3);
+        node.setMetricsMap(Map.of("complexity", 5.0));
+        assertFalse(node.isDirty());
+
+        node.getMetrics().setMaxMetric("complexity", 8);
+        assertTrue(node.isDirty());
+
+        node.markClean();
+        node.setMetricsMap(null);
+        assertTrue(node.isDirty());
+    }
+
+    @Test
+    @DisplayName("Repository should report dirty nodes and edges created since it was marked clean")
+    void testRepositoryChanges() {
+        InMemoryGraphRepository repository = new InMemoryGraphRepository();
+        JavaClassNode classA = new JavaClassNode("com.example.ClassA");
+        JavaClassNode classB = new JavaClassNode("com.example.ClassB");
+        JavaClassNode classC = new JavaClassNode("com.example.ClassC");
+        repository.getOrCreateEdge(classA, classB, "DEPENDS_ON");
+
+        assertEquals(2, repository.getDirtyNodes().size());
+        assertEquals(1, repository.getNewEdges().size());
+
+        repository.markClean();
+        assertTrue(repository.getDirtyNodes().isEmpty());
+        assertTrue(repository.getNewEdges().isEmpty());
+
+        repository.getOrCreateEdge(classA, classB, "DEPENDS_ON");
+        GraphEdge newEdge = repository.getOrCreateEdge(classA, classC, "DEPENDS_ON");
+        classB.setProperty("layer", "service");
+
+        assertEquals(List.of(newEdge), List.copyOf(repository.getNewEdges()),
+                "Existing edges should not be reported again");
+        assertEquals(2, repository.getDirtyNodes().size());
+        assertTrue(repository.getDirtyNodes().contains(classB));
+        assertTrue(repository.getDirtyNodes().contains(classC));
+    }
+}
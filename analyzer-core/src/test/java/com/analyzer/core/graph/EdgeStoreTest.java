@@ -0,0 +1,110 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.JavaClassNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the columnar edge store behind InMemoryGraphRepository:
+ * de-duplication, deterministic IDs, flyweight edges and lazy properties.
+ */
+@DisplayName("EdgeStore - Columnar Edge Storage Tests")
+class EdgeStoreTest {
+
+    private final InMemoryGraphRepository repository = new InMemoryGraphRepository();
+
+    @Test
+    @DisplayName("Should de-duplicate edges across page and table growth")
+    void testDeduplication() {
+        List<JavaClassNode> classes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            classes.add(new JavaClassNode("com.example.C" + i));
+        }
+        for (int round = 0; round < 2; round++) {
+            for (JavaClassNode source : classes) {
+                for (JavaClassNode target : classes) {
+                    repository.getOrCreateEdge(source, target, "uses");
+                }
+                repository.getOrCreateEdge(source, classes.get(0), "extends");
+            }
+        }
+
+        assertEquals(100 * 100 + 100, repository.getEdgeCount());
+        assertEquals(100, repository.getEdgesByType(Set.of("extends")).size());
+        assertEquals(200, repository.getIncomingEdges(classes.get(0)).size());
+        assertEquals(100, repository.getOutgoingEdges(classes.get(7)).stream()
+                .filter(edge -> edge.getEdgeType().equals("uses")).count());
+    }
+
+    @Test
+    @DisplayName("Should number edges in creation order and find them by ID")
+    void testDeterministicIds() {
+        JavaClassNode a = new JavaClassNode("com.example.A");
+        JavaClassNode b = new JavaClassNode("com.example.B");
+        GraphEdge first = repository.getOrCreateEdge(a, b, "uses");
+        GraphEdge second = repository.getOrCreateEdge(b, a, "uses");
+
+        assertEquals("edge_0", first.getId());
+        assertEquals("edge_1", second.getId());
+        assertEquals(1L, ((StoredEdge) second).getPosition());
+        assertEquals(first, repository.getOrCreateEdge(a, b, "uses"));
+        assertEquals(first.hashCode(), repository.getOrCreateEdge(a, b, "uses").hashCode());
+        assertEquals(second, repository.getEdge("edge_1").orElseThrow());
+        assertSame(b, repository.getEdge("edge_1").orElseThrow().getSource());
+        assertTrue(repository.getEdge("edge_2").isEmpty());
+        assertTrue(repository.getEdge("edge_x").isEmpty());
+        assertTrue(repository.getEdge("other").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should share properties between flyweights of the same edge")
+    void testProperties() {
+        JavaClassNode a = new JavaClassNode("com.example.A");
+        JavaClassNode b = new JavaClassNode("com.example.B");
+        GraphEdge edge = repository.getOrCreateEdge(a, b, "uses");
+
+        assertTrue(edge.getProperties().isEmpty());
+        assertFalse(edge.hasProperty("weight"));
+        assertNull(edge.getProperty("weight"));
+
+        edge.setProperty("weight", 3);
+        GraphEdge again = repository.getOrCreateEdge(a, b, "uses");
+        assertEquals(3, again.getProperty("weight"));
+        assertTrue(again.hasProperty("weight"));
+        assertEquals(Map.of("weight", 3), again.getProperties());
+
+        again.getProperties().put("copy", true);
+        assertFalse(edge.hasProperty("copy"), "Properties are returned as a copy");
+    }
+
+    @Test
+    @DisplayName("Should resolve edges to replacing nodes and keep cleared edges readable")
+    void testReplacementAndClear() {
+        JavaClassNode a = new JavaClassNode("com.example.A");
+        JavaClassNode b = new JavaClassNode("com.example.B");
+        GraphEdge edge = repository.getOrCreateEdge(a, b, "uses");
+
+        JavaClassNode replacement = new JavaClassNode("com.example.B");
+        repository.addNode(replacement);
+        assertSame(replacement, edge.getTarget());
+        assertEquals(List.of(edge), List.copyOf(repository.getIncomingEdges(replacement)));
+
+        repository.clear();
+        assertEquals(0, repository.getEdgeCount());
+        assertTrue(repository.getAllEdges().isEmpty());
+        assertEquals("uses", edge.getEdgeType());
+        assertSame(a, edge.getSource());
+
+        GraphEdge recreated = repository.getOrCreateEdge(a, b, "uses");
+        assertEquals("edge_0", recreated.getId());
+        assertNotEquals(edge, recreated, "Edges of a cleared repository are not current edges");
+    }
+}
@@ -0,0 +1,154 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.graph.PackageNode;
+import org.jgrapht.Graph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GraphViewService: CSR views of the repository, their sharing
+ * and invalidation, and the JGraphT adapter.
+ */
+@DisplayName("GraphViewService - Shared Graph View Tests")
+class GraphViewServiceTest {
+
+    private InMemoryGraphRepository repository;
+    private GraphViewService service;
+    private JavaClassNode a;
+    private JavaClassNode b;
+    private JavaClassNode c;
+    private String classType;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryGraphRepository();
+        service = new GraphViewService(repository);
+        a = new JavaClassNode("com.example.A");
+        b = new JavaClassNode("com.example.B");
+        c = new JavaClassNode("com.example.C");
+        classType = a.getNodeType();
+    }
+
+    @Test
+    @DisplayName("Should store the filtered subgraph in CSR form")
+    void testCsrView() {
+        GraphEdge aToB = repository.getOrCreateEdge(a, b, "uses");
+        repository.getOrCreateEdge(a, c, "extends");
+        GraphEdge cToB = repository.getOrCreateEdge(c, b, "uses");
+        // Filtered out: other edge type, and an edge to a node of another type
+        repository.getOrCreateEdge(b, a, "calls");
+        repository.getOrCreateEdge(a, new PackageNode("com.example"), "uses");
+
+        GraphView view = service.getView(Set.of(classType), Set.of("uses"));
+
+        assertEquals(3, view.nodeCount());
+        assertEquals(2, view.edgeCount());
+        int ordinalA = view.ordinalOf(a);
+        int ordinalB = view.ordinalOf(b);
+        assertEquals(1, view.outDegree(ordinalA));
+        assertEquals(0, view.inDegree(ordinalA));
+        assertEquals(2, view.inDegree(ordinalB));
+        assertEquals(ordinalB, view.successors()[view.successorOffsets()[ordinalA]]);
+        assertEquals(aToB, view.outgoingEdge(view.successorOffsets()[ordinalA]));
+        Set<GraphEdge> incoming = new HashSet<>();
+        for (int e = view.predecessorOffsets()[ordinalB]; e < view.predecessorOffsets()[ordinalB + 1]; e++) {
+            incoming.add(view.incomingEdge(e));
+        }
+        assertEquals(Set.of(aToB, cToB), incoming);
+        assertEquals(-1, view.ordinalOf(new JavaClassNode("com.example.Unknown")));
+    }
+
+    @Test
+    @DisplayName("Should share views until the graph structure changes")
+    void testSharingAndInvalidation() {
+        repository.getOrCreateEdge(a, b, "uses");
+        GraphView first = service.getView(Set.of(classType), Set.of("uses"));
+
+        assertSame(first, service.getView(new HashSet<>(Set.of(classType)), Set.of("uses")));
+        a.enableTag("test.view.tag");
+        a.setProperty("test.view.property", 1);
+        assertSame(first, service.getView(Set.of(classType), Set.of("uses")), "Tags and properties do not count");
+
+        repository.getOrCreateEdge(b, c, "uses");
+        GraphView second = service.getView(Set.of(classType), Set.of("uses"));
+        assertNotSame(first, second);
+        assertEquals(1, first.edgeCount(), "Views are snapshots");
+        assertEquals(2, second.edgeCount());
+
+        repository.getOrCreateEdge(b, c, "uses");
+        assertSame(second, service.getView(Set.of(classType), Set.of("uses")), "Existing edges are no change");
+    }
+
+    @Test
+    @DisplayName("Should build the same view from the edge store as from edge objects")
+    void testEdgeStoreView() {
+        List<JavaClassNode> classes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            classes.add(new JavaClassNode("com.example.C" + i));
+        }
+        for (int i = 0; i < classes.size(); i++) {
+            repository.getOrCreateEdge(classes.get(i), classes.get((i * 7 + 3) % classes.size()), "uses");
+            repository.getOrCreateEdge(classes.get(i), classes.get((i + 1) % classes.size()), "extends");
+        }
+        repository.getOrCreateEdge(classes.get(0), new PackageNode("com.example"), "uses");
+
+        GraphView view = service.getView(Set.of(classType), Set.of("uses"));
+        GraphView fromEdges = GraphView.build(repository.getNodesByType(Set.of(classType)),
+                repository.getEdgesByType(Set.of("uses")), view.getModificationCount());
+
+        assertEquals(200, view.nodeCount());
+        assertEquals(200, view.edgeCount());
+        for (JavaClassNode node : classes) {
+            int ordinal = view.ordinalOf(node);
+            assertSame(node, view.node(ordinal));
+            assertEquals(fromEdges.ordinalOf(node), ordinal);
+        }
+        assertArrayEquals(fromEdges.successorOffsets(), view.successorOffsets());
+        assertArrayEquals(fromEdges.successors(), view.successors());
+        assertArrayEquals(fromEdges.predecessorOffsets(), view.predecessorOffsets());
+        assertArrayEquals(fromEdges.predecessors(), view.predecessors());
+        for (int e = 0; e < view.edgeCount(); e++) {
+            assertEquals(fromEdges.outgoingEdge(e), view.outgoingEdge(e));
+            assertEquals(fromEdges.incomingEdge(e), view.incomingEdge(e));
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer JGraphT queries like a built graph, read-only")
+    void testJGraphTAdapter() {
+        repository.getOrCreateEdge(a, b, "uses");
+        repository.getOrCreateEdge(a, c, "extends");
+        repository.getOrCreateEdge(c, b, "uses");
+
+        Graph<GraphNode, GraphEdge> built = repository.buildGraph(Set.of(classType), Set.of());
+        Graph<GraphNode, GraphEdge> adapted = service.getGraph(Set.of(classType), Set.of());
+
+        assertEquals(built.vertexSet(), adapted.vertexSet());
+        assertEquals(built.edgeSet(), adapted.edgeSet());
+        for (GraphNode node : built.vertexSet()) {
+            assertEquals(built.outgoingEdgesOf(node), adapted.outgoingEdgesOf(node));
+            assertEquals(built.incomingEdgesOf(node), adapted.incomingEdgesOf(node));
+        }
+        for (GraphEdge edge : built.edgeSet()) {
+            assertEquals(built.getEdgeSource(edge), adapted.getEdgeSource(edge));
+            assertEquals(built.getEdgeTarget(edge), adapted.getEdgeTarget(edge));
+        }
+        assertTrue(adapted.containsEdge(a, c));
+        assertFalse(adapted.containsEdge(c, a));
+        assertEquals(3, adapted.degreeOf(a) + adapted.inDegreeOf(c));
+        assertThrows(IllegalArgumentException.class,
+                () -> adapted.outgoingEdgesOf(new JavaClassNode("com.example.Unknown")));
+        assertThrows(UnsupportedOperationException.class, () -> adapted.addVertex(new JavaClassNode("x.Y")));
+    }
+}
@@ -0,0 +1,168 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.BaseGraphNode;
+import com.analyzer.api.graph.GraphEdge;
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.graph.PackageNode;
+import com.analyzer.core.model.ProjectFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the secondary indexes of InMemoryGraphRepository: lookups by
+ * type, class, tag and edge type, and node adjacency, compared with a scan of
+ * the whole graph.
+ */
+@DisplayName("InMemoryGraphRepository - Secondary Index Tests")
+class InMemoryGraphRepositoryIndexTest {
+
+    private final InMemoryGraphRepository repository = new InMemoryGraphRepository();
+
+    @Test
+    @DisplayName("Should find nodes by type and by class, including supertypes")
+    void testTypeAndClassIndexes() {
+        JavaClassNode service = new JavaClassNode("com.example.Service");
+        PackageNode packageNode = new PackageNode("com.example");
+        ProjectFile file = new ProjectFile(Path.of("/project/src/Service.java"), Path.of("/project"));
+        repository.addNode(service);
+        repository.getOrCreateNode(packageNode);
+        repository.addNode(file);
+
+        assertEquals(List.of(service), repository.findNodesByType(service.getNodeType()));
+        assertEquals(Set.of(service, packageNode),
+                Set.copyOf(repository.getNodesByType(Set.of(service.getNodeType(), packageNode.getNodeType()))));
+        assertEquals(List.of(file), List.copyOf(repository.getNodesByClass(ProjectFile.class)));
+        assertEquals(3, repository.getNodesByClass(BaseGraphNode.class).size());
+        assertEquals(3, repository.getNodesByClass(GraphNode.class).size());
+        assertTrue(repository.findNodesByType("unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should follow tags set before and after a node is added")
+    void testTagIndexFollowsNodes() {
+        JavaClassNode tagged = new JavaClassNode("com.example.Tagged");
+        tagged.enableTag("test.index.before");
+        JavaClassNode other = new JavaClassNode("com.example.Other");
+        repository.addNode(tagged);
+        repository.getOrCreateNode(other);
+
+        assertEquals(List.of(tagged), repository.findNodesByTag("test.index.before"));
+
+        other.enableTag("test.index.after");
+        tagged.removeTag("test.index.before");
+
+        assertTrue(repository.findNodesByTag("test.index.before").isEmpty());
+        assertEquals(List.of(other), repository.findNodesByTag("test.index.after"));
+        assertEquals(List.of(other),
+                repository.findNodesByAnyTags(List.of("test.index.before", "test.index.after")));
+        assertEquals(List.of(other),
+                repository.findNodesByTypeAndAnyTags(other.getNodeType(), List.of("test.index.after")));
+        assertTrue(repository.findNodesByTypeAndAnyTags("unknown", List.of("test.index.after")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should re-index a node replaced by another with the same ID")
+    void testReplacedNode() {
+        JavaClassNode original = new JavaClassNode("com.example.Service");
+        original.enableTag("test.index.original");
+        repository.addNode(original);
+
+        JavaClassNode replacement = new JavaClassNode("com.example.Service");
+        replacement.enableTag("test.index.replacement");
+        repository.addNode(replacement);
+        original.enableTag("test.index.stale");
+
+        assertTrue(repository.findNodesByTag("test.index.original").isEmpty());
+        assertTrue(repository.findNodesByTag("test.index.stale").isEmpty(), "Replaced nodes are no longer followed");
+        assertSame(replacement, repository.findNodesByTag("test.index.replacement").get(0));
+        assertSame(replacement, repository.findClassByFqn("com.example.Service").orElseThrow());
+        assertEquals(1, repository.findNodesByType(replacement.getNodeType()).size());
+
+        repository.clear();
+        replacement.enableTag("test.index.cleared");
+        assertTrue(repository.findNodesByTag("test.index.cleared").isEmpty());
+        assertTrue(repository.getNodesByClass(JavaClassNode.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should index edges by type and by source and target node")
+    void testEdgeIndexes() {
+        JavaClassNode a = new JavaClassNode("com.example.A");
+        JavaClassNode b = new JavaClassNode("com.example.B");
+        JavaClassNode c = new JavaClassNode("com.example.C");
+        GraphEdge aToB = repository.getOrCreateEdge(a, b, "DEPENDS_ON");
+        GraphEdge aToC = repository.getOrCreateEdge(a, c, "EXTENDS");
+        GraphEdge cToB = repository.getOrCreateEdge(c, b, "DEPENDS_ON");
+        assertEquals(aToB, repository.getOrCreateEdge(a, b, "DEPENDS_ON"));
+
+        assertEquals(Set.of(aToB, aToC), Set.copyOf(repository.getOutgoingEdges(a)));
+        assertEquals(Set.of(aToB, cToB), Set.copyOf(repository.getIncomingEdges(b)));
+        assertTrue(repository.getIncomingEdges(a).isEmpty());
+        assertEquals(Set.of(aToB, cToB), Set.copyOf(repository.getEdgesByType(Set.of("DEPENDS_ON"))));
+        assertEquals(3, repository.getEdgesByType(Set.of()).size());
+    }
+
+    @Test
+    @DisplayName("Should match a full scan after concurrent node, edge and tag writes")
+    void testConcurrentWrites() throws Exception {
+        int threads = 8;
+        int nodesPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < nodesPerThread; i++) {
+                        // Threads share node IDs, so they race on the same nodes
+                        JavaClassNode node = (JavaClassNode) repository.getOrCreateNode(
+                                new JavaClassNode("com.example.C" + i));
+                        JavaClassNode next = new JavaClassNode("com.example.C" + ((i + 1) % nodesPerThread));
+                        repository.getOrCreateEdge(node, next, "DEPENDS_ON");
+                        node.enableTag("test.index.thread" + thread);
+                        if (i % 3 == thread % 3) {
+                            node.removeTag("test.index.thread" + thread);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(nodesPerThread, repository.getNodeCount());
+        assertEquals(nodesPerThread, repository.getEdgeCount());
+        for (int t = 0; t < threads; t++) {
+            String tag = "test.index.thread" + t;
+            Set<GraphNode> scanned = new HashSet<>();
+            for (GraphNode node : repository.getNodes()) {
+                if (node.hasTag(tag)) {
+                    scanned.add(node);
+                }
+            }
+            List<GraphNode> indexed = repository.findNodesByTag(tag);
+            assertEquals(scanned.size(), indexed.size(), tag);
+            assertEquals(scanned, Set.copyOf(indexed), tag);
+        }
+        for (GraphNode node : repository.getNodes()) {
+            assertEquals(1, repository.getOutgoingEdges(node).size());
+            assertEquals(1, repository.getIncomingEdges(node).size());
+        }
+    }
+}
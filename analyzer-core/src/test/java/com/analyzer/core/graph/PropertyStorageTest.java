@@ -0,0 +1,87 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.metrics.Metrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the shape-based property and metric storage of BaseGraphNode.
+ */
+@DisplayName("Property Storage - Shape-Based Node Storage Tests")
+class PropertyStorageTest {
+
+    @Test
+    @DisplayName("Should keep insertion order and remove keys without disturbing the others")
+    void testPropertiesInOrder() {
+        JavaClassNode node = new JavaClassNode("Standalone");
+        node.getProperties().clear();
+        node.setProperty("a", 1);
+        node.setProperty("b", 2);
+        node.setProperty("c", 3);
+        node.setProperty("b", null);
+        node.setProperty("a", 10);
+
+        assertEquals(List.of("a", "c"), List.copyOf(node.getNodeProperties().keySet()));
+        assertEquals(Map.of("a", 10, "c", 3), node.getNodeProperties());
+        assertFalse(node.hasProperty("b"));
+        assertEquals("", node.getPropertyToString("b"));
+        assertEquals("3", node.getPropertyToString("c"));
+    }
+
+    @Test
+    @DisplayName("Should return read views that do not change with later writes")
+    void testReadViews() {
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        node.setProperty("layer", "service");
+        Map<String, Object> view = node.getNodeProperties();
+
+        node.setProperty("layer", "dao");
+
+        assertEquals("service", view.get("layer"));
+        assertEquals("dao", node.getNodeProperties().get("layer"));
+        assertThrows(UnsupportedOperationException.class, () -> view.put("x", 1));
+    }
+
+    @Test
+    @DisplayName("Should track writes through the live properties map")
+    void testLivePropertiesMap() {
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        node.markClean();
+        Map<String, Object> properties = node.getProperties();
+
+        assertNull(properties.put("layer", "service"));
+        assertTrue(node.isDirty(), "Writes through the map are tracked");
+        assertEquals("service", node.getProperty("layer"));
+        assertEquals("service", properties.remove("layer"));
+        assertFalse(properties.containsKey("layer"));
+    }
+
+    @Test
+    @DisplayName("Should store, maximize and remove metrics")
+    void testMetrics() {
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        Metrics metrics = node.getMetrics();
+        metrics.setMetric("loc", 120);
+        metrics.setMetric("methods", 4);
+        metrics.setMaxMetric("loc", 80);
+        metrics.setMaxMetric("fields", 2);
+        Map<String, Double> before = node.getMetricsMap();
+
+        metrics.setMetric("methods", null);
+
+        assertEquals(Map.of("loc", 120.0, "fields", 2.0), node.getMetricsMap());
+        assertEquals(3, before.size(), "Read views are not affected by later writes");
+        assertEquals(120.0, metrics.getMetric("loc").doubleValue());
+        assertNull(metrics.getMetric("methods"));
+
+        node.markClean();
+        node.setMetricsMap(Map.of("loc", 120.0, "fields", 2.0));
+        assertFalse(node.isDirty(), "Same metrics are not a change");
+    }
+}
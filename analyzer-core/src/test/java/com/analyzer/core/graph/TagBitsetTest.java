@@ -0,0 +1,80 @@
+package com.analyzer.core.graph;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.graph.TagDictionary;
+import com.analyzer.api.graph.TagMask;
+import com.analyzer.core.inspector.RequiredTags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the interned tag bitsets of BaseGraphNode and the tag masks
+ * compiled from RequiredTags.
+ */
+@DisplayName("Tag Bitsets - Interned Tag Tests")
+class TagBitsetTest {
+
+    @Test
+    @DisplayName("Should keep the string tag API: sorted names, add, remove")
+    void testStringApi() {
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        node.enableTag("test.bitset.b");
+        node.enableTag("test.bitset.a");
+
+        assertTrue(node.hasTag("test.bitset.a"));
+        assertFalse(node.hasTag("test.bitset.never.used"));
+        assertFalse(node.hasTag(null));
+        assertEquals(List.of("test.bitset.a", "test.bitset.b"),
+                node.getTags().stream().filter(t -> t.startsWith("test.bitset")).toList());
+        assertThrows(UnsupportedOperationException.class, () -> node.getTags().add("x"));
+
+        Set<String> before = node.getTags();
+        node.removeTag("test.bitset.b");
+        assertTrue(before.contains("test.bitset.b"), "Returned sets are snapshots");
+        assertFalse(node.getTags().contains("test.bitset.b"));
+        assertTrue(node.hasAllTags(new String[] { "test.bitset.a" }));
+        assertFalse(node.hasAllTags(new String[] { "test.bitset.a", "test.bitset.b" }));
+    }
+
+    @Test
+    @DisplayName("Should match masks spanning several bitset words")
+    void testMaskAcrossWords() {
+        // Intern enough tags to spread the mask over more than one 64-bit word
+        String first = "test.bitset.word." + 0;
+        String last = "test.bitset.word." + 150;
+        for (int i = 0; i <= 150; i++) {
+            TagDictionary.idOf("test.bitset.word." + i);
+        }
+        assertTrue(TagDictionary.idOf(last) - TagDictionary.idOf(first) >= 64);
+        TagMask mask = TagMask.of(first, last);
+
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        node.enableTag(first);
+        assertFalse(node.hasAllTags(mask));
+        node.enableTag(last);
+        assertTrue(node.hasAllTags(mask));
+        assertTrue(node.hasAllTags(TagMask.EMPTY));
+        assertEquals(last, TagDictionary.nameOf(TagDictionary.lookup(last)));
+    }
+
+    @Test
+    @DisplayName("Should recompile the mask of RequiredTags when a tag is added")
+    void testRequiredTagsMask() {
+        RequiredTags required = RequiredTags.of("test.bitset.required.a");
+        TagMask mask = required.toMask();
+        assertSame(mask, required.toMask(), "Mask is cached");
+
+        JavaClassNode node = new JavaClassNode("com.example.Service");
+        node.enableTag("test.bitset.required.a");
+        assertTrue(node.hasAllTags(required.toMask()));
+
+        required.requires("test.bitset.required.b");
+        assertNotSame(mask, required.toMask());
+        assertFalse(node.hasAllTags(required.toMask()));
+    }
+}
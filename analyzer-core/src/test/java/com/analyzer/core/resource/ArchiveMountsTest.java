@@ -0,0 +1,160 @@
+package com.analyzer.core.resource;
+
+import com.analyzer.core.model.ProjectFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ArchiveIndex and ArchiveMounts: reading (nested) archive
+ * entries in place, at the paths extraction would give them.
+ */
+@DisplayName("ArchiveMounts - Virtual Archive Extraction Tests")
+class ArchiveMountsTest {
+
+    @TempDir
+    Path projectRoot;
+
+    @Test
+    @DisplayName("Should read stored, deflated and empty entries like ZipFile")
+    void testArchiveIndex() throws IOException {
+        byte[] large = "class bytes ".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("com/", new byte[0]);
+        entries.put("com/A.class", large);
+        entries.put("empty.txt", new byte[0]);
+        Path archive = Files.write(projectRoot.resolve("lib.jar"), zip(entries, true));
+        Path stored = Files.write(projectRoot.resolve("stored.jar"), zip(entries, false));
+
+        for (Path file : List.of(archive, stored)) {
+            ArchiveIndex index = ArchiveIndex.open(file);
+            assertEquals(List.copyOf(entries.keySet()), index.getEntryNames());
+            assertArrayEquals(large, index.read("com/A.class"));
+            assertEquals(large.length, index.getSize("com/A.class"));
+            assertArrayEquals(new byte[0], index.read("empty.txt"));
+            assertFalse(index.containsFile("com/"));
+            assertThrows(IOException.class, () -> index.read("missing.txt"));
+        }
+        Path notAnArchive = Files.writeString(projectRoot.resolve("broken.jar"), "not a zip");
+        assertThrows(IOException.class, () -> ArchiveIndex.open(notAnArchive));
+    }
+
+    @Test
+    @DisplayName("Should mount nested archives at the paths extraction produces")
+    void testMountMatchesExtraction() throws IOException {
+        Path ear = createEar();
+        Path binaries = projectRoot.resolve(".analysis/binaries");
+
+        JarExtractor extractor = new JarExtractor(List.of());
+        assertTrue(extractor.extractArchive(new ProjectFile(ear, projectRoot), binaries, new HashSet<>())
+                .isSuccessful());
+        Set<Path> extracted;
+        try (Stream<Path> paths = Files.walk(binaries)) {
+            extracted = paths.filter(Files::isRegularFile).collect(Collectors.toSet());
+        }
+
+        ArchiveMounts mounts = new ArchiveMounts();
+        List<ArchiveMounts.MountedEntry> mounted = mounts.mount(ear, binaries.resolve("app"));
+        assertEquals(extracted, mounted.stream().map(ArchiveMounts.MountedEntry::path).collect(Collectors.toSet()));
+
+        for (Path file : extracted) {
+            try (InputStream in = mounts.openStream(file)) {
+                assertArrayEquals(Files.readAllBytes(file), in.readAllBytes(), file.toString());
+            }
+        }
+
+        ArchiveMounts.MountedEntry nested = mounted.stream()
+                .filter(entry -> entry.path().endsWith("Service.class"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(binaries.resolve("app/web/core/com/example/Service.class"), nested.path());
+        assertEquals(ear.toString(), nested.sourceJarPath());
+        assertEquals("web.war!/WEB-INF/lib/core.jar!/com/example/Service.class", nested.jarEntryPath());
+    }
+
+    @Test
+    @DisplayName("Should serve mounted entries through the file resolver")
+    void testFileResourceResolver() throws IOException {
+        Path ear = createEar();
+        Path mountDirectory = projectRoot.resolve(".analysis/binaries/app");
+        FileResourceResolver resolver = new FileResourceResolver();
+        resolver.getArchiveMounts().mount(ear, mountDirectory);
+
+        ResourceLocation service = new ResourceLocation(
+                mountDirectory.resolve("web/core/com/example/Service.class").toUri());
+        assertTrue(resolver.exists(service));
+        try (InputStream in = resolver.openStream(service)) {
+            assertEquals("service", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(7, resolver.getMetadata(service).getSize());
+
+        ResourceLocation missing = new ResourceLocation(mountDirectory.resolve("web/Missing.class").toUri());
+        assertFalse(resolver.exists(missing));
+        assertThrows(IOException.class, () -> resolver.openStream(missing));
+        assertFalse(Files.exists(projectRoot.resolve(".analysis")), "Mounting writes nothing to disk");
+
+        resolver.getArchiveMounts().clear();
+        assertFalse(resolver.exists(service));
+    }
+
+    /**
+     * An EAR holding a stored WAR, which holds a deflated JAR, with a
+     * directory that clashes with the mount of the nested archive.
+     */
+    private Path createEar() throws IOException {
+        Map<String, byte[]> jar = new LinkedHashMap<>();
+        jar.put("com/example/Service.class", bytes("service"));
+        Map<String, byte[]> war = new LinkedHashMap<>();
+        war.put("WEB-INF/web.xml", bytes("<web-app/>"));
+        war.put("WEB-INF/lib/core.jar", zip(jar, true));
+        war.put("lib/README.txt", bytes("readme"));
+        Map<String, byte[]> ear = new LinkedHashMap<>();
+        ear.put("META-INF/application.xml", bytes("<application/>"));
+        ear.put("web.war", zip(war, true));
+        ear.put("web/index.html", bytes("index"));
+        return Files.write(projectRoot.resolve("app.ear"), zip(ear, false));
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] zip(Map<String, byte[]> entries, boolean deflate) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                ZipEntry zipEntry = new ZipEntry(entry.getKey());
+                if (!deflate) {
+                    CRC32 crc = new CRC32();
+                    crc.update(entry.getValue());
+                    zipEntry.setMethod(ZipEntry.STORED);
+                    zipEntry.setSize(entry.getValue().length);
+                    zipEntry.setCrc(crc.getValue());
+                }
+                zip.putNextEntry(zipEntry);
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
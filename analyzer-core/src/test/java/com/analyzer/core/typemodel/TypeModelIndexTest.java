@@ -0,0 +1,253 @@
+package com.analyzer.core.typemodel;
+
+import com.analyzer.core.typemodel.TypeModel.AnnotationModel;
+import com.analyzer.core.typemodel.TypeModel.FieldModel;
+import com.analyzer.core.typemodel.TypeModel.MethodModel;
+import com.analyzer.core.typemodel.TypeSignatures.ClassSignature;
+import com.analyzer.core.typemodel.TypeSignatures.GenericType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TypeModelIndex and TypeSignatures: reading declarations from
+ * class bytes without loading the classes.
+ */
+@DisplayName("TypeModelIndex - Bytecode Type Model Tests")
+class TypeModelIndexTest {
+
+    private TypeModelIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TypeModelIndex(getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should read class declarations like reflection")
+    void testDeclarations() throws IOException {
+        TypeModel type = index.index(classBytes(Session.class));
+
+        assertEquals(Session.class.getName(), type.getName());
+        assertEquals("Session", type.getSimpleName());
+        assertEquals(BaseSession.class.getName(), type.getSuperclassName());
+        assertEquals(List.of(Callable.class.getName()), type.getInterfaceNames());
+        assertFalse(type.isInterface());
+        assertFalse(type.isAbstract());
+
+        FieldModel counter = field(type, "counter");
+        assertEquals("int", counter.getTypeName());
+        assertTrue(counter.isPrimitive());
+        assertTrue(counter.isPrivate());
+        FieldModel context = field(type, "context");
+        assertTrue(context.isStatic());
+        assertTrue(context.isFinal());
+        assertEquals(RequestContext.class.getName(), context.getTypeName());
+
+        List<String> methodNames = type.getDeclaredMethods().stream().map(MethodModel::getName).toList();
+        assertTrue(methodNames.contains("call"));
+        assertTrue(methodNames.contains("rename"));
+        assertFalse(methodNames.contains("<init>"));
+        assertEquals(1, type.getDeclaredConstructors().size());
+
+        MethodModel rename = method(type, "rename");
+        assertEquals(List.of("java.lang.String", "long[]"), rename.getParameterTypeNames());
+        assertEquals("boolean", rename.getReturnTypeName());
+        assertEquals(List.of(IOException.class.getName()), rename.getExceptionTypeNames());
+    }
+
+    @Test
+    @DisplayName("Should resolve supertypes and assignability across the hierarchy")
+    void testHierarchy() {
+        assertEquals(List.of(BaseSession.class.getName(), Object.class.getName()),
+                index.getSuperclassNames(Session.class.getName()));
+        assertTrue(index.getAllInterfaceNames(Session.class.getName()).containsAll(
+                List.of(Callable.class.getName(), Serializable.class.getName())));
+
+        assertTrue(index.isAssignableTo(Session.class.getName(), Serializable.class.getName()));
+        assertTrue(index.isAssignableTo(RequestContext.class.getName(), ThreadLocal.class.getName()));
+        assertTrue(index.isAssignableTo(ArrayList.class.getName(), Collection.class.getName()));
+        assertFalse(index.isAssignableTo(Session.class.getName(), Collection.class.getName()));
+        assertFalse(index.isAssignableTo("int", Object.class.getName()));
+        assertTrue(index.isAssignableTo("com.example.Missing", Object.class.getName()));
+        assertFalse(index.isAssignableTo("com.example.Missing", Serializable.class.getName()));
+    }
+
+    @Test
+    @DisplayName("Should cache types and misses without loading classes")
+    void testLookup() {
+        Optional<TypeModel> map = index.find(Map.class.getName());
+        assertTrue(map.isPresent());
+        assertTrue(map.get().isInterface());
+        assertSame(map.get(), index.find(Map.class.getName()).orElseThrow());
+
+        assertTrue(index.find("com.example.Missing").isEmpty());
+        assertTrue(index.find("int").isEmpty());
+        assertTrue(index.find("java.lang.String[]").isEmpty());
+        assertTrue(index.find(null).isEmpty());
+
+        String superclassName = index.find(Session.class.getName()).orElseThrow().getSuperclassName();
+        String name = index.find(BaseSession.class.getName()).orElseThrow().getName();
+        assertSame(name, superclassName, "Names are interned across types");
+    }
+
+    @Test
+    @DisplayName("Should expose runtime-visible annotations with their explicit values")
+    void testAnnotations() {
+        TypeModel type = index.find(Session.class.getName()).orElseThrow();
+
+        AnnotationModel marker = type.getAnnotation(Marker.class.getName());
+        assertNotNull(marker);
+        assertEquals("Marker", marker.getSimpleName());
+        assertEquals("session", marker.getValue("value", ""));
+        assertEquals(List.of(String.class.getName(), "int"), marker.getValue("types", List.of()));
+        assertEquals(ElementType.TYPE.name(), marker.getValue("target", null));
+        assertEquals("", marker.getValue("description", ""), "Defaults are not stored");
+        assertEquals(1, type.getAnnotations().size());
+
+        MethodModel rename = method(type, "rename");
+        assertEquals(Deprecated.class.getName(), rename.getAnnotations().get(0).getTypeName());
+        assertEquals(1, rename.getParameterAnnotations().get(0).size());
+        assertTrue(rename.getParameterAnnotations().get(1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should inherit @Inherited annotations of superclasses, like Class.getAnnotations()")
+    void testInheritedAnnotations() {
+        TypeModel base = index.find(AuditedBase.class.getName()).orElseThrow();
+        assertEquals(base.getAnnotations(), index.getAnnotations(base));
+
+        TypeModel service = index.find(AuditedService.class.getName()).orElseThrow();
+        assertTrue(service.getAnnotations().isEmpty());
+        List<AnnotationModel> inherited = index.getAnnotations(service);
+        assertEquals(List.of(Audited.class.getName()), inherited.stream().map(AnnotationModel::getTypeName).toList(),
+                "Only @Inherited annotation types are inherited");
+        assertEquals("base", inherited.get(0).getValue("value", ""));
+
+        TypeModel override = index.find(AuditedOverride.class.getName()).orElseThrow();
+        List<AnnotationModel> overridden = index.getAnnotations(override);
+        assertEquals(1, overridden.size(), "A declared annotation hides the inherited one");
+        assertEquals("override", overridden.get(0).getValue("value", ""));
+        assertEquals(AuditedOverride.class.getAnnotations().length, overridden.size());
+        assertEquals(AuditedService.class.getAnnotations().length, inherited.size());
+    }
+
+    @Test
+    @DisplayName("Should decode generic signatures")
+    void testGenericSignatures() {
+        TypeModel type = index.find(Session.class.getName()).orElseThrow();
+
+        ClassSignature signature = TypeSignatures.parseClass(type.getSignature());
+        assertTrue(signature.superclass().isParameterized());
+        assertEquals(BaseSession.class.getName() + "<java.util.Map<java.lang.String, ? extends java.lang.Number>>",
+                signature.superclass().getTypeName());
+        assertEquals("java.util.concurrent.Callable<java.lang.String>", signature.interfaces().get(0).getTypeName());
+
+        GenericType fieldType = TypeSignatures.parseType(field(type, "names").getSignature());
+        assertEquals("java.util.List<java.lang.String[]>", fieldType.getTypeName());
+        assertEquals(TypeSignatures.Kind.ARRAY, fieldType.typeArguments().get(0).kind());
+
+        TypeModel base = index.find(BaseSession.class.getName()).orElseThrow();
+        ClassSignature baseSignature = TypeSignatures.parseClass(base.getSignature());
+        assertEquals("T", baseSignature.typeParameters().get(0).name());
+        assertEquals(Object.class.getName(), baseSignature.typeParameters().get(0).bounds().get(0).getTypeName());
+
+        TypeSignatures.MethodSignature state = TypeSignatures.parseMethod(method(base, "state").getSignature());
+        assertEquals(TypeSignatures.Kind.TYPE_VARIABLE, state.returnType().kind());
+        assertEquals("java.util.Map$Entry<T, ?>", state.parameterTypes().get(0).getTypeName());
+    }
+
+    private static FieldModel field(TypeModel type, String name) {
+        return type.getDeclaredFields().stream().filter(field -> field.getName().equals(name)).findFirst()
+                .orElseThrow();
+    }
+
+    private static MethodModel method(TypeModel type, String name) {
+        return type.getDeclaredMethods().stream().filter(method -> method.getName().equals(name)).findFirst()
+                .orElseThrow();
+    }
+
+    private static byte[] classBytes(Class<?> type) throws IOException {
+        String resource = type.getName().substring(type.getPackageName().length() + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            assertNotNull(in);
+            return in.readAllBytes();
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+        String value();
+
+        Class<?>[] types() default {};
+
+        ElementType target() default ElementType.FIELD;
+
+        String description() default "";
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Audited {
+        String value();
+    }
+
+    @Audited("base")
+    @Marker("base")
+    static class AuditedBase {
+    }
+
+    static class AuditedService extends AuditedBase {
+    }
+
+    @Audited("override")
+    static class AuditedOverride extends AuditedService {
+    }
+
+    static class RequestContext extends ThreadLocal<String> {
+    }
+
+    static class BaseSession<T> implements Serializable {
+        private T state;
+
+        T state(Map.Entry<T, ?> entry) {
+            return state;
+        }
+    }
+
+    @Marker(value = "session", types = { String.class, int.class }, target = ElementType.TYPE)
+    static class Session extends BaseSession<Map<String, ? extends Number>> implements Callable<String> {
+        private static final RequestContext context = new RequestContext();
+        private int counter;
+        private List<String[]> names;
+
+        Session() {
+        }
+
+        @Override
+        public String call() {
+            return String.valueOf(counter);
+        }
+
+        @Deprecated
+        boolean rename(@Marker("name") String name, long[] versions) throws IOException {
+            return names.isEmpty();
+        }
+    }
+}
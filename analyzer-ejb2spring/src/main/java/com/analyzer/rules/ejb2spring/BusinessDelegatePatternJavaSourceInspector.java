@@ -1,19 +1,19 @@
 package com.analyzer.rules.ejb2spring;
 
 import com.analyzer.core.cache.LocalCache;
+import com.analyzer.api.inspector.AstEventBus;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.api.graph.ClassNodeRepository;
 import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.inspector.InspectorTags;
 import com.analyzer.core.model.ProjectFile;
-import com.analyzer.dev.inspectors.source.AbstractJavaParserInspector;
+import com.analyzer.dev.inspectors.source.AbstractJavaParserSubscriberInspector;
 import com.analyzer.api.resource.ResourceResolver;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.MethodCallExpr;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 
 import javax.inject.Inject;
 import java.io.Serializable;
@@ -41,7 +41,7 @@ import java.util.Set;
                 EjbMigrationTags.TAG_EJB_CLIENT_CODE,
                 EjbMigrationTags.TAG_EJB_JNDI_LOOKUP
         })
-public class BusinessDelegatePatternJavaSourceInspector extends AbstractJavaParserInspector {
+public class BusinessDelegatePatternJavaSourceInspector extends AbstractJavaParserSubscriberInspector {
 
     private static final String INSPECTOR_ID = "I-0709";
     private static final String INSPECTOR_NAME = "Business Delegate Pattern Inspector";
@@ -70,14 +70,15 @@ public class BusinessDelegatePatternJavaSourceInspector extends AbstractJavaPars
     }
 
     @Override
-    protected void analyzeCompilationUnit(CompilationUnit cu, ProjectFile projectFile,
-            NodeDecorator projectFileDecorator) {
-
+    protected void subscribe(AstEventBus.Subscriber subscriber, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> projectFileDecorator) {
         BusinessDelegateDetector detector = new BusinessDelegateDetector();
-        cu.accept(detector, null);
-
-        BusinessDelegateMetadata metadata = detector.getMetadata();
+        detector.subscribe(subscriber);
+        subscriber.onEnd(() -> recordResults(detector.getMetadata(), cu, projectFile, projectFileDecorator));
+    }
 
+    private void recordResults(BusinessDelegateMetadata metadata, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator projectFileDecorator) {
         // Set basic detection tags on ProjectFile (for inspector coordination)
         boolean isBusinessDelegate = metadata.isBusinessDelegate();
         boolean isServiceLocator = metadata.isServiceLocator();
@@ -199,7 +200,7 @@ public class BusinessDelegatePatternJavaSourceInspector extends AbstractJavaPars
      * Visitor that detects Business Delegate and Service Locator patterns
      * by analyzing class names, method patterns, and JNDI usage.
      */
-    private static class BusinessDelegateDetector extends VoidVisitorAdapter<Void> {
+    private static class BusinessDelegateDetector {
         private final BusinessDelegateMetadata metadata = new BusinessDelegateMetadata();
         private String currentClassName;
 
@@ -207,10 +208,12 @@ public class BusinessDelegatePatternJavaSourceInspector extends AbstractJavaPars
             return metadata;
         }
 
-        @Override
-        public void visit(ClassOrInterfaceDeclaration classDecl, Void arg) {
+        void subscribe(AstEventBus.Subscriber subscriber) {
+            subscriber.on(ClassOrInterfaceDeclaration.class, classDecl -> visit(classDecl, subscriber));
+        }
+
+        private void visit(ClassOrInterfaceDeclaration classDecl, AstEventBus.Subscriber subscriber) {
             if (classDecl.isInterface()) {
-                super.visit(classDecl, arg);
                 return;
             }
 
@@ -245,8 +248,6 @@ public class BusinessDelegatePatternJavaSourceInspector extends AbstractJavaPars
 
             // Check for JNDI lookup patterns
             analyzeJndiLookups(classDecl);
-
-            super.visit(classDecl, arg);
         }
 
         private boolean isBusinessDelegateClass(String className) {
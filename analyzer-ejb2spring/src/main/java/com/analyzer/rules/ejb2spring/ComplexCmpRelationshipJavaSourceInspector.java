@@ -1,19 +1,19 @@
 package com.analyzer.rules.ejb2spring;
 
+import com.analyzer.api.inspector.AstEventBus;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.api.graph.ClassNodeRepository;
 import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.model.ProjectFile;
 import com.analyzer.core.cache.LocalCache;
-import com.analyzer.dev.inspectors.source.AbstractJavaParserInspector;
+import com.analyzer.dev.inspectors.source.AbstractJavaParserSubscriberInspector;
 import com.analyzer.api.resource.ResourceResolver;
 import com.analyzer.rules.std.ApplicationPackageTagInspector;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.type.Type;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 
 import javax.inject.Inject;
 import java.util.*;
@@ -37,7 +37,7 @@ import java.util.*;
         ComplexCmpRelationshipJavaSourceInspector.TAGS.TAG_COLLECTION_RELATIONSHIPS,
         ComplexCmpRelationshipJavaSourceInspector.TAGS.TAG_JPA_CONVERSION_COMPLEXITY
 })
-public class ComplexCmpRelationshipJavaSourceInspector extends AbstractJavaParserInspector {
+public class ComplexCmpRelationshipJavaSourceInspector extends AbstractJavaParserSubscriberInspector {
 
     private final ClassNodeRepository classNodeRepository;
 
@@ -54,14 +54,15 @@ public class ComplexCmpRelationshipJavaSourceInspector extends AbstractJavaParse
     }
 
     @Override
-    protected void analyzeCompilationUnit(CompilationUnit cu, ProjectFile projectFile,
-                                          NodeDecorator projectFileDecorator) {
-
+    protected void subscribe(AstEventBus.Subscriber subscriber, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> projectFileDecorator) {
         ComplexCmrDetector detector = new ComplexCmrDetector();
-        cu.accept(detector, null);
-
-        ComplexCmrMetadata metadata = detector.getMetadata();
+        detector.subscribe(subscriber);
+        subscriber.onEnd(() -> recordResults(detector.getMetadata(), cu, projectFile, projectFileDecorator));
+    }
 
+    private void recordResults(ComplexCmrMetadata metadata, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator projectFileDecorator) {
         classNodeRepository.getOrCreateClassNode(cu).ifPresent(classNode -> {
             classNode.setProjectFileId(projectFile.getId());
 
@@ -148,7 +149,7 @@ public class ComplexCmpRelationshipJavaSourceInspector extends AbstractJavaParse
      * patterns,
      * collection types, and cascade operation patterns.
      */
-    private static class ComplexCmrDetector extends VoidVisitorAdapter<Void> {
+    private static class ComplexCmrDetector {
         private final ComplexCmrMetadata metadata = new ComplexCmrMetadata();
         private String currentClassName;
 
@@ -170,10 +171,12 @@ public class ComplexCmpRelationshipJavaSourceInspector extends AbstractJavaParse
             return metadata;
         }
 
-        @Override
-        public void visit(ClassOrInterfaceDeclaration classDecl, Void arg) {
+        void subscribe(AstEventBus.Subscriber subscriber) {
+            subscriber.on(ClassOrInterfaceDeclaration.class, classDecl -> visit(classDecl, subscriber));
+        }
+
+        private void visit(ClassOrInterfaceDeclaration classDecl, AstEventBus.Subscriber subscriber) {
             if (classDecl.isInterface()) {
-                super.visit(classDecl, arg);
                 return;
             }
 
@@ -182,8 +185,6 @@ public class ComplexCmpRelationshipJavaSourceInspector extends AbstractJavaParse
 
             // Analyze methods for CMR relationship patterns
             analyzeMethodsForRelationships(classDecl);
-
-            super.visit(classDecl, arg);
         }
 
         private void analyzeMethodsForRelationships(ClassOrInterfaceDeclaration classDecl) {
@@ -1,5 +1,6 @@
 package com.analyzer.rules.ejb2spring;
 
+import com.analyzer.api.inspector.AstEventBus;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.api.graph.ClassNodeRepository;
@@ -8,7 +9,7 @@ import com.analyzer.core.inspector.InspectorTags;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.core.model.ProjectFile;
 import com.analyzer.core.cache.LocalCache;
-import com.analyzer.dev.inspectors.source.AbstractJavaParserInspector;
+import com.analyzer.dev.inspectors.source.AbstractJavaParserSubscriberInspector;
 import com.analyzer.api.resource.ResourceResolver;
 import com.analyzer.rules.std.ApplicationPackageTagInspector;
 import com.github.javaparser.ast.CompilationUnit;
@@ -18,7 +19,6 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.AssignExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.type.Type;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 
 import javax.inject.Inject;
 import java.util.ArrayList;
@@ -51,7 +51,7 @@ import java.util.Set;
         EjbMigrationTags.TAG_MAPPING_RESULTSET_MANUAL,
         EjbMigrationTags.TAG_JDBC_DTO_USAGE
 })
-public class CustomDataTransferPatternJavaSourceInspector extends AbstractJavaParserInspector {
+public class CustomDataTransferPatternJavaSourceInspector extends AbstractJavaParserSubscriberInspector {
 
     private static final String INSPECTOR_ID = "I-0213";
     private static final String INSPECTOR_NAME = "Custom Data Transfer Pattern Inspector";
@@ -86,14 +86,15 @@ public class CustomDataTransferPatternJavaSourceInspector extends AbstractJavaPa
     }
 
     @Override
-    protected void analyzeCompilationUnit(CompilationUnit cu, ProjectFile projectFile,
-            NodeDecorator projectFileDecorator) {
-
+    protected void subscribe(AstEventBus.Subscriber subscriber, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> projectFileDecorator) {
         DataTransferPatternDetector detector = new DataTransferPatternDetector();
-        cu.accept(detector, null);
-
-        DataTransferMetadata metadata = detector.getMetadata();
+        detector.subscribe(subscriber);
+        subscriber.onEnd(() -> recordResults(detector.getMetadata(), cu, projectFile, projectFileDecorator));
+    }
 
+    private void recordResults(DataTransferMetadata metadata, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator projectFileDecorator) {
         classNodeRepository.getOrCreateClassNode(cu).ifPresent(classNode -> {
             classNode.setProjectFileId(projectFile.getId());
 
@@ -241,7 +242,7 @@ public class CustomDataTransferPatternJavaSourceInspector extends AbstractJavaPa
      * structure,
      * field patterns, mapping methods, and JDBC ResultSet usage.
      */
-    private static class DataTransferPatternDetector extends VoidVisitorAdapter<Void> {
+    private static class DataTransferPatternDetector {
         private final DataTransferMetadata metadata = new DataTransferMetadata();
         private String currentClassName;
 
@@ -249,10 +250,12 @@ public class CustomDataTransferPatternJavaSourceInspector extends AbstractJavaPa
             return metadata;
         }
 
-        @Override
-        public void visit(ClassOrInterfaceDeclaration classDecl, Void arg) {
+        void subscribe(AstEventBus.Subscriber subscriber) {
+            subscriber.on(ClassOrInterfaceDeclaration.class, classDecl -> visit(classDecl, subscriber));
+        }
+
+        private void visit(ClassOrInterfaceDeclaration classDecl, AstEventBus.Subscriber subscriber) {
             if (classDecl.isInterface()) {
-                super.visit(classDecl, arg);
                 return;
             }
 
@@ -287,8 +290,6 @@ public class CustomDataTransferPatternJavaSourceInspector extends AbstractJavaPa
 
             // Check for JDBC usage with DTOs
             analyzeJdbcDtoUsage(classDecl);
-
-            super.visit(classDecl, arg);
         }
 
         private boolean isDataTransferObjectClass(String className) {
@@ -1,41 +1,39 @@
 package com.analyzer.rules.ejb2spring;
 
-import com.analyzer.core.cache.LocalCache;
-
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.api.graph.JavaClassNode;
 import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.inspector.InspectorTags;
-import com.analyzer.core.resource.JARClassLoaderService;
-import com.analyzer.dev.inspectors.classloader.AbstractClassLoaderBasedInspector;
+import com.analyzer.core.typemodel.TypeModel;
+import com.analyzer.core.typemodel.TypeModel.AnnotationModel;
+import com.analyzer.core.typemodel.TypeModel.FieldModel;
+import com.analyzer.core.typemodel.TypeModel.MethodModel;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import com.analyzer.core.typemodel.TypeSignatures;
+import com.analyzer.core.typemodel.TypeSignatures.ClassSignature;
+import com.analyzer.dev.inspectors.binary.AbstractTypeModelInspector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.*;
 
 /**
- * ClassLoader-based EJB inspector that uses runtime reflection to analyze
- * loaded classes.
+ * Type-model-based EJB inspector that analyzes classes through the
+ * reflection-like TypeModelIndex, without loading them.
  * This inspector complements the binary ASM inspector by providing enhanced
- * runtime analysis
- * including complete annotation metadata, generic type resolution, and
- * inheritance analysis.
+ * analysis
+ * including annotation metadata, generic type resolution, and
+ * inheritance analysis across the whole type hierarchy.
  * 
  * <p>
  * Capabilities:
  * </p>
  * <ul>
- * <li>Complete annotation parameter resolution</li>
+ * <li>Annotation parameter resolution</li>
  * <li>Accurate inheritance chain analysis</li>
  * <li>Generic type information extraction</li>
- * <li>Runtime method signature analysis</li>
+ * <li>Method signature analysis</li>
  * <li>Enhanced migration recommendations</li>
  * </ul>
  * 
@@ -56,11 +54,11 @@ import java.util.*;
         EjbMigrationTags.TAG_EJB_STATELESS_SESSION_BEAN,
         EjbMigrationTags.TAG_EJB_STATEFUL_SESSION_BEAN
 })
-public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
+public class EjbClassLoaderInspector extends AbstractTypeModelInspector {
 
     private static final Logger logger = LoggerFactory.getLogger(EjbClassLoaderInspector.class);
 
-    // EJB 3.x Annotation Classes (will be loaded at runtime)
+    // EJB 3.x Annotation Classes
     private static final Set<String> EJB3_ANNOTATION_NAMES = Set.of(
             "javax.ejb.Stateless",
             "jakarta.ejb.Stateless",
@@ -92,8 +90,8 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
             "jakarta.ejb.EJBLocalObject");
 
     @Inject
-    public EjbClassLoaderInspector(JARClassLoaderService classLoaderService) {
-        super(classLoaderService);
+    public EjbClassLoaderInspector(TypeModelIndex typeModelIndex) {
+        super(typeModelIndex);
     }
 
     @Override
@@ -103,13 +101,13 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
 
     private boolean analyzeEjb3Annotations(EjbRuntimeAnalysis analysis, JavaClassNode classNode) {
         boolean found = false;
-        Class<?> clazz = analysis.getLoadedClass();
+        TypeModel type = analysis.getType();
 
-        for (Annotation annotation : clazz.getAnnotations()) {
-            String annotationName = annotation.annotationType().getName();
+        for (AnnotationModel annotation : typeModelIndex.getAnnotations(type)) {
+            String annotationName = annotation.getTypeName();
 
             if (EJB3_ANNOTATION_NAMES.contains(annotationName)) {
-                logger.debug("Found EJB 3.x annotation: {} with runtime metadata", annotationName);
+                logger.debug("Found EJB 3.x annotation: {} with metadata", annotationName);
                 analysis.addEjbAnnotation(annotation);
 
                 switch (annotationName) {
@@ -153,36 +151,35 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
 
     private boolean analyzeEjb2Interfaces(EjbRuntimeAnalysis analysis, JavaClassNode classNode) {
         boolean found = false;
-        Class<?> clazz = analysis.getLoadedClass();
+        TypeModel type = analysis.getType();
 
         // Get all interfaces including inherited ones
-        Set<Class<?>> allInterfaces = getAllInterfaces(clazz);
+        Set<String> allInterfaces = getAllInterfaces(type);
 
-        for (Class<?> iface : allInterfaces) {
-            String interfaceName = iface.getName();
+        for (String interfaceName : allInterfaces) {
 
             if (EJB2_INTERFACE_NAMES.contains(interfaceName)) {
                 logger.debug("Found EJB 2.x interface implementation: {}", interfaceName);
-                analysis.addEjb2Interface(iface);
+                analysis.addEjb2Interface(interfaceName);
 
                 switch (interfaceName) {
                     case "javax.ejb.SessionBean", "jakarta.ejb.SessionBean":
                         classNode.enableTag(EjbMigrationTags.TAG_EJB_SESSION_BEAN);
-                        analyzeSessionBeanMethods(clazz, classNode);
+                        analyzeSessionBeanMethods(type, classNode);
                         found = true;
                         break;
 
                     case "javax.ejb.EntityBean":
                     case "jakarta.ejb.EntityBean":
                         classNode.enableTag(EjbMigrationTags.TAG_EJB_ENTITY_BEAN);
-                        analyzeEntityBeanMethods(clazz, classNode);
+                        analyzeEntityBeanMethods(type, classNode);
                         found = true;
                         break;
 
                     case "javax.ejb.MessageDrivenBean":
                     case "jakarta.ejb.MessageDrivenBean":
                         classNode.enableTag(EjbMigrationTags.TAG_EJB_MESSAGE_DRIVEN_BEAN);
-                        analyzeMessageDrivenBeanMethods(clazz, classNode);
+                        analyzeMessageDrivenBeanMethods(type, classNode);
                         found = true;
                         break;
                 }
@@ -193,49 +190,48 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
     }
 
     private boolean analyzeEjbStandardInterfaces(EjbRuntimeAnalysis analysis, JavaClassNode classNode) {
-        if (!analysis.getLoadedClass().isInterface()) {
+        if (!analysis.getType().isInterface()) {
             return false; // Only interfaces can be EJB standard interfaces
         }
 
         boolean found = false;
-        Class<?> clazz = analysis.getLoadedClass();
+        TypeModel type = analysis.getType();
 
         // Get all interfaces including inherited ones
-        Set<Class<?>> allInterfaces = getAllInterfaces(clazz);
+        Set<String> allInterfaces = getAllInterfaces(type);
 
-        for (Class<?> iface : allInterfaces) {
-            String interfaceName = iface.getName();
+        for (String interfaceName : allInterfaces) {
 
             if (EJB_STANDARD_INTERFACE_NAMES.contains(interfaceName)) {
                 logger.debug("Found EJB standard interface: {}", interfaceName);
-                analysis.addStandardInterface(iface);
+                analysis.addStandardInterface(interfaceName);
 
                 switch (interfaceName) {
                     case "javax.ejb.EJBHome":
                     case "jakarta.ejb.EJBHome":
                         classNode.enableTag(EjbMigrationTags.TAG_EJB_HOME_INTERFACE);
-                        analyzeHomeInterfaceMethods(clazz, classNode);
+                        analyzeHomeInterfaceMethods(type, classNode);
                         found = true;
                         break;
 
                     case "javax.ejb.EJBObject":
                     case "jakarta.ejb.EJBObject":
                         classNode.enableTag(EjbMigrationTags.TAG_EJB_REMOTE_INTERFACE);
-                        analyzeRemoteInterfaceMethods(clazz, classNode);
+                        analyzeRemoteInterfaceMethods(type, classNode);
                         found = true;
                         break;
 
                     case "javax.ejb.EJBLocalHome":
                     case "jakarta.ejb.EJBLocalHome":
                         classNode.enableTag(EjbMigrationTags.TAG_EJB_LOCAL_HOME_INTERFACE);
-                        analyzeLocalHomeInterfaceMethods(clazz, classNode);
+                        analyzeLocalHomeInterfaceMethods(type, classNode);
                         found = true;
                         break;
 
                     case "javax.ejb.EJBLocalObject":
                     case "jakarta.ejb.EJBLocalObject":
                         classNode.enableTag(EjbMigrationTags.TAG_EJB_LOCAL_INTERFACE);
-                        analyzeLocalInterfaceMethods(clazz, classNode);
+                        analyzeLocalInterfaceMethods(type, classNode);
                         found = true;
                         break;
                 }
@@ -271,74 +267,44 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
     }
 
     // Annotation metadata extraction methods
-    private void extractStatelessAnnotationMetadata(Annotation annotation, JavaClassNode classNode) {
+    private void extractStatelessAnnotationMetadata(AnnotationModel annotation, JavaClassNode classNode) {
         Map<String, Object> metadata = new HashMap<>();
-        try {
-            // Use reflection to extract annotation parameters
-            Method nameMethod = annotation.annotationType().getMethod("name");
-            Method mappedNameMethod = annotation.annotationType().getMethod("mappedName");
-            Method descriptionMethod = annotation.annotationType().getMethod("description");
-
-            metadata.put("name", nameMethod.invoke(annotation));
-            metadata.put("mappedName", mappedNameMethod.invoke(annotation));
-            metadata.put("description", descriptionMethod.invoke(annotation));
-
-            classNode.setProperty("ejb.stateless.annotation.metadata", metadata);
-        } catch (Exception e) {
-            logger.debug("Could not extract Stateless annotation metadata: {}", e.getMessage());
-        }
+        metadata.put("name", annotation.getValue("name", ""));
+        metadata.put("mappedName", annotation.getValue("mappedName", ""));
+        metadata.put("description", annotation.getValue("description", ""));
+
+        classNode.setProperty("ejb.stateless.annotation.metadata", metadata);
     }
 
-    private void extractStatefulAnnotationMetadata(Annotation annotation, JavaClassNode classNode) {
+    private void extractStatefulAnnotationMetadata(AnnotationModel annotation, JavaClassNode classNode) {
         Map<String, Object> metadata = new HashMap<>();
-        try {
-            Method nameMethod = annotation.annotationType().getMethod("name");
-            Method mappedNameMethod = annotation.annotationType().getMethod("mappedName");
-            Method descriptionMethod = annotation.annotationType().getMethod("description");
-
-            metadata.put("name", nameMethod.invoke(annotation));
-            metadata.put("mappedName", mappedNameMethod.invoke(annotation));
-            metadata.put("description", descriptionMethod.invoke(annotation));
-
-            classNode.setProperty("ejb.stateful.annotation.metadata", metadata);
-        } catch (Exception e) {
-            logger.debug("Could not extract Stateful annotation metadata: {}", e.getMessage());
-        }
+        metadata.put("name", annotation.getValue("name", ""));
+        metadata.put("mappedName", annotation.getValue("mappedName", ""));
+        metadata.put("description", annotation.getValue("description", ""));
+
+        classNode.setProperty("ejb.stateful.annotation.metadata", metadata);
     }
 
-    private void extractEntityAnnotationMetadata(Annotation annotation, JavaClassNode classNode) {
+    private void extractEntityAnnotationMetadata(AnnotationModel annotation, JavaClassNode classNode) {
         Map<String, Object> metadata = new HashMap<>();
-        try {
-            Method nameMethod = annotation.annotationType().getMethod("name");
-            metadata.put("name", nameMethod.invoke(annotation));
+        metadata.put("name", annotation.getValue("name", ""));
 
-            classNode.setProperty("ejb.entity.annotation.metadata", metadata);
-        } catch (Exception e) {
-            logger.debug("Could not extract Entity annotation metadata: {}", e.getMessage());
-        }
+        classNode.setProperty("ejb.entity.annotation.metadata", metadata);
     }
 
-    private void extractMessageDrivenAnnotationMetadata(Annotation annotation, JavaClassNode classNode) {
+    private void extractMessageDrivenAnnotationMetadata(AnnotationModel annotation, JavaClassNode classNode) {
         Map<String, Object> metadata = new HashMap<>();
-        try {
-            Method nameMethod = annotation.annotationType().getMethod("name");
-            Method mappedNameMethod = annotation.annotationType().getMethod("mappedName");
-            Method descriptionMethod = annotation.annotationType().getMethod("description");
-
-            metadata.put("name", nameMethod.invoke(annotation));
-            metadata.put("mappedName", mappedNameMethod.invoke(annotation));
-            metadata.put("description", descriptionMethod.invoke(annotation));
-
-            classNode.setProperty("ejb.messagedriven.annotation.metadata", metadata);
-        } catch (Exception e) {
-            logger.debug("Could not extract MessageDriven annotation metadata: {}", e.getMessage());
-        }
+        metadata.put("name", annotation.getValue("name", ""));
+        metadata.put("mappedName", annotation.getValue("mappedName", ""));
+        metadata.put("description", annotation.getValue("description", ""));
+
+        classNode.setProperty("ejb.messagedriven.annotation.metadata", metadata);
     }
 
     // Method analysis methods
-    private void analyzeSessionBeanMethods(Class<?> clazz, JavaClassNode classNode) {
+    private void analyzeSessionBeanMethods(TypeModel type, JavaClassNode classNode) {
         Set<String> ejbMethods = new HashSet<>();
-        for (Method method : clazz.getDeclaredMethods()) {
+        for (MethodModel method : type.getDeclaredMethods()) {
             String methodName = method.getName();
             if (methodName.startsWith("ejb") || methodName.equals("setSessionContext")) {
                 ejbMethods.add(methodName);
@@ -347,9 +313,9 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
         classNode.setProperty("ejb.sessionbean.methods", ejbMethods);
     }
 
-    private void analyzeEntityBeanMethods(Class<?> clazz, JavaClassNode classNode) {
+    private void analyzeEntityBeanMethods(TypeModel type, JavaClassNode classNode) {
         Set<String> ejbMethods = new HashSet<>();
-        for (Method method : clazz.getDeclaredMethods()) {
+        for (MethodModel method : type.getDeclaredMethods()) {
             String methodName = method.getName();
             if (methodName.startsWith("ejb") || methodName.equals("setEntityContext")) {
                 ejbMethods.add(methodName);
@@ -358,9 +324,9 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
         classNode.setProperty("ejb.entitybean.methods", ejbMethods);
     }
 
-    private void analyzeMessageDrivenBeanMethods(Class<?> clazz, JavaClassNode classNode) {
+    private void analyzeMessageDrivenBeanMethods(TypeModel type, JavaClassNode classNode) {
         Set<String> ejbMethods = new HashSet<>();
-        for (Method method : clazz.getDeclaredMethods()) {
+        for (MethodModel method : type.getDeclaredMethods()) {
             String methodName = method.getName();
             if (methodName.equals("onMessage") || methodName.equals("setMessageDrivenContext")) {
                 ejbMethods.add(methodName);
@@ -369,11 +335,11 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
         classNode.setProperty("ejb.messagedrivenbean.methods", ejbMethods);
     }
 
-    private void analyzeHomeInterfaceMethods(Class<?> clazz, JavaClassNode classNode) {
+    private void analyzeHomeInterfaceMethods(TypeModel type, JavaClassNode classNode) {
         Set<String> createMethods = new HashSet<>();
         Set<String> finderMethods = new HashSet<>();
 
-        for (Method method : clazz.getDeclaredMethods()) {
+        for (MethodModel method : type.getDeclaredMethods()) {
             String methodName = method.getName();
             if (methodName.startsWith("create")) {
                 createMethods.add(methodName);
@@ -386,34 +352,33 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
         classNode.setProperty("ejb.home.finder.methods", finderMethods);
     }
 
-    private void analyzeRemoteInterfaceMethods(Class<?> clazz, JavaClassNode classNode) {
+    private void analyzeRemoteInterfaceMethods(TypeModel type, JavaClassNode classNode) {
         Set<String> businessMethods = new HashSet<>();
-        for (Method method : clazz.getDeclaredMethods()) {
+        for (MethodModel method : type.getDeclaredMethods()) {
             businessMethods.add(method.getName());
         }
         classNode.setProperty("ejb.remote.business.methods", businessMethods);
     }
 
-    private void analyzeLocalHomeInterfaceMethods(Class<?> clazz, JavaClassNode classNode) {
-        analyzeHomeInterfaceMethods(clazz, classNode); // Same logic as remote home
+    private void analyzeLocalHomeInterfaceMethods(TypeModel type, JavaClassNode classNode) {
+        analyzeHomeInterfaceMethods(type, classNode); // Same logic as remote home
     }
 
-    private void analyzeLocalInterfaceMethods(Class<?> clazz, JavaClassNode classNode) {
-        analyzeRemoteInterfaceMethods(clazz, classNode); // Same logic as remote
+    private void analyzeLocalInterfaceMethods(TypeModel type, JavaClassNode classNode) {
+        analyzeRemoteInterfaceMethods(type, classNode); // Same logic as remote
     }
 
     // Utility methods
-    private Set<Class<?>> getAllInterfaces(Class<?> clazz) {
-        Set<Class<?>> interfaces = new HashSet<>();
+    private Set<String> getAllInterfaces(TypeModel type) {
+        Set<String> interfaces = new HashSet<>();
 
         // Add direct interfaces
-        Collections.addAll(interfaces, clazz.getInterfaces());
+        interfaces.addAll(type.getInterfaceNames());
 
         // Add inherited interfaces
-        Class<?> current = clazz.getSuperclass();
-        while (current != null) {
-            Collections.addAll(interfaces, current.getInterfaces());
-            current = current.getSuperclass();
+        for (String superclassName : typeModelIndex.getSuperclassNames(type.getName())) {
+            typeModelIndex.find(superclassName)
+                    .ifPresent(superclass -> interfaces.addAll(superclass.getInterfaceNames()));
         }
 
         return interfaces;
@@ -422,19 +387,8 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
     private Map<String, Object> extractAllAnnotationMetadata(EjbRuntimeAnalysis analysis) {
         Map<String, Object> metadata = new HashMap<>();
 
-        for (Annotation annotation : analysis.getEjbAnnotations()) {
-            String annotationName = annotation.annotationType().getSimpleName();
-            try {
-                Map<String, Object> annotationData = new HashMap<>();
-                for (Method method : annotation.annotationType().getDeclaredMethods()) {
-                    if (method.getParameterCount() == 0) {
-                        annotationData.put(method.getName(), method.invoke(annotation));
-                    }
-                }
-                metadata.put(annotationName, annotationData);
-            } catch (Exception e) {
-                logger.debug("Could not extract metadata for annotation: {}", annotationName);
-            }
+        for (AnnotationModel annotation : analysis.getEjbAnnotations()) {
+            metadata.put(annotation.getSimpleName(), new HashMap<>(annotation.getValues()));
         }
 
         return metadata;
@@ -442,44 +396,43 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
 
     private Map<String, Object> analyzeInheritanceHierarchy(EjbRuntimeAnalysis analysis) {
         Map<String, Object> hierarchy = new HashMap<>();
-        Class<?> clazz = analysis.getLoadedClass();
+        TypeModel type = analysis.getType();
 
-        List<String> superClasses = new ArrayList<>();
-        Class<?> current = clazz.getSuperclass();
-        while (current != null && !current.equals(Object.class)) {
-            superClasses.add(current.getName());
-            current = current.getSuperclass();
-        }
+        List<String> superClasses = new ArrayList<>(typeModelIndex.getSuperclassNames(type.getName()));
+        superClasses.remove(Object.class.getName());
 
-        List<String> interfaceNames = new ArrayList<>();
-        for (Class<?> iface : getAllInterfaces(clazz)) {
-            interfaceNames.add(iface.getName());
-        }
+        List<String> interfaceNames = new ArrayList<>(getAllInterfaces(type));
 
         hierarchy.put("superClasses", superClasses);
         hierarchy.put("interfaces", interfaceNames);
-        hierarchy.put("isInterface", clazz.isInterface());
-        hierarchy.put("isAbstract", java.lang.reflect.Modifier.isAbstract(clazz.getModifiers()));
+        hierarchy.put("isInterface", type.isInterface());
+        hierarchy.put("isAbstract", type.isAbstract());
 
         return hierarchy;
     }
 
     private Map<String, Object> analyzeGenericTypes(EjbRuntimeAnalysis analysis) {
         Map<String, Object> genericInfo = new HashMap<>();
-        Class<?> clazz = analysis.getLoadedClass();
-
-        // Analyze generic superclass
-        Type genericSuperclass = clazz.getGenericSuperclass();
-        if (genericSuperclass instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) genericSuperclass;
-            genericInfo.put("genericSuperclass", parameterizedType.toString());
-        }
+        TypeModel type = analysis.getType();
 
-        // Analyze generic interfaces
-        Type[] genericInterfaces = clazz.getGenericInterfaces();
         List<String> genericInterfaceNames = new ArrayList<>();
-        for (Type genericInterface : genericInterfaces) {
-            genericInterfaceNames.add(genericInterface.toString());
+        if (type.getSignature() != null) {
+            ClassSignature signature = TypeSignatures.parseClass(type.getSignature());
+
+            // Analyze generic superclass
+            if (signature.superclass().isParameterized()) {
+                genericInfo.put("genericSuperclass", signature.superclass().getTypeName());
+            }
+
+            // Analyze generic interfaces
+            for (TypeSignatures.GenericType genericInterface : signature.interfaces()) {
+                genericInterfaceNames.add(genericInterface.isParameterized() ? genericInterface.getTypeName()
+                        : "interface " + genericInterface.getTypeName());
+            }
+        } else {
+            for (String interfaceName : type.getInterfaceNames()) {
+                genericInterfaceNames.add("interface " + interfaceName);
+            }
         }
         genericInfo.put("genericInterfaces", genericInterfaceNames);
 
@@ -488,21 +441,16 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
 
     private Map<String, Object> analyzeMethodSignatures(EjbRuntimeAnalysis analysis) {
         Map<String, Object> methodInfo = new HashMap<>();
-        Class<?> clazz = analysis.getLoadedClass();
+        TypeModel type = analysis.getType();
 
         List<Map<String, Object>> methods = new ArrayList<>();
-        for (Method method : clazz.getDeclaredMethods()) {
+        for (MethodModel method : type.getDeclaredMethods()) {
             Map<String, Object> methodData = new HashMap<>();
             methodData.put("name", method.getName());
             methodData.put("parameterCount", method.getParameterCount());
-            methodData.put("returnType", method.getReturnType().getName());
-            methodData.put("isPublic", java.lang.reflect.Modifier.isPublic(method.getModifiers()));
-
-            List<String> parameterTypes = new ArrayList<>();
-            for (Class<?> paramType : method.getParameterTypes()) {
-                parameterTypes.add(paramType.getName());
-            }
-            methodData.put("parameterTypes", parameterTypes);
+            methodData.put("returnType", method.getReturnTypeName());
+            methodData.put("isPublic", method.isPublic());
+            methodData.put("parameterTypes", method.getParameterTypeNames());
 
             methods.add(methodData);
         }
@@ -516,7 +464,7 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
     private Map<String, Object> generateEnhancedMigrationRecommendations(EjbRuntimeAnalysis analysis) {
         Map<String, Object> recommendations = new HashMap<>();
 
-        // Generate specific migration patterns based on runtime analysis
+        // Generate specific migration patterns based on the type analysis
         if (!analysis.getEjbAnnotations().isEmpty()) {
             recommendations.put("migrationPattern", "EJB3_TO_SPRING");
             recommendations.put("complexity", "LOW_TO_MEDIUM");
@@ -536,27 +484,24 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
     }
 
     /**
-     * Analyzes conversational state fields using reflection.
+     * Analyzes conversational state fields declared in the class file.
      * Creates FieldInfo objects and uses shared utility for analysis.
      */
-    private void analyzeConversationalStateFields(Class<?> clazz, JavaClassNode classNode) {
+    private void analyzeConversationalStateFields(TypeModel type, JavaClassNode classNode) {
         List<EjbAnalysisUtils.FieldInfo> fields = new ArrayList<>();
 
         // Analyze all declared fields
-        for (Field field : clazz.getDeclaredFields()) {
-            int modifiers = field.getModifiers();
-            boolean isStatic = Modifier.isStatic(modifiers);
-            boolean isFinal = Modifier.isFinal(modifiers);
-            boolean isPrivate = Modifier.isPrivate(modifiers);
-
-            String fieldType = field.getType().getName();
-            boolean isCollection = Collection.class.isAssignableFrom(field.getType());
-            boolean isPrimitive = field.getType().isPrimitive();
-            String visibility = isPrivate ? "private" : "protected/public";
+        for (FieldModel field : type.getDeclaredFields()) {
+            String fieldType = field.getTypeName();
+            boolean isPrimitive = field.isPrimitive();
+            boolean isCollection = !isPrimitive
+                    && typeModelIndex.isAssignableTo(fieldType, Collection.class.getName());
+            String visibility = field.isPrivate() ? "private" : "protected/public";
 
             // Create FieldInfo for this field
             EjbAnalysisUtils.FieldInfo fieldInfo = new EjbAnalysisUtils.FieldInfo(
-                    field.getName(), fieldType, isStatic, isFinal, isCollection, isPrimitive, visibility);
+                    field.getName(), fieldType, field.isStatic(), field.isFinal(), isCollection, isPrimitive,
+                    visibility);
             fields.add(fieldInfo);
 
             // Check for EJB references (for graph edges)
@@ -572,7 +517,7 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
         }
 
         // Check for Serializable implementation
-        if (java.io.Serializable.class.isAssignableFrom(clazz)) {
+        if (typeModelIndex.isAssignableTo(type.getName(), java.io.Serializable.class.getName())) {
             classNode.enableTag(EjbMigrationTags.TAG_EJB_SERIALIZABLE_DETECTED);
             classNode.setProperty("ejb.serialization.marker", true);
         }
@@ -594,15 +539,15 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
     }
 
     @Override
-    protected void analyzeLoadedClass(Class<?> loadedClass, JavaClassNode classNode,
+    protected void analyzeType(TypeModel type, JavaClassNode classNode,
             NodeDecorator<JavaClassNode> decorator) {
-        logger.debug("Analyzing loaded class for EJB components: {}", loadedClass.getName());
-        EjbRuntimeAnalysis analysis = new EjbRuntimeAnalysis(loadedClass);
+        logger.debug("Analyzing class for EJB components: {}", type.getName());
+        EjbRuntimeAnalysis analysis = new EjbRuntimeAnalysis(type);
 
-        // Perform comprehensive runtime analysis
+        // Perform comprehensive analysis of the type model
         boolean isEjbComponent = false;
 
-        // Analyze EJB 3.x annotations with full metadata
+        // Analyze EJB 3.x annotations with their metadata
         if (analyzeEjb3Annotations(analysis, classNode)) {
             isEjbComponent = true;
         }
@@ -622,52 +567,52 @@ public class EjbClassLoaderInspector extends AbstractClassLoaderBasedInspector {
             classNode.enableTag(EjbMigrationTags.TAG_EJB_BEAN_DETECTED);
 
             // Analyze conversational state fields
-            analyzeConversationalStateFields(loadedClass, classNode);
+            analyzeConversationalStateFields(type, classNode);
 
             Map<String, Object> result = performEnhancedAnalysis(analysis, classNode);
             classNode.setProperty("ejb.runtime.analysis", createAnalysisJson(result));
-            logger.info("EJB component runtime analysis complete: {}", loadedClass.getName());
+            logger.info("EJB component runtime analysis complete: {}", type.getName());
         }
     }
 
     /**
-     * Runtime analysis data holder for EJB components.
+     * Analysis data holder for EJB components.
      */
     private static class EjbRuntimeAnalysis {
-        private final Class<?> loadedClass;
-        private final List<Annotation> ejbAnnotations = new ArrayList<>();
-        private final List<Class<?>> ejb2Interfaces = new ArrayList<>();
-        private final List<Class<?>> standardInterfaces = new ArrayList<>();
+        private final TypeModel type;
+        private final List<AnnotationModel> ejbAnnotations = new ArrayList<>();
+        private final List<String> ejb2Interfaces = new ArrayList<>();
+        private final List<String> standardInterfaces = new ArrayList<>();
 
-        public EjbRuntimeAnalysis(Class<?> loadedClass) {
-            this.loadedClass = loadedClass;
+        public EjbRuntimeAnalysis(TypeModel type) {
+            this.type = type;
         }
 
-        public Class<?> getLoadedClass() {
-            return loadedClass;
+        public TypeModel getType() {
+            return type;
         }
 
-        public List<Annotation> getEjbAnnotations() {
+        public List<AnnotationModel> getEjbAnnotations() {
             return ejbAnnotations;
         }
 
-        public List<Class<?>> getEjb2Interfaces() {
+        public List<String> getEjb2Interfaces() {
             return ejb2Interfaces;
         }
 
-        public List<Class<?>> getStandardInterfaces() {
+        public List<String> getStandardInterfaces() {
             return standardInterfaces;
         }
 
-        public void addEjbAnnotation(Annotation annotation) {
+        public void addEjbAnnotation(AnnotationModel annotation) {
             ejbAnnotations.add(annotation);
         }
 
-        public void addEjb2Interface(Class<?> iface) {
+        public void addEjb2Interface(String iface) {
             ejb2Interfaces.add(iface);
         }
 
-        public void addStandardInterface(Class<?> iface) {
+        public void addStandardInterface(String iface) {
             standardInterfaces.add(iface);
         }
     }
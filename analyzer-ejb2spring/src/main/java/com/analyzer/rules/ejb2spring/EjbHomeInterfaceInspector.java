@@ -1,5 +1,6 @@
 package com.analyzer.rules.ejb2spring;
 
+import com.analyzer.api.inspector.AstEventBus;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.api.graph.ClassNodeRepository;
@@ -8,13 +9,12 @@ import com.analyzer.core.inspector.InspectorTags;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.core.model.ProjectFile;
 import com.analyzer.core.cache.LocalCache;
-import com.analyzer.dev.inspectors.source.AbstractJavaParserInspector;
+import com.analyzer.dev.inspectors.source.AbstractJavaParserSubscriberInspector;
 import com.analyzer.api.resource.ResourceResolver;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,7 +31,7 @@ import java.util.List;
 }, produces = {
         EjbHomeInterfaceInspector.TAGS.TAG_IS_HOME_INTERFACE
 })
-public class EjbHomeInterfaceInspector extends AbstractJavaParserInspector {
+public class EjbHomeInterfaceInspector extends AbstractJavaParserSubscriberInspector {
 
     public static class TAGS {
         public static final String TAG_IS_HOME_INTERFACE = "ejb_home_interface_inspector.is_home_interface";
@@ -45,12 +45,17 @@ public class EjbHomeInterfaceInspector extends AbstractJavaParserInspector {
     }
 
     @Override
-    protected void analyzeCompilationUnit(CompilationUnit cu, ProjectFile projectFile,
-                                          NodeDecorator projectFileDecorator) {
+    protected void subscribe(AstEventBus.Subscriber subscriber, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> projectFileDecorator) {
+        EjbHomeInterfaceDetector detector = new EjbHomeInterfaceDetector();
+        detector.subscribe(subscriber);
+        subscriber.onEnd(() -> recordResults(detector, cu, projectFile, projectFileDecorator));
+    }
+
+    private void recordResults(EjbHomeInterfaceDetector detector, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator projectFileDecorator) {
         classNodeRepository.getOrCreateClassNode(cu).ifPresent(classNode -> {
             classNode.setProjectFileId(projectFile.getId());
-            EjbHomeInterfaceDetector detector = new EjbHomeInterfaceDetector();
-            cu.accept(detector, null);
 
             if (detector.isEjbHomeInterface()) {
                 EjbHomeInterfaceInfo info = detector.getEjbHomeInterfaceInfo();
@@ -72,7 +77,7 @@ public class EjbHomeInterfaceInspector extends AbstractJavaParserInspector {
      * 1. extends javax.ejb.EJBHome (Remote Home)
      * 2. extends javax.ejb.EJBLocalHome (Local Home)
      */
-    private static class EjbHomeInterfaceDetector extends VoidVisitorAdapter<Void> {
+    private static class EjbHomeInterfaceDetector {
         private boolean isEjbHomeInterface = false;
         private EjbHomeInterfaceInfo homeInterfaceInfo = new EjbHomeInterfaceInfo();
 
@@ -84,10 +89,12 @@ public class EjbHomeInterfaceInspector extends AbstractJavaParserInspector {
             return homeInterfaceInfo;
         }
 
-        @Override
-        public void visit(ClassOrInterfaceDeclaration classDecl, Void arg) {
+        void subscribe(AstEventBus.Subscriber subscriber) {
+            subscriber.on(ClassOrInterfaceDeclaration.class, classDecl -> visit(classDecl, subscriber));
+        }
+
+        private void visit(ClassOrInterfaceDeclaration classDecl, AstEventBus.Subscriber subscriber) {
             if (!classDecl.isInterface()) {
-                super.visit(classDecl, arg);
                 return;
             }
 
@@ -104,6 +111,7 @@ public class EjbHomeInterfaceInspector extends AbstractJavaParserInspector {
                         homeInterfaceInfo.migrationAction = "ELIMINATE";
                         homeInterfaceInfo.migrationComplexity = "MEDIUM";
                         analyzeMethods(classDecl);
+                        subscriber.skipSubtree(classDecl);
                         return;
                     } else if ("EJBLocalHome".equals(typeName) ||
                             "javax.ejb.EJBLocalHome".equals(typeName)) {
@@ -112,12 +120,11 @@ public class EjbHomeInterfaceInspector extends AbstractJavaParserInspector {
                         homeInterfaceInfo.migrationAction = "ELIMINATE";
                         homeInterfaceInfo.migrationComplexity = "LOW";
                         analyzeMethods(classDecl);
+                        subscriber.skipSubtree(classDecl);
                         return;
                     }
                 }
             }
-
-            super.visit(classDecl, arg);
         }
 
         private void analyzeMethods(ClassOrInterfaceDeclaration interfaceDecl) {
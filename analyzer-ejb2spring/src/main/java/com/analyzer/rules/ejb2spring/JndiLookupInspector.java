@@ -55,17 +55,20 @@ public class JndiLookupInspector extends AbstractSourceFileInspector {
             return;
         }
 
-        // Parse Java content using JavaParser
+        // Parse Java content using JavaParser, shared with other inspectors
+        // through the LocalCache
         try {
-            com.github.javaparser.JavaParser parser = new com.github.javaparser.JavaParser();
-            com.github.javaparser.ParseResult<CompilationUnit> parseResult = parser.parse(content);
+            CompilationUnit cu = localCache.getOrParseCompilationUnit(projectFile.getFilePath(), () -> {
+                com.github.javaparser.JavaParser parser = new com.github.javaparser.JavaParser();
+                com.github.javaparser.ParseResult<CompilationUnit> parseResult = parser.parse(content);
+                return parseResult.isSuccessful() ? parseResult.getResult().orElse(null) : null;
+            });
 
-            if (!parseResult.isSuccessful()) {
+            if (cu == null) {
                 projectFileDecorator.error("Failed to parse Java file");
                 return;
             }
 
-            CompilationUnit cu = parseResult.getResult().get();
             analyzeCompilationUnit(cu, projectFile, projectFileDecorator);
         } catch (Exception e) {
             projectFileDecorator.error("Error parsing Java file: " + e.getMessage());
@@ -1,18 +1,18 @@
 package com.analyzer.rules.ejb2spring;
 
 import com.analyzer.core.cache.LocalCache;
+import com.analyzer.api.inspector.AstEventBus;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.api.graph.ClassNodeRepository;
 import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.model.ProjectFile;
-import com.analyzer.dev.inspectors.source.AbstractJavaParserInspector;
+import com.analyzer.dev.inspectors.source.AbstractJavaParserSubscriberInspector;
 import com.analyzer.api.resource.ResourceResolver;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 
 import javax.inject.Inject;
 import java.util.ArrayList;
@@ -33,7 +33,7 @@ import java.util.List;
         MessageDrivenBeanInspector.TAGS.TAG_EJB_MDB_DETECTED,
         MessageDrivenBeanInspector.TAGS.TAG_JMS_CONSUMER,
         MessageDrivenBeanInspector.TAGS.TAG_ANNOTATION_MESSAGE_DRIVEN})
-public class MessageDrivenBeanInspector extends AbstractJavaParserInspector {
+public class MessageDrivenBeanInspector extends AbstractJavaParserSubscriberInspector {
 
     private final ClassNodeRepository classNodeRepository;
 
@@ -44,12 +44,17 @@ public class MessageDrivenBeanInspector extends AbstractJavaParserInspector {
     }
 
     @Override
-    protected void analyzeCompilationUnit(CompilationUnit cu, ProjectFile projectFile,
-                                          NodeDecorator<ProjectFile> projectFileDecorator) {
+    protected void subscribe(AstEventBus.Subscriber subscriber, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> projectFileDecorator) {
+        MessageDrivenBeanDetector detector = new MessageDrivenBeanDetector();
+        detector.subscribe(subscriber);
+        subscriber.onEnd(() -> recordResults(detector, cu, projectFile, projectFileDecorator));
+    }
+
+    private void recordResults(MessageDrivenBeanDetector detector, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> projectFileDecorator) {
         classNodeRepository.getOrCreateClassNode(cu).ifPresent(classNode -> {
             classNode.setProjectFileId(projectFile.getId());
-            MessageDrivenBeanDetector detector = new MessageDrivenBeanDetector();
-            cu.accept(detector, null);
 
             if (detector.isMessageDrivenBean()) {
                 MessageDrivenBeanInfo info = detector.getMessageDrivenBeanInfo();
@@ -89,7 +94,7 @@ public class MessageDrivenBeanInspector extends AbstractJavaParserInspector {
      * 2. implements javax.jms.MessageListener (EJB 2.x/3.x)
      * 3. @MessageDriven annotation (EJB 3.x)
      */
-    private static class MessageDrivenBeanDetector extends VoidVisitorAdapter<Void> {
+    private static class MessageDrivenBeanDetector {
         private final MessageDrivenBeanInfo mdbInfo = new MessageDrivenBeanInfo();
         private boolean isMessageDrivenBean = false;
 
@@ -101,10 +106,12 @@ public class MessageDrivenBeanInspector extends AbstractJavaParserInspector {
             return mdbInfo;
         }
 
-        @Override
-        public void visit(ClassOrInterfaceDeclaration classDecl, Void arg) {
+        void subscribe(AstEventBus.Subscriber subscriber) {
+            subscriber.on(ClassOrInterfaceDeclaration.class, classDecl -> visit(classDecl, subscriber));
+        }
+
+        private void visit(ClassOrInterfaceDeclaration classDecl, AstEventBus.Subscriber subscriber) {
             if (classDecl.isInterface()) {
-                super.visit(classDecl, arg);
                 return;
             }
 
@@ -119,6 +126,7 @@ public class MessageDrivenBeanInspector extends AbstractJavaParserInspector {
                     mdbInfo.ejbVersion = "3.x";
                     mdbInfo.migrationComplexity = "LOW"; // EJB 3.x is easier to migrate
                     analyzeMessageListenerMethods(classDecl);
+                    subscriber.skipSubtree(classDecl);
                     return;
                 }
             }
@@ -147,8 +155,6 @@ public class MessageDrivenBeanInspector extends AbstractJavaParserInspector {
                 mdbInfo.migrationComplexity = "MEDIUM"; // EJB 2.x requires more work
                 analyzeMessageListenerMethods(classDecl);
             }
-
-            super.visit(classDecl, arg);
         }
 
         private void analyzeMessageListenerMethods(ClassOrInterfaceDeclaration classDecl) {
@@ -0,0 +1,100 @@
+package com.analyzer.rules.ejb2spring;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EjbClassLoaderInspector. The EJB API is not on the test
+ * classpath, so the analyzed classes are generated as class bytes referring to
+ * it, the way a project compiled against it would.
+ */
+@DisplayName("EjbClassLoaderInspector Tests")
+class EjbClassLoaderInspectorTest {
+
+    private TypeModelIndex index;
+    private EjbClassLoaderInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        index = new TypeModelIndex(getClass().getClassLoader());
+        inspector = new EjbClassLoaderInspector(index);
+    }
+
+    @Test
+    @DisplayName("Should tag an annotated EJB 3 stateless session bean with its annotation metadata")
+    void testStatelessSessionBean() {
+        index.index(classBytes("com/example/OrderBean", "java/lang/Object", new String[0], "javax/ejb/Stateless"));
+
+        JavaClassNode node = inspect("com.example.OrderBean");
+
+        assertTrue(node.hasTag(EjbMigrationTags.TAG_EJB_STATELESS_SESSION_BEAN));
+        assertTrue(node.hasTag(EjbMigrationTags.TAG_EJB_SESSION_BEAN));
+        assertTrue(node.hasTag(EjbMigrationTags.TAG_EJB_BEAN_DETECTED));
+        Map<String, Object> metadata = node.getProperty("ejb.stateless.annotation.metadata");
+        assertEquals("orders", metadata.get("name"));
+        assertEquals("", metadata.get("mappedName"), "Annotation defaults are not read");
+    }
+
+    @Test
+    @DisplayName("Should detect an EJB 2 session bean through an inherited interface")
+    void testEjb2SessionBean() {
+        index.index(classBytes("com/example/AbstractBean", "java/lang/Object",
+                new String[] { "javax/ejb/SessionBean" }, null));
+        index.index(classBytes("com/example/CartBean", "com/example/AbstractBean", new String[0], null));
+
+        JavaClassNode node = inspect("com.example.CartBean");
+
+        assertTrue(node.hasTag(EjbMigrationTags.TAG_EJB_SESSION_BEAN));
+        assertFalse(node.hasTag(EjbMigrationTags.TAG_EJB_STATELESS_SESSION_BEAN));
+        assertEquals(Set.of("ejbCreate", "setSessionContext"), node.getProperty("ejb.sessionbean.methods"));
+    }
+
+    @Test
+    @DisplayName("Should leave a plain class untagged")
+    void testPlainClass() {
+        index.index(classBytes("com/example/Helper", "java/lang/Object", new String[0], null));
+
+        JavaClassNode node = inspect("com.example.Helper");
+
+        assertFalse(node.hasTag(EjbMigrationTags.TAG_EJB_BEAN_DETECTED));
+        assertNull(node.getProperty("ejb.runtime.analysis"));
+    }
+
+    private JavaClassNode inspect(String className) {
+        JavaClassNode node = new JavaClassNode(className);
+        inspector.inspect(node, new NodeDecorator<>(node));
+        return node;
+    }
+
+    /**
+     * Generates a class declaring the EJB callback methods, a business method
+     * and optionally a runtime-visible EJB annotation named "orders".
+     */
+    private static byte[] classBytes(String name, String superName, String[] interfaces, String annotation) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, name, null, superName, interfaces);
+        if (annotation != null) {
+            AnnotationVisitor visitor = writer.visitAnnotation("L" + annotation + ";", true);
+            visitor.visit("name", "orders");
+            visitor.visitEnd();
+        }
+        writer.visitField(Opcodes.ACC_PRIVATE, "items", "Ljava/util/List;", null, null).visitEnd();
+        for (String method : new String[] { "ejbCreate", "setSessionContext", "placeOrder" }) {
+            writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, method, "()V", null, null).visitEnd();
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -5,6 +5,7 @@ import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.core.model.ProjectFile;
 
 import javax.inject.Inject;
+import java.util.Set;
 
 import static com.analyzer.core.inspector.InspectorTags.*;
 
@@ -30,6 +31,11 @@ public class BinaryClassFileDetector implements FileDetector {
                         projectFile.getFilePath().toString().endsWith(".class"));
     }
 
+    @Override
+    public Set<String> getDetectedExtensions() {
+        return Set.of("class");
+    }
+
     @Override
     public String getName() {
         return "Java Binary class detector";
@@ -74,6 +74,11 @@ public class FileExtensionDetector implements FileDetector {
         return extensions.contains(fileExtension);
     }
 
+    @Override
+    public Set<String> getDetectedExtensions() {
+        return Collections.unmodifiableSet(extensions);
+    }
+
     @Override
     public void detect(NodeDecorator<ProjectFile> decorator) {
         // Set the detector tag using own TAGS constants
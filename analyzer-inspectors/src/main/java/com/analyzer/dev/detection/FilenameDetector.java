@@ -64,6 +64,17 @@ public class FilenameDetector implements FileDetector {
         return filenames.contains(checkName);
     }
 
+    @Override
+    public Set<String> getDetectedFileNames() {
+        if (!caseSensitive) {
+            return Collections.unmodifiableSet(filenames);
+        }
+        Set<String> lowerCaseNames = new HashSet<>();
+        for (String filename : filenames) {
+            lowerCaseNames.add(filename.toLowerCase());
+        }
+        return lowerCaseNames;
+    }
 
     public void detect(NodeDecorator<ProjectFile> projectFileDecorator) {
         // Set the detector tag using own TAGS constants
@@ -7,6 +7,8 @@ import com.analyzer.core.model.ProjectFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Set;
+
 import static com.analyzer.core.inspector.InspectorTags.*;
 
 /**
@@ -46,6 +48,11 @@ public class JavaSourceFileDetector implements FileDetector {
         return projectFile.hasFileExtension("java");
     }
 
+    @Override
+    public Set<String> getDetectedExtensions() {
+        return Set.of("java");
+    }
+
     @Override
     public void detect(NodeDecorator<ProjectFile> decorator) {
         ProjectFile projectFile = decorator.getNode();
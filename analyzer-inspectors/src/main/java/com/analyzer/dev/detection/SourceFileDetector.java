@@ -84,6 +84,20 @@ public class SourceFileDetector implements FileDetector {
         return false;
     }
 
+    @Override
+    public Set<String> getDetectedExtensions() {
+        Set<String> extensions = new HashSet<>();
+        for (String extension : supportedExtensions) {
+            extensions.add(extension.substring(1));
+        }
+        return extensions;
+    }
+
+    @Override
+    public Set<String> getDetectedFileNames() {
+        return getSupportedFilenames();
+    }
+
     @Override
     public void detect(NodeDecorator<ProjectFile> decorator) {
 
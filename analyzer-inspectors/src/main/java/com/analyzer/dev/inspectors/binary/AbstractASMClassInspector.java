@@ -4,6 +4,7 @@ import com.analyzer.core.cache.LocalCache;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.api.graph.JavaClassNode;
 import com.analyzer.api.graph.ProjectFileRepository;
+import com.analyzer.api.inspector.ClassVisitorInspector;
 import com.analyzer.core.inspector.InspectorTags;
 import com.analyzer.core.model.ProjectFile;
 import com.analyzer.dev.inspectors.core.AbstractJavaClassInspector;
@@ -16,6 +17,8 @@ import org.objectweb.asm.Opcodes;
 import javax.inject.Inject;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Optional;
 
 /**
@@ -38,10 +41,15 @@ import java.util.Optional;
  * <p>
  * Subclasses must implement createClassVisitor() to provide their specific ASM
  * analysis logic.
+ * <p>
+ * As a {@link ClassVisitorInspector}, the engine may skip steps 3 and 4 of
+ * {@link #inspect} and instead feed the visitor in a traversal of the class
+ * file shared with the other ASM inspectors due on the node.
  *
  * @since Phase 2 - Class-Centric Architecture Refactoring
  */
-public abstract class AbstractASMClassInspector extends AbstractJavaClassInspector {
+public abstract class AbstractASMClassInspector extends AbstractJavaClassInspector
+        implements ClassVisitorInspector {
 
     protected final ResourceResolver resourceResolver;
     protected final LocalCache localCache;
@@ -64,12 +72,20 @@ public abstract class AbstractASMClassInspector extends AbstractJavaClassInspect
 
     @Override
     protected final void analyzeClass(JavaClassNode classNode, NodeDecorator<JavaClassNode> decorator) {
+        ClassReader classReader = getClassReader(classNode, decorator);
+        if (classReader != null) {
+            acceptVisitor(classNode, classReader, decorator);
+        }
+    }
+
+    @Override
+    public final ClassReader getClassReader(JavaClassNode classNode, NodeDecorator<JavaClassNode> decorator) {
         // Find the ProjectFile containing the bytecode for this class
         Optional<ProjectFile> projectFileOpt = findProjectFile(classNode);
 
         if (projectFileOpt.isEmpty()) {
             decorator.error("Cannot find ProjectFile for class: " + classNode.getFullyQualifiedName());
-            return;
+            return null;
         }
 
         ProjectFile projectFile = projectFileOpt.get();
@@ -77,25 +93,26 @@ public abstract class AbstractASMClassInspector extends AbstractJavaClassInspect
         // Verify this is a binary class file
         if (!projectFile.hasTag(InspectorTags.TAG_JAVA_IS_BINARY)) {
             decorator.error("ProjectFile is not a binary class file: " + projectFile.getFilePath());
-            return;
+            return null;
         }
 
-        // Get the binary location and analyze with ASM
+        // Load the bytecode, shared with other inspectors and phases through the
+        // LocalCache
+        Path classFile = projectFile.getFilePath();
         try {
-            ResourceLocation binaryLocation = new ResourceLocation(projectFile.getFilePath().toUri());
-
-            try (InputStream classInputStream = resourceResolver.openStream(binaryLocation)) {
-                if (classInputStream == null) {
-                    decorator.error("Could not open binary class stream for: " + projectFile.getFilePath());
-                    return;
-                }
-                analyzeClassWithASM(classNode, classInputStream, decorator);
-            }
-        } catch (IOException e) {
-            decorator.error("Error reading class file: " + e.getMessage());
+            byte[] classBytes = localCache.getOrLoadClassBytes(classFile, () -> readClassBytes(classFile));
+            return createClassReader(classFile, classBytes, decorator);
+        } catch (UncheckedIOException e) {
+            decorator.error("Error reading class file: " + e.getCause().getMessage());
         } catch (Exception e) {
             decorator.error("Error analyzing class: " + e.getMessage());
         }
+        return null;
+    }
+
+    @Override
+    public final ClassVisitor createVisitor(JavaClassNode classNode, NodeDecorator<JavaClassNode> decorator) {
+        return createClassVisitor(classNode, decorator);
     }
 
     /**
@@ -124,22 +141,67 @@ public abstract class AbstractASMClassInspector extends AbstractJavaClassInspect
                     throw new RuntimeException("Failed to read class bytes", e);
                 }
             });
-
-            // Check for empty class files
-            if (classBytes.length == 0) {
-                decorator.error("Empty class file (0 bytes)");
-                return;
+            ClassReader classReader = createClassReader(null, classBytes, decorator);
+            if (classReader != null) {
+                acceptVisitor(classNode, classReader, decorator);
             }
+        } catch (Exception e) {
+            decorator.error("ASM analysis error: " + e.getMessage());
+        }
+    }
 
-            // Check for minimum valid class file size
-            if (classBytes.length < 50) {
-                decorator.error("Class file too small (" + classBytes.length + " bytes), likely corrupted");
-                return;
+    private byte[] readClassBytes(Path classFile) {
+        ResourceLocation binaryLocation = new ResourceLocation(classFile.toUri());
+        try (InputStream classInputStream = resourceResolver.openStream(binaryLocation)) {
+            if (classInputStream == null) {
+                throw new IOException("Could not open binary class stream for: " + classFile);
             }
+            return classInputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates the ClassReader of the class bytes.
+     *
+     * @param classFile the class file the bytes were loaded from, or null if
+     *                  unknown (disables sharing the ClassReader across items)
+     * @return the reader, or null if the bytes are not a valid class file
+     */
+    private ClassReader createClassReader(Path classFile, byte[] classBytes,
+            NodeDecorator<JavaClassNode> decorator) {
+        // Check for empty class files
+        if (classBytes.length == 0) {
+            decorator.error("Empty class file (0 bytes)");
+            return null;
+        }
 
-            // Use LocalCache to create ClassReader only once per item
-            ClassReader classReader = localCache.getOrCreateClassReader(() -> new ClassReader(classBytes));
+        // Check for minimum valid class file size
+        if (classBytes.length < 50) {
+            decorator.error("Class file too small (" + classBytes.length + " bytes), likely corrupted");
+            return null;
+        }
+
+        try {
+            // Use LocalCache to create ClassReader only once per class file
+            return localCache.getOrCreateClassReader(classFile, () -> new ClassReader(classBytes));
+        } catch (IllegalArgumentException e) {
+            // ASM ClassReader throws IllegalArgumentException for invalid bytecode
+            decorator.error("Invalid bytecode format: " + e.getMessage());
+            return null;
+        } catch (Exception e) {
+            decorator.error("ASM analysis error: " + e.getMessage());
+            return null;
+        }
+    }
 
+    /**
+     * Runs the ASM visitor of this inspector over the class.
+     */
+    private void acceptVisitor(JavaClassNode classNode, ClassReader classReader,
+            NodeDecorator<JavaClassNode> decorator) {
+        try {
             // Create the analysis visitor
             ASMClassNodeVisitor visitor = createClassVisitor(classNode, decorator);
 
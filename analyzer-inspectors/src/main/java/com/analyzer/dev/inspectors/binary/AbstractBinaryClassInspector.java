@@ -80,8 +80,8 @@ public abstract class AbstractBinaryClassInspector implements Inspector<ProjectF
         }
 
         try {
-            // Use LocalCache to read binary bytes only once per item
-            byte[] classBytes = localCache.getOrLoadClassBytes(() -> {
+            // Use LocalCache to read binary bytes only once per class file
+            byte[] classBytes = localCache.getOrLoadClassBytes(projectFile.getFilePath(), () -> {
                 try (InputStream classStream = resourceResolver.openStream(binaryLocation)) {
                     if (classStream == null) {
                         throw new RuntimeException("Could not open binary class stream: " + binaryLocation);
@@ -0,0 +1,107 @@
+package com.analyzer.dev.inspectors.binary;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.api.inspector.Inspector;
+import com.analyzer.api.inspector.InspectorDependencies;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.inspector.InspectorTags;
+import com.analyzer.core.inspector.InspectorTargetType;
+import com.analyzer.core.typemodel.TypeModel;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * Abstract base class for inspectors that analyze the declarations of a class
+ * (supertypes, annotations, fields, method signatures and generic types)
+ * through the {@link TypeModelIndex}, without loading the class.
+ * <p>
+ * This is the bytecode-based replacement for
+ * {@link com.analyzer.dev.inspectors.classloader.AbstractClassLoaderBasedInspector}:
+ * 1. The base class looks the class up in the index of the project types
+ * 2. If found, it delegates to the concrete implementation's analyzeType()
+ * method
+ * 3. If no class file defines the class, it records an error without calling
+ * the analysis method
+ * <p>
+ * Supertypes defined in libraries or in the JDK are resolved through the same
+ * index, from their class files.
+ * <p>
+ * This inspector operates in Phase 4 (ClassNode Analysis) on JavaClassNode
+ * objects.
+ */
+@InspectorDependencies(requires = { InspectorTags.TAG_JAVA_DETECTED }, produces = {})
+public abstract class AbstractTypeModelInspector implements Inspector<JavaClassNode> {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractTypeModelInspector.class);
+
+    protected final TypeModelIndex typeModelIndex;
+
+    /**
+     * Creates a new AbstractTypeModelInspector with the required dependencies.
+     *
+     * @param typeModelIndex the index of the project types
+     */
+    protected AbstractTypeModelInspector(TypeModelIndex typeModelIndex) {
+        this.typeModelIndex = typeModelIndex;
+    }
+
+    @Override
+    public final void inspect(JavaClassNode classNode, NodeDecorator<JavaClassNode> nodeDecorator) {
+        String fullyQualifiedName = classNode.getFullyQualifiedName();
+        if (fullyQualifiedName == null || fullyQualifiedName.isEmpty()) {
+            logger.error("No fully qualified class name found for class node: {}", classNode.getId());
+            nodeDecorator.error("No fully qualified class name available");
+            return;
+        }
+
+        Optional<TypeModel> type = typeModelIndex.find(fullyQualifiedName);
+        if (type.isEmpty()) {
+            logger.debug("No class file found for class: {}", fullyQualifiedName);
+            nodeDecorator.error("No class file found for class: " + fullyQualifiedName);
+            return;
+        }
+
+        try {
+            analyzeType(type.get(), classNode, nodeDecorator);
+        } catch (Exception e) {
+            logger.warn("Unexpected error analyzing class: {} ({})", fullyQualifiedName, e.getMessage());
+            nodeDecorator.error("Unexpected error analyzing class: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean supports(JavaClassNode classNode) {
+        // By default, support any class node
+        return classNode != null;
+    }
+
+    @Override
+    public InspectorTargetType getTargetType() {
+        return InspectorTargetType.JAVA_CLASS_NODE;
+    }
+
+    /**
+     * Template method implemented by concrete inspectors. This method is only
+     * called when a class file defines the class.
+     *
+     * @param type      the model of the class, read from its class file
+     * @param classNode the JavaClassNode metadata object
+     * @param decorator the decorator for setting properties and tags on the class
+     *                  node
+     */
+    protected abstract void analyzeType(TypeModel type, JavaClassNode classNode,
+            NodeDecorator<JavaClassNode> decorator);
+
+    /**
+     * Gets the index used by this inspector, to resolve the supertypes and the
+     * member types of the analyzed class.
+     *
+     * @return the TypeModelIndex instance
+     */
+    protected TypeModelIndex getTypeModelIndex() {
+        return typeModelIndex;
+    }
+}
@@ -1,6 +1,8 @@
 package com.analyzer.dev.inspectors.source;
 
+import com.analyzer.api.inspector.CompilationUnitInspector;
 import com.analyzer.core.cache.LocalCache;
+import com.analyzer.api.inspector.AstEventBus;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.inspector.InspectorTags;
@@ -40,11 +42,16 @@ import java.io.IOException;
  * </p>
  * 
  * <p>
- * Subclasses must implement getName() and analyzeCompilationUnit() methods.
+ * Subclasses must implement getName() and analyzeCompilationUnit(), which runs
+ * once the AST of the file has been walked for all of its JavaParser
+ * inspectors. Visitor-style analyses extend
+ * {@link AbstractJavaParserSubscriberInspector} instead, to take part in that
+ * walk.
  * </p>
  */
 @InspectorDependencies(requires = { InspectorTags.TAG_JAVA_DETECTED, InspectorTags.TAG_JAVA_IS_SOURCE }, produces = {})
-public abstract class AbstractJavaParserInspector extends AbstractSourceFileInspector {
+public abstract class AbstractJavaParserInspector extends AbstractSourceFileInspector
+        implements CompilationUnitInspector {
 
     private final JavaParser javaParser;
     protected final LocalCache localCache;
@@ -85,42 +92,94 @@ public abstract class AbstractJavaParserInspector extends AbstractSourceFileInsp
             NodeDecorator<ProjectFile> decorator)
             throws IOException {
         try {
-            // Use LocalCache to avoid re-parsing the same file multiple times
-            CompilationUnit cu = localCache.getOrParseCompilationUnit(() -> {
-                try {
-                    String content = readFileContent(sourceLocation);
-                    ParseResult<CompilationUnit> parseResult = javaParser.parse(content);
-
-                    // Check for parse errors
-                    if (!parseResult.isSuccessful()) {
-                        String problems = parseResult.getProblems().toString();
-                        decorator.error("Parse errors: " + problems);
-                        return null;
-                    }
-
-                    // Get the parsed compilation unit
-                    return parseResult.getResult().orElse(null);
-                } catch (IOException e) {
-                    decorator.error("Error reading source file: " + e.getMessage());
-                    return null;
-                } catch (Exception e) {
-                    decorator.error("JavaParser error: " + e.getMessage());
-                    return null;
-                }
-            });
-
+            CompilationUnit cu = parseCompilationUnit(clazz, sourceLocation, decorator);
             if (cu == null) {
-                decorator.error("Failed to parse compilation unit");
                 return;
             }
 
-            analyzeCompilationUnit(cu, clazz, decorator);
+            AstEventBus bus = new AstEventBus();
+            subscribe(bus, cu, clazz, decorator);
+            bus.publish(cu);
 
         } catch (Exception e) {
             decorator.error("Unexpected error in JavaParser analysis: " + e.getMessage());
         }
     }
 
+    @Override
+    public final CompilationUnit getCompilationUnit(ProjectFile projectFile, NodeDecorator<ProjectFile> decorator) {
+        try {
+            ResourceLocation sourceLocation = resolveSourceLocation(projectFile, decorator);
+            if (sourceLocation == null) {
+                return null;
+            }
+            return parseCompilationUnit(projectFile, sourceLocation, decorator);
+        } catch (Exception e) {
+            decorator.error("Error analyzing source file: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public final void subscribe(AstEventBus bus, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> decorator) {
+        AstEventBus.Subscriber subscriber = bus.subscriber(
+                e -> decorator.error("Unexpected error in JavaParser analysis: " + e.getMessage()));
+        subscribe(subscriber, cu, projectFile, decorator);
+    }
+
+    private CompilationUnit parseCompilationUnit(ProjectFile clazz, ResourceLocation sourceLocation,
+            NodeDecorator<ProjectFile> decorator) {
+        // Use LocalCache to avoid re-parsing the same file multiple times
+        CompilationUnit cu = localCache.getOrParseCompilationUnit(clazz.getFilePath(), () -> {
+            try {
+                String content = readFileContent(sourceLocation);
+                ParseResult<CompilationUnit> parseResult = javaParser.parse(content);
+
+                // Check for parse errors
+                if (!parseResult.isSuccessful()) {
+                    String problems = parseResult.getProblems().toString();
+                    decorator.error("Parse errors: " + problems);
+                    return null;
+                }
+
+                // Get the parsed compilation unit
+                return parseResult.getResult().orElse(null);
+            } catch (IOException e) {
+                decorator.error("Error reading source file: " + e.getMessage());
+                return null;
+            } catch (Exception e) {
+                decorator.error("JavaParser error: " + e.getMessage());
+                return null;
+            }
+        });
+
+        if (cu == null) {
+            decorator.error("Failed to parse compilation unit");
+        }
+        return cu;
+    }
+
+    /**
+     * Registers the callbacks analyzing the compilation unit during the single
+     * walk of its AST shared with the other inspectors of the file.
+     * <p>
+     * Runs {@link #analyzeCompilationUnit} once the walk is over; overridden by
+     * {@link AbstractJavaParserSubscriberInspector} to subscribe to the node
+     * types visited.
+     * </p>
+     *
+     * @param subscriber  the subscriber to register the callbacks on
+     * @param cu          the parsed CompilationUnit representing the source file's
+     *                    AST
+     * @param projectFile the project file being analyzed
+     * @param decorator   the decorator for setting properties and tags
+     */
+    protected void subscribe(AstEventBus.Subscriber subscriber, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> decorator) {
+        subscriber.onEnd(() -> analyzeCompilationUnit(cu, projectFile, decorator));
+    }
+
     /**
      * Analyzes the parsed compilation unit using the provided NodeDecorator.
      * Subclasses implement specific AST analysis logic here.
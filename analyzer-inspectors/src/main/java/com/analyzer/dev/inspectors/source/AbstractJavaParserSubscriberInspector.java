@@ -0,0 +1,72 @@
+package com.analyzer.dev.inspectors.source;
+
+import com.analyzer.api.inspector.AstEventBus;
+import com.analyzer.api.resource.ResourceResolver;
+import com.analyzer.core.cache.LocalCache;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.model.ProjectFile;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+
+/**
+ * Abstract base class for JavaParser inspectors whose analysis is a visitor
+ * over the AST.
+ * <p>
+ * Instead of analyzing the whole compilation unit, subclasses subscribe to the
+ * node types they would visit, so that the engine walks the AST of a file once
+ * for all of its JavaParser inspectors. Subclasses must implement getName() and
+ * subscribe().
+ * </p>
+ */
+public abstract class AbstractJavaParserSubscriberInspector extends AbstractJavaParserInspector {
+
+    /**
+     * Creates a AbstractJavaParserSubscriberInspector with a default JavaParser
+     * configuration.
+     *
+     * @param resourceResolver the resolver for accessing source file resources
+     * @param localCache       the per-item cache for optimizing repeated parsing
+     */
+    protected AbstractJavaParserSubscriberInspector(ResourceResolver resourceResolver, LocalCache localCache) {
+        super(resourceResolver, localCache);
+    }
+
+    /**
+     * Creates a AbstractJavaParserSubscriberInspector with a custom JavaParser
+     * configuration.
+     *
+     * @param resourceResolver the resolver for accessing source file resources
+     * @param localCache       the per-item cache for optimizing repeated parsing
+     * @param customParser     the customized JavaParser instance to use
+     */
+    protected AbstractJavaParserSubscriberInspector(ResourceResolver resourceResolver, LocalCache localCache,
+            JavaParser customParser) {
+        super(resourceResolver, localCache, customParser);
+    }
+
+    /**
+     * Registers the callbacks for the node types this inspector visits, and
+     * the end callbacks recording its results once the walk is over.
+     *
+     * @param subscriber  the subscriber to register the callbacks on
+     * @param cu          the parsed CompilationUnit representing the source file's
+     *                    AST
+     * @param projectFile the project file being analyzed
+     * @param decorator   the decorator for setting properties and tags
+     */
+    @Override
+    protected abstract void subscribe(AstEventBus.Subscriber subscriber, CompilationUnit cu,
+            ProjectFile projectFile, NodeDecorator<ProjectFile> decorator);
+
+    /**
+     * Analyzes the compilation unit with a walk of its AST for this inspector
+     * alone.
+     */
+    @Override
+    protected final void analyzeCompilationUnit(CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> decorator) {
+        AstEventBus bus = new AstEventBus();
+        subscribe(bus, cu, projectFile, decorator);
+        bus.publish(cu);
+    }
+}
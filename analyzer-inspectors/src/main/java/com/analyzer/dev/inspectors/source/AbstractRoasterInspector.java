@@ -1,5 +1,6 @@
 package com.analyzer.dev.inspectors.source;
 
+import com.analyzer.core.cache.SourceModelProvider;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.core.inspector.InspectorResult;
@@ -13,6 +14,7 @@ import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.source.JavaSource;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Abstract base class for source file inspectors that use JBoss Forge Roaster
@@ -28,6 +30,9 @@ import java.io.IOException;
  * API for source
  * code manipulation and analysis.
  * 
+ * The parsed JavaSource is shared with the other Roaster inspectors of the
+ * file through the SourceModelProvider and must be treated as read-only.
+ * 
  * Subclasses must implement getName(), getColumnName(), and analyzeJavaSource()
  * methods.
  */
@@ -47,10 +52,15 @@ public abstract class AbstractRoasterInspector extends AbstractSourceFileInspect
             NodeDecorator<ProjectFile> decorator)
             throws IOException {
         try {
-            String content = readFileContent(sourceLocation);
-
-            // Parse the source code using Roaster
-            Object parsedSource = Roaster.parse(content);
+            // Parse the source code using Roaster, at most once per file version
+            Object parsedSource = localCache.getOrParseSourceModel(clazz.getFilePath(),
+                    SourceModelProvider.Frontend.ROASTER, Object.class, () -> {
+                        try {
+                            return Roaster.parse(readFileContent(sourceLocation));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
 
             if (parsedSource == null) {
                 decorator.error("Failed to parse source file with Roaster");
@@ -66,8 +76,8 @@ public abstract class AbstractRoasterInspector extends AbstractSourceFileInspect
                 decorator.error("Roaster did not return a JavaSource object");
             }
 
-        } catch (IOException e) {
-            decorator.error("Error reading source file: " + e.getMessage());
+        } catch (UncheckedIOException e) {
+            decorator.error("Error reading source file: " + e.getCause().getMessage());
         } catch (Exception e) {
             decorator.error("Roaster analysis error: " + e.getMessage());
         }
@@ -8,8 +8,12 @@ import com.analyzer.core.model.ProjectFile;
 import com.analyzer.core.resource.ResourceLocation;
 import com.analyzer.api.resource.ResourceResolver;
 
-import java.io.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.function.Supplier;
 
 /**
  * Base class for all source file inspectors using URI-based ResourceResolver
@@ -37,12 +41,8 @@ public abstract class AbstractSourceFileInspector implements Inspector<ProjectFi
     @Override
     public final void inspect(ProjectFile projectFile, NodeDecorator<ProjectFile> decorator) {
         try {
-            // Use LocalCache to avoid repeated ResourceLocation creation
-            ResourceLocation sourceLocation = (ResourceLocation) localCache
-                    .getOrResolveLocation(() -> new ResourceLocation(projectFile.getFilePath().toUri()));
-
-            if (!resourceResolver.exists(sourceLocation)) {
-                decorator.error("Source file not found: " + sourceLocation);
+            ResourceLocation sourceLocation = resolveSourceLocation(projectFile, decorator);
+            if (sourceLocation == null) {
                 return;
             }
 
@@ -53,6 +53,26 @@ public abstract class AbstractSourceFileInspector implements Inspector<ProjectFi
         }
     }
 
+    /**
+     * Resolves the location of the source file of the project file.
+     *
+     * @param projectFile the project file to analyze
+     * @param decorator   the decorator to report a missing file to
+     * @return the ResourceLocation of the source file, or null if it does not
+     *         exist (the error has been reported to the decorator)
+     */
+    protected ResourceLocation resolveSourceLocation(ProjectFile projectFile, NodeDecorator<ProjectFile> decorator) {
+        // Use LocalCache to avoid repeated ResourceLocation creation
+        ResourceLocation sourceLocation = (ResourceLocation) localCache
+                .getOrResolveLocation(() -> new ResourceLocation(projectFile.getFilePath().toUri()));
+
+        if (!resourceResolver.exists(sourceLocation)) {
+            decorator.error("Source file not found: " + sourceLocation);
+            return null;
+        }
+        return sourceLocation;
+    }
+
     public boolean supports(ProjectFile projectFile) {
         return projectFile != null;
     }
@@ -72,44 +92,40 @@ public abstract class AbstractSourceFileInspector implements Inspector<ProjectFi
 
     /**
      * Reads the entire content of the source file as a string using UTF-8 encoding.
-     * Uses LocalCache to avoid repeated file reading.
+     * Uses LocalCache to avoid repeated file reading; the content of a file on
+     * the file system is read once and shared by all the source front ends.
      *
      * @param sourceLocation the ResourceLocation of the source file
      * @return the content of the file
      * @throws IOException if there's an error reading the file
      */
     protected String readFileContent(ResourceLocation sourceLocation) throws IOException {
-        return localCache.getOrLoadSourceContent(() -> {
+        Supplier<String> reader = () -> {
             try (InputStream inputStream = resourceResolver.openStream(sourceLocation)) {
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                byte[] buffer = new byte[8192];
-                int bytesRead;
-
-                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                    baos.write(buffer, 0, bytesRead);
-                }
-
-                return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+                return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
             } catch (IOException e) {
-                throw new RuntimeException("Failed to read file content", e);
+                throw new UncheckedIOException("Failed to read file content", e);
+            }
+        };
+        try {
+            if (sourceLocation.getType() == ResourceLocation.ResourceType.FILE) {
+                return localCache.getOrLoadSourceContent(Path.of(sourceLocation.getUri()), reader);
             }
-        });
+            return localCache.getOrLoadSourceContent(reader);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     /**
-     * Counts the number of lines in the source file.
+     * Counts the number of lines in the source file, from its shared content.
      *
      * @param sourceLocation the ResourceLocation of the source file
      * @return the number of lines
      * @throws IOException if there's an error reading the file
      */
     protected long countLines(ResourceLocation sourceLocation) throws IOException {
-        try (InputStream inputStream = resourceResolver.openStream(sourceLocation);
-                BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-
-            return reader.lines().count();
-        }
+        return readFileContent(sourceLocation).lines().count();
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.analyzer.rules.graph;
 
+import com.analyzer.api.inspector.AstEventBus;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.api.graph.GraphRepository;
@@ -8,7 +9,7 @@ import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.inspector.InspectorTags;
 import com.analyzer.core.inspector.InspectorTargetType;
 import com.analyzer.core.model.ProjectFile;
-import com.analyzer.dev.inspectors.source.AbstractJavaParserInspector;
+import com.analyzer.dev.inspectors.source.AbstractJavaParserSubscriberInspector;
 import com.analyzer.api.resource.ResourceResolver;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.PackageDeclaration;
@@ -20,6 +21,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Graph-aware inspector that creates JavaClassNode instances by analyzing Java
@@ -43,7 +46,7 @@ import javax.inject.Inject;
 @InspectorDependencies(requires = { InspectorTags.TAG_JAVA_IS_SOURCE }, need = {
          }, produces = {
                 SourceJavaClassNodeInspector.TAGS.PROP_JAVA_CLASS_NODE_SOURCE})
-public class SourceJavaClassNodeInspector extends AbstractJavaParserInspector {
+public class SourceJavaClassNodeInspector extends AbstractJavaParserSubscriberInspector {
 
     private static final Logger logger = LoggerFactory.getLogger(SourceJavaClassNodeInspector.class);
 
@@ -74,40 +77,51 @@ public class SourceJavaClassNodeInspector extends AbstractJavaParserInspector {
 
 
     @Override
-    protected void analyzeCompilationUnit(CompilationUnit cu, ProjectFile projectFile,
-                                          NodeDecorator projectFileDecorator) {
-
-        try {
-            // Extract package name
-            String packageName = cu.getPackageDeclaration()
-                    .map(PackageDeclaration::getNameAsString)
-                    .orElse("");
-
-            // Process class and interface declarations
-            cu.findAll(ClassOrInterfaceDeclaration.class).forEach(classDecl -> {
-                processClassOrInterface(classDecl, packageName, projectFile, projectFileDecorator);
-            });
-
-            // Process enum declarations
-            cu.findAll(EnumDeclaration.class).forEach(enumDecl -> {
-                processEnum(enumDecl, packageName, projectFile, projectFileDecorator);
-            });
-
-            // Process record declarations (Java 14+)
-            cu.findAll(RecordDeclaration.class).forEach(recordDecl -> {
-                processRecord(recordDecl, packageName, projectFile, projectFileDecorator);
-            });
-
-            // Process annotation declarations
-            cu.findAll(AnnotationDeclaration.class).forEach(annotationDecl -> {
-                processAnnotation(annotationDecl, packageName, projectFile, projectFileDecorator);
-            });
-
-        } catch (Exception e) {
-            logger.warn("Error processing source file {} for class nodes: {}",
-                    projectFile.getRelativePath(), e.getMessage());
-            projectFileDecorator.error(e.getMessage());
-        }
+    protected void subscribe(AstEventBus.Subscriber subscriber, CompilationUnit cu, ProjectFile projectFile,
+            NodeDecorator<ProjectFile> projectFileDecorator) {
+        // Collect the declarations during the shared walk, then process them kind by kind
+        List<ClassOrInterfaceDeclaration> classDecls = new ArrayList<>();
+        List<EnumDeclaration> enumDecls = new ArrayList<>();
+        List<RecordDeclaration> recordDecls = new ArrayList<>();
+        List<AnnotationDeclaration> annotationDecls = new ArrayList<>();
+        subscriber.on(ClassOrInterfaceDeclaration.class, classDecls::add)
+                .on(EnumDeclaration.class, enumDecls::add)
+                .on(RecordDeclaration.class, recordDecls::add)
+                .on(AnnotationDeclaration.class, annotationDecls::add);
+
+        subscriber.onEnd(() -> {
+            try {
+                // Extract package name
+                String packageName = cu.getPackageDeclaration()
+                        .map(PackageDeclaration::getNameAsString)
+                        .orElse("");
+
+                // Process class and interface declarations
+                classDecls.forEach(classDecl -> {
+                    processClassOrInterface(classDecl, packageName, projectFile, projectFileDecorator);
+                });
+
+                // Process enum declarations
+                enumDecls.forEach(enumDecl -> {
+                    processEnum(enumDecl, packageName, projectFile, projectFileDecorator);
+                });
+
+                // Process record declarations (Java 14+)
+                recordDecls.forEach(recordDecl -> {
+                    processRecord(recordDecl, packageName, projectFile, projectFileDecorator);
+                });
+
+                // Process annotation declarations
+                annotationDecls.forEach(annotationDecl -> {
+                    processAnnotation(annotationDecl, packageName, projectFile, projectFileDecorator);
+                });
+
+            } catch (Exception e) {
+                logger.warn("Error processing source file {} for class nodes: {}",
+                        projectFile.getRelativePath(), e.getMessage());
+                projectFileDecorator.error(e.getMessage());
+            }
+        });
     }
 
     private void processClassOrInterface(ClassOrInterfaceDeclaration classDecl, String packageName,
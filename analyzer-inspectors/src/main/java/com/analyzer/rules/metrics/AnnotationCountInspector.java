@@ -5,13 +5,17 @@ import com.analyzer.api.graph.GraphRepository;
 import com.analyzer.api.graph.JavaClassNode;
 import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.inspector.InspectorTags;
-import com.analyzer.core.resource.JARClassLoaderService;
-import com.analyzer.dev.inspectors.classloader.AbstractClassLoaderBasedInspector;
+import com.analyzer.core.typemodel.TypeModel;
+import com.analyzer.core.typemodel.TypeModel.AnnotationModel;
+import com.analyzer.core.typemodel.TypeModel.FieldModel;
+import com.analyzer.core.typemodel.TypeModel.MethodModel;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import com.analyzer.dev.inspectors.binary.AbstractTypeModelInspector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
-import java.lang.annotation.Annotation;
+import java.util.List;
 
 import static com.analyzer.rules.metrics.AnnotationCountInspector.TAG_ANNOTATION_COUNT;
 
@@ -20,20 +24,17 @@ import static com.analyzer.rules.metrics.AnnotationCountInspector.TAG_ANNOTATION
  * This includes both class-level annotations and annotations on methods,
  * fields, and constructors.
  * <p>
- * This inspector demonstrates the AbstractClassLoaderBasedInspector pattern by:
- * 1. Loading classes at runtime using the shared ClassLoader
- * 2. Using reflection to analyze annotation metadata
- * 3. Gracefully handling classes that cannot be loaded
- * <p>
- * This type of analysis would not be possible with static bytecode analysis
- * alone, as it requires access to the actual annotation metadata and
- * potentially annotation values that are only available at runtime.
+ * This inspector demonstrates the AbstractTypeModelInspector pattern by:
+ * 1. Looking the class up in the TypeModelIndex, without loading it
+ * 2. Counting the runtime-visible annotations recorded in its class file, as
+ * reflection would see them
+ * 3. Gracefully handling classes without a class file
  * <p>
  * Operates in Phase 4 on JavaClassNode objects.
  */
 @InspectorDependencies(requires = { InspectorTags.TAG_JAVA_DETECTED, InspectorTags.TAG_APPLICATION_CLASS }, produces = {
         TAG_ANNOTATION_COUNT })
-public class AnnotationCountInspector extends AbstractClassLoaderBasedInspector {
+public class AnnotationCountInspector extends AbstractTypeModelInspector {
 
     public static final String TAG_ANNOTATION_COUNT = "annotation-count";
     private static final Logger logger = LoggerFactory.getLogger(AnnotationCountInspector.class);
@@ -42,13 +43,13 @@ public class AnnotationCountInspector extends AbstractClassLoaderBasedInspector
     /**
      * Creates a new AnnotationCountInspector with the required dependencies.
      *
-     * @param classLoaderService the service providing the shared ClassLoader
-     * @param graphRepository    the graph repository for storing analysis results
+     * @param typeModelIndex  the index of the project types
+     * @param graphRepository the graph repository for storing analysis results
      */
     @Inject
-    public AnnotationCountInspector(JARClassLoaderService classLoaderService,
+    public AnnotationCountInspector(TypeModelIndex typeModelIndex,
             GraphRepository graphRepository) {
-        super(classLoaderService);
+        super(typeModelIndex);
         this.graphRepository = graphRepository;
     }
 
@@ -67,87 +68,62 @@ public class AnnotationCountInspector extends AbstractClassLoaderBasedInspector
     }
 
     @Override
-    protected void analyzeLoadedClass(Class<?> loadedClass, JavaClassNode classNode,
+    protected void analyzeType(TypeModel type, JavaClassNode classNode,
             NodeDecorator<JavaClassNode> decorator) {
         try {
-            int annotationCount = countAllAnnotations(loadedClass);
+            int annotationCount = countAllAnnotations(type);
 
-            logger.debug("Found {} annotations on class {}", annotationCount, loadedClass.getName());
+            logger.debug("Found {} annotations on class {}", annotationCount, type.getName());
 
             decorator.setMetric(getColumnName(), annotationCount);
 
         } catch (Exception e) {
             logger.warn("Error analyzing annotations for class {}: {}",
-                    loadedClass.getName(), e.getMessage());
+                    type.getName(), e.getMessage());
             decorator.error(
                     "Error analyzing annotations: " + e.getMessage());
         }
     }
 
     /**
-     * Counts all annotations on the class, including:
-     * - Class-level annotations
-     * - Method annotations (including inherited methods)
+     * Counts all runtime-visible annotations on the class, including:
+     * - Class-level annotations, inherited ones included
+     * - Method annotations
      * - Field annotations
      * - Constructor annotations
      * - Parameter annotations
      */
-    private int countAllAnnotations(Class<?> clazz) {
+    private int countAllAnnotations(TypeModel type) {
         int count = 0;
 
-        // Count class-level annotations
-        Annotation[] classAnnotations = clazz.getAnnotations();
-        count += classAnnotations.length;
+        // Count class-level annotations, including @Inherited ones of superclasses
+        List<AnnotationModel> classAnnotations = typeModelIndex.getAnnotations(type);
+        count += classAnnotations.size();
 
-        logger.debug("Class {} has {} class-level annotations", clazz.getName(), classAnnotations.length);
+        logger.debug("Class {} has {} class-level annotations", type.getName(), classAnnotations.size());
 
-        // Count method annotations (including inherited methods)
-        try {
-            java.lang.reflect.Method[] methods = clazz.getDeclaredMethods();
-            for (java.lang.reflect.Method method : methods) {
-                Annotation[] methodAnnotations = method.getAnnotations();
-                count += methodAnnotations.length;
-
-                // Count parameter annotations
-                Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-                for (Annotation[] paramAnnotations : parameterAnnotations) {
-                    count += paramAnnotations.length;
+        // Count method annotations, then constructor annotations, with their
+        // parameter annotations
+        List<MethodModel> methods = type.getDeclaredMethods();
+        List<MethodModel> constructors = type.getDeclaredConstructors();
+        for (List<MethodModel> executables : List.of(methods, constructors)) {
+            for (MethodModel method : executables) {
+                count += method.getAnnotations().size();
+
+                for (List<AnnotationModel> paramAnnotations : method.getParameterAnnotations()) {
+                    count += paramAnnotations.size();
                 }
             }
-            logger.debug("Class {} has annotations on {} declared methods", clazz.getName(), methods.length);
-        } catch (Exception e) {
-            logger.debug("Could not analyze method annotations for {}: {}", clazz.getName(), e.getMessage());
         }
+        logger.debug("Class {} has annotations on {} declared methods and {} declared constructors",
+                type.getName(), methods.size(), constructors.size());
 
         // Count field annotations
-        try {
-            java.lang.reflect.Field[] fields = clazz.getDeclaredFields();
-            for (java.lang.reflect.Field field : fields) {
-                Annotation[] fieldAnnotations = field.getAnnotations();
-                count += fieldAnnotations.length;
-            }
-            logger.debug("Class {} has annotations on {} declared fields", clazz.getName(), fields.length);
-        } catch (Exception e) {
-            logger.debug("Could not analyze field annotations for {}: {}", clazz.getName(), e.getMessage());
-        }
-
-        // Count constructor annotations
-        try {
-            java.lang.reflect.Constructor<?>[] constructors = clazz.getDeclaredConstructors();
-            for (java.lang.reflect.Constructor<?> constructor : constructors) {
-                Annotation[] constructorAnnotations = constructor.getAnnotations();
-                count += constructorAnnotations.length;
-
-                // Count constructor parameter annotations
-                Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
-                for (Annotation[] paramAnnotations : parameterAnnotations) {
-                    count += paramAnnotations.length;
-                }
-            }
-            logger.debug("Class {} has annotations on {} declared constructors", clazz.getName(), constructors.length);
-        } catch (Exception e) {
-            logger.debug("Could not analyze constructor annotations for {}: {}", clazz.getName(), e.getMessage());
+        List<FieldModel> fields = type.getDeclaredFields();
+        for (FieldModel field : fields) {
+            count += field.getAnnotations().size();
         }
+        logger.debug("Class {} has annotations on {} declared fields", type.getName(), fields.size());
 
         return count;
     }
@@ -1,23 +1,18 @@
 package com.analyzer.rules.metrics;
 
-import com.analyzer.api.graph.GraphEdge;
-import com.analyzer.api.graph.GraphNode;
-import com.analyzer.api.graph.GraphRepository;
 import com.analyzer.api.graph.JavaClassNode;
 import com.analyzer.api.inspector.Inspector;
 import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.graph.GraphView;
+import com.analyzer.core.graph.GraphViewService;
 import com.analyzer.core.graph.NodeTypeRegistry;
 import com.analyzer.core.inspector.InspectorTargetType;
 import com.analyzer.rules.graph.BinaryClassCouplingGraphInspector;
-import org.jgrapht.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.Set;
 
 import static com.analyzer.rules.graph.BinaryClassCouplingGraphInspector.*;
@@ -53,30 +48,36 @@ public class CouplingMetricsInspector implements Inspector<JavaClassNode> {
 
     private static final Logger logger = LoggerFactory.getLogger(CouplingMetricsInspector.class);
 
-    private final GraphRepository graphRepository;
+    private final GraphViewService graphViewService;
 
-    // Graph cache - built once at start since this runs in Phase 5
-    private Graph<GraphNode, GraphEdge> cachedGraph;
+    // Transitive coupling of all classes of the current coupling graph view
+    private TransitiveReachability cachedReachability;
 
     @Inject
-    public CouplingMetricsInspector(final GraphRepository graphRepository) {
-        this.graphRepository = graphRepository;
+    public CouplingMetricsInspector(final GraphViewService graphViewService) {
+        this.graphViewService = graphViewService;
     }
 
     @Override
     public void inspect(final JavaClassNode node, final NodeDecorator<JavaClassNode> decorator) {
-        // Build graph once on first call - all nodes are already processed by
-        // BinaryClassCouplingGraphInspector
-        if (cachedGraph == null) {
-            logger.info("Building coupling graph for metrics calculation (Phase 5: Global Inspector)...");
-            cachedGraph = graphRepository.buildGraph(
-                    Set.of(NodeTypeRegistry.getAllTypes().get(JavaClassNode.class)),
-                    Set.of(EDGE_EXTENDS, EDGE_IMPLEMENTS, EDGE_USES));
-            logger.info("Coupling graph built with {} nodes", cachedGraph.vertexSet().size());
-        }
+        // The shared view is built on first use - all nodes are already processed by
+        // BinaryClassCouplingGraphInspector - and rebuilt only if the graph changes
+        final GraphView view = graphViewService.getView(
+                Set.of(NodeTypeRegistry.getAllTypes().get(JavaClassNode.class)),
+                Set.of(EDGE_EXTENDS, EDGE_IMPLEMENTS, EDGE_USES));
 
         // Calculate metrics for this specific node
-        calculateMetricsForClass(cachedGraph, node, decorator);
+        calculateMetricsForClass(view, getReachability(view), node, decorator);
+    }
+
+    private synchronized TransitiveReachability getReachability(final GraphView view) {
+        if (cachedReachability == null || !cachedReachability.isComputedFrom(view)) {
+            final long start = System.nanoTime();
+            cachedReachability = TransitiveReachability.compute(view);
+            logger.info("Transitive coupling of {} classes computed in {} ms", view.nodeCount(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        return cachedReachability;
     }
 
     @Override
@@ -97,15 +98,20 @@ public class CouplingMetricsInspector implements Inspector<JavaClassNode> {
     /**
      * Calculates all coupling metrics for a single class.
      */
-    private void calculateMetricsForClass(final Graph<GraphNode, GraphEdge> graph, final JavaClassNode classNode,
-            final NodeDecorator<JavaClassNode> decorator) {
+    private void calculateMetricsForClass(final GraphView view, final TransitiveReachability reachability,
+            final JavaClassNode classNode, final NodeDecorator<JavaClassNode> decorator) {
+        final int ordinal = view.ordinalOf(classNode);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Class is not part of the coupling graph: " + classNode.getId());
+        }
+
         // 1. Direct coupling metrics (1-hop)
-        final int directAfferent = calculateDirectAfferent(graph, classNode);
-        final int directEfferent = calculateDirectEfferent(graph, classNode);
+        final int directAfferent = calculateDirectAfferent(view, ordinal);
+        final int directEfferent = calculateDirectEfferent(view, ordinal);
 
         // 2. Transitive coupling metrics (all reachable, cycle-aware)
-        final int transitiveEfferent = calculateTransitiveEfferent(graph, classNode);
-        final int transitiveAfferent = calculateTransitiveAfferent(graph, classNode);
+        final int transitiveEfferent = reachability.transitiveEfferent(classNode);
+        final int transitiveAfferent = reachability.transitiveAfferent(classNode);
 
         // 3. Instability metric: Ce / (Ca + Ce)
         final double instability = calculateInstability(directEfferent, directAfferent);
@@ -132,90 +138,16 @@ public class CouplingMetricsInspector implements Inspector<JavaClassNode> {
      * class.
      * Counts incoming edges to this node.
      */
-    private int calculateDirectAfferent(final Graph<GraphNode, GraphEdge> graph, final JavaClassNode classNode) {
-        return graph.incomingEdgesOf(classNode).size();
+    private int calculateDirectAfferent(final GraphView view, final int ordinal) {
+        return view.inDegree(ordinal);
     }
 
     /**
      * Calculates direct efferent coupling - classes this class directly depends on.
      * Counts outgoing edges from this node.
      */
-    private int calculateDirectEfferent(final Graph<GraphNode, GraphEdge> graph, final JavaClassNode classNode) {
-        return graph.outgoingEdgesOf(classNode).size();
-    }
-
-    /**
-     * Calculates transitive efferent coupling - all classes reachable from this
-     * class.
-     * Uses BFS to traverse forward through outgoing edges, avoiding cycles.
-     *
-     * @param graph     The coupling graph
-     * @param startNode The class to analyze
-     * @return Count of unique classes reachable from this class
-     */
-    private int calculateTransitiveEfferent(final Graph<GraphNode, GraphEdge> graph, final JavaClassNode startNode) {
-        final Set<JavaClassNode> reachableNodes = new HashSet<>();
-        final Queue<JavaClassNode> queue = new LinkedList<>();
-        final Set<JavaClassNode> visited = new HashSet<>();
-
-        queue.add(startNode);
-        visited.add(startNode);
-
-        while (!queue.isEmpty()) {
-            final JavaClassNode current = queue.poll();
-
-            // Follow all outgoing edges
-            for (final GraphEdge edge : graph.outgoingEdgesOf(current)) {
-                final GraphNode targetNode = edge.getTarget();
-
-                // Only process JavaClassNode targets
-                if (targetNode instanceof final JavaClassNode target && !visited.contains(target)) {
-                    visited.add(target);
-                    reachableNodes.add(target);
-                    queue.add(target);
-                }
-
-            }
-        }
-
-        return reachableNodes.size();
-    }
-
-    /**
-     * Calculates transitive afferent coupling - all classes that can reach this
-     * class.
-     * Uses BFS to traverse backward through incoming edges, avoiding cycles.
-     *
-     * @param graph     The coupling graph
-     * @param startNode The class to analyze
-     * @return Count of unique classes that can reach this class
-     */
-    private int calculateTransitiveAfferent(final Graph<GraphNode, GraphEdge> graph, final JavaClassNode startNode) {
-        final Set<JavaClassNode> reachableNodes = new HashSet<>();
-        final Queue<JavaClassNode> queue = new LinkedList<>();
-        final Set<JavaClassNode> visited = new HashSet<>();
-
-        queue.add(startNode);
-        visited.add(startNode);
-
-        while (!queue.isEmpty()) {
-            final JavaClassNode current = queue.poll();
-
-            // Follow all incoming edges
-            for (final GraphEdge edge : graph.incomingEdgesOf(current)) {
-                final GraphNode sourceNode = edge.getSource();
-
-                // Only process JavaClassNode sources
-                if (sourceNode instanceof final JavaClassNode source && !visited.contains(source)) {
-                    visited.add(source);
-                    reachableNodes.add(source);
-                    queue.add(source);
-                }
-
-            }
-        }
-
-        return reachableNodes.size();
+    private int calculateDirectEfferent(final GraphView view, final int ordinal) {
+        return view.outDegree(ordinal);
     }
 
     /**
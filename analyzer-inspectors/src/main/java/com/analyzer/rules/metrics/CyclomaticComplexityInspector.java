@@ -1,5 +1,6 @@
 package com.analyzer.rules.metrics;
 
+import com.analyzer.api.inspector.AstEventBus;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.api.graph.GraphRepository;
@@ -8,14 +9,13 @@ import com.analyzer.core.inspector.InspectorTags;
 import com.analyzer.core.cache.LocalCache;
 import com.analyzer.core.model.ProjectFile;
 import com.analyzer.core.cache.LocalCache;
-import com.analyzer.dev.inspectors.source.AbstractJavaParserInspector;
+import com.analyzer.dev.inspectors.source.AbstractJavaParserSubscriberInspector;
 import com.analyzer.api.resource.ResourceResolver;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.BinaryExpr;
 import com.github.javaparser.ast.expr.ConditionalExpr;
 import com.github.javaparser.ast.stmt.*;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 
 import javax.inject.Inject;
 
@@ -43,7 +43,7 @@ import javax.inject.Inject;
         requires = { InspectorTags.TAG_JAVA_DETECTED },
         produces = { CyclomaticComplexityInspector.TAG_CYCLOMATIC_COMPLEXITY }
 )
-public class CyclomaticComplexityInspector extends AbstractJavaParserInspector {
+public class CyclomaticComplexityInspector extends AbstractJavaParserSubscriberInspector {
 
     public static final String TAG_CYCLOMATIC_COMPLEXITY = "metrics.cyclomatic-complexity";
 
@@ -64,99 +64,53 @@ public class CyclomaticComplexityInspector extends AbstractJavaParserInspector {
 
 
     @Override
-    protected void analyzeCompilationUnit(CompilationUnit cu, ProjectFile clazz, NodeDecorator projectFileDecorator) {
+    protected void subscribe(AstEventBus.Subscriber subscriber, CompilationUnit cu, ProjectFile clazz,
+            NodeDecorator<ProjectFile> projectFileDecorator) {
         ComplexityCalculator calculator = new ComplexityCalculator();
-        cu.accept(calculator, null);
+        calculator.subscribe(subscriber);
 
-        int totalComplexity = calculator.getTotalComplexity();
-        projectFileDecorator.setMetric(getColumnName(), totalComplexity);
+        subscriber.onEnd(() -> projectFileDecorator.setMetric(getColumnName(), calculator.getTotalComplexity()));
     }
 
     /**
-     * Visitor that calculates cyclomatic complexity by traversing the AST.
+     * Calculates cyclomatic complexity from the decision points met during the
+     * walk of the AST.
      */
-    private static class ComplexityCalculator extends VoidVisitorAdapter<Void> {
+    private static class ComplexityCalculator {
         private int totalComplexity = 0;
 
         public int getTotalComplexity() {
             return totalComplexity;
         }
 
-        @Override
-        public void visit(MethodDeclaration method, Void arg) {
+        void subscribe(AstEventBus.Subscriber subscriber) {
             // Each method starts with complexity 1
-            totalComplexity += 1;
+            subscriber.on(MethodDeclaration.class, method -> totalComplexity += 1);
+
+            subscriber.on(IfStmt.class, stmt -> totalComplexity += 1);
+            subscriber.on(WhileStmt.class, stmt -> totalComplexity += 1);
+            subscriber.on(ForStmt.class, stmt -> totalComplexity += 1);
+            subscriber.on(ForEachStmt.class, stmt -> totalComplexity += 1);
+            subscriber.on(DoStmt.class, stmt -> totalComplexity += 1);
+            subscriber.on(SwitchStmt.class, stmt -> totalComplexity += 1);
+            subscriber.on(SwitchEntry.class, entry -> {
+                // Each case/default adds complexity
+                if (entry.getLabels().isNonEmpty()) {
+                    totalComplexity += 1;
+                }
+            });
+            subscriber.on(CatchClause.class, clause -> totalComplexity += 1);
 
-            // Visit the method body to count decision points
-            super.visit(method, arg);
-        }
-
-        @Override
-        public void visit(IfStmt stmt, Void arg) {
-            totalComplexity += 1;
-            super.visit(stmt, arg);
-        }
-
-        @Override
-        public void visit(WhileStmt stmt, Void arg) {
-            totalComplexity += 1;
-            super.visit(stmt, arg);
-        }
-
-        @Override
-        public void visit(ForStmt stmt, Void arg) {
-            totalComplexity += 1;
-            super.visit(stmt, arg);
-        }
-
-        @Override
-        public void visit(ForEachStmt stmt, Void arg) {
-            totalComplexity += 1;
-            super.visit(stmt, arg);
-        }
-
-        @Override
-        public void visit(DoStmt stmt, Void arg) {
-            totalComplexity += 1;
-            super.visit(stmt, arg);
-        }
-
-        @Override
-        public void visit(SwitchStmt stmt, Void arg) {
-            totalComplexity += 1;
-            super.visit(stmt, arg);
-        }
-
-        @Override
-        public void visit(SwitchEntry entry, Void arg) {
-            // Each case/default adds complexity
-            if (entry.getLabels().isNonEmpty()) {
-                totalComplexity += 1;
-            }
-            super.visit(entry, arg);
-        }
-
-        @Override
-        public void visit(CatchClause clause, Void arg) {
-            totalComplexity += 1;
-            super.visit(clause, arg);
-        }
-
-        @Override
-        public void visit(ConditionalExpr expr, Void arg) {
             // Ternary operator (? :)
-            totalComplexity += 1;
-            super.visit(expr, arg);
-        }
+            subscriber.on(ConditionalExpr.class, expr -> totalComplexity += 1);
 
-        @Override
-        public void visit(BinaryExpr expr, Void arg) {
             // Logical AND (&&) and OR (||) operators
-            if (expr.getOperator() == BinaryExpr.Operator.AND ||
-                    expr.getOperator() == BinaryExpr.Operator.OR) {
-                totalComplexity += 1;
-            }
-            super.visit(expr, arg);
+            subscriber.on(BinaryExpr.class, expr -> {
+                if (expr.getOperator() == BinaryExpr.Operator.AND ||
+                        expr.getOperator() == BinaryExpr.Operator.OR) {
+                    totalComplexity += 1;
+                }
+            });
         }
     }
 }
@@ -5,23 +5,24 @@ import com.analyzer.core.inspector.InspectorTags;
 import com.analyzer.core.export.NodeDecorator;
 import com.analyzer.api.graph.GraphRepository;
 import com.analyzer.api.graph.JavaClassNode;
-import com.analyzer.core.resource.JARClassLoaderService;
-import com.analyzer.dev.inspectors.classloader.AbstractClassLoaderBasedInspector;
+import com.analyzer.core.typemodel.TypeModel;
+import com.analyzer.core.typemodel.TypeModel.AnnotationModel;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import com.analyzer.dev.inspectors.binary.AbstractTypeModelInspector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * Inspector that analyzes the number of interfaces implemented by Java classes
- * using runtime class loading.
+ * using the bytecode type model.
  * 
  * <p>
- * This inspector uses runtime class loading to count both direct and inherited
- * interface implementations. It provides comprehensive metrics including total
+ * This inspector walks the type hierarchy in the TypeModelIndex to count both
+ * direct and inherited interface implementations. It provides comprehensive metrics including total
  * interface count, direct implementation count, and inherited interface count.
  * </p>
  * 
@@ -49,7 +50,7 @@ import java.util.Set;
  */
 @InspectorDependencies(requires = { InspectorTags.TAG_JAVA_DETECTED, InspectorTags.TAG_APPLICATION_CLASS }, produces = {
         "interfaces.total_count" })
-public class InterfaceNumberInspector extends AbstractClassLoaderBasedInspector {
+public class InterfaceNumberInspector extends AbstractTypeModelInspector {
 
     private static final Logger logger = LoggerFactory.getLogger(InterfaceNumberInspector.class);
 
@@ -98,13 +99,13 @@ public class InterfaceNumberInspector extends AbstractClassLoaderBasedInspector
     /**
      * Creates a new InterfaceNumberInspector with required dependencies.
      * 
-     * @param classLoaderService the service providing the shared ClassLoader
-     * @param graphRepository    the graph repository for storing analysis results
+     * @param typeModelIndex  the index of the project types
+     * @param graphRepository the graph repository for storing analysis results
      */
     @Inject
-    public InterfaceNumberInspector(JARClassLoaderService classLoaderService,
+    public InterfaceNumberInspector(TypeModelIndex typeModelIndex,
             GraphRepository graphRepository) {
-        super(classLoaderService);
+        super(typeModelIndex);
         this.graphRepository = graphRepository;
     }
 
@@ -114,16 +115,16 @@ public class InterfaceNumberInspector extends AbstractClassLoaderBasedInspector
     }
 
     @Override
-    protected void analyzeLoadedClass(Class<?> loadedClass, JavaClassNode classNode,
+    protected void analyzeType(TypeModel type, JavaClassNode classNode,
             NodeDecorator<JavaClassNode> decorator) {
         try {
-            logger.debug("Analyzing interface implementations for class: {}", loadedClass.getName());
+            logger.debug("Analyzing interface implementations for class: {}", type.getName());
 
             // Calculate comprehensive interface metrics
-            InterfaceMetrics metrics = calculateInterfaceMetrics(loadedClass);
+            InterfaceMetrics metrics = calculateInterfaceMetrics(type);
 
             // Perform framework-specific analysis
-            analyzeFrameworkInterfaces(loadedClass, metrics);
+            analyzeFrameworkInterfaces(type, metrics);
 
             // Calculate complexity score
             metrics.complexityScore = calculateComplexityScore(metrics);
@@ -151,11 +152,11 @@ public class InterfaceNumberInspector extends AbstractClassLoaderBasedInspector
             }
 
             logger.debug("Successfully analyzed {} total interfaces for class: {}",
-                    metrics.totalCount, loadedClass.getName());
+                    metrics.totalCount, type.getName());
 
         } catch (Exception e) {
             logger.warn("Error analyzing interface implementations for class: {} - {}",
-                    loadedClass.getName(), e.getMessage());
+                    type.getName(), e.getMessage());
             decorator.error("Failed to analyze interface implementations: " + e.getMessage());
         }
     }
@@ -163,74 +164,38 @@ public class InterfaceNumberInspector extends AbstractClassLoaderBasedInspector
     /**
      * Calculates comprehensive interface metrics for the given class.
      * 
-     * @param clazz the class to analyze
+     * @param type the class to analyze
      * @return interface metrics including counts and detailed information
      */
-    private InterfaceMetrics calculateInterfaceMetrics(Class<?> clazz) {
+    private InterfaceMetrics calculateInterfaceMetrics(TypeModel type) {
         InterfaceMetrics metrics = new InterfaceMetrics();
 
         // Get direct interfaces
-        Set<Class<?>> directInterfaces = new HashSet<>(Arrays.asList(clazz.getInterfaces()));
+        Set<String> directInterfaces = new HashSet<>(type.getInterfaceNames());
         metrics.directCount = directInterfaces.size();
 
-        // Collect all interfaces (direct + inherited)
-        Set<Class<?>> allInterfaces = new HashSet<>();
-        collectAllInterfaces(clazz, allInterfaces);
+        // Collect all interfaces (direct + inherited), walking super-interfaces
+        // and the class hierarchy
+        Set<String> allInterfaces = new HashSet<>(typeModelIndex.getAllInterfaceNames(type.getName()));
         metrics.totalCount = allInterfaces.size();
 
         // Calculate inherited count
         metrics.inheritedCount = metrics.totalCount - metrics.directCount;
 
         // Store interface names for analysis
-        metrics.directInterfaceNames = extractInterfaceNames(directInterfaces);
-        metrics.allInterfaceNames = extractInterfaceNames(allInterfaces);
+        metrics.directInterfaceNames = directInterfaces;
+        metrics.allInterfaceNames = allInterfaces;
 
         return metrics;
     }
 
-    /**
-     * Recursively collects all interfaces implemented by a class hierarchy.
-     * 
-     * @param clazz      the class to analyze
-     * @param interfaces the set to collect interfaces into (modified in place)
-     */
-    private void collectAllInterfaces(Class<?> clazz, Set<Class<?>> interfaces) {
-        if (clazz == null) {
-            return;
-        }
-
-        // Add direct interfaces of current class
-        for (Class<?> iface : clazz.getInterfaces()) {
-            interfaces.add(iface);
-            // Recursively collect super-interfaces
-            collectAllInterfaces(iface, interfaces);
-        }
-
-        // Recurse up the class hierarchy
-        collectAllInterfaces(clazz.getSuperclass(), interfaces);
-    }
-
-    /**
-     * Extracts fully qualified names from a set of interface Class objects.
-     * 
-     * @param interfaces the set of interface classes
-     * @return set of fully qualified interface names
-     */
-    private Set<String> extractInterfaceNames(Set<Class<?>> interfaces) {
-        Set<String> names = new HashSet<>();
-        for (Class<?> iface : interfaces) {
-            names.add(iface.getName());
-        }
-        return names;
-    }
-
     /**
      * Analyzes interfaces for framework-specific patterns.
      * 
-     * @param clazz   the class to analyze
+     * @param type    the class to analyze
      * @param metrics the metrics object to update
      */
-    private void analyzeFrameworkInterfaces(Class<?> clazz, InterfaceMetrics metrics) {
+    private void analyzeFrameworkInterfaces(TypeModel type, InterfaceMetrics metrics) {
         Set<String> frameworkTypes = new HashSet<>();
 
         // Check for Spring framework interfaces
@@ -258,8 +223,8 @@ public class InterfaceNumberInspector extends AbstractClassLoaderBasedInspector
         }
 
         // Also check annotations (which are interfaces)
-        for (java.lang.annotation.Annotation annotation : clazz.getAnnotations()) {
-            String annotationType = annotation.annotationType().getName();
+        for (AnnotationModel annotation : typeModelIndex.getAnnotations(type)) {
+            String annotationType = annotation.getTypeName();
             if (SPRING_INTERFACES.contains(annotationType)) {
                 frameworkTypes.add("Spring");
                 metrics.hasFrameworkInterfaces = true;
@@ -4,9 +4,10 @@ import com.analyzer.api.graph.*;
 import com.analyzer.api.inspector.Inspector;
 import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.graph.GraphView;
+import com.analyzer.core.graph.GraphViewService;
 import com.analyzer.core.graph.NodeTypeRegistry;
 import com.analyzer.core.inspector.InspectorTargetType;
-import org.jgrapht.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,28 +45,36 @@ public class PackageCouplingMetricsInspector implements Inspector<PackageNode> {
     private static final Logger logger = LoggerFactory.getLogger(PackageCouplingMetricsInspector.class);
     private final GraphRepository graphRepository;
     private final PackageNodeRepository packageNodeRepository;
+    private final GraphViewService graphViewService;
 
-    // Cache for package graph - built once since this runs as a global inspector
-    private Graph<GraphNode, GraphEdge> packageGraphCache;
+    // Package edges are created once since this runs as a global inspector
+    private volatile boolean packageEdgesCreated;
+    // Transitive coupling of all packages of the current package graph view
+    private TransitiveReachability cachedReachability;
 
     @Inject
     public PackageCouplingMetricsInspector(
             final GraphRepository graphRepository,
-            final PackageNodeRepository packageNodeRepository) {
+            final PackageNodeRepository packageNodeRepository,
+            final GraphViewService graphViewService) {
         this.graphRepository = graphRepository;
         this.packageNodeRepository = packageNodeRepository;
+        this.graphViewService = graphViewService;
     }
 
     @Override
     public void inspect(final PackageNode node, final NodeDecorator<PackageNode> decorator) {
-        // Lazy-initialize the package dependency graph
-        if (packageGraphCache == null) {
-            logger.info("Building package-level dependency graph for metrics calculation...");
-            buildPackageDependencyGraph();
+        // Lazy-initialize the package dependency edges
+        if (!packageEdgesCreated) {
+            createPackageDependencyEdges();
         }
 
+        final GraphView packageGraph = graphViewService.getView(
+                Set.of(NodeTypeRegistry.getAllTypes().get(PackageNode.class)),
+                Set.of(EDGE_DEPENDS));
+
         // Calculate metrics for this specific package node
-        calculatePackageMetrics(node, decorator);
+        calculatePackageMetrics(packageGraph, getReachability(packageGraph), node, decorator);
     }
 
     @Override
@@ -79,14 +88,19 @@ public class PackageCouplingMetricsInspector implements Inspector<PackageNode> {
     }
 
     /**
-     * Builds the package-level dependency graph by aggregating class-level
+     * Creates the package-level dependency edges by aggregating class-level
      * dependencies.
      * PackageNodes are assumed to already exist (created by collectors during Phase
      * 2).
      */
-    private void buildPackageDependencyGraph() {
+    private synchronized void createPackageDependencyEdges() {
+        if (packageEdgesCreated) {
+            return;
+        }
+        logger.info("Building package-level dependency graph for metrics calculation...");
+
         // Get class-level coupling graph
-        final Graph<GraphNode, GraphEdge> classGraph = graphRepository.buildGraph(
+        final GraphView classGraph = graphViewService.getView(
                 Set.of("JavaClass"),
                 Set.of("extends", "implements", "uses"));
 
@@ -94,27 +108,11 @@ public class PackageCouplingMetricsInspector implements Inspector<PackageNode> {
         final Set<PackageDependency> packageDependencies = new HashSet<>();
 
         // Aggregate class dependencies to package dependencies
-        for (final GraphEdge edge : classGraph.edgeSet()) {
-            final GraphNode source = classGraph.getEdgeSource(edge);
-            final GraphNode target = classGraph.getEdgeTarget(edge);
-
-            if (source instanceof final JavaClassNode sourceClass
-                    && target instanceof final JavaClassNode targetClass) {
-
-                String sourcePackage = sourceClass.getPackageName();
-                String targetPackage = targetClass.getPackageName();
-
-                if (sourcePackage == null || sourcePackage.trim().isEmpty()) {
-                    sourcePackage = "(default)";
-                }
-                if (targetPackage == null || targetPackage.trim().isEmpty()) {
-                    targetPackage = "(default)";
-                }
-
-                // Only create edge if packages are different
-                if (!sourcePackage.equals(targetPackage)) {
-                    packageDependencies.add(new PackageDependency(sourcePackage, targetPackage));
-                }
+        final int[] offsets = classGraph.successorOffsets();
+        final int[] successors = classGraph.successors();
+        for (int v = 0; v < classGraph.nodeCount(); v++) {
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                addPackageDependency(packageDependencies, classGraph.node(v), classGraph.node(successors[e]));
             }
         }
 
@@ -129,30 +127,64 @@ public class PackageCouplingMetricsInspector implements Inspector<PackageNode> {
             }
         }
 
-        // Build the package graph
-        packageGraphCache = graphRepository.buildGraph(
-                Set.of(NodeTypeRegistry.getAllTypes().get(PackageNode.class)),
-                Set.of(EDGE_DEPENDS));
-
+        packageEdgesCreated = true;
         logger.info("Package dependency graph built with {} edges", packageDependencies.size());
     }
 
+    /**
+     * Records the package dependency of a class dependency, if the classes are
+     * in different packages.
+     */
+    private void addPackageDependency(final Set<PackageDependency> packageDependencies, final GraphNode source,
+            final GraphNode target) {
+        if (source instanceof final JavaClassNode sourceClass
+                && target instanceof final JavaClassNode targetClass) {
+
+            String sourcePackage = sourceClass.getPackageName();
+            String targetPackage = targetClass.getPackageName();
+
+            if (sourcePackage == null || sourcePackage.trim().isEmpty()) {
+                sourcePackage = "(default)";
+            }
+            if (targetPackage == null || targetPackage.trim().isEmpty()) {
+                targetPackage = "(default)";
+            }
+
+            // Only create edge if packages are different
+            if (!sourcePackage.equals(targetPackage)) {
+                packageDependencies.add(new PackageDependency(sourcePackage, targetPackage));
+            }
+        }
+    }
+
+    private synchronized TransitiveReachability getReachability(final GraphView packageGraph) {
+        if (cachedReachability == null || !cachedReachability.isComputedFrom(packageGraph)) {
+            cachedReachability = TransitiveReachability.compute(packageGraph);
+        }
+        return cachedReachability;
+    }
+
     /**
      * Calculates all metrics for a specific package.
      */
-    private void calculatePackageMetrics(final PackageNode packageNode, final NodeDecorator<PackageNode> decorator) {
+    private void calculatePackageMetrics(final GraphView packageGraph, final TransitiveReachability reachability,
+            final PackageNode packageNode, final NodeDecorator<PackageNode> decorator) {
         // 1. Abstractness metric
         final int totalClasses = packageNode.getClassCount();
         final int abstractComponents = packageNode.getInterfaceCount() + packageNode.getAbstractClassCount();
         final double abstractness = totalClasses > 0 ? (double) abstractComponents / totalClasses : 0.0;
 
         // 2. Direct coupling (already counted by graph edges)
-        final int directAfferent = packageGraphCache.incomingEdgesOf(packageNode).size();
-        final int directEfferent = packageGraphCache.outgoingEdgesOf(packageNode).size();
+        final int ordinal = packageGraph.ordinalOf(packageNode);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Package is not part of the package graph: " + packageNode.getId());
+        }
+        final int directAfferent = packageGraph.inDegree(ordinal);
+        final int directEfferent = packageGraph.outDegree(ordinal);
 
         // 3. Transitive coupling
-        final int transitiveEfferent = calculateTransitiveEfferent(packageGraphCache, packageNode);
-        final int transitiveAfferent = calculateTransitiveAfferent(packageGraphCache, packageNode);
+        final int transitiveEfferent = reachability.transitiveEfferent(packageNode);
+        final int transitiveAfferent = reachability.transitiveAfferent(packageNode);
 
         // 4. Instability metric: I = Ce / (Ca + Ce)
         final double instability = calculateInstability(directEfferent, directAfferent);
@@ -179,68 +211,6 @@ public class PackageCouplingMetricsInspector implements Inspector<PackageNode> {
                 instability, abstractness, distance);
     }
 
-    /**
-     * Calculates transitive efferent coupling at package level.
-     */
-    private int calculateTransitiveEfferent(final Graph<GraphNode, GraphEdge> graph, final PackageNode startNode) {
-        final Set<PackageNode> reachableNodes = new HashSet<>();
-        final Queue<PackageNode> queue = new LinkedList<>();
-        final Set<PackageNode> visited = new HashSet<>();
-
-        queue.add(startNode);
-        visited.add(startNode);
-
-        while (!queue.isEmpty()) {
-            final PackageNode current = queue.poll();
-
-            for (final GraphEdge edge : graph.outgoingEdgesOf(current)) {
-                final GraphNode targetNode = edge.getTarget();
-
-                if (targetNode instanceof final PackageNode target) {
-
-                    if (!visited.contains(target)) {
-                        visited.add(target);
-                        reachableNodes.add(target);
-                        queue.add(target);
-                    }
-                }
-            }
-        }
-
-        return reachableNodes.size();
-    }
-
-    /**
-     * Calculates transitive afferent coupling at package level.
-     */
-    private int calculateTransitiveAfferent(final Graph<GraphNode, GraphEdge> graph, final PackageNode startNode) {
-        final Set<PackageNode> reachableNodes = new HashSet<>();
-        final Queue<PackageNode> queue = new LinkedList<>();
-        final Set<PackageNode> visited = new HashSet<>();
-
-        queue.add(startNode);
-        visited.add(startNode);
-
-        while (!queue.isEmpty()) {
-            final PackageNode current = queue.poll();
-
-            for (final GraphEdge edge : graph.incomingEdgesOf(current)) {
-                final GraphNode sourceNode = edge.getSource();
-
-                if (sourceNode instanceof final PackageNode source) {
-
-                    if (!visited.contains(source)) {
-                        visited.add(source);
-                        reachableNodes.add(source);
-                        queue.add(source);
-                    }
-                }
-            }
-        }
-
-        return reachableNodes.size();
-    }
-
     /**
      * Calculates instability: I = Ce / (Ca + Ce).
      */
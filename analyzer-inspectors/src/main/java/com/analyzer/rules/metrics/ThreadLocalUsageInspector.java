@@ -5,21 +5,21 @@ import com.analyzer.api.inspector.InspectorDependencies;
 import com.analyzer.core.inspector.InspectorTags;
 import com.analyzer.api.graph.GraphRepository;
 import com.analyzer.api.graph.JavaClassNode;
-import com.analyzer.core.resource.JARClassLoaderService;
-import com.analyzer.dev.inspectors.classloader.AbstractClassLoaderBasedInspector;
+import com.analyzer.core.typemodel.TypeModel;
+import com.analyzer.core.typemodel.TypeModel.FieldModel;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import com.analyzer.core.typemodel.TypeSignatures;
+import com.analyzer.dev.inspectors.binary.AbstractTypeModelInspector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Inspector that detects ThreadLocal usage within Java classes using runtime
- * class loading.
+ * Inspector that detects ThreadLocal usage within Java classes using the
+ * bytecode type model.
  * 
  * <p>
  * This inspector analyzes classes to identify fields of type
@@ -42,9 +42,9 @@ import java.util.List;
  * </ul>
  * 
  * <p>
- * The inspector uses reflection to examine all declared fields in a class and
- * checks if they are assignable from ThreadLocal. It also captures the generic
- * type parameter if present.
+ * The inspector examines all declared fields in the class file and checks,
+ * through the TypeModelIndex, if their type is assignable to ThreadLocal. It
+ * also captures the generic type parameter if present.
  * </p>
  * 
  * <p>
@@ -57,7 +57,7 @@ import java.util.List;
 @InspectorDependencies(requires = { InspectorTags.TAG_JAVA_DETECTED, InspectorTags.TAG_APPLICATION_CLASS }, produces = {
         "threadlocal.detected",
         "threadlocal.count" })
-public class ThreadLocalUsageInspector extends AbstractClassLoaderBasedInspector {
+public class ThreadLocalUsageInspector extends AbstractTypeModelInspector {
 
     private static final Logger logger = LoggerFactory.getLogger(ThreadLocalUsageInspector.class);
 
@@ -67,19 +67,21 @@ public class ThreadLocalUsageInspector extends AbstractClassLoaderBasedInspector
     public static final String PROP_THREADLOCAL_FIELDS = "threadlocal.fields";
     public static final String TAG_USES_THREADLOCAL = "uses.threadlocal";
 
+    private static final String THREAD_LOCAL_TYPE = ThreadLocal.class.getName();
+
     private final GraphRepository graphRepository;
 
     /**
      * Creates a new ThreadLocalUsageInspector with required dependencies.
      * 
-     * @param classLoaderService the service providing the shared ClassLoader
-     * @param graphRepository    the graph repository for storing analysis results
+     * @param typeModelIndex  the index of the project types
+     * @param graphRepository the graph repository for storing analysis results
      */
     @Inject
     public ThreadLocalUsageInspector(
-            JARClassLoaderService classLoaderService,
+            TypeModelIndex typeModelIndex,
             GraphRepository graphRepository) {
-        super(classLoaderService);
+        super(typeModelIndex);
         this.graphRepository = graphRepository;
     }
 
@@ -89,18 +91,18 @@ public class ThreadLocalUsageInspector extends AbstractClassLoaderBasedInspector
     }
 
     @Override
-    protected void analyzeLoadedClass(Class<?> loadedClass, JavaClassNode classNode,
+    protected void analyzeType(TypeModel type, JavaClassNode classNode,
             NodeDecorator<JavaClassNode> decorator) {
         try {
-            logger.debug("Analyzing ThreadLocal usage for class: {}", loadedClass.getName());
+            logger.debug("Analyzing ThreadLocal usage for class: {}", type.getName());
 
             // Scan for ThreadLocal fields
-            ThreadLocalUsageMetrics metrics = analyzeThreadLocalUsage(loadedClass);
+            ThreadLocalUsageMetrics metrics = analyzeThreadLocalUsage(type);
 
             if (metrics.hasThreadLocalFields()) {
                 // Mark the class as using ThreadLocal
                 logger.info("ThreadLocal usage detected in class: {} - {} field(s) found",
-                        loadedClass.getName(), metrics.getThreadLocalCount());
+                        type.getName(), metrics.getThreadLocalCount());
 
                 decorator.enableTag(TAG_THREADLOCAL_DETECTED);
                 decorator.setMetric(METRIC_THREADLOCAL_COUNT, metrics.getThreadLocalCount());
@@ -110,12 +112,12 @@ public class ThreadLocalUsageInspector extends AbstractClassLoaderBasedInspector
                 logger.debug("Stored ThreadLocal usage metrics on JavaClassNode: {} ({} fields)",
                         classNode.getFullyQualifiedName(), metrics.getThreadLocalCount());
             } else {
-                logger.debug("No ThreadLocal usage detected in class: {}", loadedClass.getName());
+                logger.debug("No ThreadLocal usage detected in class: {}", type.getName());
             }
 
         } catch (Exception e) {
             logger.warn("Error analyzing ThreadLocal usage for class: {} - {}",
-                    loadedClass.getName(), e.getMessage());
+                    type.getName(), e.getMessage());
             decorator.error("Failed to analyze ThreadLocal usage: " + e.getMessage());
         }
     }
@@ -123,20 +125,20 @@ public class ThreadLocalUsageInspector extends AbstractClassLoaderBasedInspector
     /**
      * Analyzes a class for ThreadLocal field usage.
      * 
-     * @param clazz the class to analyze
+     * @param type the class to analyze
      * @return metrics containing ThreadLocal usage information
      */
-    private ThreadLocalUsageMetrics analyzeThreadLocalUsage(Class<?> clazz) {
+    private ThreadLocalUsageMetrics analyzeThreadLocalUsage(TypeModel type) {
         ThreadLocalUsageMetrics metrics = new ThreadLocalUsageMetrics();
 
         // Examine all declared fields (including private)
-        for (Field field : clazz.getDeclaredFields()) {
+        for (FieldModel field : type.getDeclaredFields()) {
             if (isThreadLocalField(field)) {
                 String fieldInfo = buildFieldInfo(field);
                 metrics.addThreadLocalField(fieldInfo);
 
                 logger.debug("ThreadLocal field detected: {} in class {}",
-                        field.getName(), clazz.getName());
+                        field.getName(), type.getName());
             }
         }
 
@@ -149,9 +151,8 @@ public class ThreadLocalUsageInspector extends AbstractClassLoaderBasedInspector
      * @param field the field to check
      * @return true if the field is a ThreadLocal, false otherwise
      */
-    private boolean isThreadLocalField(Field field) {
-        Class<?> fieldType = field.getType();
-        return ThreadLocal.class.isAssignableFrom(fieldType);
+    private boolean isThreadLocalField(FieldModel field) {
+        return !field.isPrimitive() && typeModelIndex.isAssignableTo(field.getTypeName(), THREAD_LOCAL_TYPE);
     }
 
     /**
@@ -161,20 +162,18 @@ public class ThreadLocalUsageInspector extends AbstractClassLoaderBasedInspector
      * @param field the ThreadLocal field
      * @return a string describing the field
      */
-    private String buildFieldInfo(Field field) {
+    private String buildFieldInfo(FieldModel field) {
         StringBuilder info = new StringBuilder();
         info.append(field.getName());
         info.append(": ");
-        info.append(field.getType().getSimpleName());
+        info.append(TypeModel.simpleNameOf(field.getTypeName()));
 
         // Try to extract generic type parameter
-        Type genericType = field.getGenericType();
-        if (genericType instanceof ParameterizedType) {
-            ParameterizedType paramType = (ParameterizedType) genericType;
-            Type[] typeArgs = paramType.getActualTypeArguments();
-            if (typeArgs.length > 0) {
+        if (field.getSignature() != null) {
+            TypeSignatures.GenericType genericType = TypeSignatures.parseType(field.getSignature());
+            if (genericType.isParameterized()) {
                 info.append("<");
-                info.append(typeArgs[0].getTypeName());
+                info.append(genericType.typeArguments().get(0).getTypeName());
                 info.append(">");
             }
         }
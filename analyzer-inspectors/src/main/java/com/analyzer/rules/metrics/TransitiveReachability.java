@@ -0,0 +1,344 @@
+package com.analyzer.rules.metrics;
+
+import com.analyzer.api.graph.GraphNode;
+import com.analyzer.core.graph.GraphView;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Transitive coupling counts of all nodes of a coupling graph view (classes or
+ * packages), computed in one pass instead of one breadth-first search per
+ * node.
+ *
+ * <p>
+ * The graph is condensed into its strongly connected components (Tarjan), which
+ * form a DAG. The nodes reachable from a component are then propagated as
+ * bitsets over the DAG: from the sinks up for transitive efferent coupling,
+ * from the sources down for transitive afferent coupling. Nodes are numbered
+ * by component, so each bitset covers a contiguous range. To bound memory, the
+ * bitsets are propagated one chunk of nodes at a time, and the chunks are
+ * processed in parallel.
+ * </p>
+ *
+ * <p>
+ * The counts match a breadth-first search from each node that follows the
+ * edges of the view, and excludes the node itself.
+ * </p>
+ */
+final class TransitiveReachability {
+
+    // Bits propagated per chunk: 32 words of 64 nodes
+    private static final int DEFAULT_CHUNK_WORDS = 32;
+
+    private final GraphView view;
+    private final int[] efferent;
+    private final int[] afferent;
+
+    private TransitiveReachability(final GraphView view, final int[] efferent, final int[] afferent) {
+        this.view = view;
+        this.efferent = efferent;
+        this.afferent = afferent;
+    }
+
+    /**
+     * Computes the transitive coupling counts of the nodes of a graph view.
+     *
+     * @param view the coupling graph view
+     * @return the counts of all nodes of the view
+     */
+    static TransitiveReachability compute(final GraphView view) {
+        final int[][] counts = compute(view.nodeCount(), view.successorOffsets(), view.successors(),
+                DEFAULT_CHUNK_WORDS);
+        return new TransitiveReachability(view, counts[0], counts[1]);
+    }
+
+    /**
+     * Checks whether the counts were computed from a view.
+     *
+     * @param other the view
+     * @return true if the counts belong to the view
+     */
+    boolean isComputedFrom(final GraphView other) {
+        return view == other;
+    }
+
+    /**
+     * Gets the number of nodes reachable from a node.
+     *
+     * @param node the node
+     * @return the transitive efferent coupling
+     * @throws IllegalArgumentException if the node is not part of the view
+     */
+    int transitiveEfferent(final GraphNode node) {
+        return efferent[indexOf(node)];
+    }
+
+    /**
+     * Gets the number of nodes that can reach a node.
+     *
+     * @param node the node
+     * @return the transitive afferent coupling
+     * @throws IllegalArgumentException if the node is not part of the view
+     */
+    int transitiveAfferent(final GraphNode node) {
+        return afferent[indexOf(node)];
+    }
+
+    private int indexOf(final GraphNode node) {
+        final int ordinal = view.ordinalOf(node);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Node is not part of the coupling graph: " + node.getId());
+        }
+        return ordinal;
+    }
+
+    /**
+     * Computes the transitive efferent and afferent counts of a graph given in
+     * CSR form.
+     *
+     * @param nodeCount  the number of nodes
+     * @param offsets    the start of the successors of each node in targets,
+     *                   nodeCount + 1 entries
+     * @param targets    the successors
+     * @param chunkWords the number of 64-bit words of the bitsets propagated at
+     *                   once
+     * @return the efferent counts and the afferent counts, by node
+     */
+    static int[][] compute(final int nodeCount, final int[] offsets, final int[] targets, final int chunkWords) {
+        final int[] component = new int[nodeCount];
+        final int componentCount = stronglyConnectedComponents(nodeCount, offsets, targets, component);
+
+        // Number the nodes by component, so each component is a contiguous range [start[c], start[c + 1])
+        final int[] start = new int[componentCount + 1];
+        for (int v = 0; v < nodeCount; v++) {
+            start[component[v] + 1]++;
+        }
+        for (int c = 0; c < componentCount; c++) {
+            start[c + 1] += start[c];
+        }
+
+        final int[][] successors = condensation(nodeCount, offsets, targets, component, componentCount);
+        final int[][] predecessors = transpose(successors[0], successors[1], componentCount);
+
+        final int[] descendants = countReachable(start, successors[0], successors[1], true, chunkWords);
+        final int[] ancestors = countReachable(start, predecessors[0], predecessors[1], false, chunkWords);
+
+        final int[] efferent = new int[nodeCount];
+        final int[] afferent = new int[nodeCount];
+        for (int v = 0; v < nodeCount; v++) {
+            // The counts of a component include the node itself
+            efferent[v] = descendants[component[v]] - 1;
+            afferent[v] = ancestors[component[v]] - 1;
+        }
+        return new int[][] { efferent, afferent };
+    }
+
+    /**
+     * Iterative Tarjan algorithm. Components are numbered in reverse
+     * topological order: an edge between components always leads to a lower
+     * component number.
+     *
+     * @return the number of components
+     */
+    private static int stronglyConnectedComponents(final int nodeCount, final int[] offsets, final int[] targets,
+            final int[] component) {
+        final int[] index = new int[nodeCount]; // 0 = not visited
+        final int[] low = new int[nodeCount];
+        final int[] nextEdge = new int[nodeCount];
+        final boolean[] onStack = new boolean[nodeCount];
+        final int[] stack = new int[nodeCount];
+        final int[] callStack = new int[nodeCount];
+        int stackSize = 0;
+        int counter = 1;
+        int componentCount = 0;
+
+        for (int root = 0; root < nodeCount; root++) {
+            if (index[root] != 0) {
+                continue;
+            }
+            int depth = 0;
+            index[root] = low[root] = counter++;
+            nextEdge[root] = offsets[root];
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            callStack[depth++] = root;
+
+            while (depth > 0) {
+                final int v = callStack[depth - 1];
+                if (nextEdge[v] < offsets[v + 1]) {
+                    final int w = targets[nextEdge[v]++];
+                    if (index[w] == 0) {
+                        index[w] = low[w] = counter++;
+                        nextEdge[w] = offsets[w];
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        callStack[depth++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                } else {
+                    depth--;
+                    if (low[v] == index[v]) {
+                        int w;
+                        do {
+                            w = stack[--stackSize];
+                            onStack[w] = false;
+                            component[w] = componentCount;
+                        } while (w != v);
+                        componentCount++;
+                    }
+                    if (depth > 0) {
+                        final int parent = callStack[depth - 1];
+                        low[parent] = Math.min(low[parent], low[v]);
+                    }
+                }
+            }
+        }
+        return componentCount;
+    }
+
+    /**
+     * The distinct edges between components, in CSR form.
+     */
+    private static int[][] condensation(final int nodeCount, final int[] offsets, final int[] targets,
+            final int[] component, final int componentCount) {
+        final int[][] nodesByComponent = new int[componentCount][];
+        final int[] sizes = new int[componentCount];
+        for (int v = 0; v < nodeCount; v++) {
+            sizes[component[v]]++;
+        }
+        for (int c = 0; c < componentCount; c++) {
+            nodesByComponent[c] = new int[sizes[c]];
+        }
+        Arrays.fill(sizes, 0);
+        for (int v = 0; v < nodeCount; v++) {
+            nodesByComponent[component[v]][sizes[component[v]]++] = v;
+        }
+
+        final int[] componentOffsets = new int[componentCount + 1];
+        int[] componentTargets = new int[Math.max(16, targets.length)];
+        final int[] lastSeen = new int[componentCount];
+        Arrays.fill(lastSeen, -1);
+        int edgeCount = 0;
+        for (int c = 0; c < componentCount; c++) {
+            for (final int v : nodesByComponent[c]) {
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    final int d = component[targets[e]];
+                    if (d != c && lastSeen[d] != c) {
+                        lastSeen[d] = c;
+                        componentTargets[edgeCount++] = d;
+                    }
+                }
+            }
+            componentOffsets[c + 1] = edgeCount;
+        }
+        componentTargets = Arrays.copyOf(componentTargets, edgeCount);
+        return new int[][] { componentOffsets, componentTargets };
+    }
+
+    private static int[][] transpose(final int[] offsets, final int[] targets, final int count) {
+        final int[] reverseOffsets = new int[count + 1];
+        for (final int target : targets) {
+            reverseOffsets[target + 1]++;
+        }
+        for (int c = 0; c < count; c++) {
+            reverseOffsets[c + 1] += reverseOffsets[c];
+        }
+        final int[] reverseTargets = new int[targets.length];
+        final int[] next = Arrays.copyOf(reverseOffsets, count);
+        for (int c = 0; c < count; c++) {
+            for (int e = offsets[c]; e < offsets[c + 1]; e++) {
+                reverseTargets[next[targets[e]]++] = c;
+            }
+        }
+        return new int[][] { reverseOffsets, reverseTargets };
+    }
+
+    /**
+     * Counts the nodes reachable from each component, including its own nodes.
+     *
+     * @param start           the node range of each component
+     * @param offsets         the component edges in CSR form
+     * @param targets         the component edges in CSR form
+     * @param towardsLowerIds true if edges lead to lower component numbers
+     *                        (successors), false if they lead to higher ones
+     *                        (predecessors)
+     * @param chunkWords      the number of 64-bit words propagated at once
+     * @return the counts by component
+     */
+    private static int[] countReachable(final int[] start, final int[] offsets, final int[] targets,
+            final boolean towardsLowerIds, final int chunkWords) {
+        final int componentCount = start.length - 1;
+        final int nodeCount = start[componentCount];
+        final int chunkBits = chunkWords * Long.SIZE;
+        final int chunkCount = (nodeCount + chunkBits - 1) / chunkBits;
+
+        final int[][] partialCounts = new int[chunkCount][];
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> partialCounts[chunk] = countReachableInChunk(
+                start, offsets, targets, towardsLowerIds, chunk * chunkBits,
+                Math.min(nodeCount, (chunk + 1) * chunkBits), chunkWords));
+
+        final int[] counts = new int[componentCount];
+        for (final int[] partial : partialCounts) {
+            for (int c = 0; c < componentCount; c++) {
+                counts[c] += partial[c];
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the nodes in [from, to) reachable from each component. Components
+     * are visited so that the components they lead to come first; components
+     * that can only lead to nodes outside the chunk are skipped.
+     */
+    private static int[] countReachableInChunk(final int[] start, final int[] offsets, final int[] targets,
+            final boolean towardsLowerIds, final int from, final int to, final int chunkWords) {
+        final int componentCount = start.length - 1;
+        final int[] counts = new int[componentCount];
+
+        // Successors of c are numbered below c, so their nodes come before the end
+        // of c; predecessors of c are numbered above c, so their nodes come from the
+        // start of c
+        int first = 0;
+        int last = componentCount - 1;
+        if (towardsLowerIds) {
+            while (first < componentCount && start[first + 1] <= from) {
+                first++;
+            }
+        } else {
+            while (last >= 0 && start[last] >= to) {
+                last--;
+            }
+        }
+        if (first > last) {
+            return counts;
+        }
+
+        final long[] words = new long[(last - first + 1) * chunkWords];
+        for (int i = 0; i <= last - first; i++) {
+            final int c = towardsLowerIds ? first + i : last - i;
+            final int base = (c - first) * chunkWords;
+            for (int e = offsets[c]; e < offsets[c + 1]; e++) {
+                final int d = targets[e];
+                if (d >= first && d <= last) {
+                    final int other = (d - first) * chunkWords;
+                    for (int w = 0; w < chunkWords; w++) {
+                        words[base + w] |= words[other + w];
+                    }
+                }
+            }
+            for (int node = Math.max(start[c], from); node < Math.min(start[c + 1], to); node++) {
+                final int bit = node - from;
+                words[base + (bit >>> 6)] |= 1L << bit;
+            }
+            int count = 0;
+            for (int w = 0; w < chunkWords; w++) {
+                count += Long.bitCount(words[base + w]);
+            }
+            counts[c] = count;
+        }
+        return counts;
+    }
+}
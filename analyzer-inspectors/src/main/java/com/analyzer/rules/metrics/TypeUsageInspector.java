@@ -6,21 +6,31 @@ import com.analyzer.core.inspector.InspectorTags;
 import com.analyzer.api.graph.GraphRepository;
 import javax.inject.Inject;
 import com.analyzer.api.graph.JavaClassNode;
-import com.analyzer.core.resource.JARClassLoaderService;
-import com.analyzer.dev.inspectors.classloader.AbstractClassLoaderBasedInspector;
+import com.analyzer.core.typemodel.TypeModel;
+import com.analyzer.core.typemodel.TypeModel.AnnotationModel;
+import com.analyzer.core.typemodel.TypeModel.FieldModel;
+import com.analyzer.core.typemodel.TypeModel.MethodModel;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import com.analyzer.core.typemodel.TypeSignatures;
+import com.analyzer.core.typemodel.TypeSignatures.GenericType;
+import com.analyzer.core.typemodel.TypeSignatures.Kind;
+import com.analyzer.core.typemodel.TypeSignatures.MethodSignature;
+import com.analyzer.core.typemodel.TypeSignatures.TypeParameter;
+import com.analyzer.dev.inspectors.binary.AbstractTypeModelInspector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.*;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Inspector that performs comprehensive analysis of type usage within Java
- * classes using runtime class loading.
+ * classes using the bytecode type model.
  * 
  * <p>
  * This inspector analyzes all categories of type usage including field types,
@@ -31,6 +41,11 @@ import java.util.Set;
  * </p>
  * 
  * <p>
+ * Generic types are read from the signatures recorded in the class file, the
+ * way reflection reads them, without loading the class.
+ * </p>
+ * 
+ * <p>
  * Type complexity is calculated based on usage patterns, generic complexity,
  * and framework integration. All metrics are attached to the JavaClassNode for
  * architectural analysis.
@@ -45,7 +60,7 @@ import java.util.Set;
  */
 @InspectorDependencies(requires = { InspectorTags.TAG_JAVA_DETECTED, InspectorTags.TAG_APPLICATION_CLASS }, produces = {
         "types.total_unique" })
-public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
+public class TypeUsageInspector extends AbstractTypeModelInspector {
 
     private static final Logger logger = LoggerFactory.getLogger(TypeUsageInspector.class);
 
@@ -77,6 +92,8 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
             "java.util.TreeSet", "java.util.HashMap", "java.util.TreeMap",
             "java.util.concurrent.ConcurrentHashMap", "java.util.concurrent.CopyOnWriteArrayList");
 
+    private static final GenericType OBJECT_TYPE = new GenericType(Kind.CLASS, "java.lang.Object", List.of(), null);
+
     /**
      * Context for type analysis to properly categorize generic type arguments.
      */
@@ -89,13 +106,13 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
     /**
      * Creates a new TypeUsageInspector with required dependencies.
      * 
-     * @param classLoaderService the service providing the shared ClassLoader
-     * @param graphRepository    the graph repository for storing analysis results
+     * @param typeModelIndex  the index of the project types
+     * @param graphRepository the graph repository for storing analysis results
      */
     @Inject
-    public TypeUsageInspector(JARClassLoaderService classLoaderService,
+    public TypeUsageInspector(TypeModelIndex typeModelIndex,
             GraphRepository graphRepository) {
-        super(classLoaderService);
+        super(typeModelIndex);
         this.graphRepository = graphRepository;
     }
 
@@ -105,13 +122,13 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
     }
 
     @Override
-    protected void analyzeLoadedClass(Class<?> loadedClass, JavaClassNode classNode,
+    protected void analyzeType(TypeModel type, JavaClassNode classNode,
             NodeDecorator<JavaClassNode> decorator) {
         try {
-            logger.debug("Analyzing type usage for class: {}", loadedClass.getName());
+            logger.debug("Analyzing type usage for class: {}", type.getName());
 
             // Perform comprehensive type usage analysis
-            TypeUsageMetrics metrics = analyzeTypeUsage(loadedClass);
+            TypeUsageMetrics metrics = analyzeTypeUsage(type);
 
             // Attach metrics to JavaClassNode
             decorator.setMetric(METRIC_TYPES_TOTAL_UNIQUE, metrics.getTotalUniqueTypes());
@@ -133,10 +150,10 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
                             : metrics.getComplexityScore() > 5.0 ? "medium" : "low");
 
             logger.debug("Successfully analyzed type usage with {} unique types for class: {}",
-                    metrics.getTotalUniqueTypes(), loadedClass.getName());
+                    metrics.getTotalUniqueTypes(), type.getName());
 
         } catch (Exception e) {
-            logger.warn("Error analyzing type usage for class: {}", loadedClass.getName(), e);
+            logger.warn("Error analyzing type usage for class: {}", type.getName(), e);
             decorator.error("Failed to analyze type usage: " + e.getMessage());
         }
     }
@@ -144,43 +161,67 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
     /**
      * Performs comprehensive type usage analysis for the given class.
      * 
-     * @param clazz the class to analyze
+     * @param type the class to analyze
      * @return comprehensive type usage metrics
      */
-    private TypeUsageMetrics analyzeTypeUsage(Class<?> clazz) {
+    private TypeUsageMetrics analyzeTypeUsage(TypeModel type) {
         TypeUsageMetrics metrics = new TypeUsageMetrics();
 
+        // Type variables declared by the class, with their bounds
+        Map<String, List<GenericType>> classTypeVariables = type.getSignature() != null
+                ? typeVariablesOf(TypeSignatures.parseClass(type.getSignature()).typeParameters(), Map.of())
+                : Map.of();
+
         // Analyze different type usage contexts
-        analyzeFieldTypes(clazz, metrics);
-        analyzeMethodTypes(clazz, metrics);
-        analyzeConstructorTypes(clazz, metrics);
-        analyzeAnnotationTypes(clazz, metrics);
+        analyzeFieldTypes(type, classTypeVariables, metrics);
+        analyzeMethodTypes(type, classTypeVariables, metrics);
+        analyzeConstructorTypes(type, classTypeVariables, metrics);
+        analyzeAnnotationTypes(type, metrics);
 
         // Calculate computed metrics
         metrics.calculateComputedMetrics();
 
         logger.debug("Type analysis complete for {}: {} unique types, complexity score: {}",
-                clazz.getName(), metrics.getTotalUniqueTypes(), metrics.getComplexityScore());
+                type.getName(), metrics.getTotalUniqueTypes(), metrics.getComplexityScore());
 
         return metrics;
     }
 
+    /**
+     * Maps the type variables in scope to their bounds, the given ones
+     * shadowing the enclosing ones.
+     */
+    private Map<String, List<GenericType>> typeVariablesOf(List<TypeParameter> typeParameters,
+            Map<String, List<GenericType>> enclosing) {
+        if (typeParameters.isEmpty()) {
+            return enclosing;
+        }
+        Map<String, List<GenericType>> typeVariables = new HashMap<>(enclosing);
+        for (TypeParameter typeParameter : typeParameters) {
+            typeVariables.put(typeParameter.name(), typeParameter.bounds());
+        }
+        return typeVariables;
+    }
+
     /**
      * Analyzes field types including generic type parameters.
      */
-    private void analyzeFieldTypes(Class<?> clazz, TypeUsageMetrics metrics) {
-        for (Field field : clazz.getDeclaredFields()) {
-            Class<?> fieldType = field.getType();
-            metrics.addFieldType(fieldType);
+    private void analyzeFieldTypes(TypeModel type, Map<String, List<GenericType>> typeVariables,
+            TypeUsageMetrics metrics) {
+        for (FieldModel field : type.getDeclaredFields()) {
+            metrics.addFieldType(field.getTypeName());
 
             // Handle generic types with recursion protection, passing FIELD context
-            Type genericType = field.getGenericType();
-            Set<Type> visitedTypes = new HashSet<>();
-            if (genericType instanceof ParameterizedType) {
-                analyzeParameterizedTypeSafe((ParameterizedType) genericType, metrics, visitedTypes, 0,
+            if (field.getSignature() == null) {
+                continue;
+            }
+            GenericType genericType = TypeSignatures.parseType(field.getSignature());
+            Set<GenericType> visitedTypes = new HashSet<>();
+            if (genericType.isParameterized()) {
+                analyzeParameterizedTypeSafe(genericType, typeVariables, metrics, visitedTypes, 0,
                         TypeContext.FIELD);
-            } else if (genericType instanceof GenericArrayType) {
-                analyzeGenericArrayTypeSafe((GenericArrayType) genericType, metrics, visitedTypes, 0,
+            } else if (genericType.kind() == Kind.ARRAY) {
+                analyzeGenericArrayTypeSafe(genericType, typeVariables, metrics, visitedTypes, 0,
                         TypeContext.FIELD);
             }
         }
@@ -189,48 +230,39 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
     /**
      * Analyzes method types including parameters, return types, and exceptions.
      */
-    private void analyzeMethodTypes(Class<?> clazz, TypeUsageMetrics metrics) {
-        for (Method method : clazz.getDeclaredMethods()) {
+    private void analyzeMethodTypes(TypeModel type, Map<String, List<GenericType>> classTypeVariables,
+            TypeUsageMetrics metrics) {
+        for (MethodModel method : type.getDeclaredMethods()) {
+            MethodSignature signature = method.getSignature() != null
+                    ? TypeSignatures.parseMethod(method.getSignature())
+                    : null;
+            Map<String, List<GenericType>> typeVariables = signature != null
+                    ? typeVariablesOf(signature.typeParameters(), classTypeVariables)
+                    : classTypeVariables;
+
             // Return type
-            Class<?> returnType = method.getReturnType();
-            if (!returnType.equals(void.class)) {
+            String returnType = method.getReturnTypeName();
+            if (!"void".equals(returnType)) {
                 metrics.addReturnType(returnType);
 
                 // Handle generic return types with recursion protection, passing RETURN context
-                Type genericReturnType = method.getGenericReturnType();
-                Set<Type> visitedTypes = new HashSet<>();
-                if (genericReturnType instanceof ParameterizedType) {
-                    analyzeParameterizedTypeSafe((ParameterizedType) genericReturnType, metrics, visitedTypes, 0,
+                if (signature != null && signature.returnType().isParameterized()) {
+                    Set<GenericType> visitedTypes = new HashSet<>();
+                    analyzeParameterizedTypeSafe(signature.returnType(), typeVariables, metrics, visitedTypes, 0,
                             TypeContext.RETURN);
                 }
             }
 
-            // Parameter types
-            Class<?>[] parameterTypes = method.getParameterTypes();
-            Type[] genericParameterTypes = method.getGenericParameterTypes();
-
-            for (int i = 0; i < parameterTypes.length; i++) {
-                metrics.addParameterType(parameterTypes[i]);
-
-                // Handle generic parameter types with recursion protection, passing PARAMETER
-                // context
-                if (i < genericParameterTypes.length &&
-                        genericParameterTypes[i] instanceof ParameterizedType) {
-                    Set<Type> visitedTypes = new HashSet<>();
-                    analyzeParameterizedTypeSafe((ParameterizedType) genericParameterTypes[i], metrics, visitedTypes,
-                            0, TypeContext.PARAMETER);
-                }
-            }
-
-            // Exception types
-            for (Class<?> exceptionType : method.getExceptionTypes()) {
-                metrics.addExceptionType(exceptionType);
-            }
+            // Parameter and exception types
+            analyzeParameterTypes(method, signature, typeVariables, metrics);
 
             // Type variables from generic methods (with recursion protection)
-            Set<Type> visitedTypes = new HashSet<>();
-            for (TypeVariable<?> typeVar : method.getTypeParameters()) {
-                analyzeTypeVariableSafe(typeVar, metrics, visitedTypes, 0, TypeContext.OTHER);
+            if (signature != null) {
+                Set<GenericType> visitedTypes = new HashSet<>();
+                for (TypeParameter typeParameter : signature.typeParameters()) {
+                    analyzeTypeVariableSafe(typeParameter.name(), typeVariables, metrics, visitedTypes, 0,
+                            TypeContext.OTHER);
+                }
             }
         }
     }
@@ -238,73 +270,72 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
     /**
      * Analyzes constructor parameter types.
      */
-    private void analyzeConstructorTypes(Class<?> clazz, TypeUsageMetrics metrics) {
-        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
-            Class<?>[] parameterTypes = constructor.getParameterTypes();
-            Type[] genericParameterTypes = constructor.getGenericParameterTypes();
-
-            for (int i = 0; i < parameterTypes.length; i++) {
-                metrics.addParameterType(parameterTypes[i]);
-
-                // Handle generic parameter types with recursion protection, passing PARAMETER
-                // context
-                if (i < genericParameterTypes.length &&
-                        genericParameterTypes[i] instanceof ParameterizedType) {
-                    Set<Type> visitedTypes = new HashSet<>();
-                    analyzeParameterizedTypeSafe((ParameterizedType) genericParameterTypes[i], metrics, visitedTypes,
-                            0, TypeContext.PARAMETER);
-                }
-            }
+    private void analyzeConstructorTypes(TypeModel type, Map<String, List<GenericType>> classTypeVariables,
+            TypeUsageMetrics metrics) {
+        for (MethodModel constructor : type.getDeclaredConstructors()) {
+            MethodSignature signature = constructor.getSignature() != null
+                    ? TypeSignatures.parseMethod(constructor.getSignature())
+                    : null;
+            Map<String, List<GenericType>> typeVariables = signature != null
+                    ? typeVariablesOf(signature.typeParameters(), classTypeVariables)
+                    : classTypeVariables;
+            analyzeParameterTypes(constructor, signature, typeVariables, metrics);
+        }
+    }
 
-            // Exception types
-            for (Class<?> exceptionType : constructor.getExceptionTypes()) {
-                metrics.addExceptionType(exceptionType);
+    /**
+     * Analyzes the parameter and exception types of a method or constructor.
+     */
+    private void analyzeParameterTypes(MethodModel method, MethodSignature signature,
+            Map<String, List<GenericType>> typeVariables, TypeUsageMetrics metrics) {
+        List<String> parameterTypes = method.getParameterTypeNames();
+        List<GenericType> genericParameterTypes = signature != null ? signature.parameterTypes() : List.of();
+
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            metrics.addParameterType(parameterTypes.get(i));
+
+            // Handle generic parameter types with recursion protection, passing PARAMETER
+            // context
+            if (i < genericParameterTypes.size() && genericParameterTypes.get(i).isParameterized()) {
+                Set<GenericType> visitedTypes = new HashSet<>();
+                analyzeParameterizedTypeSafe(genericParameterTypes.get(i), typeVariables, metrics, visitedTypes,
+                        0, TypeContext.PARAMETER);
             }
         }
+
+        // Exception types
+        for (String exceptionType : method.getExceptionTypeNames()) {
+            metrics.addExceptionType(exceptionType);
+        }
     }
 
     /**
-     * Analyzes annotation types used on the class, fields, and methods.
+     * Analyzes annotation types used on the class, fields, methods and
+     * constructors.
      */
-    private void analyzeAnnotationTypes(Class<?> clazz, TypeUsageMetrics metrics) {
+    private void analyzeAnnotationTypes(TypeModel type, TypeUsageMetrics metrics) {
         // Class-level annotations
-        for (Annotation annotation : clazz.getDeclaredAnnotations()) {
-            metrics.addAnnotationType(annotation.annotationType());
-        }
+        addAnnotationTypes(type.getAnnotations(), metrics);
 
         // Field annotations
-        for (Field field : clazz.getDeclaredFields()) {
-            for (Annotation annotation : field.getDeclaredAnnotations()) {
-                metrics.addAnnotationType(annotation.annotationType());
-            }
+        for (FieldModel field : type.getDeclaredFields()) {
+            addAnnotationTypes(field.getAnnotations(), metrics);
         }
 
-        // Method annotations
-        for (Method method : clazz.getDeclaredMethods()) {
-            for (Annotation annotation : method.getDeclaredAnnotations()) {
-                metrics.addAnnotationType(annotation.annotationType());
-            }
-
-            // Parameter annotations
-            for (Annotation[] paramAnnotations : method.getParameterAnnotations()) {
-                for (Annotation annotation : paramAnnotations) {
-                    metrics.addAnnotationType(annotation.annotationType());
+        // Method and constructor annotations, with their parameter annotations
+        for (List<MethodModel> executables : List.of(type.getDeclaredMethods(), type.getDeclaredConstructors())) {
+            for (MethodModel method : executables) {
+                addAnnotationTypes(method.getAnnotations(), metrics);
+                for (List<AnnotationModel> paramAnnotations : method.getParameterAnnotations()) {
+                    addAnnotationTypes(paramAnnotations, metrics);
                 }
             }
         }
+    }
 
-        // Constructor annotations
-        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
-            for (Annotation annotation : constructor.getDeclaredAnnotations()) {
-                metrics.addAnnotationType(annotation.annotationType());
-            }
-
-            // Constructor parameter annotations
-            for (Annotation[] paramAnnotations : constructor.getParameterAnnotations()) {
-                for (Annotation annotation : paramAnnotations) {
-                    metrics.addAnnotationType(annotation.annotationType());
-                }
-            }
+    private void addAnnotationTypes(List<AnnotationModel> annotations, TypeUsageMetrics metrics) {
+        for (AnnotationModel annotation : annotations) {
+            metrics.addAnnotationType(annotation.getTypeName());
         }
     }
 
@@ -312,25 +343,20 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
      * Analyzes parameterized types with recursion protection and proper context
      * tracking.
      */
-    private void analyzeParameterizedTypeSafe(ParameterizedType paramType, TypeUsageMetrics metrics,
-            Set<Type> visitedTypes, int depth, TypeContext context) {
+    private void analyzeParameterizedTypeSafe(GenericType paramType, Map<String, List<GenericType>> typeVariables,
+            TypeUsageMetrics metrics, Set<GenericType> visitedTypes, int depth, TypeContext context) {
         // Prevent infinite recursion
-        if (depth > 10 || visitedTypes.contains(paramType)) {
+        if (depth > 10 || !visitedTypes.add(paramType)) {
             return;
         }
-        visitedTypes.add(paramType);
 
         // Add raw type to both genericTypes and context-specific set
-        Type rawType = paramType.getRawType();
-        if (rawType instanceof Class<?>) {
-            Class<?> rawClass = (Class<?>) rawType;
-            metrics.addGenericType(rawClass);
-            addTypeToContext(rawClass, metrics, context);
-        }
+        metrics.addGenericType(paramType.name());
+        addTypeToContext(paramType.name(), metrics, context);
 
         // Analyze type arguments recursively with depth tracking and context
-        for (Type typeArg : paramType.getActualTypeArguments()) {
-            analyzeGenericTypeArgumentSafe(typeArg, metrics, visitedTypes, depth + 1, context);
+        for (GenericType typeArg : paramType.typeArguments()) {
+            analyzeGenericTypeArgumentSafe(typeArg, typeVariables, metrics, visitedTypes, depth + 1, context);
         }
     }
 
@@ -338,32 +364,32 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
      * Analyzes generic array types with recursion protection and proper context
      * tracking.
      */
-    private void analyzeGenericArrayTypeSafe(GenericArrayType arrayType, TypeUsageMetrics metrics,
-            Set<Type> visitedTypes, int depth, TypeContext context) {
+    private void analyzeGenericArrayTypeSafe(GenericType arrayType, Map<String, List<GenericType>> typeVariables,
+            TypeUsageMetrics metrics, Set<GenericType> visitedTypes, int depth, TypeContext context) {
         // Prevent infinite recursion
-        if (depth > 10 || visitedTypes.contains(arrayType)) {
+        if (depth > 10 || !visitedTypes.add(arrayType)) {
             return;
         }
-        visitedTypes.add(arrayType);
 
-        Type componentType = arrayType.getGenericComponentType();
-        analyzeGenericTypeArgumentSafe(componentType, metrics, visitedTypes, depth + 1, context);
+        analyzeGenericTypeArgumentSafe(arrayType.component(), typeVariables, metrics, visitedTypes, depth + 1,
+                context);
     }
 
     /**
      * Analyzes type variables and their bounds with recursion protection and proper
-     * context tracking.
+     * context tracking. Type variables declared outside the class, by an
+     * enclosing class, are bounded by Object.
      */
-    private void analyzeTypeVariableSafe(TypeVariable<?> typeVar, TypeUsageMetrics metrics,
-            Set<Type> visitedTypes, int depth, TypeContext context) {
+    private void analyzeTypeVariableSafe(String typeVariable, Map<String, List<GenericType>> typeVariables,
+            TypeUsageMetrics metrics, Set<GenericType> visitedTypes, int depth, TypeContext context) {
         // Prevent infinite recursion
-        if (depth > 10 || visitedTypes.contains(typeVar)) {
+        GenericType typeVar = new GenericType(Kind.TYPE_VARIABLE, typeVariable, List.of(), null);
+        if (depth > 10 || !visitedTypes.add(typeVar)) {
             return;
         }
-        visitedTypes.add(typeVar);
 
-        for (Type bound : typeVar.getBounds()) {
-            analyzeGenericTypeArgumentSafe(bound, metrics, visitedTypes, depth + 1, context);
+        for (GenericType bound : typeVariables.getOrDefault(typeVariable, List.of(OBJECT_TYPE))) {
+            analyzeGenericTypeArgumentSafe(bound, typeVariables, metrics, visitedTypes, depth + 1, context);
         }
     }
 
@@ -371,40 +397,66 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
      * Analyzes generic type arguments recursively with proper termination
      * conditions and context tracking.
      */
-    private void analyzeGenericTypeArgumentSafe(Type type, TypeUsageMetrics metrics,
-            Set<Type> visitedTypes, int depth, TypeContext context) {
+    private void analyzeGenericTypeArgumentSafe(GenericType type, Map<String, List<GenericType>> typeVariables,
+            TypeUsageMetrics metrics, Set<GenericType> visitedTypes, int depth, TypeContext context) {
         // Prevent infinite recursion
         if (depth > 10 || visitedTypes.contains(type)) {
             return;
         }
 
-        if (type instanceof Class<?>) {
-            Class<?> typeClass = (Class<?>) type;
-            metrics.addGenericType(typeClass);
-            addTypeToContext(typeClass, metrics, context);
-        } else if (type instanceof ParameterizedType) {
-            analyzeParameterizedTypeSafe((ParameterizedType) type, metrics, visitedTypes, depth + 1, context);
-        } else if (type instanceof WildcardType) {
-            WildcardType wildcardType = (WildcardType) type;
-            visitedTypes.add(type);
-            for (Type upperBound : wildcardType.getUpperBounds()) {
-                analyzeGenericTypeArgumentSafe(upperBound, metrics, visitedTypes, depth + 1, context);
+        // Non-generic types, arrays of them included, are plain classes
+        String className = plainClassName(type);
+        if (className != null) {
+            metrics.addGenericType(className);
+            addTypeToContext(className, metrics, context);
+            return;
+        }
+
+        switch (type.kind()) {
+            case CLASS -> analyzeParameterizedTypeSafe(type, typeVariables, metrics, visitedTypes, depth + 1,
+                    context);
+            case WILDCARD, WILDCARD_EXTENDS, WILDCARD_SUPER -> {
+                visitedTypes.add(type);
+                // Upper bound, Object unless declared
+                GenericType upperBound = type.kind() == Kind.WILDCARD_EXTENDS ? type.component() : OBJECT_TYPE;
+                analyzeGenericTypeArgumentSafe(upperBound, typeVariables, metrics, visitedTypes, depth + 1,
+                        context);
+                if (type.kind() == Kind.WILDCARD_SUPER) {
+                    analyzeGenericTypeArgumentSafe(type.component(), typeVariables, metrics, visitedTypes,
+                            depth + 1, context);
+                }
             }
-            for (Type lowerBound : wildcardType.getLowerBounds()) {
-                analyzeGenericTypeArgumentSafe(lowerBound, metrics, visitedTypes, depth + 1, context);
+            case TYPE_VARIABLE -> analyzeTypeVariableSafe(type.name(), typeVariables, metrics, visitedTypes,
+                    depth + 1, context);
+            case ARRAY -> analyzeGenericArrayTypeSafe(type, typeVariables, metrics, visitedTypes, depth + 1,
+                    context);
+            default -> {
+                // Primitive types are plain classes
             }
-        } else if (type instanceof TypeVariable<?>) {
-            analyzeTypeVariableSafe((TypeVariable<?>) type, metrics, visitedTypes, depth + 1, context);
-        } else if (type instanceof GenericArrayType) {
-            analyzeGenericArrayTypeSafe((GenericArrayType) type, metrics, visitedTypes, depth + 1, context);
         }
     }
 
+    /**
+     * Gets the name of a type that involves no type argument or type variable,
+     * like the Class reflection would report for it, or null.
+     */
+    private static String plainClassName(GenericType type) {
+        return switch (type.kind()) {
+            case PRIMITIVE -> type.name();
+            case CLASS -> type.typeArguments().isEmpty() ? type.name() : null;
+            case ARRAY -> {
+                String componentName = plainClassName(type.component());
+                yield componentName != null ? componentName + "[]" : null;
+            }
+            default -> null;
+        };
+    }
+
     /**
      * Adds a type to the appropriate context-specific set in addition to
      * genericTypes.
      */
-    private void addTypeToContext(Class<?> type, TypeUsageMetrics metrics, TypeContext context) {
+    private void addTypeToContext(String type, TypeUsageMetrics metrics, TypeContext context) {
         switch (context) {
             case FIELD:
                 metrics.addFieldType(type);
@@ -425,13 +477,13 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
      * Data class holding comprehensive type usage metrics.
      */
     public static class TypeUsageMetrics {
-        private final Set<Class<?>> fieldTypes = new LinkedHashSet<>();
-        private final Set<Class<?>> parameterTypes = new LinkedHashSet<>();
-        private final Set<Class<?>> returnTypes = new LinkedHashSet<>();
-        private final Set<Class<?>> exceptionTypes = new LinkedHashSet<>();
-        private final Set<Class<?>> annotationTypes = new LinkedHashSet<>();
-        private final Set<Class<?>> genericTypes = new LinkedHashSet<>();
-        private final Set<Class<?>> allTypes = new LinkedHashSet<>();
+        private final Set<String> fieldTypes = new LinkedHashSet<>();
+        private final Set<String> parameterTypes = new LinkedHashSet<>();
+        private final Set<String> returnTypes = new LinkedHashSet<>();
+        private final Set<String> exceptionTypes = new LinkedHashSet<>();
+        private final Set<String> annotationTypes = new LinkedHashSet<>();
+        private final Set<String> genericTypes = new LinkedHashSet<>();
+        private final Set<String> allTypes = new LinkedHashSet<>();
 
         // Computed metrics
         private int totalUniqueTypes = 0;
@@ -442,32 +494,32 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
         private int genericTypeCount = 0;
         private double complexityScore = 0.0;
 
-        public void addFieldType(Class<?> type) {
+        public void addFieldType(String type) {
             fieldTypes.add(type);
             allTypes.add(type);
         }
 
-        public void addParameterType(Class<?> type) {
+        public void addParameterType(String type) {
             parameterTypes.add(type);
             allTypes.add(type);
         }
 
-        public void addReturnType(Class<?> type) {
+        public void addReturnType(String type) {
             returnTypes.add(type);
             allTypes.add(type);
         }
 
-        public void addExceptionType(Class<?> type) {
+        public void addExceptionType(String type) {
             exceptionTypes.add(type);
             allTypes.add(type);
         }
 
-        public void addAnnotationType(Class<?> type) {
+        public void addAnnotationType(String type) {
             annotationTypes.add(type);
             allTypes.add(type);
         }
 
-        public void addGenericType(Class<?> type) {
+        public void addGenericType(String type) {
             genericTypes.add(type);
             allTypes.add(type);
         }
@@ -475,14 +527,14 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
         public void calculateComputedMetrics() {
             totalUniqueTypes = allTypes.size();
 
-            for (Class<?> type : allTypes) {
-                if (type.isPrimitive()) {
+            for (String type : allTypes) {
+                if (TypeModel.isPrimitiveTypeName(type)) {
                     primitiveTypeCount++;
                 } else {
                     referenceTypeCount++;
                 }
 
-                if (COLLECTION_TYPES.contains(type.getName())) {
+                if (COLLECTION_TYPES.contains(type)) {
                     collectionTypeCount++;
                 }
 
@@ -495,9 +547,8 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
             complexityScore = calculateComplexityScore();
         }
 
-        private boolean isFrameworkType(Class<?> type) {
-            String typeName = type.getName();
-            return FRAMEWORK_PACKAGES.stream().anyMatch(typeName::startsWith);
+        private boolean isFrameworkType(String type) {
+            return FRAMEWORK_PACKAGES.stream().anyMatch(type::startsWith);
         }
 
         private double calculateComplexityScore() {
@@ -582,31 +633,31 @@ public class TypeUsageInspector extends AbstractClassLoaderBasedInspector {
             return complexityScore;
         }
 
-        public Set<Class<?>> getAllTypes() {
+        public Set<String> getAllTypes() {
             return Collections.unmodifiableSet(allTypes);
         }
 
-        public Set<Class<?>> getFieldTypes() {
+        public Set<String> getFieldTypes() {
             return Collections.unmodifiableSet(fieldTypes);
         }
 
-        public Set<Class<?>> getParameterTypes() {
+        public Set<String> getParameterTypes() {
             return Collections.unmodifiableSet(parameterTypes);
         }
 
-        public Set<Class<?>> getReturnTypes() {
+        public Set<String> getReturnTypes() {
             return Collections.unmodifiableSet(returnTypes);
         }
 
-        public Set<Class<?>> getExceptionTypes() {
+        public Set<String> getExceptionTypes() {
             return Collections.unmodifiableSet(exceptionTypes);
         }
 
-        public Set<Class<?>> getAnnotationTypes() {
+        public Set<String> getAnnotationTypes() {
             return Collections.unmodifiableSet(annotationTypes);
         }
 
-        public Set<Class<?>> getGenericTypes() {
+        public Set<String> getGenericTypes() {
             return Collections.unmodifiableSet(genericTypes);
         }
     }
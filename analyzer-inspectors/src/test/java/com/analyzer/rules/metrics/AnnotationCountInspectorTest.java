@@ -0,0 +1,93 @@
+package com.analyzer.rules.metrics;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.graph.InMemoryGraphRepository;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnnotationCountInspector, reading the annotations from the
+ * class files of the nested fixture classes.
+ */
+@DisplayName("AnnotationCountInspector Tests")
+class AnnotationCountInspectorTest {
+
+    private AnnotationCountInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        inspector = new AnnotationCountInspector(new TypeModelIndex(getClass().getClassLoader()),
+                new InMemoryGraphRepository());
+    }
+
+    @Test
+    @DisplayName("Should count runtime-visible annotations like reflection, inherited ones included")
+    void testCountAnnotations() {
+        NodeDecorator<JavaClassNode> decorator = inspect(OrderService.class.getName());
+
+        // @Audited inherited from the superclass, then the field, the constructor
+        // and its parameter, the method (two) and its parameter; @Build is not
+        // retained at runtime
+        assertEquals(7, decorator.getMetrics().getMetric(AnnotationCountInspector.TAG_ANNOTATION_COUNT).intValue());
+        assertEquals(2, inspect(BaseService.class.getName()).getMetrics()
+                .getMetric(AnnotationCountInspector.TAG_ANNOTATION_COUNT).intValue());
+    }
+
+    @Test
+    @DisplayName("Should record an error for a class without a class file")
+    void testMissingClassFile() {
+        NodeDecorator<JavaClassNode> decorator = inspect("com.example.Missing");
+
+        assertNull(decorator.getMetrics().getMetric(AnnotationCountInspector.TAG_ANNOTATION_COUNT));
+        assertEquals("No class file found for class: com.example.Missing", decorator.getNode().getProperty("ERROR"));
+    }
+
+    private NodeDecorator<JavaClassNode> inspect(String className) {
+        NodeDecorator<JavaClassNode> decorator = new NodeDecorator<>(new JavaClassNode(className));
+        inspector.inspect(decorator.getNode(), decorator);
+        return decorator;
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Audited {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Tracked {
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface Build {
+    }
+
+    @Audited
+    @Tracked
+    static class BaseService {
+    }
+
+    @Build
+    static class OrderService extends BaseService {
+        @Tracked
+        private String name;
+
+        @Tracked
+        OrderService(@Tracked String name) {
+            this.name = name;
+        }
+
+        @Deprecated
+        @Tracked
+        void process(@Tracked String id, int count) {
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.analyzer.rules.metrics;
 
 import com.analyzer.api.graph.JavaClassNode;
 import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.graph.GraphViewService;
 import com.analyzer.core.graph.InMemoryGraphRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,7 +32,7 @@ class CouplingMetricsInspectorTest {
         @BeforeEach
         void setUp() {
                 repository = new InMemoryGraphRepository();
-                inspector = new CouplingMetricsInspector(repository);
+                inspector = new CouplingMetricsInspector(new GraphViewService(repository));
 
                 // Create test classes
                 classA = createJavaClassNode("com.example.ClassA");
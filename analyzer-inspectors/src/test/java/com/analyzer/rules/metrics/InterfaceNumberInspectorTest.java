@@ -0,0 +1,83 @@
+package com.analyzer.rules.metrics;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.graph.InMemoryGraphRepository;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InterfaceNumberInspector, resolving the interfaces of the
+ * nested fixture classes from their class files.
+ */
+@DisplayName("InterfaceNumberInspector Tests")
+class InterfaceNumberInspectorTest {
+
+    private InterfaceNumberInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        inspector = new InterfaceNumberInspector(new TypeModelIndex(getClass().getClassLoader()),
+                new InMemoryGraphRepository());
+    }
+
+    @Test
+    @DisplayName("Should count direct, super-interface and superclass interfaces")
+    void testInterfaceCounts() {
+        NodeDecorator<JavaClassNode> decorator = inspect(Account.class.getName());
+
+        // Identified and Comparable directly, Named through Identified,
+        // Serializable through the superclass
+        assertEquals(4, metric(decorator, InterfaceNumberInspector.METRIC_INTERFACES_TOTAL_COUNT));
+        assertEquals(2, metric(decorator, InterfaceNumberInspector.METRIC_INTERFACES_DIRECT_COUNT));
+        assertEquals(2, metric(decorator, InterfaceNumberInspector.METRIC_INTERFACES_INHERITED_COUNT));
+        assertFalse(decorator.hasTag(InterfaceNumberInspector.TAG_INTERFACES_HAS_FRAMEWORK));
+    }
+
+    @Test
+    @DisplayName("Should report no interfaces for a plain class")
+    void testNoInterfaces() {
+        NodeDecorator<JavaClassNode> decorator = inspect(Plain.class.getName());
+
+        assertEquals(0, metric(decorator, InterfaceNumberInspector.METRIC_INTERFACES_TOTAL_COUNT));
+        assertEquals(0.0, decorator.getMetrics().getMetric(InterfaceNumberInspector.METRIC_INTERFACES_COMPLEXITY_SCORE)
+                .doubleValue(), 0.001);
+    }
+
+    private NodeDecorator<JavaClassNode> inspect(String className) {
+        NodeDecorator<JavaClassNode> decorator = new NodeDecorator<>(new JavaClassNode(className));
+        inspector.inspect(decorator.getNode(), decorator);
+        return decorator;
+    }
+
+    private static int metric(NodeDecorator<JavaClassNode> decorator, String metricName) {
+        Number metric = decorator.getMetrics().getMetric(metricName);
+        assertNotNull(metric, "Metric " + metricName + " should not be null");
+        return metric.intValue();
+    }
+
+    interface Named {
+    }
+
+    interface Identified extends Named {
+    }
+
+    static class Base implements Serializable {
+    }
+
+    static class Account extends Base implements Identified, Comparable<Account> {
+        @Override
+        public int compareTo(Account other) {
+            return 0;
+        }
+    }
+
+    static class Plain {
+    }
+}
@@ -0,0 +1,65 @@
+package com.analyzer.rules.metrics;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.graph.InMemoryGraphRepository;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ThreadLocalUsageInspector, reading the fields of the nested
+ * fixture classes from their class files.
+ */
+@DisplayName("ThreadLocalUsageInspector Tests")
+class ThreadLocalUsageInspectorTest {
+
+    private ThreadLocalUsageInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        inspector = new ThreadLocalUsageInspector(new TypeModelIndex(getClass().getClassLoader()),
+                new InMemoryGraphRepository());
+    }
+
+    @Test
+    @DisplayName("Should detect ThreadLocal fields and their subclasses")
+    void testThreadLocalFields() {
+        NodeDecorator<JavaClassNode> decorator = inspect(Holder.class.getName());
+
+        assertTrue(decorator.hasTag(ThreadLocalUsageInspector.TAG_THREADLOCAL_DETECTED));
+        assertTrue(decorator.hasTag(ThreadLocalUsageInspector.TAG_USES_THREADLOCAL));
+        assertEquals(2, decorator.getMetrics().getMetric(ThreadLocalUsageInspector.METRIC_THREADLOCAL_COUNT)
+                .intValue());
+        assertEquals("depth: ThreadLocal<java.lang.Integer>, context: RequestContext",
+                decorator.getNode().getProperty(ThreadLocalUsageInspector.PROP_THREADLOCAL_FIELDS));
+    }
+
+    @Test
+    @DisplayName("Should not tag a class without ThreadLocal fields")
+    void testNoThreadLocal() {
+        NodeDecorator<JavaClassNode> decorator = inspect(RequestContext.class.getName());
+
+        assertFalse(decorator.hasTag(ThreadLocalUsageInspector.TAG_THREADLOCAL_DETECTED));
+        assertNull(decorator.getMetrics().getMetric(ThreadLocalUsageInspector.METRIC_THREADLOCAL_COUNT));
+    }
+
+    private NodeDecorator<JavaClassNode> inspect(String className) {
+        NodeDecorator<JavaClassNode> decorator = new NodeDecorator<>(new JavaClassNode(className));
+        inspector.inspect(decorator.getNode(), decorator);
+        return decorator;
+    }
+
+    static class RequestContext extends ThreadLocal<String> {
+    }
+
+    static class Holder {
+        private static final ThreadLocal<Integer> depth = new ThreadLocal<>();
+        private static final RequestContext context = new RequestContext();
+        private String name;
+        private int count;
+    }
+}
@@ -0,0 +1,144 @@
+package com.analyzer.rules.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TransitiveReachability.
+ * Compares the SCC condensation and bitset propagation with a breadth-first
+ * search from every node, the way transitive coupling used to be calculated.
+ */
+@DisplayName("TransitiveReachability Tests")
+class TransitiveReachabilityTest {
+
+        @Test
+        @DisplayName("Should count reachable nodes in chains, cycles and self loops")
+        void testSmallGraph() {
+                // 0 -> 1 -> 2 -> 0 (cycle), 2 -> 3, 4 -> 4 (self loop), 5 isolated
+                int[][] graph = { { 1 }, { 2 }, { 0, 3 }, {}, { 4 }, {} };
+
+                int[][] counts = compute(graph, 1);
+
+                assertArrayEquals(new int[] { 3, 3, 3, 0, 0, 0 }, counts[0], "Efferent");
+                assertArrayEquals(new int[] { 2, 2, 2, 3, 0, 0 }, counts[1], "Afferent");
+        }
+
+        @Test
+        @DisplayName("Should match breadth-first search on random graphs")
+        void testRandomGraphsMatchBreadthFirstSearch() {
+                Random random = new Random(42);
+                for (int round = 0; round < 30; round++) {
+                        int nodeCount = 1 + random.nextInt(400);
+                        // From sparse DAG-like graphs to dense graphs with large cycles
+                        double edgeFactor = 0.5 + random.nextDouble() * 3;
+                        int[][] graph = randomGraph(random, nodeCount, (int) (nodeCount * edgeFactor),
+                                        random.nextBoolean());
+
+                        int[][] expected = breadthFirstCounts(graph);
+                        for (int chunkWords : new int[] { 1, 3, 32 }) {
+                                int[][] actual = compute(graph, chunkWords);
+                                assertArrayEquals(expected[0], actual[0],
+                                                "Efferent, round " + round + ", chunk words " + chunkWords);
+                                assertArrayEquals(expected[1], actual[1],
+                                                "Afferent, round " + round + ", chunk words " + chunkWords);
+                        }
+                }
+        }
+
+        @Test
+        @DisplayName("Should handle long chains without recursion")
+        void testLongChain() {
+                int nodeCount = 100_000;
+                int[][] graph = new int[nodeCount][];
+                for (int i = 0; i < nodeCount; i++) {
+                        graph[i] = i + 1 < nodeCount ? new int[] { i + 1 } : new int[0];
+                }
+
+                int[][] counts = compute(graph, 32);
+
+                assertEquals(nodeCount - 1, counts[0][0]);
+                assertEquals(0, counts[1][0]);
+                assertEquals(0, counts[0][nodeCount - 1]);
+                assertEquals(nodeCount - 1, counts[1][nodeCount - 1]);
+        }
+
+        @Test
+        @DisplayName("Should handle an empty graph")
+        void testEmptyGraph() {
+                int[][] counts = compute(new int[0][], 32);
+
+                assertEquals(0, counts[0].length);
+                assertEquals(0, counts[1].length);
+        }
+
+        // Helper methods
+
+        private static int[][] compute(int[][] graph, int chunkWords) {
+                int[] offsets = new int[graph.length + 1];
+                for (int i = 0; i < graph.length; i++) {
+                        offsets[i + 1] = offsets[i] + graph[i].length;
+                }
+                int[] targets = Arrays.stream(graph).flatMapToInt(Arrays::stream).toArray();
+                return TransitiveReachability.compute(graph.length, offsets, targets, chunkWords);
+        }
+
+        private static int[][] randomGraph(Random random, int nodeCount, int edgeCount, boolean acyclic) {
+                int[][] graph = new int[nodeCount][0];
+                for (int e = 0; e < edgeCount; e++) {
+                        int source = random.nextInt(nodeCount);
+                        int target = random.nextInt(nodeCount);
+                        if (acyclic && source >= target) {
+                                continue;
+                        }
+                        graph[source] = Arrays.copyOf(graph[source], graph[source].length + 1);
+                        graph[source][graph[source].length - 1] = target;
+                }
+                return graph;
+        }
+
+        /**
+         * Reference implementation: one breadth-first search per node, forward and
+         * backward, excluding the start node.
+         */
+        private static int[][] breadthFirstCounts(int[][] graph) {
+                int[][] reverse = new int[graph.length][0];
+                for (int source = 0; source < graph.length; source++) {
+                        for (int target : graph[source]) {
+                                reverse[target] = Arrays.copyOf(reverse[target], reverse[target].length + 1);
+                                reverse[target][reverse[target].length - 1] = source;
+                        }
+                }
+                int[] efferent = new int[graph.length];
+                int[] afferent = new int[graph.length];
+                for (int node = 0; node < graph.length; node++) {
+                        efferent[node] = breadthFirstCount(graph, node);
+                        afferent[node] = breadthFirstCount(reverse, node);
+                }
+                return new int[][] { efferent, afferent };
+        }
+
+        private static int breadthFirstCount(int[][] graph, int start) {
+                boolean[] visited = new boolean[graph.length];
+                Queue<Integer> queue = new ArrayDeque<>();
+                visited[start] = true;
+                queue.add(start);
+                int count = 0;
+                while (!queue.isEmpty()) {
+                        for (int next : graph[queue.poll()]) {
+                                if (!visited[next]) {
+                                        visited[next] = true;
+                                        count++;
+                                        queue.add(next);
+                                }
+                        }
+                }
+                return count;
+        }
+}
@@ -0,0 +1,96 @@
+package com.analyzer.rules.metrics;
+
+import com.analyzer.api.graph.JavaClassNode;
+import com.analyzer.core.export.NodeDecorator;
+import com.analyzer.core.graph.InMemoryGraphRepository;
+import com.analyzer.core.typemodel.TypeModelIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TypeUsageInspector, reading the declarations and generic
+ * signatures of the nested fixture classes from their class files.
+ */
+@DisplayName("TypeUsageInspector Tests")
+class TypeUsageInspectorTest {
+
+    private TypeUsageInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        inspector = new TypeUsageInspector(new TypeModelIndex(getClass().getClassLoader()),
+                new InMemoryGraphRepository());
+    }
+
+    @Test
+    @DisplayName("Should categorize field, parameter, return, exception and generic types")
+    void testTypeUsage() {
+        NodeDecorator<JavaClassNode> decorator = inspect(Repository.class.getName());
+
+        // List<String>, int
+        assertEquals(3, metric(decorator, TypeUsageInspector.METRIC_TYPES_FIELD_COUNT));
+        // Map<String, Integer>, long
+        assertEquals(4, metric(decorator, TypeUsageInspector.METRIC_TYPES_PARAMETER_COUNT));
+        // Optional<String>
+        assertEquals(2, metric(decorator, TypeUsageInspector.METRIC_TYPES_RETURN_COUNT));
+        assertEquals(1, metric(decorator, TypeUsageInspector.METRIC_TYPES_EXCEPTION_COUNT));
+        assertEquals(1, metric(decorator, TypeUsageInspector.METRIC_TYPES_ANNOTATION_COUNT));
+        assertEquals(5, metric(decorator, TypeUsageInspector.METRIC_TYPES_GENERIC_COUNT));
+        assertEquals(9, metric(decorator, TypeUsageInspector.METRIC_TYPES_TOTAL_UNIQUE));
+        assertEquals(2, metric(decorator, TypeUsageInspector.METRIC_TYPES_PRIMITIVE_COUNT));
+        assertEquals(2, metric(decorator, TypeUsageInspector.METRIC_TYPES_COLLECTION_COUNT));
+        assertTrue(decorator.hasTag("type_usage.analyzed"));
+    }
+
+    @Test
+    @DisplayName("Should resolve type variables to their bounds")
+    void testTypeVariables() {
+        NodeDecorator<JavaClassNode> decorator = inspect(Box.class.getName());
+
+        // The field erases to Number, the bound of T; List<T> returns List and Number
+        assertEquals(1, metric(decorator, TypeUsageInspector.METRIC_TYPES_FIELD_COUNT));
+        assertEquals(2, metric(decorator, TypeUsageInspector.METRIC_TYPES_RETURN_COUNT));
+        assertEquals(2, metric(decorator, TypeUsageInspector.METRIC_TYPES_TOTAL_UNIQUE));
+    }
+
+    private NodeDecorator<JavaClassNode> inspect(String className) {
+        NodeDecorator<JavaClassNode> decorator = new NodeDecorator<>(new JavaClassNode(className));
+        inspector.inspect(decorator.getNode(), decorator);
+        return decorator;
+    }
+
+    private static int metric(NodeDecorator<JavaClassNode> decorator, String metricName) {
+        Number metric = decorator.getMetrics().getMetric(metricName);
+        assertNotNull(metric, "Metric " + metricName + " should not be null");
+        return metric.intValue();
+    }
+
+    static class Repository {
+        private List<String> names;
+        private int size;
+
+        Repository(Map<String, Integer> index) {
+        }
+
+        @Deprecated
+        Optional<String> find(long id) throws IOException {
+            return Optional.empty();
+        }
+    }
+
+    static class Box<T extends Number> {
+        private T value;
+
+        List<T> values() {
+            return List.of(value);
+        }
+    }
+}
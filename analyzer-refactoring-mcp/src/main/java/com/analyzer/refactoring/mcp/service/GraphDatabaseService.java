@@ -293,11 +293,15 @@ public class GraphDatabaseService {
             return java.util.Collections.emptyList();
         }
 
-        String nodeId = classNode.get().getId();
-        return repository.getAllEdges().stream()
-                .filter(edge -> edge.getSource().getId().equals(nodeId) ||
-                        edge.getTarget().getId().equals(nodeId))
-                .toList();
+        java.util.List<com.analyzer.api.graph.GraphEdge> relationships = new java.util.ArrayList<>(
+                repository.getOutgoingEdges(classNode.get()));
+        for (com.analyzer.api.graph.GraphEdge edge : repository.getIncomingEdges(classNode.get())) {
+            // Self references are already listed as outgoing edges
+            if (!edge.getSource().getId().equals(edge.getTarget().getId())) {
+                relationships.add(edge);
+            }
+        }
+        return relationships;
     }
 
     /**